@@ -0,0 +1,61 @@
+package com.leedahun.storecasecatalog.benchmark;
+
+import com.leedahun.storecasecatalog.domain.category.dto.CategoryResponseDto;
+import com.leedahun.storecasecatalog.domain.category.entity.Category;
+import com.leedahun.storecasecatalog.domain.option.dto.OptionCreateRequestDto;
+import com.leedahun.storecasecatalog.domain.option.entity.Option;
+import com.leedahun.storecasecatalog.domain.product.entity.Product;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 엔티티 → DTO, 요청 DTO → 엔티티 변환 비용 (상품 등록 시 옵션 생성 포함)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class DtoMappingBenchmark {
+
+    @Param({"1", "10"})
+    private int optionCount;
+
+    private Category category;
+    private Product product;
+    private List<OptionCreateRequestDto> optionRequests;
+
+    @Setup
+    public void setUp() {
+        category = Category.builder().id(1L).name("상의").build();
+        product = Product.builder().id(1L).storeId(1L).category(category).name("티셔츠").build();
+        optionRequests = IntStream.range(0, optionCount)
+                .mapToObj(i -> OptionCreateRequestDto.builder().optionDetail("옵션" + i).price(1000).stock(10).build())
+                .toList();
+    }
+
+    @Benchmark
+    public CategoryResponseDto categoryResponseDto() {
+        return new CategoryResponseDto(category);
+    }
+
+    @Benchmark
+    public List<Option> buildOptions() {
+        return optionRequests.stream()
+                .map(optionRequest -> optionRequest.toEntity(product))
+                .toList();
+    }
+}
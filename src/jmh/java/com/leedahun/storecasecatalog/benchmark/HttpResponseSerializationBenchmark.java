@@ -0,0 +1,58 @@
+package com.leedahun.storecasecatalog.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.leedahun.storecasecatalog.common.message.SuccessMessage;
+import com.leedahun.storecasecatalog.common.response.HttpResponse;
+import com.leedahun.storecasecatalog.domain.product.dto.ProductPageResponseDto;
+import com.leedahun.storecasecatalog.domain.product.dto.ProductSummaryDto;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * HttpResponse 응답 래퍼 + 상품 목록 페이지의 Jackson 직렬화 비용 (Spring MVC와 같은 ObjectMapper 설정)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class HttpResponseSerializationBenchmark {
+
+    @Param({"1", "20", "100"})
+    private int pageSize;
+
+    private ObjectMapper objectMapper;
+    private HttpResponse response;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        List<ProductSummaryDto> products = LongStream.rangeClosed(1, pageSize)
+                .mapToObj(id -> new ProductSummaryDto(id, 1L, 10L, "상품" + id, 15000, 100))
+                .toList();
+        ProductPageResponseDto page = new ProductPageResponseDto(products, "djE6MTIz", true);
+        response = new HttpResponse(HttpStatus.OK, SuccessMessage.READ_SUCCESS.getMessage(), page);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+}
@@ -0,0 +1,92 @@
+package com.leedahun.storecasecatalog.benchmark;
+
+import com.leedahun.storecasecatalog.common.instrumentation.InstrumentationMode;
+import com.leedahun.storecasecatalog.common.instrumentation.InstrumentationSettings;
+import com.leedahun.storecasecatalog.common.instrumentation.SafeArgumentRenderer;
+import com.leedahun.storecasecatalog.config.LoggingAspectConfig;
+import com.leedahun.storecasecatalog.domain.product.dto.ProductSummaryDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceUnitUtil;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.stereotype.Service;
+
+/**
+ * LoggingAspectConfig 어드바이스가 서비스 호출 하나에 더하는 비용 (direct는 어드바이스 없는 기준값)
+ * 샘플링/느린 호출 로그는 제외하고 정상 경로만 측정하며, 로그 1건의 렌더링 비용은 renderArgs로 따로 측정합니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class LoggingAspectBenchmark {
+
+    @Param({"SAMPLED", "METRICS_ONLY"})
+    private InstrumentationMode mode;
+
+    private SampleService direct;
+    private SampleService advised;
+    private SafeArgumentRenderer renderer;
+    private Object[] args;
+
+    @Setup
+    public void setUp() {
+        renderer = new SafeArgumentRenderer(entityManagerFactory(), 300);
+        InstrumentationSettings settings = new InstrumentationSettings(mode, 0.0, Duration.ofMinutes(1));
+
+        direct = new SampleService();
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new SampleService());
+        proxyFactory.addAspect(new LoggingAspectConfig(new SimpleMeterRegistry(), settings, renderer));
+        advised = proxyFactory.getProxy();
+
+        args = new Object[]{1L, "cursor", new ProductSummaryDto(1L, 1L, 10L, "상품", 15000, 100)};
+    }
+
+    @Benchmark
+    public Long direct() {
+        return direct.find(1L);
+    }
+
+    @Benchmark
+    public Long advised() {
+        return advised.find(1L);
+    }
+
+    @Benchmark
+    public String renderArgs() {
+        return renderer.render(args);
+    }
+
+    // 엔티티가 없는 인자만 렌더링하므로 식별자 조회는 사용하지 않음
+    private static EntityManagerFactory entityManagerFactory() {
+        PersistenceUnitUtil persistenceUnitUtil = (PersistenceUnitUtil) Proxy.newProxyInstance(
+                PersistenceUnitUtil.class.getClassLoader(), new Class<?>[]{PersistenceUnitUtil.class}, (proxy, method, methodArgs) -> null);
+        return (EntityManagerFactory) Proxy.newProxyInstance(
+                EntityManagerFactory.class.getClassLoader(), new Class<?>[]{EntityManagerFactory.class},
+                (proxy, method, methodArgs) -> "getPersistenceUnitUtil".equals(method.getName()) ? persistenceUnitUtil : null);
+    }
+
+    @Service
+    public static class SampleService {
+
+        public Long find(Long id) {
+            return id;
+        }
+    }
+}
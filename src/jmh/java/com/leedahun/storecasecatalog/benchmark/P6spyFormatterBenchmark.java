@@ -0,0 +1,54 @@
+package com.leedahun.storecasecatalog.benchmark;
+
+import com.leedahun.storecasecatalog.config.P6spyPrettySqlFormatter;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * p6spy가 SQL 1건마다 호출하는 P6spyPrettySqlFormatter.formatMessage 비용 (pretty=false는 운영 한 줄 모드)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class P6spyFormatterBenchmark {
+
+    private static final String SELECT_SQL = "select p1_0.id,p1_0.store_id,p1_0.category_id,p1_0.name,p1_0.price,p1_0.stock "
+            + "from product p1_0 where p1_0.category_id=10 and p1_0.id<1000 and p1_0.is_deleted=false "
+            + "order by p1_0.category_id desc,p1_0.id desc fetch first 21 rows only";
+    private static final String INSERT_SQL = "insert into options (created_at,modified_at,name,price,product_id,stock,id) "
+            + "values ('2025-01-01 00:00:00','2025-01-01 00:00:00','Red',0,1,10,1)";
+
+    @Param({"select", "insert"})
+    private String statement;
+
+    @Param({"true", "false"})
+    private boolean pretty;
+
+    private P6spyPrettySqlFormatter formatter;
+    private String sql;
+
+    @Setup
+    public void setUp() {
+        P6spyPrettySqlFormatter.setPretty(pretty);
+        formatter = new P6spyPrettySqlFormatter();
+        sql = "select".equals(statement) ? SELECT_SQL : INSERT_SQL;
+    }
+
+    @Benchmark
+    public String formatMessage() {
+        return formatter.formatMessage(1, "1700000000000", 3, "statement", sql, sql, "jdbc:h2:mem:testdb");
+    }
+}
@@ -0,0 +1,81 @@
+package com.leedahun.storecasecatalog.benchmark;
+
+import com.leedahun.storecasecatalog.common.service.S3UploadService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.lang.reflect.Field;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.util.ReflectionUtils;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+/**
+ * S3UploadService.getPresignedUrl 비용 (SigV4 서명은 로컬 연산이므로 네트워크 없이 측정)
+ * sign은 매번 다른 Key로 캐시 미스를 만들어 서명까지 수행하는 경로, cachedHit은 Presigned URL 캐시 적중 경로입니다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 5, time = 2)   // SigV4(HMAC) 경로는 JIT 예열이 길게 필요함
+@Measurement(iterations = 5, time = 1)
+public class PresignBenchmark {
+
+    private static final String S3_KEY = "product-images/0b7e3c2e-5d1a-4f7e-9a57-3c1d2e4f5a6b_photo.jpg";
+
+    private S3Presigner s3Presigner;
+    private S3UploadService uncachedService;
+    private S3UploadService cachedService;
+    private long sequence;
+
+    @Setup
+    public void setUp() {
+        s3Presigner = S3Presigner.builder()
+                .region(Region.AP_NORTHEAST_2)
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("AKIAEXAMPLE", "secret")))
+                .build();
+
+        uncachedService = s3UploadService(1);
+        cachedService = s3UploadService(10_000);
+        cachedService.getPresignedUrl(S3_KEY);
+    }
+
+    @TearDown
+    public void tearDown() {
+        s3Presigner.close();
+    }
+
+    @Benchmark
+    public String sign() {
+        return uncachedService.getPresignedUrl(S3_KEY + (sequence++));
+    }
+
+    @Benchmark
+    public String cachedHit() {
+        return cachedService.getPresignedUrl(S3_KEY);
+    }
+
+    private S3UploadService s3UploadService(long cacheMaximumSize) {
+        S3UploadService service = new S3UploadService(null, s3Presigner, new SimpleMeterRegistry(),
+                Duration.ofMinutes(10), Duration.ofMinutes(2), cacheMaximumSize);
+
+        // @Value("${cloud.aws.s3.bucket}") 값을 수동으로 주입
+        Field bucket = ReflectionUtils.findField(S3UploadService.class, "bucket");
+        ReflectionUtils.makeAccessible(bucket);
+        ReflectionUtils.setField(bucket, service, "store-case");
+        return service;
+    }
+}
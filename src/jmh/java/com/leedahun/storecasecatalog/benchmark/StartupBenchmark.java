@@ -0,0 +1,98 @@
+package com.leedahun.storecasecatalog.benchmark;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 애플리케이션 기동 시간 비교 (JMH가 아닌 별도 프로세스 기동 측정, gradle startupBenchmark로 실행)
+ * default는 bootJar를 그대로 실행하고, startup은 풀어낸 jar를 startup 프로필 + AppCDS(+ -Paot이면 AOT)로 실행합니다.
+ * 두 방식을 번갈아 기동해 "Started ... (process running for N)" 로그가 찍히는 시점을 측정하고 중앙값·최솟값을 출력합니다.
+ * 실행 인자는 두 방식에 공통으로 전달됩니다.
+ */
+public class StartupBenchmark {
+
+    private static final Pattern STARTED_LOG = Pattern.compile("Started \\w+ in [\\d.]+ seconds \\(process running for ([\\d.]+)\\)");
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+
+    public static void main(String[] args) throws Exception {
+        String java = System.getProperty("startup.java", "java");
+        Path bootJar = Path.of(System.getProperty("startup.jar"));
+        Path cdsDir = Path.of(System.getProperty("startup.cds-dir"));
+        boolean aot = Boolean.parseBoolean(System.getProperty("startup.aot", "false"));
+        int runs = Integer.parseInt(System.getProperty("startup.runs", "5"));
+
+        List<String> defaultCommand = new ArrayList<>(List.of(java, "-jar", bootJar.toString()));
+        defaultCommand.addAll(Arrays.asList(args));
+
+        List<String> startupCommand = new ArrayList<>(List.of(java,
+                "-XX:SharedArchiveFile=" + cdsDir.resolve("application.jsa"),
+                "-Xshare:auto"));
+        if (aot) {
+            startupCommand.add("-Dspring.aot.enabled=true");
+        }
+        startupCommand.addAll(List.of("-jar", cdsDir.resolve("app").resolve(bootJar.getFileName()).toString(),
+                "--spring.profiles.active=prod,startup"));
+        startupCommand.addAll(Arrays.asList(args));
+
+        if (!Files.exists(cdsDir.resolve("application.jsa"))) {
+            throw new IllegalStateException("AppCDS 아카이브가 없습니다. gradle cdsArchive를 먼저 실행하세요.");
+        }
+
+        List<Double> defaultSeconds = new ArrayList<>();
+        List<Double> startupSeconds = new ArrayList<>();
+
+        // 첫 기동은 OS 페이지 캐시 예열용으로 버림
+        measure(defaultCommand);
+        measure(startupCommand);
+        for (int i = 0; i < runs; i++) {
+            defaultSeconds.add(measure(defaultCommand));
+            startupSeconds.add(measure(startupCommand));
+        }
+
+        Map<String, List<Double>> results = new LinkedHashMap<>();
+        results.put("default", defaultSeconds);
+        results.put(aot ? "startup(cds+aot)" : "startup(cds)", startupSeconds);
+
+        System.out.printf("%n%-20s %10s %10s  (process running for, seconds, runs=%d)%n", "variant", "median", "min", runs);
+        results.forEach((variant, seconds) -> System.out.printf("%-20s %10.3f %10.3f%n",
+                variant, median(seconds), seconds.stream().mapToDouble(Double::doubleValue).min().orElse(Double.NaN)));
+    }
+
+    // 기동 완료 로그의 process running for 값(JVM 시작부터 준비 완료까지)을 읽고 프로세스를 종료
+    private static double measure(List<String> command) throws IOException, InterruptedException {
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                Matcher matcher = STARTED_LOG.matcher(line);
+                if (matcher.find()) {
+                    return Double.parseDouble(matcher.group(1));
+                }
+            }
+            throw new IllegalStateException("기동 완료 로그 없이 종료되었습니다: " + String.join(" ", command));
+        } finally {
+            process.destroy();
+            if (!process.waitFor(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    private static double median(List<Double> values) {
+        List<Double> sorted = values.stream().sorted().toList();
+        int mid = sorted.size() / 2;
+        return sorted.size() % 2 == 1 ? sorted.get(mid) : (sorted.get(mid - 1) + sorted.get(mid)) / 2;
+    }
+}
@@ -2,12 +2,33 @@ package com.leedahun.storecasecatalog;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.event.ApplicationEnvironmentPreparedEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.context.ApplicationListener;
 
 @SpringBootApplication
 public class StoreCaseCatalogApplication {
 
+    // 기동 단계 기록 한도 (actuator startup 엔드포인트, startup 프로필의 빈 생성 시간 리포트에서 사용)
+    // 설정하지 않으면 기동 단계를 기록하지 않음 (startup 프로필에서만 지정)
+    private static final String STARTUP_STEP_CAPACITY_PROPERTY = "catalog.startup.step-capacity";
+
     public static void main(String[] args) {
-        SpringApplication.run(StoreCaseCatalogApplication.class, args);
+        SpringApplication application = new SpringApplication(StoreCaseCatalogApplication.class);
+        application.addListeners(new StartupRecordingListener());
+        application.run(args);
+    }
+
+    // 프로필·설정 파일이 반영된 Environment를 보고 결정 (컨텍스트 생성 전이므로 빈 생성 단계부터 기록됨)
+    private static class StartupRecordingListener implements ApplicationListener<ApplicationEnvironmentPreparedEvent> {
+
+        @Override
+        public void onApplicationEvent(ApplicationEnvironmentPreparedEvent event) {
+            Integer capacity = event.getEnvironment().getProperty(STARTUP_STEP_CAPACITY_PROPERTY, Integer.class);
+            if (capacity != null) {
+                event.getSpringApplication().setApplicationStartup(new BufferingApplicationStartup(capacity));
+            }
+        }
     }
 
 }
@@ -0,0 +1,23 @@
+package com.leedahun.storecasecatalog.common.client;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * identity-service 응답 본문입니다. (형식은 {@link com.leedahun.storecasecatalog.common.response.HttpResponse}와 동일)
+ * data 타입을 명시해 역직렬화하므로 숫자 크기에 따라 Integer/Long으로 달라지는 박싱 타입에 의존하지 않습니다.
+ * @param <T> data 타입
+ */
+@Getter
+@NoArgsConstructor
+public class IdentityApiResponse<T> {
+    private int status;
+    private String message;
+    private T data;
+
+    public IdentityApiResponse(int status, String message, T data) {
+        this.status = status;
+        this.message = message;
+        this.data = data;
+    }
+}
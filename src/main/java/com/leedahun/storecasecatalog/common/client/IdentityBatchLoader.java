@@ -0,0 +1,131 @@
+package com.leedahun.storecasecatalog.common.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 상점 ID 조회를 짧은 시간(window) 동안 모았다가 한 번의 요청으로 처리하는 배치 로더입니다. (DataLoader 방식)
+ * 첫 조회가 들어온 뒤 window가 지나거나 max-size개가 모이면 요청을 보내고, 결과를 각 호출자의 Future로 나눠 전달합니다.
+ * 같은 window 안의 중복 sellerId는 하나로 합쳐지고, 한 건만 모인 경우에는 단건 API(헤지 적용)를 그대로 사용합니다.
+ * 배치 요청 자체가 4xx로 거절되면 판매자별 결과로 볼 수 없으므로 단건 API로 나눠 다시 조회합니다.
+ */
+@Component
+public class IdentityBatchLoader {
+
+    private final IdentityClient identityClient;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final DistributionSummary batchSize;
+    private final Counter coalesced;
+    private final Counter batchFallbacks;
+
+    private final Object lock = new Object();
+    private Map<Long, CompletableFuture<Optional<Long>>> pending = new HashMap<>();
+
+    public IdentityBatchLoader(IdentityClient identityClient,
+                               MeterRegistry meterRegistry,
+                               @Value("${catalog.identity.batch.window:5ms}") Duration window,
+                               @Value("${catalog.identity.batch.max-size:100}") int maxBatchSize) {
+        this.identityClient = identityClient;
+        this.windowNanos = window.toNanos();
+        this.maxBatchSize = maxBatchSize;
+        this.batchSize = DistributionSummary.builder("identity.batch.size")
+                .description("identity-service 요청 1회에 담긴 판매자 수")
+                .register(meterRegistry);
+        this.coalesced = Counter.builder("identity.batch.coalesced")
+                .description("같은 배치의 중복 조회로 합쳐진 요청 수")
+                .register(meterRegistry);
+        this.batchFallbacks = Counter.builder("identity.batch.fallbacks")
+                .description("배치 요청이 4xx로 거절되어 단건 조회로 나눠 보낸 횟수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 상점 ID 조회를 현재 배치에 추가합니다.
+     * @param sellerId 판매자 ID
+     * @return 상점 ID (identity-service에 없는 판매자면 빈 값, 호출 실패 시 해당 예외로 완료)
+     */
+    public CompletableFuture<Optional<Long>> load(Long sellerId) {
+        Map<Long, CompletableFuture<Optional<Long>>> full = null;
+        CompletableFuture<Optional<Long>> future;
+
+        synchronized (lock) {
+            future = pending.get(sellerId);
+            if (future != null) {
+                coalesced.increment();
+                return future;
+            }
+
+            future = new CompletableFuture<>();
+            pending.put(sellerId, future);
+            if (pending.size() >= maxBatchSize) {
+                full = pending;
+                pending = new HashMap<>();
+            } else if (pending.size() == 1) {
+                Map<Long, CompletableFuture<Optional<Long>>> batch = pending;
+                Schedulers.parallel().schedule(() -> flush(batch), windowNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        if (full != null) {
+            dispatch(full);
+        }
+        return future;
+    }
+
+    // window가 끝난 배치 전송 (그 사이 max-size로 이미 전송된 배치면 무시)
+    private void flush(Map<Long, CompletableFuture<Optional<Long>>> batch) {
+        synchronized (lock) {
+            if (pending != batch) {
+                return;
+            }
+            pending = new HashMap<>();
+        }
+        dispatch(batch);
+    }
+
+    private void dispatch(Map<Long, CompletableFuture<Optional<Long>>> batch) {
+        batchSize.record(batch.size());
+
+        if (batch.size() == 1) {
+            batch.forEach(this::dispatchSingle);
+            return;
+        }
+
+        identityClient.getStoreIds(List.copyOf(batch.keySet()))
+                .mapNotNull(IdentityApiResponse::getData)
+                .defaultIfEmpty(Map.of())
+                .subscribe(storeIds -> batch.forEach((sellerId, future) ->
+                                future.complete(Optional.ofNullable(storeIds.get(sellerId)))),
+                        error -> {
+                            // 4xx를 그대로 전달하면 배치의 모든 판매자가 "존재하지 않음"으로 부정 캐시됨
+                            if (error instanceof WebClientResponseException e && e.getStatusCode().is4xxClientError()) {
+                                batchFallbacks.increment();
+                                batch.forEach(this::dispatchSingle);
+                                return;
+                            }
+                            // 5xx·연결 실패는 장애로 전달 (ProductServiceImpl이 ExternalApiException으로 변환해 마지막으로 알려진 값으로 대체)
+                            batch.values().forEach(future -> future.completeExceptionally(error));
+                        });
+    }
+
+    private void dispatchSingle(Long sellerId, CompletableFuture<Optional<Long>> future) {
+        identityClient.getUser(sellerId)
+                .mapNotNull(IdentityApiResponse::getData)
+                .subscribe(storeId -> future.complete(Optional.of(storeId)),
+                        future::completeExceptionally,
+                        () -> future.complete(Optional.empty()));
+    }
+}
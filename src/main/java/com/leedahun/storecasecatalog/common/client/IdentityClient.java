@@ -0,0 +1,177 @@
+package com.leedahun.storecasecatalog.common.client;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+/**
+ * identity-service 호출 클라이언트입니다.
+ * hedge.enabled이면 응답이 최근 p95 지연 시간 안에 오지 않을 때 같은 요청을 한 번 더 보내고 먼저 온 응답을 사용합니다.
+ * 로드밸런서가 요청마다 다음 인스턴스를 고르므로(라운드 로빈) 두 번째 요청은 다른 인스턴스로 향해,
+ * 느린 인스턴스 하나가 전체 p99를 결정하지 않게 됩니다. (조회 요청만 대상으로 하므로 중복 전송해도 안전)
+ * 호출 전체(헤지 포함)는 벌크헤드와 서킷 브레이커를 거치며, 서킷이 열려 있으면 요청 없이
+ * CallNotPermittedException, 동시 호출 한도를 넘으면 BulkheadFullException으로 즉시 종료됩니다.
+ */
+@Component
+public class IdentityClient {
+
+    private static final String USER_PATH = "/api/internal/identity/users/{sellerId}";
+    private static final String STORE_IDS_PATH = "/api/internal/identity/users/store-ids";
+    private static final ParameterizedTypeReference<IdentityApiResponse<Long>> STORE_ID_TYPE =
+            new ParameterizedTypeReference<>() {};
+    private static final ParameterizedTypeReference<IdentityApiResponse<Map<Long, Long>>> STORE_IDS_TYPE =
+            new ParameterizedTypeReference<>() {};
+    private static final double HEDGE_PERCENTILE = 0.95;
+    private static final long HEDGE_DELAY_REFRESH_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final WebClient webClient;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final Timer latencyTimer;
+    private final Counter hedgesFired;
+    private final Counter hedgesWon;
+
+    private final boolean hedgeEnabled;
+    private final long initialHedgeDelayNanos;
+    private final long minHedgeDelayNanos;
+    private final long minSamples;
+
+    private volatile long hedgeDelayNanos;
+    private volatile long hedgeDelayRefreshedAt;
+
+    public IdentityClient(@Qualifier("identityWebClientBuilder") WebClient.Builder webClientBuilder,
+                          CircuitBreaker identityCircuitBreaker,
+                          Bulkhead identityBulkhead,
+                          MeterRegistry meterRegistry,
+                          @Value("${catalog.identity.client.base-url:http://identity-service}") String baseUrl,
+                          @Value("${catalog.identity.client.hedge.enabled:false}") boolean hedgeEnabled,
+                          @Value("${catalog.identity.client.hedge.initial-delay:200ms}") Duration initialHedgeDelay,
+                          @Value("${catalog.identity.client.hedge.min-delay:20ms}") Duration minHedgeDelay,
+                          @Value("${catalog.identity.client.hedge.min-samples:100}") long minSamples) {
+        // 공유 빌더 빈을 변경하지 않도록 복제해서 사용
+        this.webClient = webClientBuilder.clone()
+                .baseUrl(baseUrl)
+                .build();
+        this.circuitBreaker = identityCircuitBreaker;
+        this.bulkhead = identityBulkhead;
+
+        this.latencyTimer = Timer.builder("identity.client.requests")
+                .description("identity-service 요청 1회(헤지 요청 포함)의 응답 시간")
+                .publishPercentiles(HEDGE_PERCENTILE)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.hedgesFired = Counter.builder("identity.client.hedges")
+                .description("p95를 넘겨 추가로 보낸 헤지 요청 수")
+                .tag("result", "fired")
+                .register(meterRegistry);
+        this.hedgesWon = Counter.builder("identity.client.hedges")
+                .description("원 요청보다 먼저 응답한 헤지 요청 수")
+                .tag("result", "won")
+                .register(meterRegistry);
+
+        this.hedgeEnabled = hedgeEnabled;
+        this.initialHedgeDelayNanos = initialHedgeDelay.toNanos();
+        this.minHedgeDelayNanos = minHedgeDelay.toNanos();
+        this.minSamples = minSamples;
+        this.hedgeDelayNanos = initialHedgeDelayNanos;
+        this.hedgeDelayRefreshedAt = System.nanoTime();
+    }
+
+    /**
+     * 판매자의 상점 ID를 조회합니다.
+     * @param sellerId 판매자 ID
+     * @return 상점 ID를 담은 identity-service 응답 (실패 시 WebClientException, 서킷 OPEN·벌크헤드 초과 시 resilience4j 예외로 종료)
+     */
+    public Mono<IdentityApiResponse<Long>> getUser(Long sellerId) {
+        return (hedgeEnabled ? hedged(sellerId) : attempt(sellerId))
+                .transformDeferred(BulkheadOperator.of(bulkhead))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker));
+    }
+
+    /**
+     * 여러 판매자의 상점 ID를 한 번의 요청으로 조회합니다. (헤지하지 않음)
+     * @param sellerIds 판매자 ID 목록
+     * @return 판매자 ID → 상점 ID 응답, 존재하지 않는 판매자는 결과에서 빠짐
+     */
+    public Mono<IdentityApiResponse<Map<Long, Long>>> getStoreIds(Collection<Long> sellerIds) {
+        return webClient.post()
+                .uri(STORE_IDS_PATH)
+                .bodyValue(new StoreIdsRequest(sellerIds))
+                .retrieve()
+                .bodyToMono(STORE_IDS_TYPE)
+                .transformDeferred(BulkheadOperator.of(bulkhead))
+                .transformDeferred(CircuitBreakerOperator.of(circuitBreaker));
+    }
+
+    private Mono<IdentityApiResponse<Long>> hedged(Long sellerId) {
+        Mono<IdentityApiResponse<Long>> primary = attempt(sellerId);
+
+        Mono<IdentityApiResponse<Long>> hedge = Mono.delay(hedgeDelay())
+                .then(Mono.defer(() -> {
+                    hedgesFired.increment();
+                    return attempt(sellerId);
+                }))
+                .doOnNext(response -> hedgesWon.increment())
+                // 헤지 요청이 실패하면 무시하고 원 요청의 결과(또는 타임아웃)를 따름
+                .onErrorResume(e -> Mono.never());
+
+        // 먼저 끝난 쪽의 결과를 사용하고 나머지 요청은 취소
+        return Mono.firstWithSignal(primary, hedge);
+    }
+
+    private Mono<IdentityApiResponse<Long>> attempt(Long sellerId) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return webClient.get()
+                    .uri(USER_PATH, sellerId)
+                    .retrieve()
+                    .bodyToMono(STORE_ID_TYPE)
+                    // 응답·실패가 호출자에게 전달되기 전에 기록 (경쟁에서 져서 취소된 요청은 실제 응답 시간을 알 수 없으므로 제외)
+                    .doOnSuccess(response -> latencyTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS))
+                    .doOnError(e -> latencyTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
+        });
+    }
+
+    // 최근 응답 시간의 p95 (표본이 부족하면 initial-delay), 매 요청마다 스냅샷을 만들지 않도록 1초마다 갱신
+    Duration hedgeDelay() {
+        long now = System.nanoTime();
+        if (now - hedgeDelayRefreshedAt >= HEDGE_DELAY_REFRESH_NANOS) {
+            hedgeDelayNanos = computeHedgeDelayNanos();
+            hedgeDelayRefreshedAt = now;
+        }
+        return Duration.ofNanos(hedgeDelayNanos);
+    }
+
+    private long computeHedgeDelayNanos() {
+        HistogramSnapshot snapshot = latencyTimer.takeSnapshot();
+        if (snapshot.count() < minSamples) {
+            return initialHedgeDelayNanos;
+        }
+
+        for (ValueAtPercentile valueAtPercentile : snapshot.percentileValues()) {
+            if (valueAtPercentile.percentile() == HEDGE_PERCENTILE) {
+                return Math.max(minHedgeDelayNanos, (long) valueAtPercentile.value(TimeUnit.NANOSECONDS));
+            }
+        }
+        return initialHedgeDelayNanos;
+    }
+
+    record StoreIdsRequest(Collection<Long> sellerIds) {
+    }
+}
@@ -0,0 +1,12 @@
+package com.leedahun.storecasecatalog.common.error.exception;
+
+import com.leedahun.storecasecatalog.common.message.ErrorMessage;
+import org.springframework.http.HttpStatus;
+
+public class FileSizeExceededException extends CustomException {
+
+    public FileSizeExceededException() {
+        super(ErrorMessage.FILE_SIZE_EXCEEDED.getMessage(), HttpStatus.BAD_REQUEST);
+    }
+
+}
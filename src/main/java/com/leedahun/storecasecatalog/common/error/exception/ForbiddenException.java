@@ -0,0 +1,12 @@
+package com.leedahun.storecasecatalog.common.error.exception;
+
+import com.leedahun.storecasecatalog.common.message.ErrorMessage;
+import org.springframework.http.HttpStatus;
+
+public class ForbiddenException extends CustomException {
+
+    public ForbiddenException() {
+        super(ErrorMessage.FORBIDDEN.getMessage(), HttpStatus.FORBIDDEN);
+    }
+
+}
@@ -0,0 +1,12 @@
+package com.leedahun.storecasecatalog.common.error.exception;
+
+import com.leedahun.storecasecatalog.common.message.ErrorMessage;
+import org.springframework.http.HttpStatus;
+
+public class ImportReadFailedException extends CustomException {
+
+    public ImportReadFailedException() {
+        super(ErrorMessage.IMPORT_READ_FAILED.getMessage(), HttpStatus.BAD_REQUEST);
+    }
+
+}
@@ -0,0 +1,12 @@
+package com.leedahun.storecasecatalog.common.error.exception;
+
+import com.leedahun.storecasecatalog.common.message.ErrorMessage;
+import org.springframework.http.HttpStatus;
+
+public class InvalidCursorException extends CustomException {
+
+    public InvalidCursorException() {
+        super(ErrorMessage.INVALID_CURSOR.getMessage(), HttpStatus.BAD_REQUEST);
+    }
+
+}
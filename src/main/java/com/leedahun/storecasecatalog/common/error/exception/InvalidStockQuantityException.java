@@ -0,0 +1,12 @@
+package com.leedahun.storecasecatalog.common.error.exception;
+
+import com.leedahun.storecasecatalog.common.message.ErrorMessage;
+import org.springframework.http.HttpStatus;
+
+public class InvalidStockQuantityException extends CustomException {
+
+    public InvalidStockQuantityException(String entity, Object data) {
+        super(ErrorMessage.INVALID_STOCK_QUANTITY.getMessage() + entity + ": " + data, HttpStatus.BAD_REQUEST);
+    }
+
+}
@@ -0,0 +1,11 @@
+package com.leedahun.storecasecatalog.common.error.exception;
+
+import com.leedahun.storecasecatalog.common.message.ErrorMessage;
+import org.springframework.http.HttpStatus;
+
+public class OutOfStockException extends CustomException {
+
+    public OutOfStockException(String entity, Object data) {
+        super(ErrorMessage.OUT_OF_STOCK.getMessage() + entity + ": " + data, HttpStatus.CONFLICT);
+    }
+}
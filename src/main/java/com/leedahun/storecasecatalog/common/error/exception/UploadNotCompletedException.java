@@ -0,0 +1,12 @@
+package com.leedahun.storecasecatalog.common.error.exception;
+
+import com.leedahun.storecasecatalog.common.message.ErrorMessage;
+import org.springframework.http.HttpStatus;
+
+public class UploadNotCompletedException extends CustomException {
+
+    public UploadNotCompletedException() {
+        super(ErrorMessage.UPLOAD_NOT_COMPLETED.getMessage(), HttpStatus.CONFLICT);
+    }
+
+}
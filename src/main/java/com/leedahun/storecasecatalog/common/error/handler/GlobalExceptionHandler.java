@@ -5,6 +5,7 @@ import com.leedahun.storecasecatalog.common.message.ErrorMessage;
 import com.leedahun.storecasecatalog.common.response.HttpResponse;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -32,6 +33,13 @@ public class GlobalExceptionHandler {
                 .body(new HttpResponse(HttpStatus.INTERNAL_SERVER_ERROR, ErrorMessage.INTERNAL_SERVER_ERROR.getMessage(), null));
     }
 
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<?> rejectedExecutionExceptionHandler(RejectedExecutionException e) {
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(new HttpResponse(HttpStatus.SERVICE_UNAVAILABLE, ErrorMessage.SERVICE_BUSY.getMessage(), null));
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public ResponseEntity<?> handleValidationExceptions(MethodArgumentNotValidException e) {
@@ -0,0 +1,50 @@
+package com.leedahun.storecasecatalog.common.instrumentation;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * 계측 모드를 런타임에 조회/변경하는 actuator 엔드포인트입니다.
+ * 예) POST /actuator/instrumentation {"mode": "METRICS_ONLY"}
+ * 변경(POST)은 인증 없이 열리지 않도록 기본으로 막혀 있으며(access: read-only),
+ * 외부에 노출되지 않는 management.server.port에서 management.endpoint.instrumentation.access=unrestricted로 켭니다.
+ */
+@Component
+@Endpoint(id = "instrumentation")
+@RequiredArgsConstructor
+public class InstrumentationEndpoint {
+
+    private final InstrumentationSettings settings;
+
+    @ReadOperation
+    public Map<String, Object> settings() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("mode", settings.getMode());
+        result.put("sampleRate", settings.getSampleRate());
+        result.put("slowThreshold", settings.getSlowThreshold().toString());
+        return result;
+    }
+
+    @WriteOperation
+    public Map<String, Object> update(@Nullable InstrumentationMode mode,
+                                      @Nullable Double sampleRate,
+                                      @Nullable Duration slowThreshold) {
+        if (mode != null) {
+            settings.setMode(mode);
+        }
+        if (sampleRate != null) {
+            settings.setSampleRate(sampleRate);
+        }
+        if (slowThreshold != null) {
+            settings.setSlowThreshold(slowThreshold);
+        }
+        return settings();
+    }
+}
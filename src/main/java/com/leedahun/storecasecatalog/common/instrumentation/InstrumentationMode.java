@@ -0,0 +1,6 @@
+package com.leedahun.storecasecatalog.common.instrumentation;
+
+public enum InstrumentationMode {
+    SAMPLED,        // 지표 기록 + 샘플링/느린 요청만 인자를 렌더링해 로그
+    METRICS_ONLY    // 지표만 기록 (로그, 인자 렌더링 없음)
+}
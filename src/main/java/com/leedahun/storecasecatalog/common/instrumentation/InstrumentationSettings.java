@@ -0,0 +1,51 @@
+package com.leedahun.storecasecatalog.common.instrumentation;
+
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 컨트롤러/서비스 계측 설정입니다. 재시작 없이 actuator(/actuator/instrumentation)로 변경할 수 있습니다.
+ */
+@Component
+public class InstrumentationSettings {
+
+    private volatile InstrumentationMode mode;
+    private volatile double sampleRate;
+    private volatile Duration slowThreshold;
+
+    public InstrumentationSettings(@Value("${catalog.instrumentation.mode:SAMPLED}") InstrumentationMode mode,
+                                   @Value("${catalog.instrumentation.sample-rate:0.01}") double sampleRate,
+                                   @Value("${catalog.instrumentation.slow-threshold:500ms}") Duration slowThreshold) {
+        this.mode = mode;
+        setSampleRate(sampleRate);
+        this.slowThreshold = slowThreshold;
+    }
+
+    public InstrumentationMode getMode() {
+        return mode;
+    }
+
+    public void setMode(InstrumentationMode mode) {
+        this.mode = mode;
+    }
+
+    public double getSampleRate() {
+        return sampleRate;
+    }
+
+    public void setSampleRate(double sampleRate) {
+        if (sampleRate < 0 || sampleRate > 1) {
+            throw new IllegalArgumentException("sample-rate는 0과 1 사이여야 합니다.");
+        }
+        this.sampleRate = sampleRate;
+    }
+
+    public Duration getSlowThreshold() {
+        return slowThreshold;
+    }
+
+    public void setSlowThreshold(Duration slowThreshold) {
+        this.slowThreshold = slowThreshold;
+    }
+}
@@ -0,0 +1,103 @@
+package com.leedahun.storecasecatalog.common.instrumentation;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceUnitUtil;
+import java.lang.reflect.Array;
+import java.time.temporal.TemporalAccessor;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletionStage;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.proxy.LazyInitializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * 로그용으로 메서드 인자/반환값을 요약 문자열로 만듭니다.
+ * 엔티티와 지연 로딩 프록시는 toString()을 호출하지 않고 "타입#ID"로만 표시하므로 지연 로딩을 일으키지 않고,
+ * 컬렉션/배열은 크기만, 그 외 객체는 DTO만 내용을 렌더링합니다.
+ */
+@Component
+public class SafeArgumentRenderer {
+
+    private final PersistenceUnitUtil persistenceUnitUtil;
+    private final int maxLength;
+
+    public SafeArgumentRenderer(EntityManagerFactory entityManagerFactory,
+                                @Value("${catalog.instrumentation.max-rendered-length:300}") int maxLength) {
+        this.persistenceUnitUtil = entityManagerFactory.getPersistenceUnitUtil();
+        this.maxLength = maxLength;
+    }
+
+    public String render(Object[] args) {
+        if (args == null || args.length == 0) {
+            return "[]";
+        }
+
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < args.length; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(render(args[i]));
+        }
+        return sb.append(']').toString();
+    }
+
+    public String render(Object value) {
+        if (value == null) {
+            return "null";
+        }
+
+        // 지연 로딩 프록시: 초기화하지 않고 식별자만 꺼냄
+        LazyInitializer lazyInitializer = HibernateProxy.extractLazyInitializer(value);
+        if (lazyInitializer != null) {
+            return simpleName(lazyInitializer.getEntityName()) + "#" + lazyInitializer.getIdentifier();
+        }
+
+        Class<?> type = value.getClass();
+        if (type.isAnnotationPresent(Entity.class)) {
+            return type.getSimpleName() + "#" + persistenceUnitUtil.getIdentifier(value);
+        }
+        if (value instanceof CharSequence || value instanceof Number || value instanceof Boolean
+                || value instanceof Character || value instanceof Enum<?> || value instanceof UUID
+                || value instanceof TemporalAccessor) {
+            return shrink(String.valueOf(value));
+        }
+        if (value instanceof MultipartFile file) {
+            return "MultipartFile(" + shrink(file.getOriginalFilename()) + ", " + file.getSize() + " bytes)";
+        }
+        if (value instanceof Collection<?> collection) {
+            return type.getSimpleName() + "(size=" + collection.size() + ")";
+        }
+        if (value instanceof Map<?, ?> map) {
+            return type.getSimpleName() + "(size=" + map.size() + ")";
+        }
+        if (type.isArray()) {
+            return type.getComponentType().getSimpleName() + "[" + Array.getLength(value) + "]";
+        }
+        if (value instanceof ResponseEntity<?> responseEntity) {
+            return "ResponseEntity(" + responseEntity.getStatusCode().value() + ")";
+        }
+        if (value instanceof CompletionStage<?>) {
+            return type.getSimpleName();
+        }
+        // DTO는 값만 담고 있으므로 내용을 렌더링, 그 외 객체는 toString() 부작용을 피해 타입만 표시
+        if (type.getPackageName().contains(".dto")) {
+            return shrink(String.valueOf(value));
+        }
+        return type.getSimpleName();
+    }
+
+    private String shrink(String s) {
+        return s.length() > maxLength ? s.substring(0, maxLength) + "...(trunc)" : s;
+    }
+
+    private static String simpleName(String entityName) {
+        return entityName.substring(entityName.lastIndexOf('.') + 1);
+    }
+}
@@ -0,0 +1,70 @@
+package com.leedahun.storecasecatalog.common.instrumentation;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.p6spy.engine.common.StatementInformation;
+import com.p6spy.engine.event.SimpleJdbcEventListener;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 모든 SQL 실행 시간을 fingerprint별 db.statement 타이머(히스토그램)로 기록합니다.
+ * 로그는 slow-threshold를 넘은 문장만 남지만 지표는 전 문장을 대상으로 하므로 p99를 그대로 볼 수 있습니다.
+ * (p6spy-spring-boot-starter가 JdbcEventListener 빈을 자동 등록)
+ */
+@Component
+public class SqlLatencyListener extends SimpleJdbcEventListener {
+
+    private static final String TIMER_NAME = "db.statement";
+    static final String OVERFLOW_FINGERPRINT = "other";
+
+    private final MeterRegistry meterRegistry;
+    private final int maxFingerprints;
+    private final Map<String, Timer> timersByFingerprint = new ConcurrentHashMap<>();
+    // 원문 SQL → 타이머: 같은 PreparedStatement SQL은 정규화(정규식)를 한 번만 수행
+    private final Cache<String, StatementTimer> timersBySql;
+
+    public SqlLatencyListener(MeterRegistry meterRegistry,
+                              @Value("${catalog.sql-log.max-fingerprints:500}") int maxFingerprints) {
+        this.meterRegistry = meterRegistry;
+        this.maxFingerprints = maxFingerprints;
+        this.timersBySql = Caffeine.newBuilder()
+                .maximumSize(maxFingerprints * 4L)
+                .build();
+    }
+
+    @Override
+    public void onAfterAnyExecute(StatementInformation statementInformation, long timeElapsedNanos, SQLException e) {
+        String sql = statementInformation.getSql();
+        StatementTimer statementTimer = timersBySql.get(sql == null ? "" : sql, this::statementTimer);
+        statementTimer.timer().record(timeElapsedNanos, TimeUnit.NANOSECONDS);
+
+        if (e != null) {
+            meterRegistry.counter(TIMER_NAME + ".errors", "sql", statementTimer.fingerprint()).increment();
+        }
+    }
+
+    private StatementTimer statementTimer(String sql) {
+        String fingerprint = SqlFingerprint.of(sql);
+        // 리터럴이 박힌 동적 SQL 등으로 fingerprint가 계속 늘어나면 지표 카디널리티가 폭증하지 않도록 하나로 묶음
+        if (timersByFingerprint.size() >= maxFingerprints && !timersByFingerprint.containsKey(fingerprint)) {
+            fingerprint = OVERFLOW_FINGERPRINT;
+        }
+
+        Timer timer = timersByFingerprint.computeIfAbsent(fingerprint, key -> Timer.builder(TIMER_NAME)
+                .description("SQL fingerprint별 실행 시간")
+                .tag("sql", key)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+        return new StatementTimer(fingerprint, timer);
+    }
+
+    private record StatementTimer(String fingerprint, Timer timer) {
+    }
+}
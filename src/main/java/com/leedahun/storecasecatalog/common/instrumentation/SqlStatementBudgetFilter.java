@@ -0,0 +1,115 @@
+package com.leedahun.storecasecatalog.common.instrumentation;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * 요청마다 SqlStatementContext를 열어 실행된 SQL 문장 수/DB 왕복 수를 엔드포인트별 지표로 기록합니다.
+ * 문장 수가 max-statements를 넘거나 같은 fingerprint가 repeated-threshold번 이상 실행되면(N+1 의심) 경고 로그를 남깁니다.
+ * 비동기 요청은 응답이 완료된 시점에 기록합니다.
+ */
+@Slf4j
+public class SqlStatementBudgetFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+    private final int maxStatements;
+    private final int repeatedThreshold;
+
+    public SqlStatementBudgetFilter(MeterRegistry meterRegistry, int maxStatements, int repeatedThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.maxStatements = maxStatements;
+        this.repeatedThreshold = repeatedThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SqlStatementContext context = SqlStatementContext.open();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            context.close();
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new ReportOnComplete(request, context));
+            } else {
+                report(request, context);
+            }
+        }
+    }
+
+    private void report(HttpServletRequest request, SqlStatementContext context) {
+        String method = request.getMethod();
+        String uri = uri(request);
+
+        DistributionSummary.builder("catalog.request.sql.statements")
+                .description("요청당 실행된 SQL 문장 수")
+                .tags("method", method, "uri", uri)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(context.getStatementCount());
+        DistributionSummary.builder("catalog.request.sql.round-trips")
+                .description("요청당 DB 왕복 수 (배치 실행은 1회)")
+                .tags("method", method, "uri", uri)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(context.getRoundTripCount());
+
+        if (context.getStatementCount() > maxStatements) {
+            meterRegistry.counter("catalog.request.sql.budget-exceeded", "method", method, "uri", uri).increment();
+            log.warn("🧮 SQL budget exceeded {} {} statements={} roundTrips={} (budget {})",
+                    method, uri, context.getStatementCount(), context.getRoundTripCount(), maxStatements);
+        }
+
+        Map<String, Integer> repeated = context.getRepeatedStatements(repeatedThreshold);
+        if (!repeated.isEmpty()) {
+            meterRegistry.counter("catalog.request.sql.repeated", "method", method, "uri", uri).increment();
+            repeated.forEach((fingerprint, count) ->
+                    log.warn("🔁 N+1 suspected {} {} x{}: {}", method, uri, count, fingerprint));
+        }
+    }
+
+    // 지표 카디널리티를 위해 실제 경로 대신 매핑 패턴(/api/catalog/product/{productId})을 사용
+    private static String uri(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+
+    private class ReportOnComplete implements AsyncListener {
+
+        private final HttpServletRequest request;
+        private final SqlStatementContext context;
+
+        private ReportOnComplete(HttpServletRequest request, SqlStatementContext context) {
+            this.request = request;
+            this.context = context;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            report(request, context);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
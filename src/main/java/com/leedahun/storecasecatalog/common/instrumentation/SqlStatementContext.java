@@ -0,0 +1,134 @@
+package com.leedahun.storecasecatalog.common.instrumentation;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 하나의 요청(또는 테스트 구간)에서 실행된 JDBC 문장을 집계합니다.
+ * open()한 스레드에 바인딩되며, propagate()로 감싼 작업은 다른 스레드에서 실행되어도 같은 컨텍스트에 집계됩니다.
+ * <ul>
+ *     <li>statements: 실행된 SQL 문장 수 (배치에 추가된 문장 포함)</li>
+ *     <li>roundTrips: DB 왕복 수 (배치 실행은 문장 수와 관계없이 1회)</li>
+ * </ul>
+ */
+public final class SqlStatementContext implements AutoCloseable {
+
+    private static final ThreadLocal<SqlStatementContext> CURRENT = new ThreadLocal<>();
+
+    private final SqlStatementContext previous;
+    private final AtomicInteger statements = new AtomicInteger();
+    private final AtomicInteger roundTrips = new AtomicInteger();
+    // 원문 SQL(PreparedStatement의 '?' 포함 SQL)별 단건 실행 횟수
+    private final Map<String, Integer> executions = new ConcurrentHashMap<>();
+
+    private SqlStatementContext(SqlStatementContext previous) {
+        this.previous = previous;
+    }
+
+    /**
+     * 현재 스레드에 새 컨텍스트를 연결합니다. 반드시 같은 스레드에서 close()해야 합니다.
+     */
+    public static SqlStatementContext open() {
+        SqlStatementContext context = new SqlStatementContext(CURRENT.get());
+        CURRENT.set(context);
+        return context;
+    }
+
+    public static SqlStatementContext current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 작업을 제출한 스레드의 컨텍스트를 실행 스레드로 전파합니다. (ThreadPoolTaskExecutor의 TaskDecorator로 사용)
+     */
+    public static Runnable propagate(Runnable task) {
+        SqlStatementContext context = CURRENT.get();
+        if (context == null) {
+            return task;
+        }
+        return () -> runWith(context, task);
+    }
+
+    /**
+     * 호출한 스레드의 컨텍스트를 지금 캡처해, 감싼 실행기로 제출되는 모든 작업에 전파합니다.
+     * CompletableFuture의 *Async 단계는 앞 단계를 완료한 스레드(예: WebClient 응답 스레드)에서 제출되므로,
+     * 제출 시점에 캡처하는 TaskDecorator만으로는 요청 컨텍스트가 전파되지 않습니다. 요청 스레드에서 감싼 뒤 조합합니다.
+     */
+    public static Executor propagating(Executor executor) {
+        SqlStatementContext context = CURRENT.get();
+        if (context == null) {
+            return executor;
+        }
+        return task -> executor.execute(() -> runWith(context, task));
+    }
+
+    private static void runWith(SqlStatementContext context, Runnable task) {
+        SqlStatementContext before = CURRENT.get();
+        CURRENT.set(context);
+        try {
+            task.run();
+        } finally {
+            restore(before);
+        }
+    }
+
+    @Override
+    public void close() {
+        restore(previous);
+    }
+
+    void recordExecute(String sql) {
+        statements.incrementAndGet();
+        roundTrips.incrementAndGet();
+        executions.merge(sql == null ? "" : sql, 1, Integer::sum);
+    }
+
+    void recordAddBatch() {
+        statements.incrementAndGet();
+    }
+
+    void recordExecuteBatch() {
+        roundTrips.incrementAndGet();
+    }
+
+    public int getStatementCount() {
+        return statements.get();
+    }
+
+    public int getRoundTripCount() {
+        return roundTrips.get();
+    }
+
+    /**
+     * 단건 실행 횟수를 fingerprint별로 합산합니다. (배치는 의도된 반복이므로 제외)
+     */
+    public Map<String, Integer> getExecutionsByFingerprint() {
+        Map<String, Integer> byFingerprint = new HashMap<>();
+        executions.forEach((sql, count) -> byFingerprint.merge(SqlFingerprint.of(sql), count, Integer::sum));
+        return byFingerprint;
+    }
+
+    /**
+     * 같은 fingerprint가 threshold번 이상 실행된 문장(N+1 의심)을 실행 횟수 내림차순으로 반환합니다.
+     */
+    public Map<String, Integer> getRepeatedStatements(int threshold) {
+        Map<String, Integer> repeated = new LinkedHashMap<>();
+        getExecutionsByFingerprint().entrySet().stream()
+                .filter(entry -> entry.getValue() >= threshold)
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .forEach(entry -> repeated.put(entry.getKey(), entry.getValue()));
+        return repeated;
+    }
+
+    private static void restore(SqlStatementContext context) {
+        if (context == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(context);
+        }
+    }
+}
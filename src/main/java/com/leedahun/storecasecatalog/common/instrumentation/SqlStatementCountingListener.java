@@ -0,0 +1,39 @@
+package com.leedahun.storecasecatalog.common.instrumentation;
+
+import com.p6spy.engine.common.StatementInformation;
+import com.p6spy.engine.event.SimpleJdbcEventListener;
+import java.sql.SQLException;
+import org.springframework.stereotype.Component;
+
+/**
+ * p6spy 이벤트로 현재 스레드의 SqlStatementContext에 문장 수와 DB 왕복 수를 집계합니다.
+ * 컨텍스트가 열려 있지 않은 스레드(스케줄러, 기동 시 DDL 등)의 문장은 무시합니다.
+ */
+@Component
+public class SqlStatementCountingListener extends SimpleJdbcEventListener {
+
+    @Override
+    public void onAfterAnyExecute(StatementInformation statementInformation, long timeElapsedNanos, SQLException e) {
+        SqlStatementContext context = SqlStatementContext.current();
+        if (context != null) {
+            context.recordExecute(statementInformation.getSql());
+        }
+    }
+
+    @Override
+    public void onAfterAnyAddBatch(StatementInformation statementInformation, long timeElapsedNanos, SQLException e) {
+        SqlStatementContext context = SqlStatementContext.current();
+        if (context != null) {
+            context.recordAddBatch();
+        }
+    }
+
+    // 배치 문장은 addBatch 시점에 이미 세었으므로 왕복 수만 올림 (super는 onAfterAnyExecute로 넘기므로 호출하지 않음)
+    @Override
+    public void onAfterExecuteBatch(StatementInformation statementInformation, long timeElapsedNanos, int[] updateCounts, SQLException e) {
+        SqlStatementContext context = SqlStatementContext.current();
+        if (context != null) {
+            context.recordExecuteBatch();
+        }
+    }
+}
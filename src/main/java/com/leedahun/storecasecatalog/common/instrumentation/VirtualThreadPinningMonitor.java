@@ -0,0 +1,133 @@
+package com.leedahun.storecasecatalog.common.instrumentation;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * 가상 스레드가 캐리어 스레드에 고정(pinning)된 채 블로킹된 구간을 JFR 이벤트(jdk.VirtualThreadPinned)로 감지합니다.
+ * synchronized 블록 안에서 I/O·락 대기가 일어나면 캐리어 스레드가 함께 묶여 가상 스레드의 동시성 이점이 사라지므로,
+ * 고정 시간은 jvm.threads.virtual.pinned 타이머(발생 지점 site 태그)로 기록하고 처음 발견한 지점은 스택과 함께 한 번 로그로 남깁니다.
+ * site는 스택에서 JDK 내부 프레임을 건너뛴 첫 프레임(드라이버·풀·애플리케이션 코드)입니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String TIMER_NAME = "jvm.threads.virtual.pinned";
+    static final String OVERFLOW_SITE = "other";
+    private static final int LOGGED_FRAMES = 12;
+    private static final List<String> JDK_FRAME_PREFIXES = List.of("java.", "jdk.", "sun.");
+
+    private final MeterRegistry meterRegistry;
+    private final Duration threshold;
+    private final int maxSites;
+    private final Map<String, Timer> timersBySite = new ConcurrentHashMap<>();
+    private final Set<String> reportedSites = ConcurrentHashMap.newKeySet();
+
+    private volatile RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry,
+                                       @Value("${catalog.virtual-threads.pinning.threshold:20ms}") Duration threshold,
+                                       @Value("${catalog.virtual-threads.pinning.max-sites:100}") int maxSites) {
+        this.meterRegistry = meterRegistry;
+        this.threshold = threshold;
+        this.maxSites = maxSites;
+    }
+
+    @Override
+    public void start() {
+        RecordingStream stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.startAsync();
+        recordingStream = stream;
+        log.info("[virtual-threads] 캐리어 스레드 고정 감시 시작 (threshold={}ms)", threshold.toMillis());
+    }
+
+    @Override
+    public void stop() {
+        RecordingStream stream = recordingStream;
+        if (stream != null) {
+            stream.close();
+            recordingStream = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return recordingStream != null;
+    }
+
+    void onPinned(RecordedEvent event) {
+        List<RecordedFrame> frames = event.getStackTrace() == null ? List.of() : event.getStackTrace().getFrames();
+        String site = site(frames);
+
+        timer(site).record(event.getDuration());
+
+        if (reportedSites.add(site)) {
+            log.warn("[virtual-threads] 캐리어 스레드 고정 감지 site={} duration={}ms{}",
+                    site, event.getDuration().toMillis(), render(frames));
+        }
+    }
+
+    /**
+     * 지금까지 감지한 발생 지점별 고정 횟수입니다. (부하 테스트 리포트용)
+     * @return site → 고정 횟수
+     */
+    public Map<String, Long> pinnedCounts() {
+        return timersBySite.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().count()));
+    }
+
+    private Timer timer(String site) {
+        // 발생 지점이 계속 늘어나도 지표 카디널리티가 폭증하지 않도록 하나로 묶음
+        String tag = timersBySite.size() >= maxSites && !timersBySite.containsKey(site) ? OVERFLOW_SITE : site;
+        return timersBySite.computeIfAbsent(tag, key -> Timer.builder(TIMER_NAME)
+                .description("가상 스레드가 캐리어 스레드에 고정된 채 블로킹된 시간")
+                .tag("site", key)
+                .register(meterRegistry));
+    }
+
+    private static String site(List<RecordedFrame> frames) {
+        return frames.stream()
+                .filter(frame -> JDK_FRAME_PREFIXES.stream().noneMatch(frame.getMethod().getType().getName()::startsWith))
+                .findFirst()
+                .or(() -> frames.stream().findFirst())
+                .map(VirtualThreadPinningMonitor::methodName)
+                .orElse("unknown");
+    }
+
+    private static String render(List<RecordedFrame> frames) {
+        return frames.stream()
+                .limit(LOGGED_FRAMES)
+                .map(frame -> "\n\tat " + methodName(frame) + "(line " + frame.getLineNumber() + ")")
+                .collect(Collectors.joining());
+    }
+
+    private static String methodName(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName();
+    }
+
+    @Override
+    public int getPhase() {
+        // 다른 빈보다 먼저 시작하고 마지막에 멈춰 기동·종료 중의 고정도 기록
+        return Integer.MIN_VALUE;
+    }
+}
@@ -0,0 +1,137 @@
+package com.leedahun.storecasecatalog.common.invalidation;
+
+import com.leedahun.storecasecatalog.domain.category.event.CategoryChangedEvent;
+import com.leedahun.storecasecatalog.domain.product.event.ProductChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 이 인스턴스에서 커밋된 카테고리·상품 변경을 다른 catalog 인스턴스에 알려, 각자의 로컬 캐시를 무효화하게 합니다.
+ * 커밋 후 변경 ID를 짧은 시간(window) 동안 모아 중복을 합친 뒤 메시지 하나로 보내고(max-size개가 모이면 즉시),
+ * 다른 인스턴스에서 받은 메시지는 {@link CacheInvalidationMessage} 로컬 이벤트로 발행합니다.
+ * 이 인스턴스의 캐시는 커밋 이벤트로 이미 무효화되므로 자신이 보낸 메시지는 무시합니다.
+ */
+@Slf4j
+@Component
+public class CacheInvalidationBus {
+
+    private final InvalidationTransport transport;
+    private final ApplicationEventPublisher eventPublisher;
+    private final String instanceId = UUID.randomUUID().toString();
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final DistributionSummary batchSize;
+    private final Counter coalesced;
+    private final Counter received;
+
+    private final Object lock = new Object();
+    private PendingBatch pending = new PendingBatch();
+
+    public CacheInvalidationBus(InvalidationTransport transport,
+                                ApplicationEventPublisher eventPublisher,
+                                MeterRegistry meterRegistry,
+                                @Value("${catalog.cache.invalidation.window:50ms}") Duration window,
+                                @Value("${catalog.cache.invalidation.max-size:500}") int maxBatchSize) {
+        this.transport = transport;
+        this.eventPublisher = eventPublisher;
+        this.windowNanos = window.toNanos();
+        this.maxBatchSize = maxBatchSize;
+        this.batchSize = DistributionSummary.builder("cache.invalidation.batch.size")
+                .description("무효화 메시지 1건에 담긴 변경 ID 수")
+                .register(meterRegistry);
+        this.coalesced = Counter.builder("cache.invalidation.coalesced")
+                .description("같은 배치의 중복 변경으로 합쳐진 수")
+                .register(meterRegistry);
+        this.received = Counter.builder("cache.invalidation.received")
+                .description("다른 인스턴스에서 받아 적용한 무효화 메시지 수")
+                .register(meterRegistry);
+
+        transport.subscribe(this::receive);
+    }
+
+    // 롤백된 변경은 다른 인스턴스에 알리지 않음
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        enqueue(pending -> pending.productIds.add(event.productId()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        enqueue(pending -> pending.categoryIds.add(event.categoryId()));
+    }
+
+    private void enqueue(Predicate<PendingBatch> add) {
+        PendingBatch full = null;
+
+        synchronized (lock) {
+            if (!add.test(pending)) {
+                coalesced.increment();
+                return;
+            }
+
+            if (pending.size() >= maxBatchSize) {
+                full = pending;
+                pending = new PendingBatch();
+            } else if (pending.size() == 1) {
+                PendingBatch batch = pending;
+                Schedulers.parallel().schedule(() -> flush(batch), windowNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        if (full != null) {
+            dispatch(full);
+        }
+    }
+
+    // window가 끝난 배치 전송 (그 사이 max-size로 이미 전송된 배치면 무시)
+    private void flush(PendingBatch batch) {
+        synchronized (lock) {
+            if (pending != batch) {
+                return;
+            }
+            pending = new PendingBatch();
+        }
+        dispatch(batch);
+    }
+
+    private void dispatch(PendingBatch batch) {
+        batchSize.record(batch.size());
+        try {
+            transport.send(new CacheInvalidationMessage(instanceId, Set.copyOf(batch.categoryIds), Set.copyOf(batch.productIds)));
+        } catch (RuntimeException e) {
+            // 전송 실패가 커밋 이후 처리(호출한 요청)로 번지지 않도록 기록만 함 (다른 인스턴스는 TTL 만료로 복구)
+            log.warn("캐시 무효화 전송 실패 categoryIds={} productIds={}", batch.categoryIds, batch.productIds, e);
+        }
+    }
+
+    private void receive(CacheInvalidationMessage message) {
+        if (instanceId.equals(message.origin())) {
+            return;
+        }
+        received.increment();
+        eventPublisher.publishEvent(message);
+    }
+
+    private static class PendingBatch {
+        private final Set<Long> categoryIds = new HashSet<>();
+        private final Set<Long> productIds = new HashSet<>();
+
+        int size() {
+            return categoryIds.size() + productIds.size();
+        }
+    }
+}
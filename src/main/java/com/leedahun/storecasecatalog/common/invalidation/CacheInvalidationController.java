@@ -0,0 +1,32 @@
+package com.leedahun.storecasecatalog.common.invalidation;
+
+import com.leedahun.storecasecatalog.common.error.exception.ForbiddenException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 다른 catalog 인스턴스가 보낸 캐시 무효화 메시지를 받는 내부 API입니다.
+ * 인스턴스끼리 공유하는 secret 헤더가 없거나 다르면 403으로 거절합니다.
+ */
+@RestController
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "catalog.cache.invalidation.transport", havingValue = "http", matchIfMissing = true)
+public class CacheInvalidationController {
+
+    private final HttpInvalidationTransport httpInvalidationTransport;
+
+    @PostMapping(HttpInvalidationTransport.PATH)
+    public ResponseEntity<Void> receive(@RequestHeader(value = HttpInvalidationTransport.SECRET_HEADER, required = false) String secret,
+                                        @RequestBody CacheInvalidationMessage message) {
+        if (!httpInvalidationTransport.isAuthorized(secret)) {
+            throw new ForbiddenException();
+        }
+        httpInvalidationTransport.deliver(message);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,13 @@
+package com.leedahun.storecasecatalog.common.invalidation;
+
+import java.util.Set;
+
+/**
+ * 다른 catalog 인스턴스에 전달하는 캐시 무효화 메시지입니다.
+ * 짧은 시간 동안 커밋된 변경을 모아 하나로 보내며, 수신한 인스턴스에서는 로컬 이벤트로 발행되어 각 캐시가 해당 항목을 제거합니다.
+ * @param origin 메시지를 보낸 인스턴스 ID (자기 자신이 보낸 메시지는 무시)
+ * @param categoryIds 변경된 카테고리 ID
+ * @param productIds 변경된 상품 ID
+ */
+public record CacheInvalidationMessage(String origin, Set<Long> categoryIds, Set<Long> productIds) {
+}
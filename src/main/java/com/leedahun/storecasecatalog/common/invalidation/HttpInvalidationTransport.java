@@ -0,0 +1,117 @@
+package com.leedahun.storecasecatalog.common.invalidation;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.util.retry.Retry;
+
+/**
+ * Eureka에 등록된 같은 서비스의 모든 인스턴스에 무효화 메시지를 HTTP로 보내는 전송 계층입니다.
+ * 인스턴스마다 독립적으로 전송·재시도하므로 한 인스턴스의 장애가 다른 인스턴스 전달을 막지 않습니다.
+ * 자기 자신에게도 보내지만 수신 측 버스가 origin으로 걸러냅니다. (인스턴스 목록에서 자신을 식별하는 비용보다 단순함)
+ * 수신 API는 인증 없이 노출되므로 인스턴스끼리 공유하는 secret을 헤더로 보내고 검증합니다.
+ * 서비스 이름이나 secret이 없으면 무효화가 조용히 꺼진 채로 떠 있게 되므로 기동을 실패시킵니다.
+ * 같은 이유로 인스턴스 목록이 비어 있으면(자기 자신도 없음 = 서비스 이름·Eureka 등록 문제) 경고와 지표를 남깁니다.
+ */
+@Slf4j
+public class HttpInvalidationTransport implements InvalidationTransport {
+
+    public static final String PATH = "/api/internal/catalog/cache/invalidations";
+    public static final String SECRET_HEADER = "X-Catalog-Invalidation-Secret";
+
+    private final DiscoveryClient discoveryClient;
+    private final WebClient webClient;
+    private final String serviceId;
+    private final String secret;
+    private final Duration timeout;
+    private final int maxRetries;
+    private final Counter failures;
+    private final Counter noInstances;
+
+    private volatile Consumer<CacheInvalidationMessage> receiver = message -> { };
+
+    public HttpInvalidationTransport(DiscoveryClient discoveryClient, WebClient webClient, MeterRegistry meterRegistry,
+                                     String serviceId, String secret, Duration timeout, int maxRetries) {
+        if (serviceId == null || serviceId.isBlank()) {
+            throw new IllegalArgumentException("catalog.cache.invalidation.transport=http이면 spring.application.name을 지정해야 합니다. "
+                    + "(Eureka에서 같은 서비스의 인스턴스를 찾는 데 사용)");
+        }
+        if (secret == null || secret.isBlank()) {
+            throw new IllegalArgumentException("catalog.cache.invalidation.transport=http이면 catalog.cache.invalidation.http.secret을 지정해야 합니다. "
+                    + "(단일 인스턴스로 실행하면 transport=loopback)");
+        }
+
+        this.discoveryClient = discoveryClient;
+        this.webClient = webClient;
+        this.serviceId = serviceId;
+        this.secret = secret;
+        this.timeout = timeout;
+        this.maxRetries = maxRetries;
+        this.failures = Counter.builder("cache.invalidation.send.failures")
+                .description("재시도 후에도 다른 인스턴스에 전달하지 못한 무효화 메시지 수")
+                .register(meterRegistry);
+        this.noInstances = Counter.builder("cache.invalidation.send.no-instances")
+                .description("인스턴스 목록이 비어 있어 아무 데도 보내지 못한 무효화 메시지 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void send(CacheInvalidationMessage message) {
+        List<ServiceInstance> instances = discoveryClient.getInstances(serviceId);
+        if (instances.isEmpty()) {
+            noInstances.increment();
+            log.warn("캐시 무효화를 보낼 인스턴스가 없습니다. serviceId={} categoryIds={} productIds={}",
+                    serviceId, message.categoryIds(), message.productIds());
+            return;
+        }
+        for (ServiceInstance instance : instances) {
+            webClient.post()
+                    .uri(UriComponentsBuilder.fromUri(instance.getUri()).path(PATH).build().toUri())
+                    .header(SECRET_HEADER, secret)
+                    .bodyValue(message)
+                    .retrieve()
+                    .toBodilessEntity()
+                    .timeout(timeout)
+                    .retryWhen(Retry.backoff(maxRetries, timeout.dividedBy(10)))
+                    .subscribe(response -> { }, error -> {
+                        failures.increment();
+                        log.warn("캐시 무효화 전달 실패 instance={} categoryIds={} productIds={} ({})",
+                                instance.getUri(), message.categoryIds(), message.productIds(), error.getMessage());
+                    });
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidationMessage> receiver) {
+        this.receiver = receiver;
+    }
+
+    /**
+     * 수신 요청의 secret이 설정값과 일치하는지 확인합니다. (비교 시간으로 값을 추측할 수 없도록 고정 시간 비교)
+     * @param requestSecret 요청 헤더의 secret
+     * @return 일치하면 true
+     */
+    public boolean isAuthorized(String requestSecret) {
+        if (requestSecret == null) {
+            return false;
+        }
+        return MessageDigest.isEqual(secret.getBytes(StandardCharsets.UTF_8), requestSecret.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 다른 인스턴스에서 받은 메시지를 등록된 수신자에게 전달합니다.
+     * @param message 무효화 메시지
+     */
+    public void deliver(CacheInvalidationMessage message) {
+        receiver.accept(message);
+    }
+}
@@ -0,0 +1,22 @@
+package com.leedahun.storecasecatalog.common.invalidation;
+
+import java.util.function.Consumer;
+
+/**
+ * 캐시 무효화 메시지를 다른 인스턴스로 전달하는 전송 계층입니다.
+ * 전달은 최선 노력(best-effort)이며, 유실된 무효화는 각 캐시의 TTL이 지나면 해소됩니다.
+ */
+public interface InvalidationTransport {
+
+    /**
+     * 메시지를 모든 인스턴스에 보냅니다. 호출 스레드를 막지 않아야 합니다.
+     * @param message 무효화 메시지
+     */
+    void send(CacheInvalidationMessage message);
+
+    /**
+     * 다른 인스턴스에서 받은 메시지를 전달받을 수신자를 등록합니다.
+     * @param receiver 메시지 수신자
+     */
+    void subscribe(Consumer<CacheInvalidationMessage> receiver);
+}
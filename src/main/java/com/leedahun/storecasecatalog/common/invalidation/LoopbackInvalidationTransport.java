@@ -0,0 +1,24 @@
+package com.leedahun.storecasecatalog.common.invalidation;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 같은 JVM 안의 수신자에게 바로 전달하는 전송 계층입니다.
+ * 단일 인스턴스 실행·테스트용이며, 여러 버스가 하나를 공유하면 여러 인스턴스처럼 동작합니다.
+ */
+public class LoopbackInvalidationTransport implements InvalidationTransport {
+
+    private final List<Consumer<CacheInvalidationMessage>> receivers = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void send(CacheInvalidationMessage message) {
+        receivers.forEach(receiver -> receiver.accept(message));
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidationMessage> receiver) {
+        receivers.add(receiver);
+    }
+}
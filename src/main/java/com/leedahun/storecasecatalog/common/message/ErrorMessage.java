@@ -10,8 +10,20 @@ public enum ErrorMessage {
     ENTITY_NOT_FOUND("데이터가 존재하지 않습니다. "),
     ENTITY_ALREADY_EXISTS("데이터가 이미 존재합니다. "),
     INVALID_INPUT_VALUE("입력값이 올바르지 않습니다."),
+    INVALID_CURSOR("페이지 커서가 올바르지 않습니다."),
+    FORBIDDEN("접근 권한이 없습니다."),
+    OUT_OF_STOCK("재고가 부족합니다. "),
+    INVALID_STOCK_QUANTITY("차감 수량은 1 이상, 2147483647 이하여야 합니다. "),
+    SERVICE_BUSY("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요."),
 
     FILE_UPLOAD_FAILED("파일 업로드에 실패했습니다."),
+    FILE_SIZE_EXCEEDED("허용된 파일 크기를 초과했습니다."),
+    UPLOAD_NOT_COMPLETED("S3 업로드가 완료되지 않았거나 요청한 파일과 일치하지 않습니다."),
+
+    INVALID_JSON_FORMAT("JSON 형식이 올바르지 않습니다."),
+    IMPORT_READ_FAILED("일괄 등록 요청 본문을 읽는 중 오류가 발생했습니다."),
+    IMPORT_ROW_FAILED("일괄 등록 중 저장에 실패했습니다. 원인: "),
+    IMPORT_LINE_TOO_LONG("한 줄의 길이가 최대 길이를 초과했습니다. 최대 문자 수: "),
 
     EXTERNAL_API_ERROR("외부 API 호출에 실패했습니다.");
 
@@ -0,0 +1,50 @@
+package com.leedahun.storecasecatalog.common.pagination;
+
+import com.leedahun.storecasecatalog.common.error.exception.InvalidCursorException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * keyset 페이지네이션에서 "마지막으로 본 ID"를 클라이언트에 노출하지 않기 위한 불투명 커서 변환기입니다.
+ * 커서 형식이 바뀌어도 클라이언트는 받은 값을 그대로 돌려주기만 하면 됩니다.
+ */
+public final class KeysetCursor {
+
+    private static final String VERSION_PREFIX = "v1:";
+
+    private KeysetCursor() {
+    }
+
+    /**
+     * @param lastId 현재 페이지의 마지막 ID
+     * @return URL에 그대로 쓸 수 있는 커서 문자열
+     */
+    public static String encode(Long lastId) {
+        byte[] raw = (VERSION_PREFIX + lastId).getBytes(StandardCharsets.UTF_8);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw);
+    }
+
+    /**
+     * @param cursor 클라이언트가 보낸 커서 (없으면 첫 페이지)
+     * @return 다음 페이지 조회 기준 ID (첫 페이지는 Long.MAX_VALUE)
+     */
+    public static long decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return Long.MAX_VALUE;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!raw.startsWith(VERSION_PREFIX)) {
+                throw new InvalidCursorException();
+            }
+            long lastId = Long.parseLong(raw.substring(VERSION_PREFIX.length()));
+            if (lastId <= 0) {
+                throw new InvalidCursorException();
+            }
+            return lastId;
+        } catch (IllegalArgumentException e) {   // Base64 디코딩 실패, NumberFormatException 포함
+            throw new InvalidCursorException();
+        }
+    }
+}
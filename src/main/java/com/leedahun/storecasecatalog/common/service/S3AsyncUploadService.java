@@ -0,0 +1,244 @@
+package com.leedahun.storecasecatalog.common.service;
+
+import com.leedahun.storecasecatalog.common.error.exception.CustomException;
+import com.leedahun.storecasecatalog.common.error.exception.FileUploadFailedException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+
+/**
+ * S3AsyncClient 기반 업로드 엔진입니다.
+ * 전송은 논블로킹 HTTP 클라이언트가 담당하므로 동시 업로드 수만큼 스레드가 묶이지 않고,
+ * multipart-threshold를 넘는 파일은 part-size 단위로 나누어 병렬 업로드합니다.
+ * 메모리에 올라가 전송 중인 바이트 합계는 max-in-flight 이하로 제한되며,
+ * 한도에 도달하면 파일을 읽는 업로드 실행기 스레드가 앞선 전송이 끝날 때까지 대기합니다.
+ */
+@Slf4j
+@Service
+public class S3AsyncUploadService {
+
+    private final S3AsyncClient s3AsyncClient;
+    private final Executor s3UploadExecutor;
+    private final long multipartThreshold;
+    private final int partSize;
+    private final Semaphore inFlightBytes;
+    private final Timer singleUploadTimer;
+    private final Timer multipartUploadTimer;
+
+    @Value("${cloud.aws.s3.bucket}")
+    private String bucket;
+
+    // S3 클라이언트는 첫 사용 시 생성 (startup 프로필의 lazy-beans)
+    public S3AsyncUploadService(@Lazy S3AsyncClient s3AsyncClient,
+                                @Qualifier("s3UploadExecutor") Executor s3UploadExecutor,
+                                MeterRegistry meterRegistry,
+                                @Value("${catalog.s3.upload.multipart-threshold:16MB}") DataSize multipartThreshold,
+                                @Value("${catalog.s3.upload.part-size:8MB}") DataSize partSize,
+                                @Value("${catalog.s3.upload.max-in-flight:64MB}") DataSize maxInFlight) {
+        // 한 번에 확보해야 하는 바이트(단일 PUT 전체 또는 파트 하나)가 한도보다 크면 영원히 대기하게 됨
+        if (multipartThreshold.compareTo(maxInFlight) > 0 || partSize.compareTo(maxInFlight) > 0) {
+            throw new IllegalArgumentException("multipart-threshold와 part-size는 max-in-flight 이하여야 합니다.");
+        }
+
+        this.s3AsyncClient = s3AsyncClient;
+        this.s3UploadExecutor = s3UploadExecutor;
+        this.multipartThreshold = multipartThreshold.toBytes();
+        this.partSize = Math.toIntExact(partSize.toBytes());
+
+        int maxInFlightBytes = Math.toIntExact(maxInFlight.toBytes());
+        this.inFlightBytes = new Semaphore(maxInFlightBytes, true);
+        Gauge.builder("s3.upload.in-flight.bytes", inFlightBytes, semaphore -> maxInFlightBytes - semaphore.availablePermits())
+                .description("S3로 전송 중인 업로드 바이트 합계")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+
+        this.singleUploadTimer = Timer.builder("s3.upload").tag("type", "single").register(meterRegistry);
+        this.multipartUploadTimer = Timer.builder("s3.upload").tag("type", "multipart").register(meterRegistry);
+    }
+
+    /**
+     * 파일을 비동기로 업로드합니다. 호출 스레드는 파일을 읽거나 전송하지 않고 바로 반환됩니다.
+     * @param s3Key 업로드할 S3 Key
+     * @param file 업로드할 파일 (Future가 완료될 때까지 읽을 수 있어야 함)
+     * @return 업로드 완료 시 S3 Key로 완료되는 Future (실패 시 FileUploadFailedException)
+     */
+    public CompletableFuture<String> uploadFileAsync(String s3Key, MultipartFile file) {
+        boolean multipart = file.getSize() > multipartThreshold;
+        Timer.Sample sample = Timer.start();
+
+        CompletableFuture<Void> upload = multipart
+                ? uploadMultipart(s3Key, file)
+                : uploadSingle(s3Key, file);
+
+        return upload
+                .whenComplete((result, ex) -> sample.stop(multipart ? multipartUploadTimer : singleUploadTimer))
+                .handle((result, ex) -> {
+                    if (ex == null) {
+                        return s3Key;
+                    }
+                    Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+                    if (cause instanceof CustomException || cause instanceof RejectedExecutionException) {
+                        throw new CompletionException(cause);
+                    }
+                    log.warn("S3 업로드 실패 key={} size={} msg={}", s3Key, file.getSize(), cause.toString());
+                    throw new CompletionException(new FileUploadFailedException());
+                });
+    }
+
+    private CompletableFuture<Void> uploadSingle(String s3Key, MultipartFile file) {
+        int length = Math.toIntExact(file.getSize());
+        return CompletableFuture
+                .supplyAsync(() -> sendWithinBudget(length, file::getBytes,
+                        bytes -> s3AsyncClient.putObject(PutObjectRequest.builder()
+                                        .bucket(bucket)
+                                        .key(s3Key)
+                                        .contentType(file.getContentType())
+                                        .contentLength((long) length)
+                                        .build(),
+                                AsyncRequestBody.fromBytesUnsafe(bytes))), s3UploadExecutor)
+                .thenCompose(Function.identity())
+                .thenApply(response -> null);
+    }
+
+    private CompletableFuture<Void> uploadMultipart(String s3Key, MultipartFile file) {
+        CreateMultipartUploadRequest createRequest = CreateMultipartUploadRequest.builder()
+                .bucket(bucket)
+                .key(s3Key)
+                .contentType(file.getContentType())
+                .build();
+
+        return s3AsyncClient.createMultipartUpload(createRequest)
+                .thenComposeAsync(created -> {
+                    String uploadId = created.uploadId();
+                    return uploadParts(s3Key, uploadId, file)
+                            .thenCompose(parts -> s3AsyncClient.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                                    .bucket(bucket)
+                                    .key(s3Key)
+                                    .uploadId(uploadId)
+                                    .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+                                    .build()))
+                            .thenApply(response -> (Void) null)
+                            // 실패한 업로드의 파트가 S3에 과금 상태로 남지 않도록 중단
+                            .exceptionallyCompose(ex -> abortMultipartUpload(s3Key, uploadId)
+                                    .thenCompose(ignored -> CompletableFuture.failedFuture(ex)));
+                }, s3UploadExecutor);
+    }
+
+    // 업로드 실행기 스레드에서 파트를 순서대로 읽어 전송 (한도에 도달하면 앞선 파트 전송이 끝날 때까지 대기)
+    private CompletableFuture<List<CompletedPart>> uploadParts(String s3Key, String uploadId, MultipartFile file) {
+        long size = file.getSize();
+        int partCount = Math.toIntExact((size + partSize - 1) / partSize);
+        List<CompletableFuture<CompletedPart>> parts = new ArrayList<>(partCount);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        try (InputStream in = file.getInputStream()) {
+            for (int partNumber = 1; partNumber <= partCount && failure.get() == null; partNumber++) {
+                int number = partNumber;
+                int length = (int) Math.min(partSize, size - (long) (partNumber - 1) * partSize);
+
+                CompletableFuture<CompletedPart> part = sendWithinBudget(length, () -> readPart(in, length),
+                        bytes -> s3AsyncClient.uploadPart(UploadPartRequest.builder()
+                                                .bucket(bucket)
+                                                .key(s3Key)
+                                                .uploadId(uploadId)
+                                                .partNumber(number)
+                                                .contentLength((long) length)
+                                                .build(),
+                                        AsyncRequestBody.fromBytesUnsafe(bytes))
+                                .thenApply(response -> CompletedPart.builder()
+                                        .partNumber(number)
+                                        .eTag(response.eTag())
+                                        .build()));
+                part.whenComplete((result, ex) -> {
+                    if (ex != null) {
+                        failure.compareAndSet(null, ex);
+                    }
+                });
+                parts.add(part);
+            }
+        } catch (IOException e) {
+            parts.add(CompletableFuture.failedFuture(e));
+        }
+
+        // 이미 전송 중인 파트가 모두 끝난 뒤에 결과를 내야 중단(abort) 이후 파트가 남지 않음
+        return CompletableFuture.allOf(parts.toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> parts.stream()
+                        .map(CompletableFuture::join)
+                        .toList());
+    }
+
+    private CompletableFuture<Void> abortMultipartUpload(String s3Key, String uploadId) {
+        AbortMultipartUploadRequest abortRequest = AbortMultipartUploadRequest.builder()
+                .bucket(bucket)
+                .key(s3Key)
+                .uploadId(uploadId)
+                .build();
+
+        return s3AsyncClient.abortMultipartUpload(abortRequest)
+                .handle((response, ex) -> {
+                    if (ex != null) {
+                        log.warn("S3 멀티파트 업로드 중단 실패 key={} uploadId={} msg={}", s3Key, uploadId, ex.toString());
+                    }
+                    return null;
+                });
+    }
+
+    // length 바이트만큼 한도를 확보한 뒤 읽어서 전송하고, 전송이 끝나면(성공/실패 모두) 반납
+    private <T> CompletableFuture<T> sendWithinBudget(int length, PartReader reader,
+                                                      Function<byte[], CompletableFuture<T>> sender) {
+        try {
+            inFlightBytes.acquire(length);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return CompletableFuture.failedFuture(e);
+        }
+
+        try {
+            return sender.apply(reader.read())
+                    .whenComplete((result, ex) -> inFlightBytes.release(length));
+        } catch (IOException | RuntimeException e) {
+            inFlightBytes.release(length);
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private static byte[] readPart(InputStream in, int length) throws IOException {
+        byte[] bytes = in.readNBytes(length);
+        if (bytes.length != length) {
+            throw new IOException("파일이 예상보다 일찍 끝났습니다. expected=" + length + " actual=" + bytes.length);
+        }
+        return bytes;
+    }
+
+    @FunctionalInterface
+    private interface PartReader {
+        byte[] read() throws IOException;
+    }
+}
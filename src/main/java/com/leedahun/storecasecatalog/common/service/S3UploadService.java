@@ -1,33 +1,105 @@
 package com.leedahun.storecasecatalog.common.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.io.IOException;
 import java.time.Duration;
-import lombok.RequiredArgsConstructor;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
-
-import java.io.IOException;
-import java.util.UUID;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
 import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
+import software.amazon.awssdk.services.s3.presigner.model.UploadPartPresignRequest;
 
 @Service
-@RequiredArgsConstructor
 public class S3UploadService {
 
+    private static final String PRESIGNED_URL_CACHE_NAME = "presignedUrlCache";
+
     private final S3Client s3Client;
     private final S3Presigner s3Presigner;
+    private final Duration signatureDuration;
+    private final Cache<String, String> presignedUrlCache;
+    private final Timer presignGetTimer;
+    private final Timer presignPutTimer;
+    private final Timer presignUploadPartTimer;
 
     @Value("${cloud.aws.s3.bucket}")
     private String bucket;
 
     private final String UPLOAD_PATH = "product-images/";
 
+    // S3 클라이언트는 첫 사용 시 생성 (startup 프로필의 lazy-beans)
+    public S3UploadService(@Lazy S3Client s3Client,
+                           @Lazy S3Presigner s3Presigner,
+                           MeterRegistry meterRegistry,
+                           @Value("${catalog.s3.presigned-url.signature-duration:10m}") Duration signatureDuration,
+                           @Value("${catalog.s3.presigned-url.min-remaining-validity:2m}") Duration minRemainingValidity,
+                           @Value("${catalog.s3.presigned-url.cache-maximum-size:10000}") long cacheMaximumSize) {
+        // 캐시 유지 시간(signature-duration - min-remaining-validity)이 0 이하이면 Caffeine이 기동 중 실패함
+        if (signatureDuration.isNegative() || signatureDuration.isZero()) {
+            throw new IllegalArgumentException("signature-duration은 0보다 커야 합니다. signature-duration=" + signatureDuration);
+        }
+        if (minRemainingValidity.isNegative() || minRemainingValidity.compareTo(signatureDuration) >= 0) {
+            throw new IllegalArgumentException("min-remaining-validity는 0 이상, signature-duration 미만이어야 합니다. signature-duration="
+                    + signatureDuration + ", min-remaining-validity=" + minRemainingValidity);
+        }
+
+        this.s3Client = s3Client;
+        this.s3Presigner = s3Presigner;
+        this.signatureDuration = signatureDuration;
+
+        // 캐시에서 꺼낸 URL도 최소 minRemainingValidity 동안은 유효하도록, 만료 전에 미리 버리고 새로 서명
+        this.presignedUrlCache = Caffeine.newBuilder()
+                .maximumSize(cacheMaximumSize)
+                .expireAfterWrite(signatureDuration.minus(minRemainingValidity))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, presignedUrlCache, PRESIGNED_URL_CACHE_NAME);
+
+        // 조회(GET)와 업로드(PUT, 파트 PUT) 서명은 호출 빈도가 달라 지표를 나눠서 봄
+        this.presignGetTimer = presignTimer(meterRegistry, "get");
+        this.presignPutTimer = presignTimer(meterRegistry, "put");
+        this.presignUploadPartTimer = presignTimer(meterRegistry, "upload-part");
+    }
+
+    private static Timer presignTimer(MeterRegistry meterRegistry, String operation) {
+        return Timer.builder("s3.presign")
+                .description("Presigned URL 서명(SigV4) 소요 시간")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+
     /**
      * S3에 파일을 업로드하고, 업로드된 파일의 URL을 반환합니다.
      * @param file 업로드할 파일
@@ -35,9 +107,7 @@ public class S3UploadService {
      * @throws IOException
      */
     public String uploadFile(MultipartFile file) throws IOException {
-        String originalFilename = file.getOriginalFilename();
-        String uniqueFilename = UUID.randomUUID() + "_" + originalFilename;
-        String s3Key = UPLOAD_PATH + uniqueFilename;
+        String s3Key = createS3Key(file.getOriginalFilename());
 
         PutObjectRequest putObjectRequest = PutObjectRequest.builder()
                 .bucket(bucket)
@@ -53,7 +123,149 @@ public class S3UploadService {
     }
 
     /**
-     * S3 Key를 받아 Presigned URL을 생성하여 반환합니다.
+     * 업로드할 파일의 고유한 S3 Key를 만듭니다.
+     * @param originalFilename 원본 파일명
+     * @return S3 Key
+     */
+    public String createS3Key(String originalFilename) {
+        return UPLOAD_PATH + UUID.randomUUID() + "_" + originalFilename;
+    }
+
+    /**
+     * 클라이언트가 S3에 직접 단일 PUT으로 업로드할 수 있는 Presigned URL을 생성합니다.
+     * Content-Type이 서명에 포함되므로 클라이언트는 같은 Content-Type 헤더로 업로드해야 합니다.
+     * @param s3Key 업로드될 S3 Key
+     * @param contentType 파일 Content-Type
+     * @param contentLength 파일 크기
+     * @param signatureDuration URL 유효 시간
+     * @return Presigned PUT URL
+     */
+    public String getPresignedPutUrl(String s3Key, String contentType, long contentLength, Duration signatureDuration) {
+        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                .bucket(bucket)
+                .key(s3Key)
+                .contentType(contentType)
+                .contentLength(contentLength)
+                .build();
+
+        PutObjectPresignRequest putObjectPresignRequest = PutObjectPresignRequest.builder()
+                .signatureDuration(signatureDuration)
+                .putObjectRequest(putObjectRequest)
+                .build();
+
+        return presignPutTimer.record(() -> s3Presigner.presignPutObject(putObjectPresignRequest)).url().toString();
+    }
+
+    /**
+     * 멀티파트 업로드를 시작합니다. (파일 데이터는 전송하지 않음)
+     * @param s3Key 업로드될 S3 Key
+     * @param contentType 파일 Content-Type
+     * @return S3 멀티파트 업로드 ID
+     */
+    public String createMultipartUpload(String s3Key, String contentType) {
+        CreateMultipartUploadRequest createMultipartUploadRequest = CreateMultipartUploadRequest.builder()
+                .bucket(bucket)
+                .key(s3Key)
+                .contentType(contentType)
+                .build();
+
+        return s3Client.createMultipartUpload(createMultipartUploadRequest).uploadId();
+    }
+
+    /**
+     * 멀티파트 업로드의 파트 하나를 클라이언트가 직접 PUT할 수 있는 Presigned URL을 생성합니다.
+     * @param s3Key 업로드될 S3 Key
+     * @param uploadId S3 멀티파트 업로드 ID
+     * @param partNumber 파트 번호 (1부터 시작)
+     * @param signatureDuration URL 유효 시간
+     * @return Presigned 파트 업로드 URL
+     */
+    public String getPresignedUploadPartUrl(String s3Key, String uploadId, int partNumber, Duration signatureDuration) {
+        UploadPartRequest uploadPartRequest = UploadPartRequest.builder()
+                .bucket(bucket)
+                .key(s3Key)
+                .uploadId(uploadId)
+                .partNumber(partNumber)
+                .build();
+
+        UploadPartPresignRequest uploadPartPresignRequest = UploadPartPresignRequest.builder()
+                .signatureDuration(signatureDuration)
+                .uploadPartRequest(uploadPartRequest)
+                .build();
+
+        return presignUploadPartTimer.record(() -> s3Presigner.presignUploadPart(uploadPartPresignRequest)).url().toString();
+    }
+
+    /**
+     * 클라이언트가 업로드한 파트들을 하나의 객체로 합칩니다.
+     * @param s3Key 업로드될 S3 Key
+     * @param uploadId S3 멀티파트 업로드 ID
+     * @param completedParts 파트 번호 순으로 정렬된 파트 목록 (파트 번호, ETag)
+     */
+    public void completeMultipartUpload(String s3Key, String uploadId, List<CompletedPart> completedParts) {
+        CompleteMultipartUploadRequest completeMultipartUploadRequest = CompleteMultipartUploadRequest.builder()
+                .bucket(bucket)
+                .key(s3Key)
+                .uploadId(uploadId)
+                .multipartUpload(CompletedMultipartUpload.builder().parts(completedParts).build())
+                .build();
+
+        s3Client.completeMultipartUpload(completeMultipartUploadRequest);
+    }
+
+    /**
+     * 멀티파트 업로드를 중단하고 이미 올라온 파트를 삭제합니다.
+     * @param s3Key 업로드될 S3 Key
+     * @param uploadId S3 멀티파트 업로드 ID
+     */
+    public void abortMultipartUpload(String s3Key, String uploadId) {
+        AbortMultipartUploadRequest abortMultipartUploadRequest = AbortMultipartUploadRequest.builder()
+                .bucket(bucket)
+                .key(s3Key)
+                .uploadId(uploadId)
+                .build();
+
+        s3Client.abortMultipartUpload(abortMultipartUploadRequest);
+    }
+
+    /**
+     * S3 객체를 삭제합니다. 객체가 없어도 성공합니다.
+     * @param s3Key S3 Key
+     */
+    public void deleteObject(String s3Key) {
+        DeleteObjectRequest deleteObjectRequest = DeleteObjectRequest.builder()
+                .bucket(bucket)
+                .key(s3Key)
+                .build();
+
+        s3Client.deleteObject(deleteObjectRequest);
+    }
+
+    /**
+     * HEAD 요청으로 S3 객체의 메타데이터를 조회합니다.
+     * @param s3Key S3 Key
+     * @return 객체 메타데이터 (객체가 없으면 empty)
+     */
+    public Optional<HeadObjectResponse> headObject(String s3Key) {
+        HeadObjectRequest headObjectRequest = HeadObjectRequest.builder()
+                .bucket(bucket)
+                .key(s3Key)
+                .build();
+
+        try {
+            return Optional.of(s3Client.headObject(headObjectRequest));
+        } catch (NoSuchKeyException e) {
+            return Optional.empty();
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                return Optional.empty();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * S3 Key를 받아 Presigned URL을 반환합니다. 만료가 가깝지 않은 URL은 캐시에서 재사용합니다.
      * @param s3Key DB에 저장된 S3 파일 키
      * @return 10분간 유효한 Presigned URL
      */
@@ -62,18 +274,40 @@ public class S3UploadService {
             return null;
         }
 
+        return presignedUrlCache.get(s3Key, this::presign);
+    }
+
+    /**
+     * 여러 S3 Key의 Presigned URL을 한 번에 반환합니다. 캐시에 없는 키만 서명합니다.
+     * @param s3Keys S3 파일 키 목록 (null/빈 키는 무시)
+     * @return 요청 순서를 유지한 S3 Key → Presigned URL
+     */
+    public Map<String, String> getPresignedUrls(Collection<String> s3Keys) {
+        Set<String> keys = s3Keys.stream()
+                .filter(s3Key -> s3Key != null && !s3Key.isEmpty())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        Map<String, String> cached = presignedUrlCache.getAll(keys, missingKeys -> missingKeys.stream()
+                .collect(Collectors.toMap(s3Key -> s3Key, this::presign)));
+
+        Map<String, String> presignedUrls = new LinkedHashMap<>();
+        keys.forEach(s3Key -> presignedUrls.put(s3Key, cached.get(s3Key)));
+        return presignedUrls;
+    }
+
+    private String presign(String s3Key) {
         GetObjectRequest getObjectRequest = GetObjectRequest.builder()
                 .bucket(bucket)
                 .key(s3Key)
                 .build();
 
         GetObjectPresignRequest getObjectPresignRequest = GetObjectPresignRequest.builder()
-                .signatureDuration(Duration.ofMinutes(10))
+                .signatureDuration(signatureDuration)
                 .getObjectRequest(getObjectRequest)
                 .build();
 
-        PresignedGetObjectRequest presignedRequest = s3Presigner.presignGetObject(getObjectPresignRequest);
+        PresignedGetObjectRequest presignedRequest = presignGetTimer.record(() -> s3Presigner.presignGetObject(getObjectPresignRequest));
 
         return presignedRequest.url().toString();
     }
-}
\ No newline at end of file
+}
@@ -1,29 +1,140 @@
 package com.leedahun.storecasecatalog.config;
 
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.pool.PoolConcurrencyPolicy;
+import org.apache.hc.core5.pool.PoolReusePolicy;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.cloud.client.loadbalancer.LoadBalanced;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.reactive.function.client.WebClient;
 
 @Configuration
 public class AppConfig {
 
+    private static final String HTTP2_PROPERTY = "catalog.http-client.http2";
+
+    @Value("${catalog.http-client.max-total:200}")
+    private int maxTotal;
+
+    @Value("${catalog.http-client.max-per-route:50}")
+    private int maxPerRoute;
+
+    @Value("${catalog.http-client.connect-timeout:3s}")
+    private Duration connectTimeout;
+
+    @Value("${catalog.http-client.read-timeout:5s}")
+    private Duration readTimeout;
+
+    @Value("${catalog.http-client.connection-request-timeout:1s}")
+    private Duration connectionRequestTimeout;
+
+    @Value("${catalog.http-client.keep-alive:30s}")
+    private Duration keepAlive;
+
+    @Value("${catalog.http-client.idle-eviction:30s}")
+    private Duration idleEviction;
+
+    @Value("${catalog.http-client.validate-after-inactivity:2s}")
+    private Duration validateAfterInactivity;
+
+    @Value("${catalog.http-client.time-to-live:5m}")
+    private Duration timeToLive;
+
+    @Value("${catalog.http-client.http2:false}")
+    private boolean http2;
+
     @Bean
     @LoadBalanced  // eureka서버에서 실제 주소를 가져와 요청
-    public RestTemplate restTemplate() {
-        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
-        factory.setConnectTimeout(3000); // 연결 타임아웃 3초
-        factory.setReadTimeout(5000);    // 읽기 타임아웃 5초
+    public RestTemplate restTemplate(ObjectProvider<CloseableHttpClient> restTemplateHttpClient) {
+        // 로드밸런서 인터셉터가 서비스 이름을 인스턴스 주소로 바꾼 뒤 요청하므로 풀은 실제 인스턴스(route)별로 관리됨
+        ClientHttpRequestFactory factory = http2
+                ? http2RequestFactory()
+                : new HttpComponentsClientHttpRequestFactory(restTemplateHttpClient.getObject());
 
         return new RestTemplate(factory);
     }
 
+    // 아래 풀, HttpClient, 풀 지표는 HTTP/1.1 경로에서만 생성 (http2=true면 사용하지 않음)
+    @Bean
+    @ConditionalOnProperty(name = HTTP2_PROPERTY, havingValue = "false", matchIfMissing = true)
+    public CloseableHttpClient restTemplateHttpClient(PoolingHttpClientConnectionManager restTemplateConnectionManager) {
+        return HttpClients.custom()
+                .setConnectionManager(restTemplateConnectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        // 풀이 가득 찼을 때 연결을 기다리는 최대 시간
+                        .setConnectionRequestTimeout(Timeout.of(connectionRequestTimeout))
+                        .setResponseTimeout(Timeout.of(readTimeout))
+                        // 서버가 Keep-Alive 헤더로 알려주지 않으면 이 시간만큼만 연결 유지
+                        .setConnectionKeepAlive(TimeValue.of(keepAlive))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.of(idleEviction))
+                .build();
+    }
+
+    // RestTemplate 커넥션 풀 (인스턴스별 max-per-route, 전체 max-total)
+    @Bean
+    @ConditionalOnProperty(name = HTTP2_PROPERTY, havingValue = "false", matchIfMissing = true)
+    public PoolingHttpClientConnectionManager restTemplateConnectionManager() {
+        return PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxTotal)
+                .setMaxConnPerRoute(maxPerRoute)
+                .setPoolConcurrencyPolicy(PoolConcurrencyPolicy.STRICT)
+                // 최근에 쓴 연결부터 재사용해 나머지는 유휴 상태로 두고 idle-eviction으로 정리
+                .setConnPoolPolicy(PoolReusePolicy.LIFO)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(connectTimeout))
+                        .setSocketTimeout(Timeout.of(readTimeout))
+                        // 일정 시간 쉬었던 연결은 재사용 전에 끊겼는지 확인 (서버 측 keep-alive 만료 대비)
+                        .setValidateAfterInactivity(TimeValue.of(validateAfterInactivity))
+                        // 인스턴스가 교체돼도 오래된 연결을 계속 쓰지 않도록 수명 제한
+                        .setTimeToLive(TimeValue.of(timeToLive))
+                        .build())
+                .build();
+    }
+
+    // httpcomponents.httpclient.pool.total.max / total.connections(state=leased|available) / total.pending 지표
+    @Bean
+    @ConditionalOnProperty(name = HTTP2_PROPERTY, havingValue = "false", matchIfMissing = true)
+    public MeterBinder restTemplateConnectionPoolMetrics(PoolingHttpClientConnectionManager restTemplateConnectionManager) {
+        return new PoolingHttpClientConnectionManagerMetricsBinder(restTemplateConnectionManager, "restTemplate");
+    }
+
     @Bean
     @LoadBalanced
     public WebClient.Builder loadBalancedWebClientBuilder() {
         return WebClient.builder();
     }
 
+    // HTTP/2(h2c 업그레이드, 실패 시 HTTP/1.1)로 연결 하나에 요청을 다중화하는 JDK HttpClient
+    // JDK HttpClient는 연결 풀 상태를 노출하지 않으므로 이 경로에는 httpcomponents.httpclient.pool.* 지표가 없음
+    private ClientHttpRequestFactory http2RequestFactory() {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(connectTimeout)
+                .build();
+
+        JdkClientHttpRequestFactory factory = new JdkClientHttpRequestFactory(httpClient);
+        factory.setReadTimeout(readTimeout);
+        return factory;
+    }
+
 }
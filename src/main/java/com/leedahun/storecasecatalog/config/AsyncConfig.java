@@ -0,0 +1,94 @@
+package com.leedahun.storecasecatalog.config;
+
+import com.leedahun.storecasecatalog.common.instrumentation.SqlStatementContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class AsyncConfig {
+
+    @Value("${catalog.async.product-write.core-pool-size:8}")
+    private int productWriteCorePoolSize;
+
+    @Value("${catalog.async.product-write.max-pool-size:16}")
+    private int productWriteMaxPoolSize;
+
+    @Value("${catalog.async.product-write.queue-capacity:200}")
+    private int productWriteQueueCapacity;
+
+    @Value("${catalog.async.s3-upload.core-pool-size:4}")
+    private int s3UploadCorePoolSize;
+
+    @Value("${catalog.async.s3-upload.max-pool-size:8}")
+    private int s3UploadMaxPoolSize;
+
+    @Value("${catalog.async.s3-upload.queue-capacity:100}")
+    private int s3UploadQueueCapacity;
+
+    @Value("${catalog.async.product-write.virtual-concurrency-limit:200}")
+    private int productWriteVirtualConcurrencyLimit;
+
+    @Value("${catalog.async.s3-upload.virtual-concurrency-limit:100}")
+    private int s3UploadVirtualConcurrencyLimit;
+
+    // 상품 등록 트랜잭션 전용 실행기 (큐가 가득 차면 TaskRejectedException으로 거절)
+    @Bean
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public ThreadPoolTaskExecutor productWriteExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(productWriteCorePoolSize);
+        executor.setMaxPoolSize(productWriteMaxPoolSize);
+        executor.setQueueCapacity(productWriteQueueCapacity);
+        executor.setThreadNamePrefix("product-write-");
+        // 요청 스레드의 SQL 집계 컨텍스트를 이어받아 실행기에서 실행한 문장도 요청 예산에 포함
+        executor.setTaskDecorator(SqlStatementContext::propagate);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    // S3 업로드 파일 읽기 전용 실행기 (전송 자체는 S3AsyncClient가 논블로킹으로 수행, 전송 중 바이트 한도에 도달하면 여기서 대기)
+    @Bean
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public ThreadPoolTaskExecutor s3UploadExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(s3UploadCorePoolSize);
+        executor.setMaxPoolSize(s3UploadMaxPoolSize);
+        executor.setQueueCapacity(s3UploadQueueCapacity);
+        executor.setThreadNamePrefix("s3-upload-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    // 가상 스레드 모드(spring.threads.virtual.enabled, Java 21 이상): 작업마다 가상 스레드를 만들고 풀 대신 동시 실행 수로 제한
+    // 한도에 도달하면 대기하지 않고 TaskRejectedException으로 거절 (플랫폼 모드의 큐 초과와 같은 동작)
+    @Bean("productWriteExecutor")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public SimpleAsyncTaskExecutor virtualProductWriteExecutor() {
+        SimpleAsyncTaskExecutor executor = virtualThreadExecutor("product-write-", productWriteVirtualConcurrencyLimit);
+        executor.setTaskDecorator(SqlStatementContext::propagate);
+        return executor;
+    }
+
+    @Bean("s3UploadExecutor")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public SimpleAsyncTaskExecutor virtualS3UploadExecutor() {
+        return virtualThreadExecutor("s3-upload-", s3UploadVirtualConcurrencyLimit);
+    }
+
+    private SimpleAsyncTaskExecutor virtualThreadExecutor(String threadNamePrefix, int concurrencyLimit) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(concurrencyLimit);
+        executor.setRejectTasksWhenLimitReached(true);
+        executor.setTaskTerminationTimeout(30_000);
+        return executor;
+    }
+
+}
@@ -0,0 +1,51 @@
+package com.leedahun.storecasecatalog.config;
+
+import com.leedahun.storecasecatalog.common.invalidation.HttpInvalidationTransport;
+import com.leedahun.storecasecatalog.common.invalidation.LoopbackInvalidationTransport;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.channel.ChannelOption;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+
+/**
+ * 인스턴스 간 캐시 무효화 전송 계층 설정입니다.
+ * 기본값(http)은 Eureka에서 같은 서비스의 인스턴스 목록을 받아 각 인스턴스에 직접 보내고,
+ * loopback은 같은 JVM 안에서만 전달합니다. (단일 인스턴스 실행·테스트용)
+ */
+@Configuration
+public class CacheInvalidationConfig {
+
+    private static final String TRANSPORT_PROPERTY = "catalog.cache.invalidation.transport";
+
+    @Bean
+    @ConditionalOnProperty(name = TRANSPORT_PROPERTY, havingValue = "http", matchIfMissing = true)
+    public HttpInvalidationTransport httpInvalidationTransport(DiscoveryClient discoveryClient,
+                                                               MeterRegistry meterRegistry,
+                                                               @Value("${spring.application.name:}") String serviceId,
+                                                               @Value("${catalog.cache.invalidation.http.secret:}") String secret,
+                                                               @Value("${catalog.cache.invalidation.http.timeout:1s}") Duration timeout,
+                                                               @Value("${catalog.cache.invalidation.http.max-retries:2}") int maxRetries) {
+        // 인스턴스 주소로 직접 보내야 하므로 로드밸런서를 거치지 않는 별도 WebClient 사용
+        HttpClient httpClient = HttpClient.create()
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, Math.toIntExact(timeout.toMillis()))
+                .responseTimeout(timeout);
+        WebClient webClient = WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+
+        return new HttpInvalidationTransport(discoveryClient, webClient, meterRegistry, serviceId, secret, timeout, maxRetries);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = TRANSPORT_PROPERTY, havingValue = "loopback")
+    public LoopbackInvalidationTransport loopbackInvalidationTransport() {
+        return new LoopbackInvalidationTransport();
+    }
+}
@@ -0,0 +1,174 @@
+package com.leedahun.storecasecatalog.config;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.channel.ChannelOption;
+import io.netty.handler.timeout.ReadTimeoutException;
+import java.net.ConnectException;
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.loadbalancer.LoadBalanced;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * identity-service 전용 WebClient 설정입니다.
+ * 공용 Reactor Netty 풀과 분리해 identity 호출이 다른 외부 호출과 연결을 다투지 않도록 하고,
+ * 연결/응답 타임아웃으로 느린 인스턴스가 상품 등록 요청을 무기한 붙잡지 않도록 합니다.
+ * identity-service가 계속 실패하면 서킷 브레이커가 열려 타임아웃을 기다리지 않고 즉시 실패하고,
+ * 동시에 대기 중인 호출 수는 벌크헤드로 제한합니다.
+ */
+@Slf4j
+@Configuration
+public class IdentityClientConfig {
+
+    @Value("${catalog.identity.client.max-connections:100}")
+    private int maxConnections;
+
+    @Value("${catalog.identity.client.pending-acquire-timeout:1s}")
+    private Duration pendingAcquireTimeout;
+
+    @Value("${catalog.identity.client.max-idle-time:30s}")
+    private Duration maxIdleTime;
+
+    @Value("${catalog.identity.client.max-life-time:5m}")
+    private Duration maxLifeTime;
+
+    @Value("${catalog.identity.client.evict-in-background:30s}")
+    private Duration evictInBackground;
+
+    @Value("${catalog.identity.client.connect-timeout:1s}")
+    private Duration connectTimeout;
+
+    @Value("${catalog.identity.client.response-timeout:2s}")
+    private Duration responseTimeout;
+
+    @Value("${catalog.identity.client.circuit-breaker.failure-rate-threshold:50}")
+    private float failureRateThreshold;
+
+    @Value("${catalog.identity.client.circuit-breaker.slow-call-rate-threshold:80}")
+    private float slowCallRateThreshold;
+
+    @Value("${catalog.identity.client.circuit-breaker.slow-call-duration-threshold:1s}")
+    private Duration slowCallDurationThreshold;
+
+    @Value("${catalog.identity.client.circuit-breaker.sliding-window-size:50}")
+    private int slidingWindowSize;
+
+    @Value("${catalog.identity.client.circuit-breaker.minimum-number-of-calls:20}")
+    private int minimumNumberOfCalls;
+
+    @Value("${catalog.identity.client.circuit-breaker.wait-duration-in-open-state:10s}")
+    private Duration waitDurationInOpenState;
+
+    @Value("${catalog.identity.client.circuit-breaker.permitted-calls-in-half-open-state:5}")
+    private int permittedCallsInHalfOpenState;
+
+    @Value("${catalog.identity.client.bulkhead.max-concurrent-calls:50}")
+    private int maxConcurrentCalls;
+
+    // 인스턴스(원격 주소)별로 max-connections개까지 연결을 유지, 풀 지표는 reactor.netty.connection.provider.* 로 노출
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider identityConnectionProvider() {
+        return ConnectionProvider.builder("identity-service")
+                .maxConnections(maxConnections)
+                .pendingAcquireTimeout(pendingAcquireTimeout)
+                // 서버 측 keep-alive 만료 전에 먼저 정리해 끊긴 연결로 요청하지 않도록 함
+                .maxIdleTime(maxIdleTime)
+                .maxLifeTime(maxLifeTime)
+                .evictInBackground(evictInBackground)
+                .metrics(true)
+                .build();
+    }
+
+    @Bean
+    @LoadBalanced  // eureka서버에서 identity-service 인스턴스 주소를 가져와 요청
+    public WebClient.Builder identityWebClientBuilder(ConnectionProvider identityConnectionProvider) {
+        HttpClient httpClient = HttpClient.create(identityConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, Math.toIntExact(connectTimeout.toMillis()))
+                .responseTimeout(responseTimeout);
+
+        return WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(httpClient));
+    }
+
+    // 최근 sliding-window-size건 중 실패(연결 실패, 타임아웃, 5xx) 또는 느린 호출 비율이 임계치를 넘으면 OPEN
+    // 404 같은 4xx는 identity-service가 정상 응답한 것이므로 실패로 집계하지 않음
+    @Bean
+    public CircuitBreaker identityCircuitBreaker(MeterRegistry meterRegistry) {
+        CircuitBreakerConfig config = CircuitBreakerConfig.custom()
+                .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                .slidingWindowSize(slidingWindowSize)
+                .minimumNumberOfCalls(minimumNumberOfCalls)
+                .failureRateThreshold(failureRateThreshold)
+                .slowCallRateThreshold(slowCallRateThreshold)
+                .slowCallDurationThreshold(slowCallDurationThreshold)
+                .waitDurationInOpenState(waitDurationInOpenState)
+                .permittedNumberOfCallsInHalfOpenState(permittedCallsInHalfOpenState)
+                .automaticTransitionFromOpenToHalfOpenEnabled(true)
+                .recordException(IdentityClientConfig::isIdentityServiceFailure)
+                .build();
+        CircuitBreakerRegistry registry = CircuitBreakerRegistry.of(config);
+        CircuitBreaker circuitBreaker = registry.circuitBreaker("identity-service");
+
+        // resilience4j.circuitbreaker.state / calls(kind=successful|failed|ignored) / not.permitted.calls 지표
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(registry).bindTo(meterRegistry);
+        circuitBreaker.getEventPublisher().onStateTransition(event -> {
+            CircuitBreaker.StateTransition transition = event.getStateTransition();
+            Counter.builder("identity.client.circuit.transitions")
+                    .description("identity-service 서킷 브레이커 상태 전환 횟수")
+                    .tag("from", transition.getFromState().name())
+                    .tag("to", transition.getToState().name())
+                    .register(meterRegistry)
+                    .increment();
+            log.warn("[identity-service] 서킷 브레이커 상태 전환: {}", transition);
+        });
+        return circuitBreaker;
+    }
+
+    // 응답을 기다리는 identity 호출 수 제한, 초과 요청은 대기 없이 즉시 거절
+    @Bean
+    public Bulkhead identityBulkhead(MeterRegistry meterRegistry) {
+        BulkheadConfig config = BulkheadConfig.custom()
+                .maxConcurrentCalls(maxConcurrentCalls)
+                .maxWaitDuration(Duration.ZERO)
+                .build();
+        BulkheadRegistry registry = BulkheadRegistry.of(config);
+        Bulkhead bulkhead = registry.bulkhead("identity-service");
+
+        // resilience4j.bulkhead.available.concurrent.calls / max.allowed.concurrent.calls 지표
+        TaggedBulkheadMetrics.ofBulkheadRegistry(registry).bindTo(meterRegistry);
+        Counter rejected = Counter.builder("identity.client.bulkhead.rejected")
+                .description("동시 호출 한도를 넘어 거절된 identity-service 호출 수")
+                .register(meterRegistry);
+        bulkhead.getEventPublisher().onCallRejected(event -> rejected.increment());
+        return bulkhead;
+    }
+
+    private static boolean isIdentityServiceFailure(Throwable e) {
+        if (e instanceof WebClientResponseException responseException) {
+            return responseException.getStatusCode().is5xxServerError();
+        }
+        return e instanceof WebClientRequestException
+                || e instanceof TimeoutException
+                || e instanceof ReadTimeoutException
+                || e instanceof ConnectException;
+    }
+
+}
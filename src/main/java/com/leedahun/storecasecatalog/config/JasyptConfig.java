@@ -1,11 +1,19 @@
 package com.leedahun.storecasecatalog.config;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.concurrent.TimeUnit;
 import org.jasypt.encryption.StringEncryptor;
 import org.jasypt.encryption.pbe.PooledPBEStringEncryptor;
 import org.jasypt.encryption.pbe.config.SimpleStringPBEConfig;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.metrics.ApplicationStartup;
 
 @Configuration
 public class JasyptConfig {
@@ -20,7 +28,8 @@ public class JasyptConfig {
         config.setPassword(password);
         config.setAlgorithm("PBEWithMD5AndDES");
         config.setKeyObtentionIterations("1000");
-        config.setPoolSize("1");
+        // 코어 수만큼 PBE 인스턴스를 두어 병렬 복호화가 한 인스턴스에 직렬화되지 않도록 함
+        config.setPoolSize(String.valueOf(Runtime.getRuntime().availableProcessors()));
         config.setProviderName("SunJCE");
         config.setSaltGeneratorClassName("org.jasypt.salt.RandomSaltGenerator");
         config.setIvGeneratorClassName("org.jasypt.iv.NoIvGenerator");
@@ -29,4 +38,29 @@ public class JasyptConfig {
 
         return encryptor;
     }
+
+    // jasypt.encryptor.property.resolver-bean으로 지정, 기동 시 ENC(...) 속성을 한 번에 병렬 복호화하고 평문을 보관
+    // password 필드 주입 중에도 조회되므로 이 설정 클래스 인스턴스에 의존하지 않도록 static으로 선언
+    @Bean
+    public static MemoizingEncryptablePropertyResolver memoizingEncryptablePropertyResolver(
+            @Qualifier("jasyptEncryptor") ObjectProvider<StringEncryptor> jasyptEncryptor,
+            ConfigurableEnvironment environment,
+            ApplicationStartup applicationStartup) {
+        return new MemoizingEncryptablePropertyResolver(jasyptEncryptor::getObject, environment, applicationStartup);
+    }
+
+    // 기동 시 복호화 소요 시간과 복호화한 속성 수 (application.started.time 등과 함께 조회)
+    @Bean
+    public MeterBinder jasyptStartupMetrics(MemoizingEncryptablePropertyResolver memoizingEncryptablePropertyResolver) {
+        return registry -> {
+            TimeGauge.builder("jasypt.startup.decryption.time", memoizingEncryptablePropertyResolver,
+                            TimeUnit.MILLISECONDS, resolver -> resolver.getDecryptionTime().toMillis())
+                    .description("기동 시 암호화 속성 병렬 복호화에 걸린 시간")
+                    .register(registry);
+            Gauge.builder("jasypt.startup.decrypted.properties", memoizingEncryptablePropertyResolver,
+                            MemoizingEncryptablePropertyResolver::getDecryptedProperties)
+                    .description("기동 시 복호화한 암호화 속성 수")
+                    .register(registry);
+        };
+    }
 }
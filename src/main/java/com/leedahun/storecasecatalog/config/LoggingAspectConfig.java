@@ -1,19 +1,49 @@
 package com.leedahun.storecasecatalog.config;
 
+import com.leedahun.storecasecatalog.common.error.exception.CustomException;
+import com.leedahun.storecasecatalog.common.instrumentation.InstrumentationMode;
+import com.leedahun.storecasecatalog.common.instrumentation.InstrumentationSettings;
+import com.leedahun.storecasecatalog.common.instrumentation.SafeArgumentRenderer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
 import org.springframework.stereotype.Component;
 
-import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * 컨트롤러/서비스 호출 시간을 catalog.method 타이머(히스토그램)로 기록합니다.
+ * 인자와 반환값은 샘플링되었거나 slow-threshold를 넘은 호출만 렌더링해 로그로 남기며,
+ * METRICS_ONLY 모드에서는 지표만 기록합니다. (모드는 /actuator/instrumentation으로 변경)
+ */
 @Slf4j
 @Aspect
 @Component
 public class LoggingAspectConfig {
 
+    private static final String TIMER_NAME = "catalog.method";
+
+    private final MeterRegistry meterRegistry;
+    private final InstrumentationSettings settings;
+    private final SafeArgumentRenderer renderer;
+    private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+
+    public LoggingAspectConfig(MeterRegistry meterRegistry, InstrumentationSettings settings, SafeArgumentRenderer renderer) {
+        this.meterRegistry = meterRegistry;
+        this.settings = settings;
+        this.renderer = renderer;
+    }
+
     @Pointcut("within(@org.springframework.web.bind.annotation.RestController *)")
     public void controllerLayer() {}
 
@@ -22,44 +52,95 @@ public class LoggingAspectConfig {
 
     @Around("controllerLayer()")
     public Object logController(ProceedingJoinPoint joinPoint) throws Throwable {
-        long start = System.currentTimeMillis();
-        String sig = joinPoint.getSignature().toShortString();
-        Object[] args = joinPoint.getArgs();
+        return instrument(joinPoint, "controller");
+    }
 
-        log.info("➡️ Controller enter {} args={}", sig, Arrays.toString(args));
+    @Around("serviceLayerByAnnotation()")
+    public Object logService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return instrument(joinPoint, "service");
+    }
+
+    private Object instrument(ProceedingJoinPoint joinPoint, String layer) throws Throwable {
+        long start = System.nanoTime();
+        Object ret;
         try {
-            Object ret = joinPoint.proceed();
-            log.info("⬅️ Controller exit  {} result={} ({} ms)",
-                    sig, shrink(ret), System.currentTimeMillis() - start);
-            return ret;
+            ret = joinPoint.proceed();
         } catch (Throwable t) {
-            log.error("💥 Controller error {} msg={}", sig, t.getMessage(), t);
+            finish(joinPoint, layer, start, null, t);
             throw t;
         }
+
+        // 비동기 반환값은 Future가 완료될 때까지를 처리 시간으로 기록
+        if (ret instanceof CompletionStage<?> stage) {
+            stage.whenComplete((value, ex) -> finish(joinPoint, layer, start, value, unwrap(ex)));
+        } else {
+            finish(joinPoint, layer, start, ret, null);
+        }
+        return ret;
     }
 
-    @Around("serviceLayerByAnnotation()")
-    public Object logService(ProceedingJoinPoint joinPoint) throws Throwable {
-        long start = System.currentTimeMillis();
-        String sig = joinPoint.getSignature().toShortString();
+    private void finish(ProceedingJoinPoint joinPoint, String layer, long start, Object ret, Throwable error) {
+        long elapsedNanos = System.nanoTime() - start;
+        Signature signature = joinPoint.getSignature();
+        timer(layer, signature, error).record(elapsedNanos, TimeUnit.NANOSECONDS);
 
-        if (log.isDebugEnabled()) {
-            log.debug("▶ Service enter {}", sig);
+        if (settings.getMode() == InstrumentationMode.METRICS_ONLY) {
+            return;
         }
-        try {
-            Object ret = joinPoint.proceed();
-            long time = System.currentTimeMillis() - start;
-            log.info("◀ Service exit  {} time={}", sig, time);
-            return ret;
-        } catch (Throwable t) {
-            log.error("🔥 Service error {} msg={}", sig, t.getMessage(), t);
-            throw t;
+
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        boolean slow = elapsedNanos >= settings.getSlowThreshold().toNanos();
+
+        if (error != null) {
+            // 서비스 → 컨트롤러로 전파되는 예외를 중복 기록하지 않도록 컨트롤러 계층에서만 로그
+            if ("controller".equals(layer)) {
+                logError(signature, joinPoint.getArgs(), elapsedMillis, error);
+            }
+            return;
+        }
+
+        if (slow) {
+            log.warn("🐢 Slow {} {} ({} ms) args={} result={}",
+                    layer, signature.toShortString(), elapsedMillis, renderer.render(joinPoint.getArgs()), renderer.render(ret));
+        } else if (log.isInfoEnabled() && sampled()) {
+            log.info("⬅️ {} {} ({} ms) args={} result={}",
+                    layer, signature.toShortString(), elapsedMillis, renderer.render(joinPoint.getArgs()), renderer.render(ret));
+        }
+    }
+
+    private void logError(Signature signature, Object[] args, long elapsedMillis, Throwable error) {
+        // 비즈니스 예외(CustomException)는 GlobalExceptionHandler가 응답으로 변환하므로 스택 없이 기록
+        if (error instanceof CustomException) {
+            log.info("💥 Controller error {} ({} ms) args={} msg={}",
+                    signature.toShortString(), elapsedMillis, renderer.render(args), error.getMessage());
+        } else {
+            log.error("💥 Controller error {} ({} ms) args={} msg={}",
+                    signature.toShortString(), elapsedMillis, renderer.render(args), error.getMessage(), error);
         }
     }
 
-    private String shrink(Object o) {
-        if (o == null) return "null";
-        String s = String.valueOf(o);
-        return s.length() > 300 ? s.substring(0, 300) + "...(trunc)" : s;
+    private boolean sampled() {
+        double sampleRate = settings.getSampleRate();
+        return sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+
+    private Timer timer(String layer, Signature signature, Throwable error) {
+        TimerKey key = new TimerKey(layer, signature.getDeclaringType(), signature.getName(),
+                error == null ? "none" : error.getClass().getSimpleName());
+        return timers.computeIfAbsent(key, k -> Timer.builder(TIMER_NAME)
+                .description("컨트롤러/서비스 메서드 처리 시간")
+                .tag("layer", k.layer())
+                .tag("class", k.type().getSimpleName())
+                .tag("method", k.method())
+                .tag("exception", k.exception())
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+
+    private static Throwable unwrap(Throwable ex) {
+        return ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+    }
+
+    private record TimerKey(String layer, Class<?> type, String method, String exception) {
     }
 }
@@ -0,0 +1,139 @@
+package com.leedahun.storecasecatalog.config;
+
+import com.ulisesbocchio.jasyptspringboot.EncryptablePropertyDetector;
+import com.ulisesbocchio.jasyptspringboot.EncryptablePropertyResolver;
+import com.ulisesbocchio.jasyptspringboot.EncryptablePropertySource;
+import com.ulisesbocchio.jasyptspringboot.detector.DefaultPropertyDetector;
+import com.ulisesbocchio.jasyptspringboot.resolver.DefaultPropertyResolver;
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.jasypt.encryption.StringEncryptor;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.EnumerablePropertySource;
+import org.springframework.core.env.PropertySource;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+
+/**
+ * ENC(...) 속성값을 한 번만 복호화하고 평문을 컨텍스트 수명 동안 보관하는 jasypt 속성 리졸버입니다.
+ * 처음 암호화 속성이 조회될 때 환경의 모든 암호화 속성을 병렬로 미리 복호화하므로,
+ * 이후 속성 조회(재바인딩 포함)는 PBE 연산 없이 처리됩니다.
+ * 복호화 자체는 jasypt 기본 리졸버(플레이스홀더 해석, 실패 시 DecryptionException)에 위임합니다.
+ * 암호화기 빈은 jasypt.encryptor.password를 읽는 과정에서 이 리졸버를 다시 거치므로 처음 복호화할 때 가져옵니다.
+ */
+@Slf4j
+public class MemoizingEncryptablePropertyResolver implements EncryptablePropertyResolver {
+
+    private final Supplier<StringEncryptor> encryptor;
+    private final EncryptablePropertyDetector detector;
+    private final ConfigurableEnvironment environment;
+    private final ApplicationStartup applicationStartup;
+    private final Map<String, String> plaintexts = new ConcurrentHashMap<>();
+    private final AtomicBoolean decryptAllStarted = new AtomicBoolean();
+
+    private volatile EncryptablePropertyResolver delegate;
+    private volatile int decryptedProperties;
+    private volatile Duration decryptionTime = Duration.ZERO;
+
+    public MemoizingEncryptablePropertyResolver(Supplier<StringEncryptor> encryptor,
+                                                ConfigurableEnvironment environment,
+                                                ApplicationStartup applicationStartup) {
+        this.encryptor = encryptor;
+        this.detector = new DefaultPropertyDetector();
+        this.environment = environment;
+        this.applicationStartup = applicationStartup;
+    }
+
+    @Override
+    public String resolvePropertyValue(String value) {
+        if (value == null || !detector.isEncrypted(environment.resolvePlaceholders(value))) {
+            return value;
+        }
+
+        String plaintext = plaintexts.get(value);
+        if (plaintext != null) {
+            return plaintext;
+        }
+
+        // 병렬 복호화 작업 스레드도 이 메서드를 호출하므로 잠금 없이 최초 1회만 시작
+        if (decryptAllStarted.compareAndSet(false, true)) {
+            decryptAll();
+        }
+        return plaintexts.computeIfAbsent(value, delegate()::resolvePropertyValue);
+    }
+
+    /**
+     * 환경에 있는 모든 ENC(...) 값을 병렬로 복호화해 캐시에 채웁니다. 소요 시간은 startup step "catalog.jasypt.decrypt"로 기록됩니다.
+     * 복호화에 실패한 값은 건너뛰고, 실제로 조회될 때 기본 리졸버와 같은 예외로 실패합니다.
+     */
+    private void decryptAll() {
+        StartupStep step = applicationStartup.start("catalog.jasypt.decrypt");
+        long start = System.nanoTime();
+
+        // 암호화기 빈 조회는 호출 스레드에서 (병렬 작업 스레드에서 빈을 만들면 싱글톤 생성 잠금을 기다리며 멈출 수 있음)
+        delegate();
+        Set<String> encryptedValues = collectEncryptedValues();
+        encryptedValues.parallelStream().forEach(value -> {
+            try {
+                resolvePropertyValue(value);
+            } catch (RuntimeException e) {
+                log.warn("[jasypt] 암호화 속성 사전 복호화 실패, 조회 시점에 다시 시도합니다: {}", e.getMessage());
+            }
+        });
+
+        decryptionTime = Duration.ofNanos(System.nanoTime() - start);
+        decryptedProperties = plaintexts.size();
+        step.tag("properties", String.valueOf(decryptedProperties));
+        step.tag("duration", decryptionTime.toString());
+        step.end();
+        log.info("[jasypt] 암호화 속성 {}개 복호화 완료 ({}ms)", decryptedProperties, decryptionTime.toMillis());
+    }
+
+    private EncryptablePropertyResolver delegate() {
+        EncryptablePropertyResolver resolver = delegate;
+        if (resolver == null) {
+            synchronized (this) {
+                resolver = delegate;
+                if (resolver == null) {
+                    resolver = new DefaultPropertyResolver(encryptor.get(), detector, environment);
+                    delegate = resolver;
+                }
+            }
+        }
+        return resolver;
+    }
+
+    public int getDecryptedProperties() {
+        return decryptedProperties;
+    }
+
+    public Duration getDecryptionTime() {
+        return decryptionTime;
+    }
+
+    // jasypt가 감싼 속성 소스(래퍼 → 캐싱 래퍼 → 원본)는 원본에서 읽어, 읽는 과정에서 다시 이 리졸버를 호출하지 않도록 함
+    private Set<String> collectEncryptedValues() {
+        Set<String> encryptedValues = new LinkedHashSet<>();
+        for (PropertySource<?> propertySource : environment.getPropertySources()) {
+            PropertySource<?> source = propertySource;
+            while (source instanceof EncryptablePropertySource<?> encryptable) {
+                source = encryptable.getDelegate();
+            }
+            if (!(source instanceof EnumerablePropertySource<?> enumerable)) {
+                continue;
+            }
+            for (String name : enumerable.getPropertyNames()) {
+                if (enumerable.getProperty(name) instanceof String value && detector.isEncrypted(value)) {
+                    encryptedValues.add(value);
+                }
+            }
+        }
+        return encryptedValues;
+    }
+}
@@ -1,15 +1,62 @@
 package com.leedahun.storecasecatalog.config;
 
+import com.leedahun.storecasecatalog.common.instrumentation.SqlStatementBudgetFilter;
+import com.p6spy.engine.logging.P6LogLoadableOptions;
+import com.p6spy.engine.logging.P6LogOptions;
 import com.p6spy.engine.spy.P6SpyOptions;
+import com.p6spy.engine.spy.appender.Slf4JLogger;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+/**
+ * P6Spy SQL 로그 설정입니다.
+ * slow-threshold 미만으로 끝난 문장은 p6spy가 포매터를 호출하지 않으므로 문자열을 만들지 않고,
+ * pretty=false면 Hibernate 포매터 없이 한 줄로 출력합니다. (모든 문장의 지연 시간은 SqlLatencyListener가 기록)
+ * 요청당 문장 수 예산과 N+1 감지는 SqlStatementBudgetFilter가 담당합니다.
+ */
 @Configuration
 public class P6spyConfig {
 
+    @Value("${catalog.sql-log.slow-threshold:0ms}")
+    private Duration slowThreshold;
+
+    @Value("${catalog.sql-log.pretty:true}")
+    private boolean pretty;
+
     @PostConstruct
     public void setLogMessageFormat() {
+        P6spyPrettySqlFormatter.setPretty(pretty);
+
+        // p6spy-spring-boot-starter가 초기화 시 시스템 속성 기준으로 옵션을 다시 읽으므로(reload) 시스템 속성에도 반영
+        // appender도 함께 지정 (기본값은 spy.properties, 없으면 p6spy 기본값인 FileLogger로 작업 디렉터리의 spy.log에 기록)
+        String thresholdMillis = String.valueOf(slowThreshold.toMillis());
+        System.setProperty("p6spy.config.appender", Slf4JLogger.class.getName());
+        System.setProperty("p6spy.config.logMessageFormat", P6spyPrettySqlFormatter.class.getName());
+        System.setProperty("p6spy.config.executionThreshold", thresholdMillis);
+
+        P6SpyOptions.getActiveInstance().setAppender(Slf4JLogger.class.getName());
         P6SpyOptions.getActiveInstance().setLogMessageFormat(P6spyPrettySqlFormatter.class.getName());
+        P6LogLoadableOptions logOptions = P6LogOptions.getActiveInstance();
+        // 로깅 모듈이 아직 로드되지 않았다면 reload 시 위 시스템 속성으로 적용됨
+        if (logOptions != null) {
+            logOptions.setExecutionThreshold(thresholdMillis);
+        }
+    }
+
+    @Bean
+    public FilterRegistrationBean<SqlStatementBudgetFilter> sqlStatementBudgetFilter(
+            MeterRegistry meterRegistry,
+            @Value("${catalog.sql-budget.max-statements:20}") int maxStatements,
+            @Value("${catalog.sql-budget.repeated-threshold:5}") int repeatedThreshold) {
+        FilterRegistrationBean<SqlStatementBudgetFilter> registration =
+                new FilterRegistrationBean<>(new SqlStatementBudgetFilter(meterRegistry, maxStatements, repeatedThreshold));
+        registration.addUrlPatterns("/api/*");
+        return registration;
     }
 
-}
\ No newline at end of file
+}
@@ -4,21 +4,37 @@ import com.p6spy.engine.logging.Category;
 import com.p6spy.engine.spy.appender.MessageFormattingStrategy;
 import org.hibernate.engine.jdbc.internal.FormatStyle;
 
-import java.text.SimpleDateFormat;
-import java.util.Date;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
 import java.util.Locale;
 
 public class P6spyPrettySqlFormatter implements MessageFormattingStrategy {
 
-    @Override
-    public String formatMessage(int connectionId, String now, long elapsed, String category, String prepared, String sql, String url) {
-        sql = formatSql(category, sql);
+    // DateTimeFormatter는 불변·스레드 안전이라 호출마다 SimpleDateFormat을 만들지 않고 공유
+    private static final DateTimeFormatter TIMESTAMP_FORMAT =
+            DateTimeFormatter.ofPattern("yy.MM.dd HH:mm:ss").withZone(ZoneId.systemDefault());
 
-        Date currentDate = new Date();
+    // false면 Hibernate 포매터를 거치지 않고 한 줄로 출력 (P6spyConfig에서 catalog.sql-log.pretty로 설정)
+    private static volatile boolean pretty = true;
+
+    public static void setPretty(boolean pretty) {
+        P6spyPrettySqlFormatter.pretty = pretty;
+    }
 
-        SimpleDateFormat format1 = new SimpleDateFormat("yy.MM.dd HH:mm:ss");
+    @Override
+    public String formatMessage(int connectionId, String now, long elapsed, String category, String prepared, String sql, String url) {
+        StringBuilder message = new StringBuilder(64 + (sql == null ? 0 : sql.length()))
+                .append(TIMESTAMP_FORMAT.format(Instant.now()))
+                .append(" | OperationTime : ").append(elapsed).append("ms");
 
-        return format1.format(currentDate) + " | "+ "OperationTime : "+ elapsed + "ms" + sql;
+        if (pretty) {
+            return message.append(formatSql(category, sql)).toString();
+        }
+        if (sql != null && !sql.isBlank()) {
+            message.append(" | ").append(category).append(" | ").append(sql);
+        }
+        return message.toString();
     }
 
     private String formatSql(String category,String sql) {
@@ -36,4 +52,4 @@ public class P6spyPrettySqlFormatter implements MessageFormattingStrategy {
 
         return sql;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,39 @@
+package com.leedahun.storecasecatalog.config;
+
+import java.util.List;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.metrics.ApplicationStartup;
+
+/**
+ * 기동 시간 최적화 설정입니다. (startup 프로필에서 catalog.startup.* 값으로 활성화)
+ * 기동 직후 필요 없는 빈은 첫 사용 시점으로 생성을 미루고, 기동 완료 시 빈별 생성 시간 상위 목록을 남깁니다.
+ */
+@Configuration
+public class StartupConfig {
+
+    // 지정한 빈 정의를 lazy로 전환 (주입 지점도 @Lazy여야 실제로 생성이 미뤄짐)
+    @Bean
+    @ConditionalOnProperty(prefix = "catalog.startup", name = "lazy-beans")
+    public static BeanFactoryPostProcessor lazyBeansPostProcessor(Environment environment) {
+        List<String> lazyBeans = Binder.get(environment)
+                .bind("catalog.startup.lazy-beans", Bindable.listOf(String.class))
+                .orElse(List.of());
+
+        return beanFactory -> lazyBeans.stream()
+                .filter(beanFactory::containsBeanDefinition)
+                .forEach(beanName -> beanFactory.getBeanDefinition(beanName).setLazyInit(true));
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "catalog.startup", name = "timeline-top")
+    public StartupTimelineReporter startupTimelineReporter(ApplicationStartup applicationStartup, Environment environment) {
+        return new StartupTimelineReporter(applicationStartup,
+                environment.getRequiredProperty("catalog.startup.timeline-top", Integer.class));
+    }
+}
@@ -0,0 +1,59 @@
+package com.leedahun.storecasecatalog.config;
+
+import java.util.Comparator;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+
+/**
+ * 기동 완료 시 BufferingApplicationStartup에 쌓인 빈 생성 단계 중 오래 걸린 순으로 상위 N개를 로그로 출력합니다.
+ * 전체 타임라인은 actuator startup 엔드포인트로 조회합니다.
+ */
+@Slf4j
+public class StartupTimelineReporter implements ApplicationListener<ApplicationReadyEvent> {
+
+    private static final String BEAN_INSTANTIATE_STEP = "spring.beans.instantiate";
+
+    private final ApplicationStartup applicationStartup;
+    private final int top;
+
+    public StartupTimelineReporter(ApplicationStartup applicationStartup, int top) {
+        this.applicationStartup = applicationStartup;
+        this.top = top;
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        if (!(applicationStartup instanceof BufferingApplicationStartup bufferingStartup)) {
+            log.info("[startup] BufferingApplicationStartup이 설정되지 않아 빈 생성 타임라인을 기록하지 않았습니다.");
+            return;
+        }
+
+        List<StartupTimeline.TimelineEvent> slowest = bufferingStartup.getBufferedTimeline().getEvents().stream()
+                .filter(timelineEvent -> BEAN_INSTANTIATE_STEP.equals(timelineEvent.getStartupStep().getName()))
+                .sorted(Comparator.comparing(StartupTimeline.TimelineEvent::getDuration).reversed())
+                .limit(top)
+                .toList();
+
+        StringBuilder report = new StringBuilder();
+        for (StartupTimeline.TimelineEvent timelineEvent : slowest) {
+            report.append(String.format("%n  %6dms  %s", timelineEvent.getDuration().toMillis(), beanName(timelineEvent.getStartupStep())));
+        }
+        log.info("[startup] 준비 완료까지 {}ms, 생성 시간 상위 {}개 빈:{}",
+                event.getTimeTaken() != null ? event.getTimeTaken().toMillis() : -1, slowest.size(), report);
+    }
+
+    private String beanName(StartupStep step) {
+        for (StartupStep.Tag tag : step.getTags()) {
+            if ("beanName".equals(tag.getKey())) {
+                return tag.getValue();
+            }
+        }
+        return step.getName();
+    }
+}
@@ -0,0 +1,105 @@
+package com.leedahun.storecasecatalog.domain.category.cache;
+
+import com.leedahun.storecasecatalog.common.error.exception.EntityNotFoundException;
+import com.leedahun.storecasecatalog.common.invalidation.CacheInvalidationMessage;
+import com.leedahun.storecasecatalog.domain.category.dto.CategoryResponseDto;
+import com.leedahun.storecasecatalog.domain.category.event.CategoryChangedEvent;
+import com.leedahun.storecasecatalog.domain.category.repository.CategoryRepository;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 카테고리 전체를 불변 스냅샷으로 메모리에 보관합니다.
+ * 조회는 현재 스냅샷을 읽기만 하므로 DB에 접근하지 않고, 변경 트랜잭션이 커밋되면 새 스냅샷을 만들어 통째로 교체합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CategoryCache {
+
+    private final CategoryRepository categoryRepository;
+    private final AtomicReference<CategorySnapshot> snapshot = new AtomicReference<>();
+
+    /**
+     * ID 순으로 정렬된 전체 카테고리 목록을 반환합니다.
+     * @return 변경 불가능한 카테고리 목록
+     */
+    public List<CategoryResponseDto> getAll() {
+        return current().ordered();
+    }
+
+    /**
+     * ID로 카테고리를 조회합니다.
+     * @param id 카테고리 ID
+     * @return 카테고리 정보
+     */
+    public CategoryResponseDto getById(Long id) {
+        CategoryResponseDto category = current().byId().get(id);
+        if (category == null) {
+            throw new EntityNotFoundException("Category", id);
+        }
+        return category;
+    }
+
+    public boolean contains(Long id) {
+        return current().byId().containsKey(id);
+    }
+
+    // 카테고리 변경 커밋 후 새 트랜잭션에서 다시 읽어 스냅샷 교체 (롤백된 변경은 반영되지 않음)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        reload();
+        log.info("카테고리 스냅샷 갱신 categoryId={} size={}", event.categoryId(), snapshot.get().ordered().size());
+    }
+
+    // 다른 인스턴스에서 카테고리가 변경되었으면 다시 읽음 (아직 적재 전이면 첫 조회 때 최신 값을 읽으므로 생략)
+    @EventListener
+    public void onRemoteInvalidation(CacheInvalidationMessage message) {
+        if (message.categoryIds().isEmpty() || snapshot.get() == null) {
+            return;
+        }
+        reload();
+        log.info("다른 인스턴스의 변경으로 카테고리 스냅샷 갱신 categoryIds={}", message.categoryIds());
+    }
+
+    private CategorySnapshot current() {
+        CategorySnapshot loaded = snapshot.get();
+        return loaded != null ? loaded : initialize();
+    }
+
+    // 최초 조회 시 한 번만 적재
+    private synchronized CategorySnapshot initialize() {
+        CategorySnapshot loaded = snapshot.get();
+        return loaded != null ? loaded : reload();
+    }
+
+    // 동시에 커밋된 변경들의 재적재가 순서를 바꿔 오래된 스냅샷으로 덮어쓰지 않도록 직렬화
+    private synchronized CategorySnapshot reload() {
+        List<CategoryResponseDto> ordered = categoryRepository.findAll().stream()
+                .map(CategoryResponseDto::new)
+                .sorted(Comparator.comparing(CategoryResponseDto::getId))
+                .toList();
+        Map<Long, CategoryResponseDto> byId = ordered.stream()
+                .collect(Collectors.toUnmodifiableMap(CategoryResponseDto::getId, Function.identity()));
+
+        CategorySnapshot reloaded = new CategorySnapshot(byId, ordered);
+        snapshot.set(reloaded);
+        return reloaded;
+    }
+
+    private record CategorySnapshot(Map<Long, CategoryResponseDto> byId, List<CategoryResponseDto> ordered) {
+    }
+}
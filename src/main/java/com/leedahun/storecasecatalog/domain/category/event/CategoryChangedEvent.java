@@ -0,0 +1,9 @@
+package com.leedahun.storecasecatalog.domain.category.event;
+
+/**
+ * 카테고리가 생성/수정/삭제되었음을 알리는 이벤트입니다.
+ * 트랜잭션 커밋 이후 카테고리 스냅샷을 다시 만드는 데 사용됩니다.
+ * @param categoryId 변경된 카테고리 ID
+ */
+public record CategoryChangedEvent(Long categoryId) {
+}
@@ -2,24 +2,28 @@ package com.leedahun.storecasecatalog.domain.category.service.impl;
 
 import com.leedahun.storecasecatalog.common.error.exception.EntityAlreadyExistsException;
 import com.leedahun.storecasecatalog.common.error.exception.EntityNotFoundException;
+import com.leedahun.storecasecatalog.domain.category.cache.CategoryCache;
 import com.leedahun.storecasecatalog.domain.category.dto.CategoryRequestDto;
 import com.leedahun.storecasecatalog.domain.category.dto.CategoryResponseDto;
 import com.leedahun.storecasecatalog.domain.category.entity.Category;
+import com.leedahun.storecasecatalog.domain.category.event.CategoryChangedEvent;
 import com.leedahun.storecasecatalog.domain.category.repository.CategoryRepository;
 import com.leedahun.storecasecatalog.domain.category.service.CategoryService;
 import java.util.List;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
-@Transactional
 @RequiredArgsConstructor
 public class CategoryServiceImpl implements CategoryService {
 
     private final CategoryRepository categoryRepository;
+    private final CategoryCache categoryCache;
+    private final ApplicationEventPublisher eventPublisher;
 
+    @Transactional
     public CategoryResponseDto createCategory(CategoryRequestDto categoryRequestDto) {
         boolean isCategoryExists = categoryRepository.existsByName(categoryRequestDto.getName());
         if (isCategoryExists) {
@@ -30,33 +34,34 @@ public class CategoryServiceImpl implements CategoryService {
                 .name(categoryRequestDto.getName())
                 .build();
         categoryRepository.save(category);
+        eventPublisher.publishEvent(new CategoryChangedEvent(category.getId()));
         return new CategoryResponseDto(category);
     }
 
-    @Transactional(readOnly = true)
+    // 읽기는 메모리 스냅샷에서 처리 (트랜잭션/커넥션 불필요)
     public List<CategoryResponseDto> getAllCategories() {
-        return categoryRepository.findAll().stream()
-                .map(CategoryResponseDto::new)
-                .collect(Collectors.toList());
+        return categoryCache.getAll();
     }
 
-    @Transactional(readOnly = true)
     public CategoryResponseDto getCategoryById(Long id) {
-        Category category = findCategoryById(id);
-        return new CategoryResponseDto(category);
+        return categoryCache.getById(id);
     }
 
+    @Transactional
     public CategoryResponseDto updateCategory(Long id, CategoryRequestDto categoryRequestDto) {
         Category category = findCategoryById(id);
 
         category.updateName(categoryRequestDto.getName());
+        eventPublisher.publishEvent(new CategoryChangedEvent(id));
 
         return new CategoryResponseDto(category);
     }
 
+    @Transactional
     public void deleteCategory(Long id) {
         Category category = findCategoryById(id);
         categoryRepository.delete(category);
+        eventPublisher.publishEvent(new CategoryChangedEvent(id));
     }
 
     private Category findCategoryById(Long id) {
@@ -1,5 +1,7 @@
 package com.leedahun.storecasecatalog.domain.option.dto;
 
+import com.leedahun.storecasecatalog.domain.option.entity.Option;
+import com.leedahun.storecasecatalog.domain.product.entity.Product;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
@@ -28,4 +30,13 @@ public class OptionCreateRequestDto {
     @Min(value = 0, message = "옵션 재고는 0개 이상이어야 합니다.")
     private int stock;
 
+    public Option toEntity(Product product) {
+        return Option.builder()
+                .product(product)
+                .price(price)
+                .stock(stock)
+                .name(optionDetail)
+                .build();
+    }
+
 }
@@ -0,0 +1,16 @@
+package com.leedahun.storecasecatalog.domain.option.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@Builder
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class OptionDetailDto {
+    private Long optionId;
+    private String optionDetail;
+    private int price;
+    private int stock;
+}
@@ -0,0 +1,26 @@
+package com.leedahun.storecasecatalog.domain.option.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+@Getter
+@Setter
+@Builder
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class OptionStockReservationDto {
+
+    @NotNull(message = "옵션 ID는 필수입니다.")
+    private Long optionId;
+
+    @Min(value = 1, message = "차감 수량은 1개 이상이어야 합니다.")
+    private int quantity;
+
+}
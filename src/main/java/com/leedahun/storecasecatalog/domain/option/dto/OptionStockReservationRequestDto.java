@@ -0,0 +1,27 @@
+package com.leedahun.storecasecatalog.domain.option.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+@Getter
+@Setter
+@Builder
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class OptionStockReservationRequestDto {
+
+    @Valid
+    @NotEmpty(message = "차감할 옵션은 1개 이상이어야 합니다.")
+    @Size(max = 100, message = "한 번에 100개 옵션까지 차감할 수 있습니다.")
+    private List<OptionStockReservationDto> items;   // 장바구니 단위, 전부 차감되거나 하나도 차감되지 않음
+
+}
@@ -2,12 +2,15 @@ package com.leedahun.storecasecatalog.domain.option.entity;
 
 import com.leedahun.storecasecatalog.common.entity.BaseTimeEntity;
 import com.leedahun.storecasecatalog.domain.product.entity.Product;
+import com.leedahun.storecasecatalog.domain.product.event.ProductChangeEntityListener;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -21,13 +24,16 @@ import lombok.ToString;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@EntityListeners(ProductChangeEntityListener.class)   // 변경 시 상품 상세 캐시 무효화
 @Table(name = "`option`")
 public class Option extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "option_seq_generator")
+    @SequenceGenerator(name = "option_seq_generator", sequenceName = "option_seq", allocationSize = 50)
     private Long id;
 
+    @ToString.Exclude
     @ManyToOne(fetch = FetchType.LAZY)
     private Product product;
 
@@ -0,0 +1,52 @@
+package com.leedahun.storecasecatalog.domain.option.entity;
+
+import com.leedahun.storecasecatalog.common.entity.BaseTimeEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 핫 SKU 모드에서 인스턴스가 옵션 재고를 미리 임대받은 기록입니다.
+ * 임대 수량은 임대 시점에 option.stock에서 이미 차감되어 있고, consumed는 메모리에서 판매한 수량을 주기적으로 기록한 값입니다.
+ * 인스턴스가 비정상 종료되면 재기동 시 granted - consumed를 재고로 되돌립니다.
+ */
+@Getter
+@Builder
+@ToString
+@Entity
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "option_stock_lease",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"option_id", "instance_id"}))
+public class OptionStockLease extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)   // 임대는 드물게 생성되므로 배치 INSERT 불필요
+    private Long id;
+
+    @Column(name = "option_id", nullable = false)
+    private Long optionId;
+
+    @Column(name = "instance_id", nullable = false, length = 100)
+    private String instanceId;
+
+    @Column(name = "granted", nullable = false)
+    private long granted;   // 누적 임대 수량
+
+    @Column(name = "consumed", nullable = false)
+    private long consumed;  // 마지막으로 기록된 누적 판매 수량
+
+    public long unconsumed() {
+        return granted - consumed;
+    }
+
+}
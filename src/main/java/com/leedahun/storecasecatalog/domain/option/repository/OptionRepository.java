@@ -1,8 +1,43 @@
 package com.leedahun.storecasecatalog.domain.option.repository;
 
+import com.leedahun.storecasecatalog.domain.option.dto.OptionDetailDto;
 import com.leedahun.storecasecatalog.domain.option.entity.Option;
+import java.util.List;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface OptionRepository extends JpaRepository<Option, Long> {
+public interface OptionRepository extends JpaRepository<Option, Long>, OptionStockRepository {
+
+    // 상품 상세용: 옵션 수와 관계없이 한 번의 SELECT로 삭제되지 않은 옵션을 DTO로 바로 읽음
+    @Query("""
+            select new com.leedahun.storecasecatalog.domain.option.dto.OptionDetailDto(o.id, o.name, o.price, o.stock)
+            from Option o
+            where o.product.id = :productId
+              and o.isDeleted = false
+            order by o.id
+            """)
+    List<OptionDetailDto> findDetailsByProductId(@Param("productId") Long productId);
+
+    @Modifying
+    @Query("""
+            update Option o set o.stock = o.stock - :quantity
+            where o.id = :optionId
+              and o.isDeleted = false
+              and o.stock >= :quantity
+            """)
+    int decreaseStock(@Param("optionId") Long optionId, @Param("quantity") int quantity);
+
+    boolean existsByIdAndIsDeletedFalse(Long id);
+
+    // 핫 SKU 임대분 반납
+    @Modifying
+    @Query("update Option o set o.stock = o.stock + :quantity where o.id = :optionId")
+    int increaseStock(@Param("optionId") Long optionId, @Param("quantity") long quantity);
+
+    @Query("select o.stock from Option o where o.id = :optionId and o.isDeleted = false")
+    Optional<Integer> findStockById(@Param("optionId") Long optionId);
 
 }
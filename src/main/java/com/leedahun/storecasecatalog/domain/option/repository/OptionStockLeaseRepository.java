@@ -0,0 +1,37 @@
+package com.leedahun.storecasecatalog.domain.option.repository;
+
+import com.leedahun.storecasecatalog.domain.option.entity.OptionStockLease;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface OptionStockLeaseRepository extends JpaRepository<OptionStockLease, Long> {
+
+    Optional<OptionStockLease> findByOptionIdAndInstanceId(Long optionId, String instanceId);
+
+    List<OptionStockLease> findAllByInstanceId(String instanceId);
+
+    // 임대 추가: 읽은 값을 덮어쓰지 않고 누적 (판매 수량은 동시에 기록된 더 큰 값을 유지)
+    @Modifying
+    @Query("""
+            update OptionStockLease l
+            set l.granted = l.granted + :quantity, l.consumed = greatest(l.consumed, :consumed)
+            where l.optionId = :optionId and l.instanceId = :instanceId
+            """)
+    int grant(@Param("optionId") Long optionId, @Param("instanceId") String instanceId,
+              @Param("quantity") long quantity, @Param("consumed") long consumed);
+
+    // write-behind 판매 수량 기록: granted는 건드리지 않아 동시에 커밋된 임대를 덮어쓰지 않음
+    @Modifying
+    @Query("""
+            update OptionStockLease l
+            set l.consumed = greatest(l.consumed, :consumed)
+            where l.optionId = :optionId and l.instanceId = :instanceId
+            """)
+    int recordConsumed(@Param("optionId") Long optionId, @Param("instanceId") String instanceId,
+                       @Param("consumed") long consumed);
+
+}
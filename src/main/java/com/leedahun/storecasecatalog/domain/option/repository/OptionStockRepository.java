@@ -0,0 +1,14 @@
+package com.leedahun.storecasecatalog.domain.option.repository;
+
+import java.util.SortedMap;
+
+public interface OptionStockRepository {
+
+    /**
+     * 여러 옵션의 재고를 조건부 UPDATE 한 문장으로 함께 차감합니다.
+     * 재고가 부족하거나 없는(삭제된) 옵션은 차감되지 않으므로, 반환값이 요청한 옵션 수보다 작으면 호출한 트랜잭션을 롤백해야 합니다.
+     * @param quantities 옵션 ID → 차감 수량
+     * @return 차감된 옵션 수
+     */
+    int decreaseStocks(SortedMap<Long, Integer> quantities);
+}
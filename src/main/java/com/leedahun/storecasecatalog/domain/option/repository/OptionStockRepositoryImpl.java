@@ -0,0 +1,41 @@
+package com.leedahun.storecasecatalog.domain.option.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+
+public class OptionStockRepositoryImpl implements OptionStockRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // UPDATE ... SET stock = stock - (CASE id WHEN ? THEN ? ... END) WHERE id IN (...) AND stock >= (CASE ...)
+    // 기본 키 인덱스 순서로 행 잠금을 잡으므로, 옵션이 겹치는 장바구니끼리 동시에 차감해도 교착 상태가 생기지 않음
+    @Override
+    public int decreaseStocks(SortedMap<Long, Integer> quantities) {
+        StringBuilder quantityCase = new StringBuilder("case o.id");
+        for (int i = 0; i < quantities.size(); i++) {
+            quantityCase.append(" when :id").append(i).append(" then :quantity").append(i);
+        }
+        quantityCase.append(" end");
+
+        Query query = entityManager.createQuery(
+                "update Option o set o.stock = o.stock - (" + quantityCase + ")"
+                        + " where o.id in :optionIds"
+                        + " and o.isDeleted = false"
+                        + " and o.stock >= (" + quantityCase + ")");
+
+        int i = 0;
+        for (Map.Entry<Long, Integer> entry : quantities.entrySet()) {
+            query.setParameter("id" + i, entry.getKey());
+            query.setParameter("quantity" + i, entry.getValue());
+            i++;
+        }
+        query.setParameter("optionIds", List.copyOf(quantities.keySet()));
+
+        return query.executeUpdate();
+    }
+}
@@ -0,0 +1,308 @@
+package com.leedahun.storecasecatalog.domain.option.stock;
+
+import com.leedahun.storecasecatalog.domain.option.entity.OptionStockLease;
+import com.leedahun.storecasecatalog.domain.option.repository.OptionRepository;
+import com.leedahun.storecasecatalog.domain.option.repository.OptionStockLeaseRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.Disposable;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 핫 SKU(catalog.stock.hot.option-ids로 지정한 옵션)의 재고를 메모리에서 차감합니다.
+ *
+ * <p>옵션 재고를 lease-size만큼 DB에서 미리 임대(조건부 UPDATE로 option.stock에서 차감)받아 {@link StripedStockCounter}에 담고,
+ * 주문은 DB를 거치지 않고 메모리에서 차감합니다. 메모리 재고가 모자라면 한 스레드가 다음 임대를 받아옵니다.
+ * 판매한 누적 수량은 flush-interval마다 option_stock_lease에 모아서 기록합니다. (write-behind)
+ *
+ * <p>초과 판매 한도:
+ * <ul>
+ *     <li>정상 동작·정상 종료: 없음. 메모리에서 파는 재고는 이미 DB에서 차감된 임대분이고, 종료 시 남은 임대분을 반납합니다.
+ *     반납 이후에 도착한 차감·되돌림은 메모리를 거치지 않고 DB 재고에 직접 반영합니다.</li>
+ *     <li>비정상 종료: 재기동 시 마지막으로 기록된 판매 수량 기준으로 남은 임대분을 반납하므로,
+ *     마지막 기록 이후 판매분만큼 초과 판매될 수 있습니다. 임대받을 때마다 판매 수량도 함께 기록하므로
+ *     옵션·인스턴스당 최대 lease-size + (요청 1건의 수량 - 1)개입니다.</li>
+ * </ul>
+ * 재기동 후 같은 instance-id로 남은 임대 기록을 찾아야 하므로 instance-id는 인스턴스마다 다르고 재기동해도 바뀌지 않아야 합니다.
+ * 호스트명·포트로 만든 기본값은 두 인스턴스가 겹치면 서로의 임대를 반납하고, 바뀌면 임대가 고아가 되므로
+ * 핫 옵션이 지정되었는데 instance-id를 명시하지 않으면 기동을 실패시킵니다.
+ */
+@Slf4j
+@Component
+public class HotStockRegistry implements SmartLifecycle {
+
+    private final OptionRepository optionRepository;
+    private final OptionStockLeaseRepository optionStockLeaseRepository;
+    private final MeterRegistry meterRegistry;
+    private final TransactionTemplate leaseTransaction;
+    private final Set<Long> hotOptionIds;
+    private final int leaseSize;
+    private final int stripeCount;
+    private final Duration flushInterval;
+    private final String instanceId;
+    private final Map<Long, StripedStockCounter> counters = new ConcurrentHashMap<>();
+    private final Counter leases;
+    private final Counter flushFailures;
+
+    private volatile boolean running;
+    private Disposable flushTask;
+
+    public HotStockRegistry(OptionRepository optionRepository,
+                            OptionStockLeaseRepository optionStockLeaseRepository,
+                            MeterRegistry meterRegistry,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${catalog.stock.hot.option-ids:}") Set<Long> hotOptionIds,
+                            @Value("${catalog.stock.hot.lease-size:100}") int leaseSize,
+                            @Value("${catalog.stock.hot.stripes:16}") int stripeCount,
+                            @Value("${catalog.stock.hot.flush-interval:1s}") Duration flushInterval,
+                            @Value("${catalog.stock.hot.instance-id:}") String instanceId) {
+        if (!hotOptionIds.isEmpty() && (instanceId == null || instanceId.isBlank())) {
+            throw new IllegalArgumentException("catalog.stock.hot.option-ids를 지정하면 catalog.stock.hot.instance-id도 지정해야 합니다. "
+                    + "(인스턴스마다 고유하고 재기동해도 바뀌지 않는 값, 예: StatefulSet 파드 이름)");
+        }
+
+        this.optionRepository = optionRepository;
+        this.optionStockLeaseRepository = optionStockLeaseRepository;
+        this.meterRegistry = meterRegistry;
+        this.hotOptionIds = Set.copyOf(hotOptionIds);
+        this.leaseSize = leaseSize;
+        this.stripeCount = stripeCount;
+        this.flushInterval = flushInterval;
+        this.instanceId = instanceId;
+
+        // 주문 요청의 트랜잭션과 무관하게 커밋 (주문이 롤백되어도 임대는 유지되어야 메모리 재고와 DB가 어긋나지 않음)
+        this.leaseTransaction = new TransactionTemplate(transactionManager);
+        this.leaseTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        this.leases = Counter.builder("stock.hot.leases")
+                .description("핫 SKU 재고 임대 횟수")
+                .register(meterRegistry);
+        this.flushFailures = Counter.builder("stock.hot.flush.failures")
+                .description("판매 수량 기록(write-behind) 실패 횟수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 옵션 재고를 메모리에서 차감할지 여부입니다. 종료가 시작된 뒤에는 DB에서 직접 차감하도록 false를 반환합니다.
+     */
+    public boolean isActive(Long optionId) {
+        return running && hotOptionIds.contains(optionId);
+    }
+
+    /**
+     * 메모리 재고에서 수량을 차감합니다. 메모리 재고가 모자라면 DB에서 다음 임대를 받아옵니다.
+     * {@link #isActive}를 통과한 뒤 종료가 시작되어 메모리 재고가 반납(비워짐)되었으면 임대 없이 DB에서 직접 차감합니다.
+     * @return 차감했으면 true, DB 재고까지 모자라면 false
+     */
+    public boolean tryReserve(Long optionId, int quantity) {
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("quantity는 1 이상이어야 합니다. quantity=" + quantity);
+        }
+        StripedStockCounter counter = counter(optionId);
+        if (counter.tryAcquire(quantity)) {
+            return true;
+        }
+
+        // 느린 경로: 한 스레드만 임대받고, 기다린 스레드는 그 결과로 다시 시도
+        counter.lock().lock();
+        try {
+            if (counter.tryAcquire(quantity) || counter.tryGather(quantity)) {
+                return true;
+            }
+            if (!running) {
+                return Boolean.TRUE.equals(leaseTransaction.execute(status -> optionRepository.decreaseStock(optionId, quantity) == 1));
+            }
+            lease(optionId, counter, Math.max(leaseSize, quantity));
+            return counter.tryGather(quantity);
+        } finally {
+            counter.lock().unlock();
+        }
+    }
+
+    /**
+     * 장바구니의 다른 옵션이 실패해 이미 차감한 수량을 되돌립니다.
+     * 종료가 시작된 뒤에는 메모리에 되돌려도 반납되지 않을 수 있으므로 DB 재고로 직접 되돌립니다.
+     */
+    public void release(Long optionId, int quantity) {
+        StripedStockCounter counter = counter(optionId);
+        // lock 안에서 running을 확인하므로, 메모리에 되돌린 수량은 releaseAll()이 이 counter를 비우기 전에 들어가 함께 반납됨
+        counter.lock().lock();
+        try {
+            if (running) {
+                counter.release(quantity);
+                return;
+            }
+        } finally {
+            counter.lock().unlock();
+        }
+        leaseTransaction.executeWithoutResult(status -> returnStock(optionId, quantity));
+    }
+
+    private StripedStockCounter counter(Long optionId) {
+        return counters.computeIfAbsent(optionId, id -> {
+            StripedStockCounter counter = new StripedStockCounter(stripeCount);
+            Gauge.builder("stock.hot.remaining", counter, StripedStockCounter::remaining)
+                    .description("메모리에 임대받아 둔 남은 재고")
+                    .tag("optionId", String.valueOf(id))
+                    .register(meterRegistry);
+            return counter;
+        });
+    }
+
+    // counter의 lock을 잡은 상태에서 호출
+    private void lease(Long optionId, StripedStockCounter counter, int requested) {
+        Long leased = leaseTransaction.execute(status -> {
+            long quantity = decreaseUpTo(optionId, requested);
+            if (quantity == 0) {
+                return 0L;
+            }
+
+            // 판매 수량을 같이 기록해, 비정상 종료 시 기록되지 않은 판매분이 임대 1회분을 넘지 않게 함
+            // 주기 기록(flush)과 같은 행을 갱신하므로 엔티티를 읽어 덮어쓰지 않고 조건부 UPDATE로 누적
+            long consumed = counter.consumed();
+            if (optionStockLeaseRepository.grant(optionId, instanceId, quantity, consumed) == 0) {
+                optionStockLeaseRepository.save(OptionStockLease.builder()
+                        .optionId(optionId)
+                        .instanceId(instanceId)
+                        .granted(quantity)
+                        .consumed(consumed)
+                        .build());
+            }
+            return quantity;
+        });
+
+        // 커밋된 뒤에만 메모리에 반영
+        if (leased != null && leased > 0) {
+            counter.grant(leased);
+            leases.increment();
+        }
+    }
+
+    // 남은 재고가 요청보다 적으면 남은 만큼만 임대 (다른 인스턴스와 경합하면 다시 읽어 시도)
+    private long decreaseUpTo(Long optionId, int requested) {
+        for (int attempt = 0; attempt < 3; attempt++) {
+            int available = optionRepository.findStockById(optionId).orElse(0);
+            int quantity = Math.min(requested, available);
+            if (quantity <= 0) {
+                return 0;
+            }
+            if (optionRepository.decreaseStock(optionId, quantity) == 1) {
+                return quantity;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * 메모리에서 판매한 누적 수량을 임대 기록에 반영합니다. (write-behind)
+     * counter의 lock 없이 임대와 동시에 실행되므로, 읽은 임대 기록을 변경 감지로 저장하면 그 사이 커밋된 granted를 덮어씁니다.
+     * 그래서 consumed만 조건부 UPDATE로 갱신하고, 이미 더 큰 값이 기록되어 있으면(임대 시 기록) 줄이지 않습니다.
+     */
+    void flush() {
+        if (counters.isEmpty()) {
+            return;
+        }
+        try {
+            leaseTransaction.executeWithoutResult(status -> counters.forEach((optionId, counter) ->
+                    optionStockLeaseRepository.recordConsumed(optionId, instanceId, counter.consumed())));
+        } catch (RuntimeException e) {
+            // 기록이 밀리는 동안에도 차감은 계속됨 (초과 판매 한도는 임대 시 기록으로 유지)
+            flushFailures.increment();
+            log.warn("[hot-stock] 판매 수량 기록 실패 instanceId={}", instanceId, e);
+        }
+    }
+
+    /**
+     * 이전 실행이 비정상 종료되어 남은 임대 기록의 미판매분(granted - consumed)을 재고로 되돌립니다.
+     */
+    void recover() {
+        leaseTransaction.executeWithoutResult(status -> {
+            for (OptionStockLease lease : optionStockLeaseRepository.findAllByInstanceId(instanceId)) {
+                returnStock(lease.getOptionId(), lease.unconsumed());
+                optionStockLeaseRepository.delete(lease);
+                log.info("[hot-stock] 이전 실행의 임대분 반납 optionId={} granted={} consumed={}",
+                        lease.getOptionId(), lease.getGranted(), lease.getConsumed());
+            }
+        });
+    }
+
+    // 메모리에 남은 임대분을 모두 반납하고 임대 기록 삭제
+    private void releaseAll() {
+        Map<Long, Long> remaining = new HashMap<>();
+        counters.forEach((optionId, counter) -> {
+            counter.lock().lock();
+            try {
+                remaining.put(optionId, counter.drain());
+            } finally {
+                counter.lock().unlock();
+            }
+        });
+
+        try {
+            leaseTransaction.executeWithoutResult(status -> {
+                for (OptionStockLease lease : optionStockLeaseRepository.findAllByInstanceId(instanceId)) {
+                    returnStock(lease.getOptionId(), remaining.getOrDefault(lease.getOptionId(), 0L));
+                    optionStockLeaseRepository.delete(lease);
+                }
+            });
+        } catch (RuntimeException e) {
+            // 남은 임대 기록은 다음 기동 시 recover()에서 반납
+            log.warn("[hot-stock] 종료 시 임대분 반납 실패 instanceId={} remaining={}", instanceId, remaining, e);
+        }
+    }
+
+    private void returnStock(Long optionId, long quantity) {
+        if (quantity <= 0) {
+            return;
+        }
+        optionRepository.increaseStock(optionId, quantity);
+    }
+
+    @Override
+    public void start() {
+        recover();
+        long intervalMillis = flushInterval.toMillis();
+        flushTask = Schedulers.boundedElastic()
+                .schedulePeriodically(this::flush, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        running = true;
+        if (!hotOptionIds.isEmpty()) {
+            log.info("[hot-stock] 핫 SKU 재고 메모리 차감 시작 optionIds={} leaseSize={} instanceId={}",
+                    hotOptionIds, leaseSize, instanceId);
+        }
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (flushTask != null) {
+            flushTask.dispose();
+            flushTask = null;
+        }
+        releaseAll();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        // 웹 서버보다 먼저 시작(이전 임대분 반납)하고, 요청 처리가 끝난 뒤에 멈춰 남은 임대분을 반납
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+}
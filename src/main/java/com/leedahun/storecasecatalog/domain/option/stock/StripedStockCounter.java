@@ -0,0 +1,117 @@
+package com.leedahun.storecasecatalog.domain.option.stock;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 옵션 하나의 임대받은 재고를 여러 칸(stripe)에 나눠 담은 카운터입니다.
+ * 차감은 스레드별 시작 칸에서 CAS로 처리해 같은 옵션에 요청이 몰려도 한 값에서 경합하지 않고,
+ * 남은 재고가 여러 칸에 흩어져 한 칸으로 모자랄 때만 락을 잡고 모아서 처리합니다.
+ */
+class StripedStockCounter {
+
+    private final AtomicLongArray stripes;
+    private final int mask;
+    private final AtomicLong granted = new AtomicLong();   // 이 인스턴스가 임대받은 누적 수량
+    private final ReentrantLock lock = new ReentrantLock();
+
+    StripedStockCounter(int stripeCount) {
+        int size = Integer.highestOneBit(Math.max(1, stripeCount - 1)) << 1;   // 2의 거듭제곱으로 올림
+        this.stripes = new AtomicLongArray(size);
+        this.mask = size - 1;
+    }
+
+    /**
+     * 락 없이 한 칸에서 수량을 차감합니다.
+     * @return 차감했으면 true, 수량을 가진 칸이 없으면 false (남은 재고가 여러 칸에 흩어져 있을 수 있음)
+     */
+    boolean tryAcquire(int quantity) {
+        int start = Thread.currentThread().hashCode();   // 스레드마다 고정된 시작 칸
+        for (int i = 0; i <= mask; i++) {
+            int index = (start + i) & mask;
+            long current = stripes.get(index);
+            while (current >= quantity) {
+                if (stripes.compareAndSet(index, current, current - quantity)) {
+                    return true;
+                }
+                current = stripes.get(index);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 모든 칸을 비워 합친 뒤 수량을 차감하고 나머지를 다시 나눠 담습니다. (lock을 잡은 상태에서 호출)
+     * 모으는 동안 다른 스레드의 락 없는 차감은 실패할 수 있으며, 그 스레드는 락을 기다렸다가 다시 시도합니다.
+     */
+    boolean tryGather(int quantity) {
+        long total = drain();
+        if (total >= quantity) {
+            spread(total - quantity);
+            return true;
+        }
+        spread(total);
+        return false;
+    }
+
+    // 임대받은 수량 추가 (lock을 잡은 상태에서 호출)
+    void grant(long quantity) {
+        granted.addAndGet(quantity);
+        spread(quantity);
+    }
+
+    // 차감했던 수량을 되돌림 (장바구니 중 다른 옵션이 실패한 경우)
+    void release(long quantity) {
+        spread(quantity);
+    }
+
+    long drain() {
+        long total = 0;
+        for (int i = 0; i <= mask; i++) {
+            total += stripes.getAndSet(i, 0);
+        }
+        return total;
+    }
+
+    long remaining() {
+        long total = 0;
+        for (int i = 0; i <= mask; i++) {
+            total += stripes.get(i);
+        }
+        return total;
+    }
+
+    /**
+     * 임대받은 수량 중 판매된 수량입니다.
+     * 칸 사이에서 재고를 옮기는 작업(모으기·임대 추가)은 lock 안에서만 일어나므로, lock을 잡고 읽으면 같은 재고를 두 번 세지 않아
+     * 동시에 차감이 진행 중이어도 실제보다 작게 추정하지 않습니다. (재기동 시 되돌릴 수량이 실제 남은 수량을 넘지 않음)
+     */
+    long consumed() {
+        lock.lock();
+        try {
+            return granted.get() - remaining();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    long granted() {
+        return granted.get();
+    }
+
+    ReentrantLock lock() {
+        return lock;
+    }
+
+    private void spread(long quantity) {
+        long share = quantity / stripes.length();
+        long rest = quantity % stripes.length();
+        for (int i = 0; i <= mask; i++) {
+            long amount = share + (i < rest ? 1 : 0);
+            if (amount > 0) {
+                stripes.addAndGet(i, amount);
+            }
+        }
+    }
+}
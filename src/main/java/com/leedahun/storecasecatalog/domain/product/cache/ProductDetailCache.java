@@ -0,0 +1,189 @@
+package com.leedahun.storecasecatalog.domain.product.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.leedahun.storecasecatalog.common.invalidation.CacheInvalidationMessage;
+import com.leedahun.storecasecatalog.domain.category.event.CategoryChangedEvent;
+import com.leedahun.storecasecatalog.domain.product.dto.ProductDetailResponseDto;
+import com.leedahun.storecasecatalog.domain.product.event.ProductChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 상품 ID → 상품 상세(이미지 URL 제외)를 보관하는 로컬 캐시입니다.
+ * 옵션·이미지 수에 비례한 가중치로 크기를 제한하고(W-TinyLFU), 같은 상품에 대한 동시 미스는 한 번의 조회로 합쳐집니다.
+ * 만료가 가까워질수록 높은 확률로 한 요청만 미리 다시 읽어(XFetch) 인기 상품이 만료되는 순간 요청이 DB로 몰리지 않게 하고,
+ * 상품·옵션·카테고리 변경이 커밋되면(다른 인스턴스의 변경은 CacheInvalidationBus를 통해) 해당 항목을 제거합니다.
+ * 주문에 의한 재고 차감은 변경으로 보지 않으므로 상세의 재고 값은 TTL만큼 늦게 반영될 수 있습니다.
+ */
+@Slf4j
+@Component
+public class ProductDetailCache {
+
+    private static final String CACHE_NAME = "productDetailCache";
+
+    private final AsyncCache<Long, CachedDetail> cache;
+    private final Ticker ticker;
+    private final long ttlNanos;
+    private final double earlyRefreshBeta;
+    // 조기 갱신은 상품별로 한 요청만 수행하고, 나머지는 갱신이 끝날 때까지 기존 값을 그대로 반환
+    private final Set<Long> refreshing = ConcurrentHashMap.newKeySet();
+    private final Counter earlyRefreshes;
+
+    @Autowired
+    public ProductDetailCache(MeterRegistry meterRegistry,
+                              @Value("${catalog.product.detail-cache.maximum-weight:100000}") long maximumWeight,
+                              @Value("${catalog.product.detail-cache.ttl:5m}") Duration ttl,
+                              @Value("${catalog.product.detail-cache.early-refresh-beta:1.0}") double earlyRefreshBeta) {
+        this(meterRegistry, maximumWeight, ttl, earlyRefreshBeta, Ticker.systemTicker());
+    }
+
+    ProductDetailCache(MeterRegistry meterRegistry, long maximumWeight, Duration ttl, double earlyRefreshBeta, Ticker ticker) {
+        this.ticker = ticker;
+        this.ttlNanos = ttl.toNanos();
+        this.earlyRefreshBeta = earlyRefreshBeta;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumWeight)
+                .weigher((Long productId, CachedDetail cached) -> cached.weight())
+                .expireAfterWrite(ttl)
+                .ticker(ticker)
+                // 조회를 호출 스레드에서 완료해, 실패한 Future가 호출자에게 예외가 전달되기 전에 제거되도록 함
+                .executor(Runnable::run)
+                .recordStats()
+                .buildAsync();
+
+        // cache.gets(hit/miss), cache.evictions(+가중치), cache.load.duration 지표 등록
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+
+        this.earlyRefreshes = Counter.builder("cache.early-refreshes")
+                .description("만료 전에 확률적으로 미리 다시 읽은 횟수")
+                .tag("cache", CACHE_NAME)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시에서 상품 상세를 조회하고, 없으면 loader로 한 번만 불러와 저장합니다.
+     * 반환된 객체는 다른 요청과 공유되므로 호출하는 쪽에서 수정하면 안 됩니다.
+     * @param productId 상품 ID
+     * @param loader 캐시 미스·조기 갱신 시 호출할 조회 함수 (예외는 캐시하지 않고 그대로 전달)
+     * @return 상품 상세
+     */
+    public ProductDetailResponseDto get(Long productId, Function<Long, ProductDetailResponseDto> loader) {
+        // StoreIdCache와 같이 미완료 Future만 등록하고, DB 조회는 캐시 내부 잠금 밖에서 실행
+        CompletableFuture<CachedDetail> loading = new CompletableFuture<>();
+        CompletableFuture<CachedDetail> detailFuture = cache.get(productId, (key, executor) -> loading);
+        if (detailFuture == loading) {
+            complete(loading, productId, loader);
+        }
+
+        CachedDetail cached;
+        try {
+            cached = detailFuture.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+
+        if (detailFuture != loading && shouldRefreshEarly(cached) && refreshing.add(productId)) {
+            try {
+                return refresh(productId, detailFuture, loader);
+            } finally {
+                refreshing.remove(productId);
+            }
+        }
+        return cached.detail();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        cache.synchronous().invalidate(event.productId());
+    }
+
+    // 카테고리명이 상세에 포함되므로 카테고리 변경은 전체를 비움 (변경 빈도가 매우 낮음)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        cache.synchronous().invalidateAll();
+        log.info("카테고리 변경으로 상품 상세 캐시 비움 categoryId={}", event.categoryId());
+    }
+
+    /**
+     * 다른 인스턴스에서 커밋된 변경을 반영합니다. 카테고리 변경이 포함되면 전체를 비웁니다.
+     * @param message 무효화 메시지
+     */
+    @EventListener
+    public void onRemoteInvalidation(CacheInvalidationMessage message) {
+        if (!message.categoryIds().isEmpty()) {
+            cache.synchronous().invalidateAll();
+            return;
+        }
+        cache.synchronous().invalidateAll(message.productIds());
+    }
+
+    // Error도 반드시 완료 처리 (미완료로 남으면 같은 상품의 이후 조회가 모두 영원히 대기)
+    private void complete(CompletableFuture<CachedDetail> loading, Long productId, Function<Long, ProductDetailResponseDto> loader) {
+        try {
+            loading.complete(load(productId, loader));
+        } catch (Throwable e) {
+            loading.completeExceptionally(e);
+        }
+    }
+
+    private ProductDetailResponseDto refresh(Long productId, CompletableFuture<CachedDetail> current,
+                                             Function<Long, ProductDetailResponseDto> loader) {
+        earlyRefreshes.increment();
+        CachedDetail refreshed;
+        try {
+            refreshed = load(productId, loader);
+        } catch (RuntimeException e) {
+            // 기존 값은 아직 만료 전이므로 갱신 실패는 다음 요청에 맡기고 기존 값을 반환
+            log.warn("상품 상세 조기 갱신 실패 productId={}", productId, e);
+            return current.join().detail();
+        }
+
+        // 갱신 중 변경 커밋으로 항목이 제거되었다면 되살리지 않음 (읽은 값이 변경 이전일 수 있음)
+        cache.asMap().replace(productId, current, CompletableFuture.completedFuture(refreshed));
+        return refreshed.detail();
+    }
+
+    private CachedDetail load(Long productId, Function<Long, ProductDetailResponseDto> loader) {
+        // 만료 시점은 조회를 시작한 시각 기준으로 보수적으로 계산 (읽은 데이터는 조회 시작 시점의 것)
+        long start = ticker.read();
+        ProductDetailResponseDto detail = loader.apply(productId);
+        return new CachedDetail(detail, start, ticker.read() - start);
+    }
+
+    // XFetch: now - delta * beta * ln(U) >= expiry 이면 갱신. 조회 비용(delta)이 클수록, 만료가 가까울수록 일찍 갱신될 확률이 커짐
+    private boolean shouldRefreshEarly(CachedDetail cached) {
+        double gap = -cached.loadNanos() * earlyRefreshBeta * Math.log(1.0 - ThreadLocalRandom.current().nextDouble());
+        return ticker.read() + gap >= cached.readAt() + ttlNanos;
+    }
+
+    private record CachedDetail(ProductDetailResponseDto detail, long readAt, long loadNanos) {
+
+        // 옵션·이미지 수에 비례해 메모리를 차지하므로 항목 수 대신 가중치로 크기를 제한
+        int weight() {
+            return 1 + detail.getOptions().size() + detail.getImages().size();
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.leedahun.storecasecatalog.domain.product.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.leedahun.storecasecatalog.common.error.exception.EntityNotFoundException;
+import com.leedahun.storecasecatalog.common.error.exception.ExternalApiException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 판매자 ID → 상점 ID 조회 결과를 보관하는 로컬 캐시입니다.
+ * 같은 sellerId에 대한 동시 조회는 한 번의 외부 호출로 합쳐지고,
+ * "존재하지 않음" 결과는 짧은 TTL로 캐시되어 잘못된 ID가 identity-service로 반복 전달되지 않습니다.
+ * identity-service 장애(ExternalApiException) 중에는 마지막으로 조회에 성공한 상점 ID(last-known-ttl 동안 보관)로 대체합니다.
+ */
+@Component
+public class StoreIdCache {
+
+    private static final String CACHE_NAME = "storeIdCache";
+
+    private final AsyncCache<Long, Optional<Long>> cache;
+    // 만료된 뒤에도 장애 시 대체값으로 쓸 수 있도록 조회 성공 결과를 더 오래 보관
+    private final Cache<Long, Long> lastKnown;
+    private final Counter lastKnownFallbacks;
+    private final Counter unavailableFallbacks;
+
+    public StoreIdCache(MeterRegistry meterRegistry,
+                        @Value("${catalog.identity.store-id-cache.maximum-size:10000}") long maximumSize,
+                        @Value("${catalog.identity.store-id-cache.ttl:10m}") Duration ttl,
+                        @Value("${catalog.identity.store-id-cache.negative-ttl:30s}") Duration negativeTtl,
+                        @Value("${catalog.identity.store-id-cache.last-known-ttl:24h}") Duration lastKnownTtl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new StoreIdExpiry(ttl, negativeTtl))
+                // 동기 조회를 호출 스레드에서 실행해, 실패한 Future가 호출자에게 예외가 전달되기 전에 제거되도록 함
+                // (공용 풀에서 실행하면 직후 재조회가 아직 제거되지 않은 실패 결과를 받을 수 있음)
+                .executor(Runnable::run)
+                .recordStats()
+                .buildAsync();
+
+        // cache.gets(hit/miss), cache.evictions, cache.load.duration 지표 등록
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+
+        this.lastKnown = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(lastKnownTtl)
+                .build();
+        this.lastKnownFallbacks = Counter.builder("identity.store-id.fallbacks")
+                .description("identity-service 장애로 마지막으로 알려진 상점 ID를 대신 사용한 횟수")
+                .tag("result", "last-known")
+                .register(meterRegistry);
+        this.unavailableFallbacks = Counter.builder("identity.store-id.fallbacks")
+                .description("identity-service 장애 중 대체할 상점 ID가 없어 실패한 횟수")
+                .tag("result", "unavailable")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시에서 상점 ID를 조회하고, 없으면 loader로 한 번만 불러와 저장합니다.
+     * @param sellerId 판매자 ID
+     * @param loader 캐시 미스 시 호출할 조회 함수 (EntityNotFoundException은 부정 캐시로 저장)
+     * @return 상점 ID (ExternalApiException이면 마지막으로 알려진 상점 ID)
+     */
+    public Long get(Long sellerId, Function<Long, Long> loader) {
+        // 캐시에는 미완료 Future만 등록하고 조회는 캐시 내부 잠금(ConcurrentHashMap의 synchronized) 밖에서 실행
+        // (잠금 안에서 외부 호출을 기다리면 가상 스레드가 그동안 캐리어 스레드에 고정됨)
+        CompletableFuture<Optional<Long>> loading = new CompletableFuture<>();
+        CompletableFuture<Optional<Long>> storeIdFuture = cache.get(sellerId, (key, executor) -> loading);
+        if (storeIdFuture == loading) {
+            load(sellerId, loader, loading);
+        }
+
+        Optional<Long> storeId;
+        try {
+            storeId = storeIdFuture.join();
+        } catch (CompletionException e) {
+            Throwable cause = unwrap(e);
+            if (cause instanceof ExternalApiException externalApiException) {
+                return fallback(sellerId, externalApiException);
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+
+        return storeId.orElseThrow(() -> notFound(sellerId));
+    }
+
+    // 호출 스레드에서 완료하므로 실패한 Future는 예외가 호출자에게 전달되기 전에 캐시에서 제거됨
+    // Error도 반드시 완료 처리 (미완료로 남으면 같은 sellerId의 이후 조회가 모두 영원히 대기)
+    private void load(Long sellerId, Function<Long, Long> loader, CompletableFuture<Optional<Long>> loading) {
+        try {
+            loading.complete(Optional.of(remember(sellerId, loader.apply(sellerId))));
+        } catch (EntityNotFoundException e) {
+            loading.complete(Optional.empty());
+        } catch (Throwable e) {
+            loading.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * {@link #get(Long, Function)}의 비동기 버전입니다. 호출 스레드를 막지 않고 진행 중인 조회 Future를 공유합니다.
+     * @param sellerId 판매자 ID
+     * @param loader 캐시 미스 시 호출할 비동기 조회 함수
+     * @return 상점 ID를 담은 Future (존재하지 않으면 EntityNotFoundException으로 완료)
+     */
+    public CompletableFuture<Long> getAsync(Long sellerId, Function<Long, CompletableFuture<Long>> loader) {
+        return cache.get(sellerId, (key, executor) -> loader.apply(key)
+                        .thenApply(storeId -> Optional.of(remember(key, storeId)))
+                        .exceptionally(ex -> {
+                            if (unwrap(ex) instanceof EntityNotFoundException) {
+                                return Optional.empty();
+                            }
+                            throw toCompletionException(ex);
+                        }))
+                .thenApply(storeId -> storeId.orElseThrow(() -> notFound(sellerId)))
+                // 대체값은 캐시에 넣지 않고 반환만 하므로 장애가 끝나면 다음 조회에서 바로 최신 값을 가져옴
+                .exceptionally(ex -> {
+                    if (unwrap(ex) instanceof ExternalApiException e) {
+                        return fallback(sellerId, e);
+                    }
+                    throw toCompletionException(ex);
+                });
+    }
+
+    public void invalidate(Long sellerId) {
+        cache.synchronous().invalidate(sellerId);
+        lastKnown.invalidate(sellerId);
+    }
+
+    private Long remember(Long sellerId, Long storeId) {
+        lastKnown.put(sellerId, storeId);
+        return storeId;
+    }
+
+    private Long fallback(Long sellerId, ExternalApiException e) {
+        Long storeId = lastKnown.getIfPresent(sellerId);
+        if (storeId == null) {
+            unavailableFallbacks.increment();
+            throw e;
+        }
+        lastKnownFallbacks.increment();
+        return storeId;
+    }
+
+    private static Throwable unwrap(Throwable ex) {
+        return ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+    }
+
+    private static CompletionException toCompletionException(Throwable ex) {
+        return ex instanceof CompletionException completionException
+                ? completionException
+                : new CompletionException(ex);
+    }
+
+    private EntityNotFoundException notFound(Long sellerId) {
+        return new EntityNotFoundException("Seller's StoreId", sellerId);
+    }
+
+    // 조회 성공 결과와 "존재하지 않음" 결과의 만료 시간을 다르게 적용
+    private record StoreIdExpiry(Duration ttl, Duration negativeTtl) implements Expiry<Long, Optional<Long>> {
+
+        @Override
+        public long expireAfterCreate(Long key, Optional<Long> value, long currentTime) {
+            return value.isPresent() ? ttl.toNanos() : negativeTtl.toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(Long key, Optional<Long> value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(Long key, Optional<Long> value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -1,33 +1,75 @@
 package com.leedahun.storecasecatalog.domain.product.controller;
 
+import com.leedahun.storecasecatalog.common.instrumentation.SqlStatementContext;
 import com.leedahun.storecasecatalog.common.message.SuccessMessage;
 import com.leedahun.storecasecatalog.common.response.HttpResponse;
 import com.leedahun.storecasecatalog.domain.product.dto.ProductCreateRequestDto;
+import com.leedahun.storecasecatalog.domain.product.dto.ProductDetailResponseDto;
+import com.leedahun.storecasecatalog.domain.product.dto.ProductPageResponseDto;
 import com.leedahun.storecasecatalog.domain.product.service.ProductService;
 import jakarta.validation.Valid;
-import lombok.RequiredArgsConstructor;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
 @RequestMapping("/api/catalog/product")
-@RequiredArgsConstructor
 public class ProductController {
 
     private final ProductService productService;
+    private final Executor productWriteExecutor;
 
+    public ProductController(ProductService productService,
+                             @Qualifier("productWriteExecutor") Executor productWriteExecutor) {
+        this.productService = productService;
+        this.productWriteExecutor = productWriteExecutor;
+    }
+
+    // identity 조회가 진행되는 동안 요청 스레드를 반납하고, 등록 트랜잭션은 전용 실행기에서 수행
     @PostMapping
-    public ResponseEntity<?> createProduct(@RequestHeader("X-User-Id") Long userId,
-                                           @Valid @RequestBody ProductCreateRequestDto productCreateRequestDto) {
-        Long storeId = productService.getStoreId(userId);
-        productService.createProduct(productCreateRequestDto, storeId);
-        return ResponseEntity.status(HttpStatus.CREATED)
-                .body(new HttpResponse(HttpStatus.CREATED, SuccessMessage.WRITE_SUCCESS.getMessage(), null));
+    public CompletableFuture<ResponseEntity<?>> createProduct(@RequestHeader("X-User-Id") Long userId,
+                                                              @Valid @RequestBody ProductCreateRequestDto productCreateRequestDto) {
+        // 등록 작업은 identity 응답 스레드에서 제출되므로, SQL 집계 컨텍스트는 요청 스레드에서 미리 캡처
+        Executor writeExecutor = SqlStatementContext.propagating(productWriteExecutor);
+        return productService.getStoreIdAsync(userId)
+                .thenAcceptAsync(storeId -> productService.createProduct(productCreateRequestDto, storeId), writeExecutor)
+                .thenApply(result -> ResponseEntity.status(HttpStatus.CREATED)
+                        .body(new HttpResponse(HttpStatus.CREATED, SuccessMessage.WRITE_SUCCESS.getMessage(), null)));
+    }
+
+    @GetMapping("/{productId}")
+    public ResponseEntity<?> getProduct(@PathVariable Long productId) {
+        ProductDetailResponseDto product = productService.getProduct(productId);
+        return ResponseEntity.ok()
+                .body(new HttpResponse(HttpStatus.OK, SuccessMessage.READ_SUCCESS.getMessage(), product));
+    }
+
+    @GetMapping("/category/{categoryId}")
+    public ResponseEntity<?> getProductsByCategory(@PathVariable Long categoryId,
+                                                   @RequestParam(required = false) String cursor,
+                                                   @RequestParam(defaultValue = "20") int size) {
+        ProductPageResponseDto page = productService.getProductsByCategory(categoryId, cursor, size);
+        return ResponseEntity.ok()
+                .body(new HttpResponse(HttpStatus.OK, SuccessMessage.READ_SUCCESS.getMessage(), page));
+    }
+
+    @GetMapping("/store/{storeId}")
+    public ResponseEntity<?> getProductsByStore(@PathVariable Long storeId,
+                                                @RequestParam(required = false) String cursor,
+                                                @RequestParam(defaultValue = "20") int size) {
+        ProductPageResponseDto page = productService.getProductsByStore(storeId, cursor, size);
+        return ResponseEntity.ok()
+                .body(new HttpResponse(HttpStatus.OK, SuccessMessage.READ_SUCCESS.getMessage(), page));
     }
 
 }
@@ -2,12 +2,19 @@ package com.leedahun.storecasecatalog.domain.product.controller;
 
 import com.leedahun.storecasecatalog.common.message.SuccessMessage;
 import com.leedahun.storecasecatalog.common.response.HttpResponse;
+import com.leedahun.storecasecatalog.domain.product.dto.ProductImageUploadConfirmRequestDto;
 import com.leedahun.storecasecatalog.domain.product.dto.ProductImageUploadResponseDto;
+import com.leedahun.storecasecatalog.domain.product.dto.ProductImageUploadUrlRequestDto;
+import com.leedahun.storecasecatalog.domain.product.dto.ProductImageUploadUrlResponseDto;
 import com.leedahun.storecasecatalog.domain.product.service.ProductImageService;
+import jakarta.validation.Valid;
+import java.util.concurrent.CompletableFuture;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -20,11 +27,28 @@ public class ProductImageUploadController {
 
     private final ProductImageService productImageService;
 
+    // 서버 경유 업로드 (기존 클라이언트 호환용, 신규 클라이언트는 upload-url → S3 직접 업로드 → confirm 사용)
+    // S3 전송이 진행되는 동안 요청 스레드를 반납 (업로드 임시 파일은 응답 완료 시까지 유지됨)
     @PostMapping("/upload")
-    public ResponseEntity<?> uploadImage(@RequestParam("file") MultipartFile file) {
-        ProductImageUploadResponseDto productImageUploadResponse = productImageService.uploadImage(file);
+    public CompletableFuture<ResponseEntity<?>> uploadImage(@RequestParam("file") MultipartFile file) {
+        return productImageService.uploadImage(file)
+                .thenApply(productImageUploadResponse -> ResponseEntity.status(HttpStatus.CREATED)
+                        .body(new HttpResponse(HttpStatus.CREATED, SuccessMessage.WRITE_SUCCESS.getMessage(), productImageUploadResponse)));
+    }
+
+    @PostMapping("/upload-url")
+    public ResponseEntity<?> createUploadUrl(@Valid @RequestBody ProductImageUploadUrlRequestDto requestDto) {
+        ProductImageUploadUrlResponseDto uploadUrlResponse = productImageService.createUploadUrl(requestDto);
         return ResponseEntity.status(HttpStatus.CREATED)
-                .body(new HttpResponse(HttpStatus.CREATED, SuccessMessage.WRITE_SUCCESS.getMessage(), productImageUploadResponse));
+                .body(new HttpResponse(HttpStatus.CREATED, SuccessMessage.WRITE_SUCCESS.getMessage(), uploadUrlResponse));
+    }
+
+    @PostMapping("/{imageId}/confirm")
+    public ResponseEntity<?> confirmUpload(@PathVariable Long imageId,
+                                           @Valid @RequestBody(required = false) ProductImageUploadConfirmRequestDto requestDto) {
+        ProductImageUploadResponseDto productImageUploadResponse = productImageService.confirmUpload(imageId, requestDto);
+        return ResponseEntity.ok()
+                .body(new HttpResponse(HttpStatus.OK, SuccessMessage.UPDATE_SUCCESS.getMessage(), productImageUploadResponse));
     }
 
 }
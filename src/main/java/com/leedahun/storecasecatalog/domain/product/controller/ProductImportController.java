@@ -0,0 +1,32 @@
+package com.leedahun.storecasecatalog.domain.product.controller;
+
+import com.leedahun.storecasecatalog.common.message.SuccessMessage;
+import com.leedahun.storecasecatalog.common.response.HttpResponse;
+import com.leedahun.storecasecatalog.domain.product.dto.ProductImportResultDto;
+import com.leedahun.storecasecatalog.domain.product.service.ProductImportService;
+import java.io.InputStream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/catalog/product/import")
+public class ProductImportController {
+
+    private final ProductImportService productImportService;
+
+    // 요청 본문(NDJSON)을 메모리에 올리지 않고 스트림 그대로 서비스에 전달
+    @PostMapping(consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<?> importProducts(@RequestHeader("X-User-Id") Long userId, InputStream body) {
+        ProductImportResultDto result = productImportService.importProducts(userId, body);
+        return ResponseEntity.ok()
+                .body(new HttpResponse(HttpStatus.OK, SuccessMessage.WRITE_SUCCESS.getMessage(), result));
+    }
+
+}
@@ -0,0 +1,48 @@
+package com.leedahun.storecasecatalog.domain.product.controller;
+
+import com.leedahun.storecasecatalog.common.message.SuccessMessage;
+import com.leedahun.storecasecatalog.common.response.HttpResponse;
+import com.leedahun.storecasecatalog.domain.option.dto.OptionStockReservationRequestDto;
+import com.leedahun.storecasecatalog.domain.product.dto.StockReservationRequestDto;
+import com.leedahun.storecasecatalog.domain.product.service.StockService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/catalog/product")
+public class StockController {
+
+    private final StockService stockService;
+
+    @PostMapping("/{productId}/stock/reserve")
+    public ResponseEntity<?> reserveProductStock(@PathVariable Long productId,
+                                                 @Valid @RequestBody StockReservationRequestDto requestDto) {
+        stockService.reserveProductStock(productId, requestDto.getQuantity());
+        return ResponseEntity.ok()
+                .body(new HttpResponse(HttpStatus.OK, SuccessMessage.UPDATE_SUCCESS.getMessage(), null));
+    }
+
+    @PostMapping("/option/{optionId}/stock/reserve")
+    public ResponseEntity<?> reserveOptionStock(@PathVariable Long optionId,
+                                                @Valid @RequestBody StockReservationRequestDto requestDto) {
+        stockService.reserveOptionStock(optionId, requestDto.getQuantity());
+        return ResponseEntity.ok()
+                .body(new HttpResponse(HttpStatus.OK, SuccessMessage.UPDATE_SUCCESS.getMessage(), null));
+    }
+
+    // 장바구니 전체를 한 번에 차감 (하나라도 부족하면 409, 아무것도 차감되지 않음)
+    @PostMapping("/option/stock/reserve")
+    public ResponseEntity<?> reserveOptionStocks(@Valid @RequestBody OptionStockReservationRequestDto requestDto) {
+        stockService.reserveOptionStocks(requestDto.getItems());
+        return ResponseEntity.ok()
+                .body(new HttpResponse(HttpStatus.OK, SuccessMessage.UPDATE_SUCCESS.getMessage(), null));
+    }
+}
@@ -0,0 +1,41 @@
+package com.leedahun.storecasecatalog.domain.product.dto;
+
+import com.leedahun.storecasecatalog.domain.option.dto.OptionDetailDto;
+import com.leedahun.storecasecatalog.domain.product.entity.Product;
+import java.util.List;
+import lombok.*;
+
+@Getter
+@Setter
+@Builder(toBuilder = true)
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductDetailResponseDto {
+    private Long productId;
+    private Long storeId;
+    private Long categoryId;
+    private String categoryName;
+    private String productName;
+    private String description;
+    private String optionName;
+    private Integer price;
+    private Integer stock;
+    private List<OptionDetailDto> options;
+    private List<ProductImageDetailDto> images;
+
+    // product는 category를 fetch join으로 함께 읽은 엔티티여야 함 (카테고리명 조회에 추가 SELECT가 없도록)
+    public ProductDetailResponseDto(Product product, List<OptionDetailDto> options, List<ProductImageDetailDto> images) {
+        this.productId = product.getId();
+        this.storeId = product.getStoreId();
+        this.categoryId = product.getCategory().getId();
+        this.categoryName = product.getCategory().getName();
+        this.productName = product.getName();
+        this.description = product.getDescription();
+        this.optionName = product.getOptionName();
+        this.price = product.getPrice();
+        this.stock = product.getStock();
+        this.options = options;
+        this.images = images;
+    }
+}
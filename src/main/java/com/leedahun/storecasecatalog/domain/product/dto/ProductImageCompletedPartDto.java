@@ -0,0 +1,28 @@
+package com.leedahun.storecasecatalog.domain.product.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+@Getter
+@Setter
+@Builder
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductImageCompletedPartDto {
+
+    @NotNull(message = "파트 번호는 필수입니다.")
+    @Positive(message = "파트 번호는 1 이상이어야 합니다.")
+    private Integer partNumber;
+
+    @NotBlank(message = "ETag는 필수입니다.")
+    private String etag;
+
+}
@@ -0,0 +1,21 @@
+package com.leedahun.storecasecatalog.domain.product.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.*;
+
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductImageDetailDto {
+    private Long imageId;
+    @JsonIgnore
+    private String s3Key;
+    private String imageUrl;   // 조회 후 s3Key를 일괄 서명한 Presigned URL
+
+    public ProductImageDetailDto(Long imageId, String s3Key) {
+        this.imageId = imageId;
+        this.s3Key = s3Key;
+    }
+}
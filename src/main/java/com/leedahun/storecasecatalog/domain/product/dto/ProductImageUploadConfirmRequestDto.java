@@ -0,0 +1,23 @@
+package com.leedahun.storecasecatalog.domain.product.dto;
+
+import jakarta.validation.Valid;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+@Getter
+@Setter
+@Builder
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductImageUploadConfirmRequestDto {
+
+    @Valid
+    private List<ProductImageCompletedPartDto> parts;   // 멀티파트 업로드일 때만 필요 (각 파트 PUT 응답의 ETag)
+
+}
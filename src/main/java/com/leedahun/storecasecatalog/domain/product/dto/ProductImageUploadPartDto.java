@@ -0,0 +1,14 @@
+package com.leedahun.storecasecatalog.domain.product.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@Builder
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductImageUploadPartDto {
+    private int partNumber;
+    private String uploadUrl;
+}
@@ -0,0 +1,35 @@
+package com.leedahun.storecasecatalog.domain.product.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+@Getter
+@Setter
+@Builder
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductImageUploadUrlRequestDto {
+
+    @NotBlank(message = "파일명은 필수입니다.")
+    @Size(max = 255, message = "파일명은 255자를 초과할 수 없습니다.")
+    private String originalName;
+
+    @NotBlank(message = "Content-Type은 필수입니다.")
+    @Pattern(regexp = "image/[\\w.+-]+", message = "이미지 파일만 업로드할 수 있습니다.")
+    private String contentType;
+
+    @NotNull(message = "파일 크기는 필수입니다.")
+    @Positive(message = "파일 크기는 0보다 커야 합니다.")
+    private Long fileSize;
+
+}
@@ -0,0 +1,19 @@
+package com.leedahun.storecasecatalog.domain.product.dto;
+
+import java.util.List;
+import lombok.*;
+
+@Getter
+@Setter
+@Builder
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductImageUploadUrlResponseDto {
+    private Long imageId;
+    private boolean multipart;
+    private String uploadUrl;                    // 단일 PUT 업로드 URL (멀티파트이면 null)
+    private Long partSize;                       // 멀티파트 파트 크기(bytes), 마지막 파트는 더 작을 수 있음
+    private List<ProductImageUploadPartDto> parts;
+    private long expiresInSeconds;
+}
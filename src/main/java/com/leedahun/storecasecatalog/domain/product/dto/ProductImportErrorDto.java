@@ -0,0 +1,14 @@
+package com.leedahun.storecasecatalog.domain.product.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@Builder
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductImportErrorDto {
+    private long line;
+    private String message;
+}
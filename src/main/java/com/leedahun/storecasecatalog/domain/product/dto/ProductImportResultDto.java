@@ -0,0 +1,21 @@
+package com.leedahun.storecasecatalog.domain.product.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.*;
+
+@Getter
+@Setter
+@Builder
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductImportResultDto {
+    private long totalRows;
+    private long succeeded;
+    private long failed;
+    private boolean errorsTruncated;   // 보고 한도를 넘은 오류는 건수만 집계
+
+    @Builder.Default
+    private List<ProductImportErrorDto> errors = new ArrayList<>();
+}
@@ -0,0 +1,16 @@
+package com.leedahun.storecasecatalog.domain.product.dto;
+
+import java.util.List;
+import lombok.*;
+
+@Getter
+@Setter
+@Builder
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductPageResponseDto {
+    private List<ProductSummaryDto> products;
+    private String nextCursor;   // 다음 페이지가 없으면 null
+    private boolean hasNext;
+}
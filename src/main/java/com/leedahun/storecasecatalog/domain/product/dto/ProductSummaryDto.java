@@ -0,0 +1,18 @@
+package com.leedahun.storecasecatalog.domain.product.dto;
+
+import lombok.*;
+
+@Getter
+@Setter
+@Builder
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductSummaryDto {
+    private Long productId;
+    private Long storeId;
+    private Long categoryId;
+    private String productName;
+    private Integer price;
+    private Integer stock;
+}
@@ -0,0 +1,22 @@
+package com.leedahun.storecasecatalog.domain.product.dto;
+
+import jakarta.validation.constraints.Min;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+@Getter
+@Setter
+@Builder
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class StockReservationRequestDto {
+
+    @Min(value = 1, message = "차감 수량은 1개 이상이어야 합니다.")
+    private int quantity;
+
+}
@@ -2,12 +2,17 @@ package com.leedahun.storecasecatalog.domain.product.entity;
 
 import com.leedahun.storecasecatalog.common.entity.BaseTimeEntity;
 import com.leedahun.storecasecatalog.domain.category.entity.Category;
+import com.leedahun.storecasecatalog.domain.product.event.ProductChangeEntityListener;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -20,14 +25,22 @@ import lombok.ToString;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@EntityListeners(ProductChangeEntityListener.class)   // 변경 시 상품 상세 캐시 무효화
+@Table(indexes = {
+        // 카테고리별/상점별 목록의 keyset 페이지네이션(WHERE ... AND id < ? ORDER BY id DESC)용
+        @Index(name = "idx_product_category_id_id", columnList = "category_id, id"),
+        @Index(name = "idx_product_store_id_id", columnList = "store_id, id")
+})
 public class Product extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_seq_generator")
+    @SequenceGenerator(name = "product_seq_generator", sequenceName = "product_seq", allocationSize = 50)
     private Long id;
 
     private Long storeId;  // identity 서비스
 
+    @ToString.Exclude   // 지연 로딩 연관관계는 toString()에서 프록시 초기화(추가 SELECT)를 일으키지 않도록 제외
     @ManyToOne(fetch = FetchType.LAZY)
     private Category category;
 
@@ -3,12 +3,15 @@ package com.leedahun.storecasecatalog.domain.product.entity;
 import com.leedahun.storecasecatalog.common.entity.BaseTimeEntity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -24,9 +27,11 @@ import lombok.ToString;
 public class ProductImage extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_image_seq_generator")
+    @SequenceGenerator(name = "product_image_seq_generator", sequenceName = "product_image_seq", allocationSize = 50)
     private Long id;
 
+    @ToString.Exclude
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "product_id")
     private Product product;
@@ -37,8 +42,30 @@ public class ProductImage extends BaseTimeEntity {
     @Column(name = "s3_key", nullable = false, length = 500)
     private String s3Key;
 
+    @Column(name = "content_type", length = 100)
+    private String contentType;
+
+    @Column(name = "file_size")
+    private Long fileSize;
+
+    @Column(name = "upload_id", length = 1024)
+    private String uploadId;    // S3 멀티파트 업로드 ID (단일 PUT 업로드는 null)
+
+    @Builder.Default
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private ProductImageStatus status = ProductImageStatus.UPLOADED;
+
     public void setProduct(Product product) {
         this.product = product;
     }
 
+    public boolean isUploaded() {
+        return status == ProductImageStatus.UPLOADED;
+    }
+
+    public void markUploaded() {
+        this.status = ProductImageStatus.UPLOADED;
+    }
+
 }
@@ -0,0 +1,6 @@
+package com.leedahun.storecasecatalog.domain.product.entity;
+
+public enum ProductImageStatus {
+    PENDING,    // 업로드 URL만 발급된 상태 (S3에 객체가 아직 없을 수 있음)
+    UPLOADED    // S3 객체 존재가 확인된 상태
+}
@@ -0,0 +1,31 @@
+package com.leedahun.storecasecatalog.domain.product.event;
+
+import com.leedahun.storecasecatalog.domain.option.entity.Option;
+import com.leedahun.storecasecatalog.domain.product.entity.Product;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상품·옵션 엔티티가 flush될 때 ProductChangedEvent를 발행하는 JPA 엔티티 리스너입니다.
+ * 서비스 코드마다 이벤트 발행을 빠뜨리지 않도록 변경 감지(dirty checking)·persist·remove 경로를 한곳에서 처리합니다.
+ * JPQL 벌크 UPDATE/DELETE는 엔티티 콜백을 거치지 않으므로 호출하는 쪽에서 직접 이벤트를 발행해야 합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductChangeEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        // 옵션의 상품은 지연 로딩 프록시여도 ID 조회만으로는 초기화되지 않음
+        Long productId = entity instanceof Option option ? option.getProduct().getId() : ((Product) entity).getId();
+        eventPublisher.publishEvent(new ProductChangedEvent(productId));
+    }
+}
@@ -0,0 +1,9 @@
+package com.leedahun.storecasecatalog.domain.product.event;
+
+/**
+ * 상품 또는 상품에 속한 옵션이 생성/수정/삭제되었음을 알리는 이벤트입니다.
+ * 트랜잭션 커밋 이후 상품 상세 캐시에서 해당 상품을 제거하는 데 사용됩니다.
+ * @param productId 변경된 상품 ID
+ */
+public record ProductChangedEvent(Long productId) {
+}
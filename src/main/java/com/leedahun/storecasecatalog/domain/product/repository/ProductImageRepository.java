@@ -1,17 +1,48 @@
 package com.leedahun.storecasecatalog.domain.product.repository;
 
+import com.leedahun.storecasecatalog.domain.product.dto.ProductImageDetailDto;
 import com.leedahun.storecasecatalog.domain.product.entity.Product;
 import com.leedahun.storecasecatalog.domain.product.entity.ProductImage;
+import com.leedahun.storecasecatalog.domain.product.entity.ProductImageStatus;
+import java.time.LocalDateTime;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface ProductImageRepository extends JpaRepository<ProductImage, Long> {
 
-    @Modifying(clearAutomatically = true)   // 벌크 연산 후 영속성 컨텍스트 초기화
-    @Query("UPDATE ProductImage pi SET pi.product = :product WHERE pi.id IN :imageIds")
+    @Modifying(flushAutomatically = true, clearAutomatically = true)   // 벌크 연산 전 쓰기 지연 INSERT 반영, 이후 영속성 컨텍스트 초기화
+    @Query("""
+            UPDATE ProductImage pi SET pi.product = :product
+            WHERE pi.id IN :imageIds
+              AND pi.product IS NULL
+              AND pi.status = com.leedahun.storecasecatalog.domain.product.entity.ProductImageStatus.UPLOADED
+            """)   // 업로드가 확인되지 않은(PENDING) 이미지와 이미 다른 상품에 연결된 이미지는 연결하지 않음
     void updateProductIds(@Param("product") Product product, @Param("imageIds") List<Long> imageIds);
 
+    // 기준 시각 이전에 등록되어 아직 확인되지 않은 이미지 (오래된 것부터, 한 번에 100건)
+    List<ProductImage> findTop100ByStatusAndCreatedAtBeforeOrderByIdAsc(ProductImageStatus status, LocalDateTime createdAt);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            DELETE FROM ProductImage pi
+            WHERE pi.id = :id
+              AND pi.status = com.leedahun.storecasecatalog.domain.product.entity.ProductImageStatus.PENDING
+            """)   // 정리 도중 확인(UPLOADED)된 이미지는 지우지 않음
+    int deletePendingById(@Param("id") Long id);
+
+    // 상품 상세용: 업로드가 확인된 이미지의 ID, S3 Key만 프로젝션 (URL 서명은 서비스에서 일괄 처리)
+    @Query("""
+            select new com.leedahun.storecasecatalog.domain.product.dto.ProductImageDetailDto(pi.id, pi.s3Key)
+            from ProductImage pi
+            where pi.product.id = :productId
+              and pi.status = com.leedahun.storecasecatalog.domain.product.entity.ProductImageStatus.UPLOADED
+            order by pi.id
+            """)
+    List<ProductImageDetailDto> findDetailsByProductId(@Param("productId") Long productId);
+
 }
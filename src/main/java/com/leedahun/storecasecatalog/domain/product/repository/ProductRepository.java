@@ -1,7 +1,67 @@
 package com.leedahun.storecasecatalog.domain.product.repository;
 
+import com.leedahun.storecasecatalog.domain.product.dto.ProductSummaryDto;
 import com.leedahun.storecasecatalog.domain.product.entity.Product;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ProductRepository extends JpaRepository<Product, Long> {
+
+    // (category_id, id) 인덱스를 cursorId 직전부터 역방향으로 읽으므로 페이지 깊이와 무관하게 limit 행만 스캔
+    // (ORDER BY에 선두 컬럼까지 명시해야 옵티마이저가 정렬 없이 인덱스 순서를 그대로 사용)
+    @Query("""
+            select new com.leedahun.storecasecatalog.domain.product.dto.ProductSummaryDto(
+                p.id, p.storeId, p.category.id, p.name, p.price, p.stock)
+            from Product p
+            where p.category.id = :categoryId
+              and p.id < :cursorId
+              and p.isDeleted = false
+            order by p.category.id desc, p.id desc
+            """)
+    List<ProductSummaryDto> findSummariesByCategory(@Param("categoryId") Long categoryId,
+                                                    @Param("cursorId") long cursorId,
+                                                    Limit limit);
+
+    // (store_id, id) 인덱스를 같은 방식으로 사용
+    @Query("""
+            select new com.leedahun.storecasecatalog.domain.product.dto.ProductSummaryDto(
+                p.id, p.storeId, p.category.id, p.name, p.price, p.stock)
+            from Product p
+            where p.storeId = :storeId
+              and p.id < :cursorId
+              and p.isDeleted = false
+            order by p.storeId desc, p.id desc
+            """)
+    List<ProductSummaryDto> findSummariesByStore(@Param("storeId") Long storeId,
+                                                 @Param("cursorId") long cursorId,
+                                                 Limit limit);
+
+    // 상세 조회: 카테고리를 fetch join으로 함께 읽어 카테고리명 접근 시 프록시 초기화 SELECT가 없도록 함
+    @Query("""
+            select p
+            from Product p
+            join fetch p.category
+            where p.id = :productId
+              and p.isDeleted = false
+            """)
+    Optional<Product> findDetailById(@Param("productId") Long productId);
+
+    // 재고 확인과 차감을 조건부 UPDATE 한 문장으로 처리 (읽고 쓰는 사이에 다른 차감이 끼어들어 갱신이 유실되지 않음)
+    // 영향받은 행이 0이면 재고 부족이거나 없는 상품
+    @Modifying
+    @Query("""
+            update Product p set p.stock = p.stock - :quantity
+            where p.id = :productId
+              and p.isDeleted = false
+              and p.stock >= :quantity
+            """)
+    int decreaseStock(@Param("productId") Long productId, @Param("quantity") int quantity);
+
+    boolean existsByIdAndIsDeletedFalse(Long id);
+
 }
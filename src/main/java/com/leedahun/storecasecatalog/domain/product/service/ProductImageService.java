@@ -1,10 +1,20 @@
 package com.leedahun.storecasecatalog.domain.product.service;
 
+import com.leedahun.storecasecatalog.domain.product.dto.ProductImageUploadConfirmRequestDto;
 import com.leedahun.storecasecatalog.domain.product.dto.ProductImageUploadResponseDto;
+import com.leedahun.storecasecatalog.domain.product.dto.ProductImageUploadUrlRequestDto;
+import com.leedahun.storecasecatalog.domain.product.dto.ProductImageUploadUrlResponseDto;
+import java.util.concurrent.CompletableFuture;
 import org.springframework.web.multipart.MultipartFile;
 
 public interface ProductImageService {
 
-    ProductImageUploadResponseDto uploadImage(MultipartFile file);
+    CompletableFuture<ProductImageUploadResponseDto> uploadImage(MultipartFile file);
+
+    ProductImageUploadUrlResponseDto createUploadUrl(ProductImageUploadUrlRequestDto requestDto);
+
+    ProductImageUploadResponseDto confirmUpload(Long imageId, ProductImageUploadConfirmRequestDto requestDto);
+
+    int deleteAbandonedUploads();
 
 }
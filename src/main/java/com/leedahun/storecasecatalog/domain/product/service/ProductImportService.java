@@ -0,0 +1,10 @@
+package com.leedahun.storecasecatalog.domain.product.service;
+
+import com.leedahun.storecasecatalog.domain.product.dto.ProductImportResultDto;
+import java.io.InputStream;
+
+public interface ProductImportService {
+
+    ProductImportResultDto importProducts(Long sellerId, InputStream ndjson);
+
+}
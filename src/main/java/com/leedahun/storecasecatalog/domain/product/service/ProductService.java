@@ -1,11 +1,22 @@
 package com.leedahun.storecasecatalog.domain.product.service;
 
 import com.leedahun.storecasecatalog.domain.product.dto.ProductCreateRequestDto;
+import com.leedahun.storecasecatalog.domain.product.dto.ProductDetailResponseDto;
+import com.leedahun.storecasecatalog.domain.product.dto.ProductPageResponseDto;
+import java.util.concurrent.CompletableFuture;
 
 public interface ProductService {
 
     Long getStoreId(Long sellerId);
 
+    CompletableFuture<Long> getStoreIdAsync(Long sellerId);
+
     void createProduct(ProductCreateRequestDto productCreateRequestDto, Long storeId);
 
+    ProductDetailResponseDto getProduct(Long productId);
+
+    ProductPageResponseDto getProductsByCategory(Long categoryId, String cursor, int size);
+
+    ProductPageResponseDto getProductsByStore(Long storeId, String cursor, int size);
+
 }
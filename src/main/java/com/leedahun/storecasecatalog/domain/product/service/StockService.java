@@ -0,0 +1,14 @@
+package com.leedahun.storecasecatalog.domain.product.service;
+
+import com.leedahun.storecasecatalog.domain.option.dto.OptionStockReservationDto;
+import java.util.List;
+
+public interface StockService {
+
+    void reserveProductStock(Long productId, int quantity);
+
+    void reserveOptionStock(Long optionId, int quantity);
+
+    void reserveOptionStocks(List<OptionStockReservationDto> items);
+
+}
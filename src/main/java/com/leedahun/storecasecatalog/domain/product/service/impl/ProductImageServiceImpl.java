@@ -1,43 +1,255 @@
 package com.leedahun.storecasecatalog.domain.product.service.impl;
 
+import com.leedahun.storecasecatalog.common.error.exception.EntityNotFoundException;
+import com.leedahun.storecasecatalog.common.error.exception.FileSizeExceededException;
 import com.leedahun.storecasecatalog.common.error.exception.FileUploadFailedException;
+import com.leedahun.storecasecatalog.common.error.exception.UploadNotCompletedException;
+import com.leedahun.storecasecatalog.common.service.S3AsyncUploadService;
 import com.leedahun.storecasecatalog.common.service.S3UploadService;
+import com.leedahun.storecasecatalog.domain.product.dto.ProductImageCompletedPartDto;
+import com.leedahun.storecasecatalog.domain.product.dto.ProductImageUploadConfirmRequestDto;
+import com.leedahun.storecasecatalog.domain.product.dto.ProductImageUploadPartDto;
 import com.leedahun.storecasecatalog.domain.product.dto.ProductImageUploadResponseDto;
+import com.leedahun.storecasecatalog.domain.product.dto.ProductImageUploadUrlRequestDto;
+import com.leedahun.storecasecatalog.domain.product.dto.ProductImageUploadUrlResponseDto;
 import com.leedahun.storecasecatalog.domain.product.entity.ProductImage;
+import com.leedahun.storecasecatalog.domain.product.entity.ProductImageStatus;
 import com.leedahun.storecasecatalog.domain.product.repository.ProductImageRepository;
 import com.leedahun.storecasecatalog.domain.product.service.ProductImageService;
-import java.io.IOException;
-import lombok.RequiredArgsConstructor;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.IntStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.NoSuchUploadException;
 
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class ProductImageServiceImpl implements ProductImageService {
 
     private final S3UploadService s3UploadService;
+    private final S3AsyncUploadService s3AsyncUploadService;
     private final ProductImageRepository productImageRepository;
+    private final Executor productWriteExecutor;
 
+    @Value("${catalog.product.image.upload.url-expiration:15m}")
+    private Duration uploadUrlExpiration;
+
+    @Value("${catalog.product.image.upload.max-file-size:200MB}")
+    private DataSize maxFileSize;
+
+    @Value("${catalog.product.image.upload.multipart-threshold:16MB}")
+    private DataSize multipartThreshold;
+
+    @Value("${catalog.product.image.upload.part-size:8MB}")   // S3 최소 파트 크기는 5MB
+    private DataSize partSize;
+
+    @Value("${catalog.product.image.upload.abandon-grace:1h}")   // URL 만료 후 업로드 완료 통보를 기다리는 시간
+    private Duration abandonGrace;
+
+    public ProductImageServiceImpl(S3UploadService s3UploadService,
+                                   S3AsyncUploadService s3AsyncUploadService,
+                                   ProductImageRepository productImageRepository,
+                                   @Qualifier("productWriteExecutor") Executor productWriteExecutor) {
+        this.s3UploadService = s3UploadService;
+        this.s3AsyncUploadService = s3AsyncUploadService;
+        this.productImageRepository = productImageRepository;
+        this.productWriteExecutor = productWriteExecutor;
+    }
+
+    /**
+     * 파일을 S3에 비동기로 업로드한 뒤 이미지를 등록합니다.
+     * 전송 중에는 스레드를 점유하지 않고, 업로드가 끝나면 DB 저장은 S3 응답 스레드가 아닌 전용 실행기에서 수행합니다.
+     */
+    @Override
+    public CompletableFuture<ProductImageUploadResponseDto> uploadImage(MultipartFile file) {
+        String s3Key = s3UploadService.createS3Key(file.getOriginalFilename());
+
+        return s3AsyncUploadService.uploadFileAsync(s3Key, file)
+                .thenApplyAsync(uploadedKey -> {
+                    ProductImage productImage = ProductImage.builder()
+                            .product(null)
+                            .originalName(file.getOriginalFilename())
+                            .s3Key(uploadedKey)
+                            .contentType(file.getContentType())
+                            .fileSize(file.getSize())
+                            .build();
+                    productImageRepository.save(productImage);
+
+                    return ProductImageUploadResponseDto.builder()
+                            .imageId(productImage.getId())
+                            .imageUrl(s3UploadService.getPresignedUrl(uploadedKey))
+                            .build();
+                }, productWriteExecutor);
+    }
+
+    /**
+     * 클라이언트가 S3에 직접 업로드할 수 있는 URL을 발급하고, 이미지를 PENDING 상태로 미리 등록합니다.
+     * 큰 파일은 멀티파트 업로드를 시작하고 파트별 URL을 발급합니다.
+     */
     @Override
-    public ProductImageUploadResponseDto uploadImage(MultipartFile file) {
+    public ProductImageUploadUrlResponseDto createUploadUrl(ProductImageUploadUrlRequestDto requestDto) {
+        long fileSize = requestDto.getFileSize();
+        if (fileSize > maxFileSize.toBytes()) {
+            throw new FileSizeExceededException();
+        }
+
+        String s3Key = s3UploadService.createS3Key(requestDto.getOriginalName());
+        boolean multipart = fileSize > multipartThreshold.toBytes();
+
+        String uploadId = null;
+        if (multipart) {
+            try {
+                uploadId = s3UploadService.createMultipartUpload(s3Key, requestDto.getContentType());
+            } catch (SdkException e) {
+                throw new FileUploadFailedException();
+            }
+        }
+
+        ProductImage productImage = ProductImage.builder()
+                .originalName(requestDto.getOriginalName())
+                .s3Key(s3Key)
+                .contentType(requestDto.getContentType())
+                .fileSize(fileSize)
+                .uploadId(uploadId)
+                .status(ProductImageStatus.PENDING)
+                .build();
         try {
-            String s3Key = s3UploadService.uploadFile(file);
+            productImageRepository.save(productImage);
+        } catch (RuntimeException e) {
+            // 행이 없으면 확인/정리 대상에서 빠지므로, 시작한 멀티파트 업로드를 바로 중단 (미완료 파트 과금 방지)
+            if (uploadId != null) {
+                abortMultipartUpload(s3Key, uploadId, e);
+            }
+            throw e;
+        }
+
+        ProductImageUploadUrlResponseDto.ProductImageUploadUrlResponseDtoBuilder response = ProductImageUploadUrlResponseDto.builder()
+                .imageId(productImage.getId())
+                .multipart(multipart)
+                .expiresInSeconds(uploadUrlExpiration.toSeconds());
 
-            ProductImage productImage = ProductImage.builder()
-                    .product(null)
-                    .originalName(file.getOriginalFilename())
-                    .s3Key(s3Key)
+        if (!multipart) {
+            return response
+                    .uploadUrl(s3UploadService.getPresignedPutUrl(s3Key, requestDto.getContentType(), fileSize, uploadUrlExpiration))
                     .build();
+        }
+
+        String multipartUploadId = uploadId;
+        int partCount = (int) ((fileSize + partSize.toBytes() - 1) / partSize.toBytes());
+        List<ProductImageUploadPartDto> parts = IntStream.rangeClosed(1, partCount)
+                .mapToObj(partNumber -> ProductImageUploadPartDto.builder()
+                        .partNumber(partNumber)
+                        .uploadUrl(s3UploadService.getPresignedUploadPartUrl(s3Key, multipartUploadId, partNumber, uploadUrlExpiration))
+                        .build())
+                .toList();
+
+        return response
+                .partSize(partSize.toBytes())
+                .parts(parts)
+                .build();
+    }
+
+    private void abortMultipartUpload(String s3Key, String uploadId, RuntimeException cause) {
+        try {
+            s3UploadService.abortMultipartUpload(s3Key, uploadId);
+        } catch (SdkException e) {
+            cause.addSuppressed(e);
+        }
+    }
+
+    /**
+     * 클라이언트의 업로드 완료 통보를 받아 S3 HEAD로 객체 존재와 크기를 확인한 뒤 UPLOADED로 전환합니다.
+     * 이미 확인된 이미지는 다시 확인하지 않습니다.
+     * S3 호출(멀티파트 완료, HEAD) 동안 DB 커넥션을 점유하지 않도록 트랜잭션 없이 확인하고, 상태 변경만 짧은 트랜잭션으로 저장합니다.
+     */
+    @Override
+    public ProductImageUploadResponseDto confirmUpload(Long imageId, ProductImageUploadConfirmRequestDto requestDto) {
+        ProductImage productImage = productImageRepository.findById(imageId)
+                .orElseThrow(() -> new EntityNotFoundException("ProductImage", imageId));
+
+        if (!productImage.isUploaded()) {
+            if (productImage.getUploadId() != null) {
+                completeMultipartUpload(productImage, requestDto);
+            }
+
+            boolean verified = s3UploadService.headObject(productImage.getS3Key())
+                    .filter(head -> productImage.getFileSize() == null || productImage.getFileSize().equals(head.contentLength()))
+                    .isPresent();
+            if (!verified) {
+                throw new UploadNotCompletedException();
+            }
+
+            productImage.markUploaded();
             productImageRepository.save(productImage);
+        }
 
-            String preSignedUrl = s3UploadService.getPresignedUrl(s3Key);
+        return ProductImageUploadResponseDto.builder()
+                .imageId(productImage.getId())
+                .imageUrl(s3UploadService.getPresignedUrl(productImage.getS3Key()))
+                .build();
+    }
 
-            return ProductImageUploadResponseDto.builder()
-                    .imageId(productImage.getId())
-                    .imageUrl(preSignedUrl)
-                    .build();
-        } catch (IOException e) {
-            throw new FileUploadFailedException();
+    /**
+     * 업로드 URL이 만료되고 abandon-grace가 지나도록 확인되지 않은(PENDING) 이미지를 정리합니다.
+     * 멀티파트 업로드는 중단해 미완료 파트를 지우고, 단일 PUT으로 올라왔을 수 있는 객체는 삭제한 뒤 행을 지웁니다.
+     * S3 정리가 실패한 이미지는 행을 남겨 다음 정리 때 다시 시도합니다.
+     * @return 정리한 이미지 수
+     */
+    @Override
+    public int deleteAbandonedUploads() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(uploadUrlExpiration).minus(abandonGrace);
+        List<ProductImage> abandoned = productImageRepository.findTop100ByStatusAndCreatedAtBeforeOrderByIdAsc(ProductImageStatus.PENDING, cutoff);
+
+        int deleted = 0;
+        for (ProductImage productImage : abandoned) {
+            try {
+                if (productImage.getUploadId() != null) {
+                    s3UploadService.abortMultipartUpload(productImage.getS3Key(), productImage.getUploadId());
+                } else {
+                    s3UploadService.deleteObject(productImage.getS3Key());
+                }
+            } catch (NoSuchUploadException e) {
+                // 이미 중단되었거나 완료된 업로드
+            } catch (SdkException e) {
+                log.warn("[image-upload] 방치된 업로드 정리 실패 imageId={} s3Key={}", productImage.getId(), productImage.getS3Key(), e);
+                continue;
+            }
+            deleted += productImageRepository.deletePendingById(productImage.getId());
+        }
+        return deleted;
+    }
+
+    private void completeMultipartUpload(ProductImage productImage, ProductImageUploadConfirmRequestDto requestDto) {
+        if (requestDto == null || requestDto.getParts() == null || requestDto.getParts().isEmpty()) {
+            throw new UploadNotCompletedException();
+        }
+
+        List<CompletedPart> completedParts = requestDto.getParts().stream()
+                .sorted(Comparator.comparing(ProductImageCompletedPartDto::getPartNumber))
+                .map(part -> CompletedPart.builder()
+                        .partNumber(part.getPartNumber())
+                        .eTag(part.getEtag())
+                        .build())
+                .toList();
+
+        try {
+            s3UploadService.completeMultipartUpload(productImage.getS3Key(), productImage.getUploadId(), completedParts);
+        } catch (SdkException e) {
+            // 파트 누락/ETag 불일치 등 (이미 완료된 업로드의 재시도는 아래 HEAD 확인으로 판단)
+            if (s3UploadService.headObject(productImage.getS3Key()).isEmpty()) {
+                throw new UploadNotCompletedException();
+            }
         }
     }
 }
@@ -0,0 +1,308 @@
+package com.leedahun.storecasecatalog.domain.product.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.leedahun.storecasecatalog.common.error.exception.EntityNotFoundException;
+import com.leedahun.storecasecatalog.common.error.exception.ImportReadFailedException;
+import com.leedahun.storecasecatalog.common.message.ErrorMessage;
+import com.leedahun.storecasecatalog.domain.category.cache.CategoryCache;
+import com.leedahun.storecasecatalog.domain.category.repository.CategoryRepository;
+import com.leedahun.storecasecatalog.domain.option.dto.OptionCreateRequestDto;
+import com.leedahun.storecasecatalog.domain.option.entity.Option;
+import com.leedahun.storecasecatalog.domain.option.repository.OptionRepository;
+import com.leedahun.storecasecatalog.domain.product.dto.ProductCreateRequestDto;
+import com.leedahun.storecasecatalog.domain.product.dto.ProductImportErrorDto;
+import com.leedahun.storecasecatalog.domain.product.dto.ProductImportResultDto;
+import com.leedahun.storecasecatalog.domain.product.entity.Product;
+import com.leedahun.storecasecatalog.domain.product.repository.ProductImageRepository;
+import com.leedahun.storecasecatalog.domain.product.repository.ProductRepository;
+import com.leedahun.storecasecatalog.domain.product.service.ProductImportService;
+import com.leedahun.storecasecatalog.domain.product.service.ProductService;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * NDJSON(한 줄에 ProductCreateRequestDto 하나) 스트림을 한 줄씩 읽어 상품을 일괄 등록합니다.
+ * 본문 전체를 메모리에 올리지 않고, chunk 단위 트랜잭션으로 배치 INSERT 후 영속성 컨텍스트를 비웁니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductImportServiceImpl implements ProductImportService {
+
+    private static final int MAX_CAUSE_LENGTH = 200;
+
+    private final ProductService productService;
+    private final ProductRepository productRepository;
+    private final OptionRepository optionRepository;
+    private final CategoryRepository categoryRepository;
+    private final CategoryCache categoryCache;
+    private final ProductImageRepository productImageRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    @Value("${catalog.product.import.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${catalog.product.import.max-reported-errors:100}")
+    private int maxReportedErrors;
+
+    @Value("${catalog.product.import.max-line-length:65536}")   // 문자 수
+    private int maxLineLength;
+
+    @Override
+    public ProductImportResultDto importProducts(Long sellerId, InputStream ndjson) {
+        // 상점 ID는 요청당 한 번만 조회, 카테고리는 메모리 스냅샷으로 검증
+        Long storeId = productService.getStoreId(sellerId);
+
+        ObjectReader reader = objectMapper.readerFor(ProductCreateRequestDto.class);
+        ImportProgress progress = new ImportProgress(maxReportedErrors);
+        List<ImportRow> chunk = new ArrayList<>(chunkSize);
+
+        try (BoundedLineReader lines = new BoundedLineReader(
+                new BufferedReader(new InputStreamReader(ndjson, StandardCharsets.UTF_8)), maxLineLength)) {
+            String line;
+            long lineNumber = 0;
+            while ((line = lines.readLine()) != null) {
+                lineNumber++;
+                if (lines.isTruncated()) {
+                    progress.totalRows++;
+                    progress.fail(lineNumber, ErrorMessage.IMPORT_LINE_TOO_LONG.getMessage() + maxLineLength);
+                    continue;
+                }
+                if (line.isBlank()) {
+                    continue;
+                }
+                progress.totalRows++;
+
+                ImportRow row = parseRow(reader, line, lineNumber, progress);
+                if (row == null) {
+                    continue;
+                }
+
+                chunk.add(row);
+                if (chunk.size() >= chunkSize) {
+                    writeChunk(chunk, storeId, progress);
+                    chunk.clear();
+                    log.info("상품 일괄 등록 진행 중 sellerId={} rows={} succeeded={} failed={}",
+                            sellerId, progress.totalRows, progress.succeeded, progress.failed);
+                }
+            }
+        } catch (IOException e) {
+            throw new ImportReadFailedException();
+        }
+
+        if (!chunk.isEmpty()) {
+            writeChunk(chunk, storeId, progress);
+        }
+
+        log.info("상품 일괄 등록 완료 sellerId={} rows={} succeeded={} failed={}",
+                sellerId, progress.totalRows, progress.succeeded, progress.failed);
+        return progress.toDto();
+    }
+
+    private ImportRow parseRow(ObjectReader reader, String line, long lineNumber, ImportProgress progress) {
+        ProductCreateRequestDto requestDto;
+        try {
+            requestDto = reader.readValue(line);
+        } catch (JsonProcessingException e) {
+            progress.fail(lineNumber, ErrorMessage.INVALID_JSON_FORMAT.getMessage());
+            return null;
+        }
+
+        Set<ConstraintViolation<ProductCreateRequestDto>> violations = validator.validate(requestDto);
+        if (!violations.isEmpty()) {
+            String message = violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", "));
+            progress.fail(lineNumber, message);
+            return null;
+        }
+
+        if (!categoryCache.contains(requestDto.getCategoryId())) {
+            progress.fail(lineNumber, new EntityNotFoundException("Category", requestDto.getCategoryId()).getMessage());
+            return null;
+        }
+
+        return new ImportRow(lineNumber, requestDto);
+    }
+
+    // chunk 하나를 하나의 트랜잭션으로 저장 (실패 시 어느 행이 원인인지 알 수 있도록 한 행씩 다시 저장)
+    private void writeChunk(List<ImportRow> chunk, Long storeId, ImportProgress progress) {
+        try {
+            saveRows(chunk, storeId);
+            progress.succeeded += chunk.size();
+        } catch (RuntimeException e) {
+            log.warn("상품 일괄 등록 chunk 저장 실패, 행 단위로 재시도 lines={}~{} msg={}",
+                    chunk.get(0).lineNumber(), chunk.get(chunk.size() - 1).lineNumber(), e.getMessage());
+            entityManager.clear();
+            chunk.forEach(row -> writeRow(row, storeId, progress));
+        } finally {
+            // OSIV로 요청 전체에 걸쳐 유지되는 영속성 컨텍스트가 chunk마다 커지지 않도록 비움
+            entityManager.clear();
+        }
+    }
+
+    private void writeRow(ImportRow row, Long storeId, ImportProgress progress) {
+        try {
+            saveRows(List.of(row), storeId);
+            progress.succeeded++;
+        } catch (RuntimeException e) {
+            progress.fail(row.lineNumber(), ErrorMessage.IMPORT_ROW_FAILED.getMessage() + cause(e));
+        } finally {
+            entityManager.clear();
+        }
+    }
+
+    private void saveRows(List<ImportRow> rows, Long storeId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Product> products = rows.stream()
+                    .map(row -> toProduct(row, storeId))
+                    .toList();
+            productRepository.saveAll(products);
+
+            List<Option> options = new ArrayList<>();
+            for (int i = 0; i < rows.size(); i++) {
+                Product product = products.get(i);
+                List<OptionCreateRequestDto> optionRequests = rows.get(i).requestDto().getOptions();
+                if (optionRequests == null) {
+                    continue;
+                }
+                optionRequests.forEach(optionRequest -> options.add(optionRequest.toEntity(product)));
+            }
+            optionRepository.saveAll(options);
+
+            for (int i = 0; i < rows.size(); i++) {
+                List<Long> imageIds = rows.get(i).requestDto().getImageIds();
+                if (imageIds != null && !imageIds.isEmpty()) {
+                    productImageRepository.updateProductIds(products.get(i), imageIds);
+                }
+            }
+
+            entityManager.flush();
+        });
+    }
+
+    // 가장 안쪽 원인(제약 조건 위반 등)의 메시지, 응답이 커지지 않도록 잘라서 보고
+    private static String cause(RuntimeException e) {
+        String message = String.valueOf(NestedExceptionUtils.getMostSpecificCause(e).getMessage());
+        return message.length() > MAX_CAUSE_LENGTH ? message.substring(0, MAX_CAUSE_LENGTH) + "..." : message;
+    }
+
+    private Product toProduct(ImportRow row, Long storeId) {
+        ProductCreateRequestDto requestDto = row.requestDto();
+        return Product.builder()
+                .storeId(storeId)
+                .name(requestDto.getProductName())
+                .description(requestDto.getDescription())
+                .optionName(requestDto.getOptionName())
+                .price(requestDto.getPrice())
+                .stock(requestDto.getStock())
+                .category(categoryRepository.getReferenceById(requestDto.getCategoryId()))
+                .build();
+    }
+
+    private record ImportRow(long lineNumber, ProductCreateRequestDto requestDto) {
+    }
+
+    /**
+     * 한 줄을 최대 maxLength 문자까지만 담는 줄 단위 리더입니다.
+     * BufferedReader.readLine()은 줄 전체를 메모리에 올리므로, 한 줄이 아주 길면 일정한 메모리 사용을 보장할 수 없습니다.
+     * 최대 길이를 넘는 줄은 나머지를 버리면서 줄 끝까지 읽고 isTruncated()로 알립니다.
+     */
+    private static class BoundedLineReader implements AutoCloseable {
+        private final Reader reader;
+        private final int maxLength;
+        private final StringBuilder buffer = new StringBuilder();
+        private boolean truncated;
+
+        BoundedLineReader(Reader reader, int maxLength) {
+            this.reader = reader;
+            this.maxLength = maxLength;
+        }
+
+        // 줄 끝(\n, \r\n)을 제외한 내용, 스트림 끝이면 null
+        String readLine() throws IOException {
+            buffer.setLength(0);
+            truncated = false;
+
+            int c = reader.read();
+            if (c == -1) {
+                return null;
+            }
+            while (c != -1 && c != '\n') {
+                if (buffer.length() < maxLength) {
+                    buffer.append((char) c);
+                } else {
+                    truncated = true;
+                }
+                c = reader.read();
+            }
+
+            int length = buffer.length();
+            if (length > 0 && buffer.charAt(length - 1) == '\r') {
+                buffer.setLength(length - 1);
+            }
+            return buffer.toString();
+        }
+
+        boolean isTruncated() {
+            return truncated;
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+
+    private static class ImportProgress {
+        private final int maxReportedErrors;
+        private final List<ProductImportErrorDto> errors = new ArrayList<>();
+        private long totalRows;
+        private long succeeded;
+        private long failed;
+
+        ImportProgress(int maxReportedErrors) {
+            this.maxReportedErrors = maxReportedErrors;
+        }
+
+        void fail(long lineNumber, String message) {
+            failed++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new ProductImportErrorDto(lineNumber, message));
+            }
+        }
+
+        ProductImportResultDto toDto() {
+            return ProductImportResultDto.builder()
+                    .totalRows(totalRows)
+                    .succeeded(succeeded)
+                    .failed(failed)
+                    .errorsTruncated(failed > errors.size())
+                    .errors(errors)
+                    .build();
+        }
+    }
+}
@@ -1,80 +1,149 @@
 package com.leedahun.storecasecatalog.domain.product.service.impl;
 
+import com.leedahun.storecasecatalog.common.client.IdentityApiResponse;
+import com.leedahun.storecasecatalog.common.client.IdentityBatchLoader;
+import com.leedahun.storecasecatalog.common.client.IdentityClient;
 import com.leedahun.storecasecatalog.common.error.exception.EntityNotFoundException;
 import com.leedahun.storecasecatalog.common.error.exception.ExternalApiException;
-import com.leedahun.storecasecatalog.common.response.HttpResponse;
+import com.leedahun.storecasecatalog.common.pagination.KeysetCursor;
+import com.leedahun.storecasecatalog.common.service.S3UploadService;
+import com.leedahun.storecasecatalog.domain.category.cache.CategoryCache;
 import com.leedahun.storecasecatalog.domain.category.entity.Category;
 import com.leedahun.storecasecatalog.domain.category.repository.CategoryRepository;
+import com.leedahun.storecasecatalog.domain.option.dto.OptionDetailDto;
 import com.leedahun.storecasecatalog.domain.option.entity.Option;
 import com.leedahun.storecasecatalog.domain.option.repository.OptionRepository;
+import com.leedahun.storecasecatalog.domain.product.cache.ProductDetailCache;
+import com.leedahun.storecasecatalog.domain.product.cache.StoreIdCache;
 import com.leedahun.storecasecatalog.domain.product.dto.ProductCreateRequestDto;
+import com.leedahun.storecasecatalog.domain.product.dto.ProductDetailResponseDto;
+import com.leedahun.storecasecatalog.domain.product.dto.ProductImageDetailDto;
+import com.leedahun.storecasecatalog.domain.product.dto.ProductPageResponseDto;
+import com.leedahun.storecasecatalog.domain.product.dto.ProductSummaryDto;
 import com.leedahun.storecasecatalog.domain.product.entity.Product;
 import com.leedahun.storecasecatalog.domain.product.repository.ProductImageRepository;
 import com.leedahun.storecasecatalog.domain.product.repository.ProductRepository;
 import com.leedahun.storecasecatalog.domain.product.service.ProductService;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 import java.util.List;
-import org.springframework.cloud.client.loadbalancer.LoadBalanced;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.reactive.function.client.WebClientException;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
-import reactor.core.publisher.Mono;
 
 @Service
 public class ProductServiceImpl implements ProductService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final ProductRepository productRepository;
     private final OptionRepository optionRepository;
     private final CategoryRepository categoryRepository;
     private final ProductImageRepository productImageRepository;
-
-    private final WebClient webClient;
+    private final StoreIdCache storeIdCache;
+    private final CategoryCache categoryCache;
+    private final IdentityClient identityClient;
+    private final IdentityBatchLoader identityBatchLoader;
+    private final S3UploadService s3UploadService;
+    private final ProductDetailCache productDetailCache;
+    private final TransactionTemplate readOnlyTransaction;
 
     public ProductServiceImpl(ProductRepository productRepository,
                               OptionRepository optionRepository,
                               CategoryRepository categoryRepository,
                               ProductImageRepository productImageRepository,
-                              @LoadBalanced WebClient.Builder webClientBuilder) {
+                              StoreIdCache storeIdCache,
+                              CategoryCache categoryCache,
+                              IdentityClient identityClient,
+                              IdentityBatchLoader identityBatchLoader,
+                              S3UploadService s3UploadService,
+                              ProductDetailCache productDetailCache,
+                              PlatformTransactionManager transactionManager) {
         this.productRepository = productRepository;
         this.optionRepository = optionRepository;
         this.categoryRepository = categoryRepository;
         this.productImageRepository = productImageRepository;
-
-        this.webClient = webClientBuilder
-                .baseUrl("http://identity-service")
-                .build();
+        this.storeIdCache = storeIdCache;
+        this.categoryCache = categoryCache;
+        this.identityClient = identityClient;
+        this.identityBatchLoader = identityBatchLoader;
+        this.s3UploadService = s3UploadService;
+        this.productDetailCache = productDetailCache;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
     }
 
     @Override
     public Long getStoreId(Long sellerId) {
-        final String PATH = "/api/internal/identity/users/{sellerId}";
+        return storeIdCache.get(sellerId, this::fetchStoreId);
+    }
 
+    @Override
+    public CompletableFuture<Long> getStoreIdAsync(Long sellerId) {
+        return storeIdCache.getAsync(sellerId, this::fetchStoreIdAsync);
+    }
+
+    private Long fetchStoreId(Long sellerId) {
         try {
-            Mono<HttpResponse> responseMono = webClient.get()
-                    .uri(PATH, sellerId)
-                    .retrieve()
-                    .bodyToMono(HttpResponse.class);
-
-            HttpResponse response = responseMono.block();
-            if (response == null || response.getData() == null) {
-                throw new EntityNotFoundException("Seller's StoreId", sellerId);
-            }
-
-            return (Long) response.getData();
-        } catch (WebClientResponseException e) {
+            IdentityApiResponse<Long> response = identityClient.getUser(sellerId).block();
+            return extractStoreId(response, sellerId);
+        } catch (WebClientException | CallNotPermittedException | BulkheadFullException e) {
+            throw translateException(e, sellerId);
+        }
+    }
+
+    // 응답을 기다리는 동안 호출 스레드를 점유하지 않고, 동시에 들어온 조회는 배치 로더가 모아서 한 번에 요청
+    private CompletableFuture<Long> fetchStoreIdAsync(Long sellerId) {
+        return identityBatchLoader.load(sellerId)
+                .exceptionally(ex -> {
+                    Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+                    if (isIdentityFailure(cause)) {
+                        throw translateException((RuntimeException) cause, sellerId);
+                    }
+                    throw ex instanceof CompletionException completionException
+                            ? completionException
+                            : new CompletionException(cause);
+                })
+                .thenApply(storeId -> storeId.orElseThrow(() -> new EntityNotFoundException("Seller's StoreId", sellerId)));
+    }
+
+    private Long extractStoreId(IdentityApiResponse<Long> response, Long sellerId) {
+        if (response == null || response.getData() == null) {
             throw new EntityNotFoundException("Seller's StoreId", sellerId);
-        } catch (WebClientException e) {
-            throw new ExternalApiException();
         }
+
+        return response.getData();
+    }
+
+    private boolean isIdentityFailure(Throwable e) {
+        return e instanceof WebClientException
+                || e instanceof CallNotPermittedException
+                || e instanceof BulkheadFullException;
+    }
+
+    // 4xx만 "존재하지 않음"으로 보고 부정 캐시, 5xx·서킷 OPEN·벌크헤드 초과는 ExternalApiException으로 변환해
+    // StoreIdCache가 마지막으로 알려진 값으로 대체하도록 함
+    private RuntimeException translateException(RuntimeException e, Long sellerId) {
+        if (e instanceof WebClientResponseException responseException && responseException.getStatusCode().is4xxClientError()) {
+            return new EntityNotFoundException("Seller's StoreId", sellerId);
+        }
+        return new ExternalApiException();
     }
 
     @Override
     @Transactional
     public void createProduct(ProductCreateRequestDto productCreateRequestDto, Long storeId) {
-        // 카테고리 조회
-        Category category = categoryRepository.findById(productCreateRequestDto.getCategoryId())
-                .orElseThrow(() -> new EntityNotFoundException("Category", productCreateRequestDto.getCategoryId()));
+        // 카테고리 검증은 스냅샷으로 처리하고, 연관관계에는 SELECT 없이 프록시만 연결
+        Long categoryId = categoryCache.getById(productCreateRequestDto.getCategoryId()).getId();
+        Category category = categoryRepository.getReferenceById(categoryId);
 
         // 상품 등록
         Product product = Product.builder()
@@ -90,16 +159,70 @@ public class ProductServiceImpl implements ProductService {
 
         // 옵션 생성
         List<Option> options = productCreateRequestDto.getOptions().stream()
-                .map(optionRequest -> Option.builder()
-                        .product(product)
-                        .price(optionRequest.getPrice())
-                        .stock(optionRequest.getStock())
-                        .name(optionRequest.getOptionDetail())
-                        .build())
+                .map(optionRequest -> optionRequest.toEntity(product))
                 .toList();
         optionRepository.saveAll(options);
 
         // 이미지 연결
         productImageRepository.updateProductIds(product, productCreateRequestDto.getImageIds());
     }
+
+    @Override
+    public ProductDetailResponseDto getProduct(Long productId) {
+        // 캐시 적중 시에는 트랜잭션(커넥션)을 열지 않고, 미스·조기 갱신일 때만 DB 조회
+        ProductDetailResponseDto detail = productDetailCache.get(productId, this::loadProduct);
+
+        // Presigned URL은 만료되므로 상세 캐시에 넣지 않고 요청마다 한 번에 서명 (서명 결과는 유효기간 동안 S3UploadService가 캐시)
+        List<ProductImageDetailDto> images = detail.getImages();
+        Map<String, String> imageUrls = s3UploadService.getPresignedUrls(images.stream().map(ProductImageDetailDto::getS3Key).toList());
+
+        // 캐시된 객체는 요청 간에 공유되므로 복사본에 URL을 채움
+        return detail.toBuilder()
+                .images(images.stream()
+                        .map(image -> new ProductImageDetailDto(image.getImageId(), image.getS3Key(), imageUrls.get(image.getS3Key())))
+                        .toList())
+                .build();
+    }
+
+    // 상품+카테고리(fetch join), 옵션, 이미지를 한 읽기 전용 트랜잭션에서 각각 한 번씩 조회 (옵션·이미지 수와 관계없이 SELECT 3회)
+    private ProductDetailResponseDto loadProduct(Long productId) {
+        return readOnlyTransaction.execute(status -> {
+            Product product = productRepository.findDetailById(productId)
+                    .orElseThrow(() -> new EntityNotFoundException("Product", productId));
+            List<OptionDetailDto> options = List.copyOf(optionRepository.findDetailsByProductId(productId));
+            List<ProductImageDetailDto> images = List.copyOf(productImageRepository.findDetailsByProductId(productId));
+            return new ProductDetailResponseDto(product, options, images);
+        });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ProductPageResponseDto getProductsByCategory(Long categoryId, String cursor, int size) {
+        categoryCache.getById(categoryId);   // 존재하지 않는 카테고리는 404
+        long cursorId = KeysetCursor.decode(cursor);
+        return readPage(size, limit -> productRepository.findSummariesByCategory(categoryId, cursorId, limit));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ProductPageResponseDto getProductsByStore(Long storeId, String cursor, int size) {
+        long cursorId = KeysetCursor.decode(cursor);
+        return readPage(size, limit -> productRepository.findSummariesByStore(storeId, cursorId, limit));
+    }
+
+    // size + 1건을 읽어 다음 페이지 존재 여부를 판단 (COUNT 쿼리 없음)
+    private ProductPageResponseDto readPage(int size, Function<Limit, List<ProductSummaryDto>> query) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        List<ProductSummaryDto> rows = query.apply(Limit.of(pageSize + 1));
+
+        boolean hasNext = rows.size() > pageSize;
+        List<ProductSummaryDto> products = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasNext ? KeysetCursor.encode(products.get(products.size() - 1).getProductId()) : null;
+
+        return ProductPageResponseDto.builder()
+                .products(products)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
 }
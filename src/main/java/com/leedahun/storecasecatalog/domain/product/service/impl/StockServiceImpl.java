@@ -0,0 +1,133 @@
+package com.leedahun.storecasecatalog.domain.product.service.impl;
+
+import com.leedahun.storecasecatalog.common.error.exception.EntityNotFoundException;
+import com.leedahun.storecasecatalog.common.error.exception.InvalidStockQuantityException;
+import com.leedahun.storecasecatalog.common.error.exception.OutOfStockException;
+import com.leedahun.storecasecatalog.domain.option.dto.OptionStockReservationDto;
+import com.leedahun.storecasecatalog.domain.option.repository.OptionRepository;
+import com.leedahun.storecasecatalog.domain.option.stock.HotStockRegistry;
+import com.leedahun.storecasecatalog.domain.product.repository.ProductRepository;
+import com.leedahun.storecasecatalog.domain.product.service.StockService;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 재고 차감(예약) 서비스입니다.
+ * 엔티티를 읽어 수정하지 않고 "stock >= 수량"을 조건으로 건 UPDATE 한 문장으로 차감하므로,
+ * 동시 요청 사이에 갱신이 유실되지 않고 행 잠금도 문장 실행 동안만 잡힙니다.
+ * 핫 SKU로 지정된 옵션은 {@link HotStockRegistry}에서 DB 없이 차감합니다.
+ * 차감은 상품 상세 캐시를 무효화하지 않습니다. 주문마다 캐시를 비우고 다른 인스턴스에 전파하면 인기 상품일수록 캐시가 무력해지므로,
+ * 상세에 표시되는 재고는 캐시 TTL(조기 갱신 포함)만큼 늦게 반영되고 판매 가능 여부는 차감 시점의 조건부 UPDATE로만 판단합니다.
+ */
+@Service
+public class StockServiceImpl implements StockService {
+
+    private final ProductRepository productRepository;
+    private final OptionRepository optionRepository;
+    private final HotStockRegistry hotStockRegistry;
+    private final TransactionTemplate transactionTemplate;
+
+    public StockServiceImpl(ProductRepository productRepository,
+                            OptionRepository optionRepository,
+                            HotStockRegistry hotStockRegistry,
+                            PlatformTransactionManager transactionManager) {
+        this.productRepository = productRepository;
+        this.optionRepository = optionRepository;
+        this.hotStockRegistry = hotStockRegistry;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    @Transactional
+    public void reserveProductStock(Long productId, int quantity) {
+        requirePositive("Product", productId, quantity);
+        if (productRepository.decreaseStock(productId, quantity) == 0) {
+            // 실패한 경우에만 원인을 구분하기 위해 한 번 더 조회
+            if (!productRepository.existsByIdAndIsDeletedFalse(productId)) {
+                throw new EntityNotFoundException("Product", productId);
+            }
+            throw new OutOfStockException("Product", productId);
+        }
+    }
+
+    // 핫 SKU는 트랜잭션(커넥션)을 열지 않도록 트랜잭션은 DB로 차감할 때만 시작
+    @Override
+    public void reserveOptionStock(Long optionId, int quantity) {
+        requirePositive("Option", optionId, quantity);
+        if (hotStockRegistry.isActive(optionId)) {
+            if (!hotStockRegistry.tryReserve(optionId, quantity)) {
+                throw new OutOfStockException("Option", optionId);
+            }
+            return;
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (optionRepository.decreaseStock(optionId, quantity) == 0) {
+                if (!optionRepository.existsByIdAndIsDeletedFalse(optionId)) {
+                    throw new EntityNotFoundException("Option", optionId);
+                }
+                throw new OutOfStockException("Option", optionId);
+            }
+        });
+    }
+
+    /**
+     * 장바구니의 옵션 재고를 함께 차감합니다.
+     * 핫 SKU는 메모리에서 먼저 차감하고, 나머지는 한 문장으로 차감합니다.
+     * 한 옵션이라도 재고가 부족하면 트랜잭션을 롤백하고 메모리에서 차감한 수량도 되돌립니다.
+     */
+    @Override
+    public void reserveOptionStocks(List<OptionStockReservationDto> items) {
+        // 같은 옵션이 여러 줄로 담긴 경우 수량을 합쳐 한 번에 검사 (합계가 int 범위를 넘으면 음수로 바뀌어 재고가 늘어나므로 거절)
+        SortedMap<Long, Integer> quantities = new TreeMap<>();
+        for (OptionStockReservationDto item : items) {
+            requirePositive("Option", item.getOptionId(), item.getQuantity());
+            long total = (long) quantities.getOrDefault(item.getOptionId(), 0) + item.getQuantity();
+            if (total > Integer.MAX_VALUE) {
+                throw new InvalidStockQuantityException("Option", item.getOptionId());
+            }
+            quantities.put(item.getOptionId(), (int) total);
+        }
+
+        SortedMap<Long, Integer> reservedInMemory = new TreeMap<>();
+        try {
+            Iterator<Map.Entry<Long, Integer>> iterator = quantities.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<Long, Integer> entry = iterator.next();
+                if (!hotStockRegistry.isActive(entry.getKey())) {
+                    continue;
+                }
+                if (!hotStockRegistry.tryReserve(entry.getKey(), entry.getValue())) {
+                    throw new OutOfStockException("Option", entry.getKey());
+                }
+                reservedInMemory.put(entry.getKey(), entry.getValue());
+                iterator.remove();
+            }
+
+            if (!quantities.isEmpty()) {
+                transactionTemplate.executeWithoutResult(status -> {
+                    if (optionRepository.decreaseStocks(quantities) != quantities.size()) {
+                        throw new OutOfStockException("Option", quantities.keySet());
+                    }
+                });
+            }
+        } catch (RuntimeException e) {
+            reservedInMemory.forEach(hotStockRegistry::release);
+            throw e;
+        }
+    }
+
+    // 0 이하 수량은 조건부 UPDATE(stock - :quantity)에서 재고를 늘리므로 검증을 거치지 않은 호출도 막음
+    private static void requirePositive(String entity, Long id, int quantity) {
+        if (quantity <= 0) {
+            throw new InvalidStockQuantityException(entity, id);
+        }
+    }
+}
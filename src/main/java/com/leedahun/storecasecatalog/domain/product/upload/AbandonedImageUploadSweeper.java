@@ -0,0 +1,80 @@
+package com.leedahun.storecasecatalog.domain.product.upload;
+
+import com.leedahun.storecasecatalog.domain.product.service.ProductImageService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 업로드 URL을 발급받고 완료 통보 없이 방치된 이미지(PENDING)를 sweep-interval마다 정리합니다.
+ * 정리하지 않으면 PENDING 행이 쌓이고, 중단되지 않은 멀티파트 업로드의 파트는 계속 과금됩니다.
+ * 여러 인스턴스가 동시에 정리해도 S3 중단/삭제와 PENDING 조건 삭제가 멱등이므로 결과는 같습니다.
+ */
+@Slf4j
+@Component
+public class AbandonedImageUploadSweeper implements SmartLifecycle {
+
+    private final ProductImageService productImageService;
+    private final Duration sweepInterval;
+    private final Counter swept;
+    private final Counter sweepFailures;
+
+    private volatile boolean running;
+    private Disposable sweepTask;
+
+    public AbandonedImageUploadSweeper(ProductImageService productImageService,
+                                       MeterRegistry meterRegistry,
+                                       @Value("${catalog.product.image.upload.sweep-interval:10m}") Duration sweepInterval) {
+        this.productImageService = productImageService;
+        this.sweepInterval = sweepInterval;
+        this.swept = Counter.builder("product.image.upload.abandoned")
+                .description("정리한 방치 업로드 수")
+                .register(meterRegistry);
+        this.sweepFailures = Counter.builder("product.image.upload.sweep.failures")
+                .description("방치 업로드 정리 실패 횟수")
+                .register(meterRegistry);
+    }
+
+    void sweep() {
+        try {
+            int deleted = productImageService.deleteAbandonedUploads();
+            if (deleted > 0) {
+                swept.increment(deleted);
+                log.info("[image-upload] 방치된 업로드 {}건 정리", deleted);
+            }
+        } catch (RuntimeException e) {
+            // 남은 이미지는 다음 주기에 다시 정리
+            sweepFailures.increment();
+            log.warn("[image-upload] 방치된 업로드 정리 실패", e);
+        }
+    }
+
+    @Override
+    public void start() {
+        long intervalMillis = sweepInterval.toMillis();
+        sweepTask = Schedulers.boundedElastic()
+                .schedulePeriodically(this::sweep, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (sweepTask != null) {
+            sweepTask.dispose();
+            sweepTask = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
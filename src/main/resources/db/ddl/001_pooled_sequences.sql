@@ -0,0 +1,20 @@
+-- product / option / product_image의 ID 생성을 IDENTITY에서 pooled 시퀀스(allocationSize 50)로 전환
+-- MySQL에는 시퀀스가 없어 Hibernate가 next_val 컬럼 하나짜리 테이블로 대신함
+-- 운영은 ddl-auto=validate이므로 배포 전에 실행해야 함
+-- next_val은 기존 최대 ID보다 한 할당 구간(50) 이상 크게 시작해 기존 행과 충돌하지 않도록 함
+
+CREATE TABLE product_seq (
+    next_val BIGINT
+) ENGINE = InnoDB;
+INSERT INTO product_seq (next_val) SELECT COALESCE(MAX(id), 0) + 51 FROM product;
+
+CREATE TABLE option_seq (
+    next_val BIGINT
+) ENGINE = InnoDB;
+INSERT INTO option_seq (next_val) SELECT COALESCE(MAX(id), 0) + 51 FROM `option`;
+
+CREATE TABLE product_image_seq (
+    next_val BIGINT
+) ENGINE = InnoDB;
+INSERT INTO product_image_seq (next_val) SELECT COALESCE(MAX(id), 0) + 51 FROM product_image;
+
@@ -0,0 +1,6 @@
+-- 카테고리별/상점별 상품 목록의 keyset 페이지네이션(WHERE ... AND id < ? ORDER BY id DESC)용 인덱스
+-- ddl-auto=validate는 인덱스를 검사하지 않으므로 누락돼도 기동은 되지만 목록 조회가 filesort로 바뀜
+-- Product의 @Table(indexes)와 이름/컬럼을 맞춤
+
+CREATE INDEX idx_product_category_id_id ON product (category_id, id);
+CREATE INDEX idx_product_store_id_id ON product (store_id, id);
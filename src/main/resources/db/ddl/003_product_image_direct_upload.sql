@@ -0,0 +1,8 @@
+-- S3 직접 업로드(presigned URL) 흐름에서 product_image에 추가된 컬럼
+-- 기존 행은 모두 서버를 거쳐 업로드가 끝난 이미지이므로 status는 UPLOADED로 채움
+
+ALTER TABLE product_image
+    ADD COLUMN content_type VARCHAR(100),
+    ADD COLUMN file_size BIGINT,
+    ADD COLUMN upload_id VARCHAR(1024),
+    ADD COLUMN status VARCHAR(20) NOT NULL DEFAULT 'UPLOADED';
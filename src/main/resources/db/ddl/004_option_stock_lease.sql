@@ -0,0 +1,14 @@
+-- 핫 SKU 모드에서 인스턴스별 옵션 재고 임대 기록
+-- (option_id, instance_id)당 한 행만 존재해야 재기동 시 미판매 수량을 정확히 한 번 되돌림
+
+CREATE TABLE option_stock_lease (
+    id          BIGINT       NOT NULL AUTO_INCREMENT,
+    created_at  DATETIME(6),
+    updated_at  DATETIME(6),
+    option_id   BIGINT       NOT NULL,
+    instance_id VARCHAR(100) NOT NULL,
+    granted     BIGINT       NOT NULL,
+    consumed    BIGINT       NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_option_stock_lease_option_id_instance_id UNIQUE (option_id, instance_id)
+) ENGINE = InnoDB;
@@ -0,0 +1,163 @@
+package com.leedahun.storecasecatalog.common.client;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class IdentityBatchLoaderTest {
+
+    @Mock
+    private IdentityClient identityClient;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("window 안에 들어온 조회를 배치 API 한 번으로 처리하고 결과를 각 호출자에게 나눠 준다")
+    void load_BatchesLookupsWithinWindow() throws Exception {
+        // Given
+        IdentityBatchLoader batchLoader = new IdentityBatchLoader(identityClient, meterRegistry, Duration.ofMillis(50), 100);
+        when(identityClient.getStoreIds(anyCollection()))
+                .thenReturn(Mono.just(new IdentityApiResponse<>(200, "ok", Map.of(1L, 100L, 2L, 200L))));
+
+        // When
+        CompletableFuture<Optional<Long>> first = batchLoader.load(1L);
+        CompletableFuture<Optional<Long>> second = batchLoader.load(2L);
+        CompletableFuture<Optional<Long>> unknown = batchLoader.load(3L);
+
+        // Then
+        assertThat(first.get(5, TimeUnit.SECONDS)).contains(100L);
+        assertThat(second.get(5, TimeUnit.SECONDS)).contains(200L);
+        assertThat(unknown.get(5, TimeUnit.SECONDS)).isEmpty();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<Long>> sellerIds = ArgumentCaptor.forClass(Collection.class);
+        verify(identityClient, times(1)).getStoreIds(sellerIds.capture());
+        assertThat(sellerIds.getValue()).containsExactlyInAnyOrder(1L, 2L, 3L);
+        verify(identityClient, never()).getUser(anyLong());
+        assertThat(meterRegistry.get("identity.batch.size").summary().max()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("같은 window 안의 중복 sellerId는 하나의 조회로 합쳐진다")
+    void load_CoalescesDuplicateSellerIds() throws Exception {
+        // Given
+        IdentityBatchLoader batchLoader = new IdentityBatchLoader(identityClient, meterRegistry, Duration.ofMillis(50), 100);
+        when(identityClient.getUser(1L)).thenReturn(Mono.just(new IdentityApiResponse<>(200, "ok", 100L)));
+
+        // When
+        CompletableFuture<Optional<Long>> first = batchLoader.load(1L);
+        CompletableFuture<Optional<Long>> duplicate = batchLoader.load(1L);
+
+        // Then
+        assertThat(duplicate).isSameAs(first);
+        assertThat(first.get(5, TimeUnit.SECONDS)).contains(100L);
+        verify(identityClient, times(1)).getUser(1L);
+        verify(identityClient, never()).getStoreIds(anyCollection());
+        assertThat(meterRegistry.get("identity.batch.coalesced").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("max-size개가 모이면 window를 기다리지 않고 바로 요청한다")
+    void load_DispatchesImmediatelyWhenBatchIsFull() throws Exception {
+        // Given
+        IdentityBatchLoader batchLoader = new IdentityBatchLoader(identityClient, meterRegistry, Duration.ofMinutes(1), 2);
+        when(identityClient.getStoreIds(anyCollection()))
+                .thenReturn(Mono.just(new IdentityApiResponse<>(200, "ok", Map.of(1L, 100L, 2L, 200L))));
+
+        // When
+        CompletableFuture<Optional<Long>> first = batchLoader.load(1L);
+        CompletableFuture<Optional<Long>> second = batchLoader.load(2L);
+
+        // Then
+        assertThat(first.get(1, TimeUnit.SECONDS)).contains(100L);
+        assertThat(second.get(1, TimeUnit.SECONDS)).contains(200L);
+    }
+
+    @Test
+    @DisplayName("배치 요청이 실패하면 배치에 담긴 모든 조회가 같은 예외로 완료된다")
+    void load_FailsAllCallersWhenBatchFails() {
+        // Given
+        IdentityBatchLoader batchLoader = new IdentityBatchLoader(identityClient, meterRegistry, Duration.ofMillis(20), 100);
+        WebClientException failure = new WebClientException("Connection refused") {};
+        when(identityClient.getStoreIds(anyCollection())).thenReturn(Mono.error(failure));
+
+        // When
+        CompletableFuture<Optional<Long>> first = batchLoader.load(1L);
+        CompletableFuture<Optional<Long>> second = batchLoader.load(2L);
+
+        // Then
+        assertThatThrownBy(first::join).isInstanceOf(CompletionException.class).hasCause(failure);
+        assertThatThrownBy(second::join).isInstanceOf(CompletionException.class).hasCause(failure);
+    }
+
+    @Test
+    @DisplayName("배치 요청이 4xx로 거절되면 판매자별 단건 조회로 나눠 다시 요청한다")
+    void load_FallsBackToSingleLookupsWhenBatchIsRejected() throws Exception {
+        // Given
+        IdentityBatchLoader batchLoader = new IdentityBatchLoader(identityClient, meterRegistry, Duration.ofMillis(20), 100);
+        when(identityClient.getStoreIds(anyCollection())).thenReturn(Mono.error(new WebClientResponseException(
+                HttpStatus.BAD_REQUEST.value(), "Bad Request", null, null, null)));
+        when(identityClient.getUser(1L)).thenReturn(Mono.just(new IdentityApiResponse<>(200, "ok", 100L)));
+        when(identityClient.getUser(2L)).thenReturn(Mono.empty());
+
+        // When
+        CompletableFuture<Optional<Long>> first = batchLoader.load(1L);
+        CompletableFuture<Optional<Long>> unknown = batchLoader.load(2L);
+
+        // Then
+        assertThat(first.get(5, TimeUnit.SECONDS)).contains(100L);
+        assertThat(unknown.get(5, TimeUnit.SECONDS)).isEmpty();
+        assertThat(meterRegistry.get("identity.batch.fallbacks").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("배치 요청이 5xx로 실패하면 단건 조회로 나누지 않고 모든 조회를 같은 예외로 완료한다")
+    void load_FailsAllCallersWhenBatchReturnsServerError() {
+        // Given
+        IdentityBatchLoader batchLoader = new IdentityBatchLoader(identityClient, meterRegistry, Duration.ofMillis(20), 100);
+        WebClientResponseException failure = new WebClientResponseException(
+                HttpStatus.SERVICE_UNAVAILABLE.value(), "Service Unavailable", null, null, null);
+        when(identityClient.getStoreIds(anyCollection())).thenReturn(Mono.error(failure));
+
+        // When
+        CompletableFuture<Optional<Long>> first = batchLoader.load(1L);
+        CompletableFuture<Optional<Long>> second = batchLoader.load(2L);
+
+        // Then
+        assertThatThrownBy(first::join).isInstanceOf(CompletionException.class).hasCause(failure);
+        assertThatThrownBy(second::join).isInstanceOf(CompletionException.class).hasCause(failure);
+        verify(identityClient, never()).getUser(anyLong());
+    }
+}
@@ -0,0 +1,240 @@
+package com.leedahun.storecasecatalog.common.client;
+
+import com.leedahun.storecasecatalog.config.IdentityClientConfig;
+import com.sun.net.httpserver.HttpServer;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.netty.handler.timeout.ReadTimeoutException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IdentityClientTest {
+
+    private HttpServer identityStub;
+    private ExecutorService identityStubExecutor;
+    private ConnectionProvider connectionProvider;
+    private SimpleMeterRegistry meterRegistry;
+    private CircuitBreaker circuitBreaker;
+    private Bulkhead bulkhead;
+    private final AtomicInteger requestCount = new AtomicInteger();
+    // 첫 요청만 지연시켜 "느린 인스턴스"를 흉내냄
+    private volatile long firstRequestDelayMillis;
+    private volatile String lastBatchRequestBody;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        identityStubExecutor = Executors.newCachedThreadPool();
+        identityStub = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        identityStub.setExecutor(identityStubExecutor);
+        identityStub.createContext("/api/internal/identity/users/", exchange -> {
+            if (requestCount.incrementAndGet() == 1) {
+                sleep(firstRequestDelayMillis);
+            }
+            byte[] body = "{\"status\":200,\"message\":\"ok\",\"data\":10000000000}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        identityStub.createContext("/api/internal/identity/users/store-ids", exchange -> {
+            lastBatchRequestBody = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            byte[] body = "{\"status\":200,\"message\":\"ok\",\"data\":{\"1\":100,\"2\":200}}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        identityStub.start();
+
+        meterRegistry = new SimpleMeterRegistry();
+        circuitBreaker = CircuitBreaker.ofDefaults("identity-service");
+        bulkhead = Bulkhead.ofDefaults("identity-service");
+    }
+
+    @AfterEach
+    void tearDown() {
+        identityStub.stop(0);
+        identityStubExecutor.shutdownNow();
+        if (connectionProvider != null) {
+            connectionProvider.dispose();
+        }
+    }
+
+    @Test
+    @DisplayName("identity-service 응답을 그대로 반환한다")
+    void getUser_Success() {
+        // Given
+        IdentityClient identityClient = identityClient(false, Duration.ofMillis(200));
+
+        // When
+        IdentityApiResponse<Long> response = identityClient.getUser(1L).block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(response.getData()).isEqualTo(10000000000L);
+        assertThat(requestCount.get()).isEqualTo(1);
+        assertThat(meterRegistry.get("identity.client.requests").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("배치 API는 판매자 ID 목록을 보내고 작은 숫자도 Long 타입 상점 ID로 역직렬화한다")
+    void getStoreIds_DecodesTypedStoreIds() {
+        // Given
+        IdentityClient identityClient = identityClient(false, Duration.ofMillis(200));
+
+        // When
+        IdentityApiResponse<Map<Long, Long>> response = identityClient.getStoreIds(List.of(1L, 2L, 3L)).block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(lastBatchRequestBody).isEqualTo("{\"sellerIds\":[1,2,3]}");
+        assertThat(response.getData()).containsExactlyInAnyOrderEntriesOf(Map.of(1L, 100L, 2L, 200L));
+        assertThat(response.getData().get(1L)).isInstanceOf(Long.class);
+    }
+
+    @Test
+    @DisplayName("응답 타임아웃을 넘기면 응답을 기다리지 않고 WebClientRequestException으로 종료된다")
+    void getUser_FailsOnResponseTimeout() {
+        // Given
+        firstRequestDelayMillis = 3000;
+        IdentityClient identityClient = identityClient(false, Duration.ofMillis(200));
+
+        // When & Then
+        assertThatThrownBy(() -> identityClient.getUser(1L).block(Duration.ofSeconds(5)))
+                .isInstanceOf(WebClientRequestException.class)
+                .hasRootCauseInstanceOf(ReadTimeoutException.class);
+    }
+
+    @Test
+    @DisplayName("헤지 지연 시간 안에 응답이 없으면 한 번 더 요청하고 먼저 온 응답을 사용한다")
+    void getUser_HedgesSlowRequest() {
+        // Given
+        firstRequestDelayMillis = 800;
+        IdentityClient identityClient = identityClient(true, Duration.ofMillis(50));
+
+        // When
+        IdentityApiResponse<Long> response = identityClient.getUser(1L).block(Duration.ofSeconds(5));
+
+        // Then
+        assertThat(response.getData()).isEqualTo(10000000000L);
+        assertThat(requestCount.get()).isEqualTo(2);
+        assertThat(meterRegistry.get("identity.client.hedges").tag("result", "fired").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("identity.client.hedges").tag("result", "won").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("헤지 지연 시간 안에 응답하면 추가 요청을 보내지 않는다")
+    void getUser_DoesNotHedgeFastRequest() throws InterruptedException {
+        // Given
+        IdentityClient identityClient = identityClient(true, Duration.ofMillis(300));
+
+        // When
+        identityClient.getUser(1L).block(Duration.ofSeconds(5));
+        Thread.sleep(500);
+
+        // Then
+        assertThat(requestCount.get()).isEqualTo(1);
+        assertThat(meterRegistry.get("identity.client.hedges").tag("result", "fired").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("서킷 브레이커가 열려 있으면 요청을 보내지 않고 즉시 CallNotPermittedException으로 종료된다")
+    void getUser_FailsFastWhenCircuitOpen() {
+        // Given
+        IdentityClient identityClient = identityClient(false, Duration.ofMillis(200));
+        circuitBreaker.transitionToOpenState();
+
+        // When & Then
+        assertThatThrownBy(() -> identityClient.getUser(1L).block(Duration.ofSeconds(5)))
+                .isInstanceOf(CallNotPermittedException.class);
+        assertThat(requestCount.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("동시 호출 한도를 넘으면 대기하지 않고 BulkheadFullException으로 거절된다")
+    void getUser_RejectsWhenBulkheadFull() {
+        // Given
+        firstRequestDelayMillis = 500;
+        bulkhead = Bulkhead.of("identity-service", BulkheadConfig.custom()
+                .maxConcurrentCalls(1)
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+        IdentityClient identityClient = identityClient(false, Duration.ofMillis(200));
+        var inFlight = identityClient.getUser(1L).toFuture();
+
+        // When & Then
+        assertThatThrownBy(() -> identityClient.getUser(2L).block(Duration.ofSeconds(5)))
+                .isInstanceOf(BulkheadFullException.class);
+        assertThat(inFlight.join().getData()).isEqualTo(10000000000L);
+        assertThat(requestCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("표본이 충분히 쌓이면 헤지 지연 시간은 최근 p95 응답 시간을 따른다")
+    void hedgeDelay_FollowsRecentP95() throws InterruptedException {
+        // Given
+        IdentityClient identityClient = identityClient(true, Duration.ofMillis(200));
+        for (int i = 1; i <= 100; i++) {
+            meterRegistry.get("identity.client.requests").timer().record(Duration.ofMillis(i));
+        }
+
+        // When: 갱신 주기(1초)가 지난 뒤 조회
+        Thread.sleep(1100);
+        Duration hedgeDelay = identityClient.hedgeDelay();
+
+        // Then
+        assertThat(hedgeDelay).isBetween(Duration.ofMillis(90), Duration.ofMillis(100));
+    }
+
+    private IdentityClient identityClient(boolean hedgeEnabled, Duration initialHedgeDelay) {
+        return new IdentityClient(identityWebClientBuilder(), circuitBreaker, bulkhead, meterRegistry,
+                "http://127.0.0.1:" + identityStub.getAddress().getPort(),
+                hedgeEnabled, initialHedgeDelay, Duration.ofMillis(20), 100);
+    }
+
+    // 운영 설정(IdentityClientConfig)으로 만든 빌더에 응답 타임아웃만 짧게 지정
+    private WebClient.Builder identityWebClientBuilder() {
+        IdentityClientConfig config = new IdentityClientConfig();
+        ReflectionTestUtils.setField(config, "maxConnections", 10);
+        ReflectionTestUtils.setField(config, "pendingAcquireTimeout", Duration.ofSeconds(1));
+        ReflectionTestUtils.setField(config, "maxIdleTime", Duration.ofSeconds(30));
+        ReflectionTestUtils.setField(config, "maxLifeTime", Duration.ofMinutes(5));
+        ReflectionTestUtils.setField(config, "evictInBackground", Duration.ofSeconds(30));
+        ReflectionTestUtils.setField(config, "connectTimeout", Duration.ofSeconds(1));
+        ReflectionTestUtils.setField(config, "responseTimeout", Duration.ofMillis(1000));
+
+        connectionProvider = config.identityConnectionProvider();
+        return config.identityWebClientBuilder(connectionProvider);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
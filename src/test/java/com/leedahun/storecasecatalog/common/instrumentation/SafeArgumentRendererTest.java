@@ -0,0 +1,72 @@
+package com.leedahun.storecasecatalog.common.instrumentation;
+
+import com.leedahun.storecasecatalog.domain.category.dto.CategoryResponseDto;
+import com.leedahun.storecasecatalog.domain.category.entity.Category;
+import com.leedahun.storecasecatalog.domain.product.entity.Product;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+class SafeArgumentRendererTest {
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private SafeArgumentRenderer renderer;
+
+    @BeforeEach
+    void setUp() {
+        renderer = new SafeArgumentRenderer(entityManagerFactory, 20);
+    }
+
+    @Test
+    @DisplayName("지연 로딩 프록시는 초기화하지 않고 타입#ID로 렌더링한다")
+    void render_DoesNotInitializeLazyProxy() {
+        // Given
+        Category category = testEntityManager.persist(Category.builder().name("상의").build());
+        Product product = testEntityManager.persist(Product.builder().name("티셔츠").category(category).build());
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        Product found = testEntityManager.find(Product.class, product.getId());
+
+        // When
+        String rendered = renderer.render(new Object[]{found, found.getCategory()});
+
+        // Then
+        assertThat(rendered).isEqualTo("[Product#" + product.getId() + ", Category#" + category.getId() + "]");
+        assertThat(Hibernate.isInitialized(found.getCategory())).isFalse();
+    }
+
+    @Test
+    @DisplayName("컬렉션/파일은 요약하고, DTO만 내용을 최대 길이까지 렌더링한다")
+    void render_SummarizesValues() {
+        // Given
+        MockMultipartFile file = new MockMultipartFile("file", "a.jpg", "image/jpeg", new byte[10]);
+
+        // When & Then
+        assertThat(renderer.render(new Object[]{1L, "abc", null})).isEqualTo("[1, abc, null]");
+        assertThat(renderer.render(List.of(1, 2, 3))).endsWith("(size=3)");
+        assertThat(renderer.render(Map.of("k", "v"))).endsWith("(size=1)");
+        assertThat(renderer.render(file)).isEqualTo("MultipartFile(a.jpg, 10 bytes)");
+        assertThat(renderer.render(ResponseEntity.status(201).build())).isEqualTo("ResponseEntity(201)");
+        assertThat(renderer.render(new CategoryResponseDto(1L, "상의"))).startsWith("CategoryResponseDto(").endsWith("...(trunc)");
+        assertThat(renderer.render(new Object())).isEqualTo("Object");
+    }
+}
@@ -0,0 +1,72 @@
+package com.leedahun.storecasecatalog.common.instrumentation;
+
+import com.p6spy.engine.common.StatementInformation;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class SqlLatencyListenerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private SqlLatencyListener listener;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        listener = new SqlLatencyListener(meterRegistry, 2);
+    }
+
+    @Test
+    @DisplayName("리터럴 값, IN 목록 길이, 공백과 대소문자가 달라도 같은 fingerprint로 정규화된다")
+    void fingerprint_IgnoresLiteralsAndInListLength() {
+        String first = SqlFingerprint.of("SELECT * FROM product WHERE store_id = 10 AND name = 'a''b'\n  AND id IN (?, ?, ?)");
+        String second = SqlFingerprint.of("select *  from product where store_id = 7 and name = 'c' and id in (?)");
+
+        assertThat(first)
+                .isEqualTo(second)
+                .isEqualTo("select * from product where store_id = ? and name = ? and id in (?)");
+        assertThat(SqlFingerprint.of("insert into option (name, price) values (?, ?), (?, ?)"))
+                .isEqualTo("insert into option (name, price) values (?, ?)");
+        // 별칭의 숫자(p1_0)는 리터럴이 아님
+        assertThat(SqlFingerprint.of("select p1_0.id from product p1_0")).isEqualTo("select p1_0.id from product p1_0");
+    }
+
+    @Test
+    @DisplayName("실행 시간은 fingerprint별 타이머에 기록되고 실패한 문장은 오류 카운터도 증가한다")
+    void onAfterAnyExecute_RecordsLatencyPerFingerprint() {
+        listener.onAfterAnyExecute(statement("select * from product where id = 1"), TimeUnit.MILLISECONDS.toNanos(3), null);
+        listener.onAfterAnyExecute(statement("select * from product where id = 2"), TimeUnit.MILLISECONDS.toNanos(5), null);
+        listener.onAfterAnyExecute(statement("select * from product where id = 3"), TimeUnit.MILLISECONDS.toNanos(7), new SQLException("boom"));
+
+        String fingerprint = "select * from product where id = ?";
+        assertThat(meterRegistry.get("db.statement").tag("sql", fingerprint).timer().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("db.statement").tag("sql", fingerprint).timer().max(TimeUnit.MILLISECONDS)).isEqualTo(7);
+        assertThat(meterRegistry.get("db.statement.errors").tag("sql", fingerprint).counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("fingerprint 수가 한도를 넘으면 이후 새 쿼리는 other 타이머로 묶인다")
+    void onAfterAnyExecute_CapsDistinctFingerprints() {
+        listener.onAfterAnyExecute(statement("select * from product"), 1, null);
+        listener.onAfterAnyExecute(statement("select * from option"), 1, null);
+        listener.onAfterAnyExecute(statement("select * from product_image"), 1, null);
+        listener.onAfterAnyExecute(statement("select * from product"), 1, null);
+
+        assertThat(meterRegistry.find("db.statement").timers()).hasSize(3);
+        assertThat(meterRegistry.get("db.statement").tag("sql", SqlLatencyListener.OVERFLOW_FINGERPRINT).timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("db.statement").tag("sql", "select * from product").timer().count()).isEqualTo(2);
+    }
+
+    private StatementInformation statement(String sql) {
+        StatementInformation statementInformation = mock(StatementInformation.class);
+        when(statementInformation.getSql()).thenReturn(sql);
+        return statementInformation;
+    }
+}
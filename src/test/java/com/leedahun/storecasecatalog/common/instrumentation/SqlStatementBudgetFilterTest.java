@@ -0,0 +1,158 @@
+package com.leedahun.storecasecatalog.common.instrumentation;
+
+import com.p6spy.engine.common.StatementInformation;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class SqlStatementBudgetFilterTest {
+
+    private static final String PATTERN = "/api/catalog/product/{productId}";
+
+    private SimpleMeterRegistry meterRegistry;
+    private SqlStatementCountingListener listener;
+    private SqlStatementBudgetFilter filter;
+    private MockHttpServletRequest request;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        listener = new SqlStatementCountingListener();
+        filter = new SqlStatementBudgetFilter(meterRegistry, 3, 3);
+        request = new MockHttpServletRequest("GET", "/api/catalog/product/1");
+    }
+
+    @AfterEach
+    void tearDown() {
+        assertThat(SqlStatementContext.current()).isNull();
+    }
+
+    @Test
+    @DisplayName("요청당 문장 수와 DB 왕복 수를 엔드포인트 패턴별로 기록한다 (배치는 왕복 1회)")
+    void doFilter_RecordsStatementsAndRoundTrips() throws Exception {
+        // When
+        filter.doFilter(request, new MockHttpServletResponse(), handler(() -> {
+            execute("select * from product where id = ?");
+            addBatch("insert into options (name) values (?)");
+            addBatch("insert into options (name) values (?)");
+            executeBatch("insert into options (name) values (?)");
+        }));
+
+        // Then
+        assertThat(meterRegistry.get("catalog.request.sql.statements").tag("uri", PATTERN).summary().totalAmount()).isEqualTo(3);
+        assertThat(meterRegistry.get("catalog.request.sql.round-trips").tag("uri", PATTERN).summary().totalAmount()).isEqualTo(2);
+        assertThat(meterRegistry.find("catalog.request.sql.budget-exceeded").counter()).isNull();
+        assertThat(meterRegistry.find("catalog.request.sql.repeated").counter()).isNull();
+    }
+
+    @Test
+    @DisplayName("예산을 넘고 같은 문장이 반복되면 예산 초과와 N+1 의심으로 집계한다")
+    void doFilter_ReportsBudgetExceededAndRepeatedStatements() throws Exception {
+        // When
+        filter.doFilter(request, new MockHttpServletResponse(), handler(() -> {
+            execute("select * from product");
+            for (int i = 0; i < 3; i++) {
+                execute("select * from category where id = ?");
+            }
+        }));
+
+        // Then
+        assertThat(meterRegistry.get("catalog.request.sql.budget-exceeded").tag("uri", PATTERN).counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("catalog.request.sql.repeated").tag("uri", PATTERN).counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("TaskDecorator로 감싼 실행기에서 실행된 문장도 요청에 집계된다 (다른 스레드가 제출해도 요청 스레드에서 감싼 실행기는 요청 컨텍스트 유지)")
+    void doFilter_CountsStatementsOnDecoratedExecutor() throws Exception {
+        // Given
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setTaskDecorator(SqlStatementContext::propagate);
+        executor.initialize();
+
+        try {
+            // When
+            filter.doFilter(request, new MockHttpServletResponse(), handler(() -> {
+                execute("select * from product");
+                executor.submit(() -> execute("insert into product (name) values (?)")).get();
+
+                // 앞 단계를 완료한 외부 스레드(예: WebClient 응답 스레드)가 다음 단계를 제출
+                Executor requestExecutor = SqlStatementContext.propagating(executor);
+                CompletableFuture<Long> identity = new CompletableFuture<>();
+                CompletableFuture<Void> write = identity.thenAcceptAsync(
+                        storeId -> execute("insert into options (name) values (?)"), requestExecutor);
+                Thread foreign = new Thread(() -> identity.complete(1L));
+                foreign.start();
+                foreign.join();
+                write.get();
+            }));
+        } finally {
+            executor.shutdown();
+        }
+
+        // Then
+        assertThat(meterRegistry.get("catalog.request.sql.statements").tag("uri", PATTERN).summary().totalAmount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("비동기 요청은 응답이 완료된 시점에 기록한다")
+    void doFilter_ReportsAsyncRequestOnComplete() throws Exception {
+        // Given
+        request.setAsyncSupported(true);
+
+        // When
+        filter.doFilter(request, new MockHttpServletResponse(), handler(() -> {
+            request.startAsync();
+            execute("select * from product");
+        }));
+
+        // Then
+        assertThat(meterRegistry.find("catalog.request.sql.statements").summary()).isNull();
+
+        ((MockAsyncContext) request.getAsyncContext()).complete();
+        assertThat(meterRegistry.get("catalog.request.sql.statements").tag("uri", PATTERN).summary().totalAmount()).isEqualTo(1);
+    }
+
+    private FilterChain handler(Executable handler) {
+        return (req, res) -> {
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, PATTERN);
+            try {
+                handler.execute();
+            } catch (Throwable e) {
+                throw new ServletException(e);
+            }
+        };
+    }
+
+    private void execute(String sql) {
+        listener.onAfterAnyExecute(statement(sql), 1, null);
+    }
+
+    private void addBatch(String sql) {
+        listener.onAfterAnyAddBatch(statement(sql), 1, null);
+    }
+
+    private void executeBatch(String sql) {
+        listener.onAfterExecuteBatch(statement(sql), 1, new int[]{1, 1}, null);
+    }
+
+    private StatementInformation statement(String sql) {
+        StatementInformation statementInformation = mock(StatementInformation.class);
+        lenient().when(statementInformation.getSql()).thenReturn(sql);
+        return statementInformation;
+    }
+}
@@ -0,0 +1,53 @@
+package com.leedahun.storecasecatalog.common.instrumentation;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@EnabledForJreRange(min = JRE.JAVA_21)
+class VirtualThreadPinningMonitorTest {
+
+    private final Object lock = new Object();
+
+    @Test
+    @DisplayName("synchronized 블록 안에서 블로킹한 가상 스레드를 발생 지점별 고정 시간으로 기록한다")
+    void onPinned_RecordsPinnedSite() throws Exception {
+        // Given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor(meterRegistry, Duration.ofMillis(10), 100);
+        monitor.start();
+
+        try {
+            // When
+            new VirtualThreadTaskExecutor("pinning-test-").submit(this::sleepWhileHoldingMonitor).get(5, TimeUnit.SECONDS);
+
+            // Then: JFR 스트림은 이벤트를 주기적으로 전달하므로 기록될 때까지 대기
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (monitor.pinnedCounts().isEmpty() && System.nanoTime() < deadline) {
+                Thread.sleep(100);
+            }
+            assertThat(monitor.pinnedCounts()).containsKey(getClass().getName() + ".sleepWhileHoldingMonitor");
+            assertThat(meterRegistry.get("jvm.threads.virtual.pinned").timer().count()).isEqualTo(1);
+        } finally {
+            monitor.stop();
+        }
+    }
+
+    private void sleepWhileHoldingMonitor() {
+        synchronized (lock) {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
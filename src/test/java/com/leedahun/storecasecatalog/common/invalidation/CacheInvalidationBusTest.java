@@ -0,0 +1,71 @@
+package com.leedahun.storecasecatalog.common.invalidation;
+
+import com.leedahun.storecasecatalog.domain.category.event.CategoryChangedEvent;
+import com.leedahun.storecasecatalog.domain.product.event.ProductChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 하나의 loopback 전송 계층을 공유하는 두 버스로 두 인스턴스 사이의 무효화 전달을 확인합니다.
+ */
+class CacheInvalidationBusTest {
+
+    private final LoopbackInvalidationTransport transport = new LoopbackInvalidationTransport();
+    private final List<Object> nodeAEvents = new CopyOnWriteArrayList<>();
+    private final List<Object> nodeBEvents = new CopyOnWriteArrayList<>();
+    private SimpleMeterRegistry meterRegistry;
+    private CacheInvalidationBus nodeA;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        nodeA = new CacheInvalidationBus(transport, nodeAEvents::add, meterRegistry, Duration.ofMillis(50), 3);
+        new CacheInvalidationBus(transport, nodeBEvents::add, new SimpleMeterRegistry(), Duration.ofMillis(50), 3);
+    }
+
+    @Test
+    @DisplayName("window 안의 변경은 중복을 합쳐 메시지 하나로 다른 인스턴스에만 전달된다")
+    void changes_AreCoalescedIntoOneMessage() throws InterruptedException {
+        // When
+        nodeA.onProductChanged(new ProductChangedEvent(1L));
+        nodeA.onProductChanged(new ProductChangedEvent(1L));
+        nodeA.onCategoryChanged(new CategoryChangedEvent(10L));
+
+        // Then
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (nodeBEvents.isEmpty() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(nodeBEvents).singleElement()
+                .isInstanceOfSatisfying(CacheInvalidationMessage.class, message -> {
+                    assertThat(message.productIds()).containsExactly(1L);
+                    assertThat(message.categoryIds()).containsExactly(10L);
+                });
+        assertThat(nodeAEvents).isEmpty();
+        assertThat(meterRegistry.get("cache.invalidation.coalesced").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("max-size개가 모이면 window를 기다리지 않고 바로 보낸다")
+    void fullBatch_IsSentImmediately() {
+        // When
+        nodeA.onProductChanged(new ProductChangedEvent(1L));
+        nodeA.onProductChanged(new ProductChangedEvent(2L));
+        nodeA.onProductChanged(new ProductChangedEvent(3L));
+
+        // Then
+        assertThat(nodeBEvents).singleElement()
+                .extracting(event -> ((CacheInvalidationMessage) event).productIds())
+                .isEqualTo(Set.of(1L, 2L, 3L));
+    }
+}
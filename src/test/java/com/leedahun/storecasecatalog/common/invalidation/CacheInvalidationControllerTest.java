@@ -0,0 +1,70 @@
+package com.leedahun.storecasecatalog.common.invalidation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 테스트 설정은 loopback 전송이므로 http 전송일 때만 등록되는 수신 API를 켬
+@WebMvcTest(controllers = CacheInvalidationController.class, properties = "catalog.cache.invalidation.transport=http")
+class CacheInvalidationControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private HttpInvalidationTransport httpInvalidationTransport;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("secret이 일치하면 메시지를 전달하고 204를 반환한다")
+    void receive_DeliversMessage() throws Exception {
+        // Given
+        CacheInvalidationMessage message = new CacheInvalidationMessage("node-a", Set.of(), Set.of(1L));
+        given(httpInvalidationTransport.isAuthorized("shared-secret")).willReturn(true);
+
+        // When & Then
+        mockMvc.perform(post(HttpInvalidationTransport.PATH)
+                        .header(HttpInvalidationTransport.SECRET_HEADER, "shared-secret")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(message)))
+                .andExpect(status().isNoContent());
+
+        verify(httpInvalidationTransport).deliver(message);
+    }
+
+    @Test
+    @DisplayName("secret이 없거나 다르면 403을 반환하고 캐시를 비우지 않는다")
+    void receive_RejectsUnauthorizedRequest() throws Exception {
+        // Given
+        CacheInvalidationMessage message = new CacheInvalidationMessage("node-a", Set.of(10L), Set.of());
+
+        // When & Then
+        mockMvc.perform(post(HttpInvalidationTransport.PATH)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(message)))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(post(HttpInvalidationTransport.PATH)
+                        .header(HttpInvalidationTransport.SECRET_HEADER, "wrong-secret")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(message)))
+                .andExpect(status().isForbidden());
+
+        verify(httpInvalidationTransport, never()).deliver(any());
+    }
+}
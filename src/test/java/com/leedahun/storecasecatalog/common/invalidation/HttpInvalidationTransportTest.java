@@ -0,0 +1,149 @@
+package com.leedahun.storecasecatalog.common.invalidation;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class HttpInvalidationTransportTest {
+
+    private static final String SERVICE_ID = "store-case-catalog";
+    private static final String SECRET = "shared-secret";
+
+    private HttpServer healthyInstance;
+    private HttpServer failingInstance;
+    private final List<String> receivedBodies = new CopyOnWriteArrayList<>();
+    private final List<String> receivedSecrets = new CopyOnWriteArrayList<>();
+    private final AtomicInteger failingAttempts = new AtomicInteger();
+    private SimpleMeterRegistry meterRegistry;
+    private DiscoveryClient discoveryClient;
+    private HttpInvalidationTransport transport;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        healthyInstance = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        healthyInstance.createContext(HttpInvalidationTransport.PATH, exchange -> {
+            receivedBodies.add(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+            receivedSecrets.add(exchange.getRequestHeaders().getFirst(HttpInvalidationTransport.SECRET_HEADER));
+            exchange.sendResponseHeaders(204, -1);
+            exchange.close();
+        });
+        healthyInstance.start();
+
+        failingInstance = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        failingInstance.createContext(HttpInvalidationTransport.PATH, exchange -> {
+            failingAttempts.incrementAndGet();
+            exchange.sendResponseHeaders(503, -1);
+            exchange.close();
+        });
+        failingInstance.start();
+
+        discoveryClient = mock(DiscoveryClient.class);
+        given(discoveryClient.getInstances(SERVICE_ID)).willReturn(List.of(
+                new DefaultServiceInstance("healthy", SERVICE_ID, "127.0.0.1", healthyInstance.getAddress().getPort(), false),
+                new DefaultServiceInstance("failing", SERVICE_ID, "127.0.0.1", failingInstance.getAddress().getPort(), false)));
+
+        meterRegistry = new SimpleMeterRegistry();
+        transport = new HttpInvalidationTransport(discoveryClient, WebClient.create(), meterRegistry,
+                SERVICE_ID, SECRET, Duration.ofSeconds(5), 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        healthyInstance.stop(0);
+        failingInstance.stop(0);
+    }
+
+    @Test
+    @DisplayName("모든 인스턴스에 보내고, 실패한 인스턴스는 재시도 후 실패로 기록해도 다른 인스턴스 전달에는 영향이 없다")
+    void send_FansOutToEveryInstance() throws InterruptedException {
+        // When
+        transport.send(new CacheInvalidationMessage("node-a", Set.of(), Set.of(1L)));
+
+        // Then
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while ((receivedBodies.isEmpty() || meterRegistry.get("cache.invalidation.send.failures").counter().count() == 0)
+                && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(receivedBodies).singleElement().asString()
+                .contains("\"origin\":\"node-a\"")
+                .contains("\"productIds\":[1]");
+        assertThat(receivedSecrets).containsExactly(SECRET);
+        assertThat(failingAttempts).hasValue(3);
+        assertThat(meterRegistry.get("cache.invalidation.send.failures").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("받은 메시지를 등록된 수신자에게 전달한다")
+    void deliver_PassesToReceiver() {
+        // Given
+        List<CacheInvalidationMessage> received = new CopyOnWriteArrayList<>();
+        transport.subscribe(received::add);
+        CacheInvalidationMessage message = new CacheInvalidationMessage("node-b", Set.of(10L), Set.of());
+
+        // When
+        transport.deliver(message);
+
+        // Then
+        assertThat(received).containsExactly(message);
+    }
+
+    @Test
+    @DisplayName("secret이 일치하는 요청만 허용한다")
+    void isAuthorized_RequiresMatchingSecret() {
+        // When & Then
+        assertThat(transport.isAuthorized(SECRET)).isTrue();
+        assertThat(transport.isAuthorized("wrong-secret")).isFalse();
+        assertThat(transport.isAuthorized("")).isFalse();
+        assertThat(transport.isAuthorized(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("서비스 이름이나 secret이 없으면 무효화가 조용히 꺼지지 않도록 생성에 실패한다")
+    void constructor_Fails_WhenServiceIdOrSecretMissing() {
+        // When & Then
+        assertThatThrownBy(() -> new HttpInvalidationTransport(discoveryClient, WebClient.create(),
+                new SimpleMeterRegistry(), SERVICE_ID, "", Duration.ofSeconds(2), 2))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("catalog.cache.invalidation.http.secret");
+        assertThatThrownBy(() -> new HttpInvalidationTransport(discoveryClient, WebClient.create(),
+                new SimpleMeterRegistry(), "", SECRET, Duration.ofSeconds(2), 2))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("spring.application.name");
+    }
+
+    @Test
+    @DisplayName("인스턴스 목록이 비어 있으면 보내지 못한 메시지로 집계한다")
+    void send_CountsMessage_WhenNoInstanceFound() {
+        // Given
+        given(discoveryClient.getInstances(SERVICE_ID)).willReturn(List.of());
+
+        // When
+        transport.send(new CacheInvalidationMessage("node-a", Set.of(), Set.of(1L)));
+
+        // Then
+        assertThat(meterRegistry.counter("cache.invalidation.send.no-instances").count()).isEqualTo(1.0);
+        assertThat(receivedBodies).isEmpty();
+    }
+}
@@ -0,0 +1,202 @@
+package com.leedahun.storecasecatalog.common.service;
+
+import com.leedahun.storecasecatalog.common.error.exception.FileUploadFailedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class S3AsyncUploadServiceTest {
+
+    private static final String S3_KEY = "product-images/uuid_photo.jpg";
+
+    @Mock
+    private S3AsyncClient s3AsyncClient;
+
+    private ExecutorService uploadExecutor;
+    private SimpleMeterRegistry meterRegistry;
+    private S3AsyncUploadService s3AsyncUploadService;
+
+    @BeforeEach
+    void setUp() {
+        uploadExecutor = Executors.newSingleThreadExecutor();
+        meterRegistry = new SimpleMeterRegistry();
+
+        // 8바이트 초과는 멀티파트, 파트 크기 8바이트, 동시 전송 한도 16바이트(파트 2개)
+        s3AsyncUploadService = new S3AsyncUploadService(s3AsyncClient, uploadExecutor, meterRegistry,
+                DataSize.ofBytes(8), DataSize.ofBytes(8), DataSize.ofBytes(16));
+        ReflectionTestUtils.setField(s3AsyncUploadService, "bucket", "test-bucket");
+    }
+
+    @AfterEach
+    void tearDown() {
+        uploadExecutor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("임계값 이하 파일은 단일 PUT으로 업로드하고 S3 Key로 완료된다")
+    void uploadFileAsync_SinglePut() throws Exception {
+        // Given
+        MockMultipartFile file = file(5);
+        when(s3AsyncClient.putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class)))
+                .thenReturn(CompletableFuture.completedFuture(PutObjectResponse.builder().build()));
+
+        // When
+        String s3Key = s3AsyncUploadService.uploadFileAsync(S3_KEY, file).get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(s3Key).isEqualTo(S3_KEY);
+
+        ArgumentCaptor<PutObjectRequest> requestCaptor = ArgumentCaptor.forClass(PutObjectRequest.class);
+        verify(s3AsyncClient).putObject(requestCaptor.capture(), any(AsyncRequestBody.class));
+        assertThat(requestCaptor.getValue().bucket()).isEqualTo("test-bucket");
+        assertThat(requestCaptor.getValue().contentLength()).isEqualTo(5L);
+        verify(s3AsyncClient, never()).createMultipartUpload(any(CreateMultipartUploadRequest.class));
+
+        assertThat(meterRegistry.get("s3.upload").tag("type", "single").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("s3.upload.in-flight.bytes").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("임계값을 넘는 파일은 파트로 나누어 업로드하고 파트 번호 순으로 완료 요청한다")
+    void uploadFileAsync_Multipart() throws Exception {
+        // Given
+        MockMultipartFile file = file(20);
+        stubCreateMultipartUpload();
+        when(s3AsyncClient.uploadPart(any(UploadPartRequest.class), any(AsyncRequestBody.class)))
+                .thenAnswer(invocation -> CompletableFuture.completedFuture(UploadPartResponse.builder()
+                        .eTag("etag-" + invocation.<UploadPartRequest>getArgument(0).partNumber())
+                        .build()));
+        when(s3AsyncClient.completeMultipartUpload(any(CompleteMultipartUploadRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(CompleteMultipartUploadResponse.builder().build()));
+
+        // When
+        String s3Key = s3AsyncUploadService.uploadFileAsync(S3_KEY, file).get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(s3Key).isEqualTo(S3_KEY);
+
+        ArgumentCaptor<UploadPartRequest> partCaptor = ArgumentCaptor.forClass(UploadPartRequest.class);
+        verify(s3AsyncClient, times(3)).uploadPart(partCaptor.capture(), any(AsyncRequestBody.class));
+        assertThat(partCaptor.getAllValues()).extracting(UploadPartRequest::contentLength).containsExactly(8L, 8L, 4L);
+
+        ArgumentCaptor<CompleteMultipartUploadRequest> completeCaptor = ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+        verify(s3AsyncClient).completeMultipartUpload(completeCaptor.capture());
+        assertThat(completeCaptor.getValue().uploadId()).isEqualTo("upload-1");
+        assertThat(completeCaptor.getValue().multipartUpload().parts())
+                .extracting(CompletedPart::partNumber, CompletedPart::eTag)
+                .containsExactly(tuple(1, "etag-1"), tuple(2, "etag-2"), tuple(3, "etag-3"));
+    }
+
+    @Test
+    @DisplayName("전송 중인 바이트가 한도에 도달하면 앞선 파트가 끝날 때까지 다음 파트를 읽지 않는다")
+    void uploadFileAsync_BoundsInFlightBytes() throws Exception {
+        // Given
+        MockMultipartFile file = file(24);
+        stubCreateMultipartUpload();
+        List<CompletableFuture<UploadPartResponse>> pendingParts = new CopyOnWriteArrayList<>();
+        when(s3AsyncClient.uploadPart(any(UploadPartRequest.class), any(AsyncRequestBody.class)))
+                .thenAnswer(invocation -> {
+                    CompletableFuture<UploadPartResponse> part = new CompletableFuture<>();
+                    pendingParts.add(part);
+                    return part;
+                });
+        when(s3AsyncClient.completeMultipartUpload(any(CompleteMultipartUploadRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(CompleteMultipartUploadResponse.builder().build()));
+
+        // When
+        CompletableFuture<String> upload = s3AsyncUploadService.uploadFileAsync(S3_KEY, file);
+
+        // Then: 한도(16바이트) 안에서 파트 2개만 전송 중
+        verify(s3AsyncClient, timeout(5000).times(2)).uploadPart(any(UploadPartRequest.class), any(AsyncRequestBody.class));
+        Thread.sleep(100);
+        verify(s3AsyncClient, times(2)).uploadPart(any(UploadPartRequest.class), any(AsyncRequestBody.class));
+        assertThat(meterRegistry.get("s3.upload.in-flight.bytes").gauge().value()).isEqualTo(16);
+
+        // 첫 파트가 끝나면 세 번째 파트 전송
+        pendingParts.get(0).complete(UploadPartResponse.builder().eTag("etag-1").build());
+        verify(s3AsyncClient, timeout(5000).times(3)).uploadPart(any(UploadPartRequest.class), any(AsyncRequestBody.class));
+
+        pendingParts.get(1).complete(UploadPartResponse.builder().eTag("etag-2").build());
+        pendingParts.get(2).complete(UploadPartResponse.builder().eTag("etag-3").build());
+        assertThat(upload.get(5, TimeUnit.SECONDS)).isEqualTo(S3_KEY);
+        assertThat(meterRegistry.get("s3.upload.in-flight.bytes").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("파트 업로드가 실패하면 멀티파트 업로드를 중단하고 FileUploadFailedException으로 완료된다")
+    void uploadFileAsync_AbortsMultipartUploadOnFailure() {
+        // Given
+        MockMultipartFile file = file(20);
+        stubCreateMultipartUpload();
+        when(s3AsyncClient.uploadPart(any(UploadPartRequest.class), any(AsyncRequestBody.class)))
+                .thenReturn(CompletableFuture.failedFuture(S3Exception.builder().statusCode(500).build()));
+        when(s3AsyncClient.abortMultipartUpload(any(AbortMultipartUploadRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(AbortMultipartUploadResponse.builder().build()));
+
+        // When & Then
+        assertThatThrownBy(() -> s3AsyncUploadService.uploadFileAsync(S3_KEY, file).join())
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(FileUploadFailedException.class);
+
+        // 첫 파트 실패 이후에는 더 읽지 않음
+        verify(s3AsyncClient, times(1)).uploadPart(any(UploadPartRequest.class), any(AsyncRequestBody.class));
+        verify(s3AsyncClient).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+        verify(s3AsyncClient, never()).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+        assertThat(meterRegistry.get("s3.upload.in-flight.bytes").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("파트 크기가 동시 전송 한도보다 크면 생성 시 IllegalArgumentException을 던진다")
+    void constructor_RejectsPartLargerThanInFlightLimit() {
+        assertThatThrownBy(() -> new S3AsyncUploadService(s3AsyncClient, uploadExecutor, meterRegistry,
+                DataSize.ofBytes(8), DataSize.ofBytes(32), DataSize.ofBytes(16)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void stubCreateMultipartUpload() {
+        when(s3AsyncClient.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(CreateMultipartUploadResponse.builder().uploadId("upload-1").build()));
+    }
+
+    private MockMultipartFile file(int size) {
+        return new MockMultipartFile("file", "photo.jpg", "image/jpeg", new byte[size]);
+    }
+}
@@ -1,11 +1,11 @@
 package com.leedahun.storecasecatalog.common.service;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mock.web.MockMultipartFile;
@@ -14,6 +14,9 @@ import org.springframework.web.multipart.MultipartFile;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectResponse;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
@@ -24,6 +27,9 @@ import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -39,16 +45,34 @@ class S3UploadServiceTest {
     @Mock
     private S3Presigner s3Presigner;
 
-    @InjectMocks
     private S3UploadService s3UploadService;
 
+    private SimpleMeterRegistry meterRegistry;
+
     private final String TEST_BUCKET = "test-bucket";
 
     @BeforeEach
     void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        s3UploadService = new S3UploadService(s3Client, s3Presigner, meterRegistry,
+                Duration.ofMinutes(10), Duration.ofMinutes(2), 100);
         ReflectionTestUtils.setField(s3UploadService, "bucket", TEST_BUCKET);  // @Value("${cloud.aws.s3.bucket}") 값을 수동으로 주입
     }
 
+    @Test
+    @DisplayName("min-remaining-validity가 signature-duration 이상이면 설정 오류로 생성에 실패한다")
+    void constructor_RejectsMinRemainingValidityNotBelowSignatureDuration() {
+        // When & Then
+        assertThatThrownBy(() -> new S3UploadService(s3Client, s3Presigner, meterRegistry,
+                Duration.ofMinutes(2), Duration.ofMinutes(2), 100))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("min-remaining-validity");
+        assertThatThrownBy(() -> new S3UploadService(s3Client, s3Presigner, meterRegistry,
+                Duration.ZERO, Duration.ZERO, 100))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("signature-duration");
+    }
+
     @Test
     @DisplayName("파일 업로드 성공 시 S3 Key를 반환한다")
     void uploadFile_Success() throws IOException {
@@ -163,4 +187,78 @@ class S3UploadServiceTest {
         verify(s3Presigner, never()).presignGetObject(any(GetObjectPresignRequest.class));
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("같은 S3 Key의 Presigned URL은 만료 전까지 캐시에서 재사용한다")
+    void getPresignedUrl_ReusesCachedUrl() {
+        // Given
+        String s3Key = "product-images/test-key.jpg";
+        stubPresign("https://test-bucket.s3.amazonaws.com/");
+
+        // When
+        String first = s3UploadService.getPresignedUrl(s3Key);
+        String second = s3UploadService.getPresignedUrl(s3Key);
+
+        // Then
+        assertThat(second).isEqualTo(first);
+        verify(s3Presigner, times(1)).presignGetObject(any(GetObjectPresignRequest.class));
+
+        assertThat(meterRegistry.get("s3.presign").tag("operation", "get").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "presignedUrlCache").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("여러 S3 Key를 한 번에 요청하면 캐시에 없는 키만 서명하고 요청 순서대로 반환한다")
+    void getPresignedUrls_SignsOnlyMissingKeys() {
+        // Given
+        stubPresign("https://test-bucket.s3.amazonaws.com/");
+        s3UploadService.getPresignedUrl("product-images/b.jpg");
+
+        // When
+        Map<String, String> presignedUrls = s3UploadService.getPresignedUrls(
+                Arrays.asList("product-images/c.jpg", "product-images/b.jpg", null, "", "product-images/a.jpg", "product-images/c.jpg"));
+
+        // Then
+        assertThat(presignedUrls.keySet()).containsExactly("product-images/c.jpg", "product-images/b.jpg", "product-images/a.jpg");
+        assertThat(presignedUrls.get("product-images/a.jpg")).isEqualTo("https://test-bucket.s3.amazonaws.com/product-images/a.jpg?signed");
+
+        // b.jpg는 캐시 적중, a.jpg와 c.jpg만 새로 서명 (총 3회)
+        verify(s3Presigner, times(3)).presignGetObject(any(GetObjectPresignRequest.class));
+    }
+
+    @Test
+    @DisplayName("빈 목록으로 일괄 요청하면 서명 없이 빈 결과를 반환한다")
+    void getPresignedUrls_WhenEmpty() {
+        // When
+        Map<String, String> presignedUrls = s3UploadService.getPresignedUrls(List.of());
+
+        // Then
+        assertThat(presignedUrls).isEmpty();
+        verify(s3Presigner, never()).presignGetObject(any(GetObjectPresignRequest.class));
+    }
+
+    @Test
+    @DisplayName("HEAD 요청 시 객체가 있으면 메타데이터를, 없으면 빈 값을 반환한다")
+    void headObject_ReturnsEmptyWhenMissing() {
+        // Given
+        when(s3Client.headObject(any(HeadObjectRequest.class)))
+                .thenReturn(HeadObjectResponse.builder().contentLength(1024L).build())
+                .thenThrow(NoSuchKeyException.builder().statusCode(404).build());
+
+        // When & Then
+        assertThat(s3UploadService.headObject("product-images/exists.jpg"))
+                .hasValueSatisfying(head -> assertThat(head.contentLength()).isEqualTo(1024L));
+        assertThat(s3UploadService.headObject("product-images/missing.jpg")).isEmpty();
+    }
+
+    // 요청된 key마다 고유한 URL을 돌려주는 가짜 Presigner
+    private void stubPresign(String baseUrl) {
+        when(s3Presigner.presignGetObject(any(GetObjectPresignRequest.class))).thenAnswer(invocation -> {
+            GetObjectPresignRequest request = invocation.getArgument(0);
+            PresignedGetObjectRequest presignedRequest = mock(PresignedGetObjectRequest.class);
+            when(presignedRequest.url()).thenReturn(new URL(baseUrl + request.getObjectRequest().key() + "?signed"));
+            return presignedRequest;
+        });
+    }
+
+}
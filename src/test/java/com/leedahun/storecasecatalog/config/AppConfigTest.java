@@ -0,0 +1,133 @@
+package com.leedahun.storecasecatalog.config;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.cloud.client.discovery.simple.SimpleDiscoveryClientAutoConfiguration;
+import org.springframework.cloud.commons.util.UtilAutoConfiguration;
+import org.springframework.cloud.loadbalancer.config.BlockingLoadBalancerClientAutoConfiguration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AppConfigTest {
+
+    // "3s" 같은 Duration 설정값 변환을 위해 Boot 변환 서비스 등록
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withInitializer(context -> context.getBeanFactory().setConversionService(ApplicationConversionService.getSharedInstance()))
+            .withUserConfiguration(AppConfig.class)
+            .withPropertyValues("catalog.http-client.max-total=20", "catalog.http-client.max-per-route=5");
+
+    private HttpServer server;
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/ping", exchange -> {
+            clientPorts.add(exchange.getRemoteAddress().getPort());
+            byte[] body = "pong".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("RestTemplate은 풀링 HttpClient로 요청하고 keep-alive 연결을 재사용한다")
+    void restTemplate_ReusesPooledConnection() {
+        contextRunner.run(context -> {
+            // Given
+            RestTemplate restTemplate = context.getBean("restTemplate", RestTemplate.class);
+            PoolingHttpClientConnectionManager connectionManager = context.getBean(PoolingHttpClientConnectionManager.class);
+            String url = "http://localhost:" + server.getAddress().getPort() + "/ping";
+
+            // When
+            for (int i = 0; i < 3; i++) {
+                assertThat(restTemplate.getForObject(url, String.class)).isEqualTo("pong");
+            }
+
+            // Then
+            assertThat(restTemplate.getRequestFactory()).isInstanceOf(HttpComponentsClientHttpRequestFactory.class);
+            assertThat(clientPorts).hasSize(1);
+            assertThat(connectionManager.getDefaultMaxPerRoute()).isEqualTo(5);
+            assertThat(connectionManager.getTotalStats().getAvailable()).isEqualTo(1);
+            assertThat(connectionManager.getTotalStats().getLeased()).isZero();
+        });
+    }
+
+    @Test
+    @DisplayName("@LoadBalanced RestTemplate은 서비스 이름을 디스커버리 인스턴스 주소로 바꿔 풀링 연결로 요청한다")
+    void restTemplate_ResolvesServiceNameThroughLoadBalancer() {
+        contextRunner
+                .withConfiguration(AutoConfigurations.of(
+                        UtilAutoConfiguration.class,
+                        SimpleDiscoveryClientAutoConfiguration.class,
+                        org.springframework.cloud.client.loadbalancer.LoadBalancerAutoConfiguration.class,
+                        org.springframework.cloud.loadbalancer.config.LoadBalancerAutoConfiguration.class,
+                        BlockingLoadBalancerClientAutoConfiguration.class))
+                .withPropertyValues("spring.cloud.discovery.client.simple.instances.identity-service[0].uri=http://localhost:"
+                        + server.getAddress().getPort())
+                .run(context -> {
+                    // Given
+                    RestTemplate restTemplate = context.getBean("restTemplate", RestTemplate.class);
+
+                    // When & Then
+                    assertThat(restTemplate.getForObject("http://identity-service/ping", String.class)).isEqualTo("pong");
+                    assertThat(context.getBean(PoolingHttpClientConnectionManager.class).getTotalStats().getAvailable()).isEqualTo(1);
+                });
+    }
+
+    @Test
+    @DisplayName("커넥션 풀 상태를 지표로 노출한다")
+    void restTemplateConnectionPoolMetrics_BindsPoolGauges() {
+        contextRunner.run(context -> {
+            // Given
+            SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+            // When
+            context.getBean("restTemplateConnectionPoolMetrics", MeterBinder.class).bindTo(meterRegistry);
+
+            // Then
+            assertThat(meterRegistry.get("httpcomponents.httpclient.pool.total.max").tag("httpclient", "restTemplate").gauge().value())
+                    .isEqualTo(20);
+        });
+    }
+
+    @Test
+    @DisplayName("http2 옵션을 켜면 JDK HttpClient(HTTP/2)로 요청하고 Apache 풀과 풀 지표는 만들지 않는다")
+    void restTemplate_UsesJdkClientWhenHttp2Enabled() {
+        contextRunner.withPropertyValues("catalog.http-client.http2=true").run(context -> {
+            // Given
+            RestTemplate restTemplate = context.getBean("restTemplate", RestTemplate.class);
+            String url = "http://localhost:" + server.getAddress().getPort() + "/ping";
+
+            // When & Then
+            assertThat(restTemplate.getRequestFactory()).isInstanceOf(JdkClientHttpRequestFactory.class);
+            assertThat(restTemplate.getForObject(url, String.class)).isEqualTo("pong");
+            assertThat(context).doesNotHaveBean(PoolingHttpClientConnectionManager.class);
+            assertThat(context).doesNotHaveBean("restTemplateConnectionPoolMetrics");
+        });
+    }
+}
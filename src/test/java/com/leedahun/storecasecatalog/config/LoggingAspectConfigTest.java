@@ -0,0 +1,128 @@
+package com.leedahun.storecasecatalog.config;
+
+import com.leedahun.storecasecatalog.common.instrumentation.InstrumentationMode;
+import com.leedahun.storecasecatalog.common.instrumentation.InstrumentationSettings;
+import com.leedahun.storecasecatalog.common.instrumentation.SafeArgumentRenderer;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class LoggingAspectConfigTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private InstrumentationSettings settings;
+    private SafeArgumentRenderer renderer;
+    private SampleService sampleService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        settings = new InstrumentationSettings(InstrumentationMode.SAMPLED, 0.0, Duration.ofSeconds(10));
+        renderer = mock(SafeArgumentRenderer.class);
+
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new SampleService());
+        proxyFactory.addAspect(new LoggingAspectConfig(meterRegistry, settings, renderer));
+        sampleService = proxyFactory.getProxy();
+    }
+
+    @Test
+    @DisplayName("모든 호출은 메서드별 타이머에 기록되고, 샘플링/느린 호출이 아니면 인자를 렌더링하지 않는다")
+    void recordsTimerWithoutRendering() {
+        // When
+        sampleService.echo("a");
+        sampleService.echo("b");
+
+        // Then
+        assertThat(timer("echo", "none").count()).isEqualTo(2);
+        verifyNoInteractions(renderer);
+    }
+
+    @Test
+    @DisplayName("느린 호출 기준을 넘으면 인자와 반환값을 렌더링한다")
+    void rendersSlowCall() {
+        // Given
+        settings.setSlowThreshold(Duration.ZERO);
+
+        // When
+        sampleService.echo("a");
+
+        // Then
+        verify(renderer).render(any(Object[].class));
+        verify(renderer).render((Object) "a");
+    }
+
+    @Test
+    @DisplayName("METRICS_ONLY 모드로 바꾸면 느린 호출이어도 지표만 기록한다")
+    void metricsOnlyMode() {
+        // Given
+        settings.setSlowThreshold(Duration.ZERO);
+        settings.setSampleRate(1.0);
+        settings.setMode(InstrumentationMode.METRICS_ONLY);
+
+        // When
+        sampleService.echo("a");
+
+        // Then
+        assertThat(timer("echo", "none").count()).isEqualTo(1);
+        verifyNoInteractions(renderer);
+    }
+
+    @Test
+    @DisplayName("예외는 exception 태그로 구분해 기록한다")
+    void recordsExceptionTag() {
+        // When & Then
+        assertThatThrownBy(() -> sampleService.fail()).isInstanceOf(IllegalStateException.class);
+        assertThat(timer("fail", "IllegalStateException").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("비동기 반환값은 Future가 완료될 때 기록한다")
+    void recordsAsyncCompletion() {
+        // Given
+        CompletableFuture<String> pending = new CompletableFuture<>();
+
+        // When
+        sampleService.async(pending);
+
+        // Then
+        assertThat(meterRegistry.find("catalog.method").tag("method", "async").timer()).isNull();
+        pending.complete("done");
+        assertThat(timer("async", "none").count()).isEqualTo(1);
+    }
+
+    private Timer timer(String method, String exception) {
+        return meterRegistry.get("catalog.method")
+                .tag("layer", "service")
+                .tag("method", method)
+                .tag("exception", exception)
+                .timer();
+    }
+
+    @Service
+    static class SampleService {
+
+        public String echo(String value) {
+            return value;
+        }
+
+        public void fail() {
+            throw new IllegalStateException("boom");
+        }
+
+        public CompletableFuture<String> async(CompletableFuture<String> future) {
+            return future;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.leedahun.storecasecatalog.config;
+
+import com.ulisesbocchio.jasyptspringbootstarter.JasyptSpringBootAutoConfiguration;
+import org.jasypt.encryption.StringEncryptor;
+import org.jasypt.encryption.pbe.StandardPBEStringEncryptor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.metrics.ApplicationStartup;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MemoizingEncryptablePropertyResolverTest {
+
+    private static final String PASSWORD = "test-password";
+
+    private StandardPBEStringEncryptor pbeEncryptor;
+    private final AtomicInteger decryptCount = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        pbeEncryptor = new StandardPBEStringEncryptor();
+        pbeEncryptor.setPassword(PASSWORD);
+        pbeEncryptor.setAlgorithm("PBEWithMD5AndDES");
+    }
+
+    @Test
+    @DisplayName("처음 ENC 속성을 조회할 때 모든 ENC 속성을 미리 복호화하고 이후 조회는 다시 복호화하지 않는다")
+    void resolvePropertyValue_DecryptsAllOnceAndMemoizes() {
+        // Given
+        String encryptedAccessKey = "ENC(" + pbeEncryptor.encrypt("access") + ")";
+        String encryptedSecretKey = "ENC(" + pbeEncryptor.encrypt("secret") + ")";
+        StandardEnvironment environment = new StandardEnvironment();
+        environment.getPropertySources().addFirst(new MapPropertySource("test", Map.of(
+                "cloud.aws.credentials.access-key", encryptedAccessKey,
+                "cloud.aws.credentials.secret-key", encryptedSecretKey,
+                "cloud.aws.region.static", "ap-northeast-2")));
+        MemoizingEncryptablePropertyResolver resolver =
+                new MemoizingEncryptablePropertyResolver(this::countingEncryptor, environment, ApplicationStartup.DEFAULT);
+
+        // When
+        String accessKey = resolver.resolvePropertyValue(encryptedAccessKey);
+
+        // Then
+        assertThat(accessKey).isEqualTo("access");
+        assertThat(decryptCount.get()).isEqualTo(2);
+        assertThat(resolver.getDecryptedProperties()).isEqualTo(2);
+        for (int i = 0; i < 3; i++) {
+            assertThat(resolver.resolvePropertyValue(encryptedAccessKey)).isEqualTo("access");
+            assertThat(resolver.resolvePropertyValue(encryptedSecretKey)).isEqualTo("secret");
+        }
+        assertThat(resolver.resolvePropertyValue("ap-northeast-2")).isEqualTo("ap-northeast-2");
+        assertThat(decryptCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("resolver-bean으로 지정하면 jasypt가 환경의 ENC 속성을 이 리졸버로 복호화한다")
+    void resolverBean_IsUsedByJasypt() {
+        new ApplicationContextRunner()
+                .withConfiguration(AutoConfigurations.of(JasyptSpringBootAutoConfiguration.class))
+                .withUserConfiguration(JasyptConfig.class)
+                .withPropertyValues(
+                        "jasypt.encryptor.password=" + PASSWORD,
+                        "jasypt.encryptor.bean=jasyptEncryptor",
+                        "jasypt.encryptor.property.resolver-bean=memoizingEncryptablePropertyResolver",
+                        "catalog.secret=ENC(" + pbeEncryptor.encrypt("plaintext") + ")")
+                .run(context -> {
+                    // When
+                    String secret = context.getEnvironment().getProperty("catalog.secret");
+
+                    // Then
+                    assertThat(secret).isEqualTo("plaintext");
+                    assertThat(context.getBean(MemoizingEncryptablePropertyResolver.class).getDecryptedProperties()).isEqualTo(1);
+                });
+    }
+
+    private StringEncryptor countingEncryptor() {
+        return new StringEncryptor() {
+            @Override
+            public String encrypt(String message) {
+                return pbeEncryptor.encrypt(message);
+            }
+
+            @Override
+            public String decrypt(String encryptedMessage) {
+                decryptCount.incrementAndGet();
+                return pbeEncryptor.decrypt(encryptedMessage);
+            }
+        };
+    }
+}
@@ -0,0 +1,44 @@
+package com.leedahun.storecasecatalog.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class P6spyPrettySqlFormatterTest {
+
+    private static final String SQL = "select p1_0.id,p1_0.name from product p1_0 where p1_0.id=1";
+
+    private final P6spyPrettySqlFormatter formatter = new P6spyPrettySqlFormatter();
+
+    @AfterEach
+    void tearDown() {
+        P6spyPrettySqlFormatter.setPretty(true);
+    }
+
+    @Test
+    @DisplayName("pretty 모드에서는 Hibernate 포매터로 여러 줄 SQL을 출력한다")
+    void formatMessage_Pretty() {
+        P6spyPrettySqlFormatter.setPretty(true);
+
+        String message = formatter.formatMessage(1, "0", 12, "statement", SQL, SQL, "jdbc:h2:mem:testdb");
+
+        assertThat(message)
+                .matches("(?s)\\d{2}\\.\\d{2}\\.\\d{2} \\d{2}:\\d{2}:\\d{2} \\| OperationTime : 12ms\\|\nHeFormatSql.*")
+                .contains("\n");
+    }
+
+    @Test
+    @DisplayName("pretty 모드가 꺼지면 포매터를 거치지 않고 한 줄로 출력한다")
+    void formatMessage_Compact() {
+        P6spyPrettySqlFormatter.setPretty(false);
+
+        String message = formatter.formatMessage(1, "0", 250, "statement", SQL, SQL, "jdbc:h2:mem:testdb");
+
+        assertThat(message)
+                .matches("\\d{2}\\.\\d{2}\\.\\d{2} \\d{2}:\\d{2}:\\d{2} \\| OperationTime : 250ms \\| statement \\| .*")
+                .endsWith(SQL)
+                .doesNotContain("\n");
+    }
+}
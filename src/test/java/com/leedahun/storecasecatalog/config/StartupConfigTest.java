@@ -0,0 +1,56 @@
+package com.leedahun.storecasecatalog.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StartupConfigTest {
+
+    private static final AtomicInteger created = new AtomicInteger();
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(StartupConfig.class, ExpensiveClientConfig.class);
+
+    @Test
+    @DisplayName("lazy-beans에 지정한 빈은 기동 시 생성하지 않고 처음 조회할 때 생성한다")
+    void lazyBeans_DefersCreationUntilFirstUse() {
+        created.set(0);
+
+        contextRunner
+                .withPropertyValues("catalog.startup.lazy-beans=expensiveClient, unknownBean")
+                .run(context -> {
+                    assertThat(context).hasNotFailed();
+                    assertThat(created.get()).isZero();
+
+                    context.getBean("expensiveClient");
+                    assertThat(created.get()).isEqualTo(1);
+                });
+    }
+
+    @Test
+    @DisplayName("lazy-beans 설정이 없으면 빈을 기동 시 생성하고 타임라인 리포터도 등록하지 않는다")
+    void withoutStartupProperties_CreatesBeansEagerly() {
+        created.set(0);
+
+        contextRunner.run(context -> {
+            assertThat(created.get()).isEqualTo(1);
+            assertThat(context).doesNotHaveBean(StartupTimelineReporter.class);
+        });
+    }
+
+    @Configuration
+    static class ExpensiveClientConfig {
+
+        @Bean
+        public Object expensiveClient() {
+            created.incrementAndGet();
+            return new Object();
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.leedahun.storecasecatalog.domain.category.cache;
+
+import com.leedahun.storecasecatalog.common.error.exception.EntityNotFoundException;
+import com.leedahun.storecasecatalog.common.invalidation.CacheInvalidationMessage;
+import com.leedahun.storecasecatalog.domain.category.dto.CategoryResponseDto;
+import com.leedahun.storecasecatalog.domain.category.entity.Category;
+import com.leedahun.storecasecatalog.domain.category.event.CategoryChangedEvent;
+import com.leedahun.storecasecatalog.domain.category.repository.CategoryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CategoryCacheTest {
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    private CategoryCache categoryCache;
+
+    @BeforeEach
+    void setUp() {
+        categoryCache = new CategoryCache(categoryRepository);
+    }
+
+    @Test
+    @DisplayName("최초 조회 시 한 번만 적재하고 이후 조회는 DB에 접근하지 않는다")
+    void get_LoadsOnceAndServesFromSnapshot() {
+        // given
+        given(categoryRepository.findAll()).willReturn(List.of(category(2L, "하의"), category(1L, "상의")));
+
+        // when
+        List<CategoryResponseDto> all = categoryCache.getAll();
+        CategoryResponseDto byId = categoryCache.getById(2L);
+        boolean contains = categoryCache.contains(1L);
+
+        // then
+        assertThat(all).extracting(CategoryResponseDto::getId).containsExactly(1L, 2L);
+        assertThat(byId.getName()).isEqualTo("하의");
+        assertThat(contains).isTrue();
+        verify(categoryRepository, times(1)).findAll();
+    }
+
+    @Test
+    @DisplayName("스냅샷에 없는 ID는 EntityNotFoundException을 던진다")
+    void getById_ThrowsEntityNotFound_WhenMissing() {
+        // given
+        given(categoryRepository.findAll()).willReturn(List.of(category(1L, "상의")));
+
+        // when & then
+        assertThatThrownBy(() -> categoryCache.getById(99L))
+                .isInstanceOf(EntityNotFoundException.class)
+                .hasMessageContaining("Category");
+        assertThat(categoryCache.contains(99L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("변경 이벤트를 받으면 스냅샷을 다시 만들어 교체한다")
+    void onCategoryChanged_ReplacesSnapshot() {
+        // given
+        given(categoryRepository.findAll())
+                .willReturn(List.of(category(1L, "상의")))
+                .willReturn(List.of(category(1L, "상의"), category(3L, "신발")));
+        List<CategoryResponseDto> before = categoryCache.getAll();
+
+        // when
+        categoryCache.onCategoryChanged(new CategoryChangedEvent(3L));
+
+        // then
+        assertThat(before).hasSize(1);
+        assertThat(categoryCache.getAll()).extracting(CategoryResponseDto::getName).containsExactly("상의", "신발");
+        assertThat(categoryCache.getById(3L).getName()).isEqualTo("신발");
+        verify(categoryRepository, times(2)).findAll();
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스의 카테고리 변경 메시지를 받으면 스냅샷을 다시 만들고, 상품 변경만 있으면 그대로 둔다")
+    void onRemoteInvalidation_ReloadsOnlyForCategoryChanges() {
+        // given
+        given(categoryRepository.findAll())
+                .willReturn(List.of(category(1L, "상의")))
+                .willReturn(List.of(category(1L, "아우터")));
+        categoryCache.getAll();
+
+        // when
+        categoryCache.onRemoteInvalidation(new CacheInvalidationMessage("node-b", Set.of(), Set.of(100L)));
+        categoryCache.onRemoteInvalidation(new CacheInvalidationMessage("node-b", Set.of(1L), Set.of()));
+
+        // then
+        assertThat(categoryCache.getById(1L).getName()).isEqualTo("아우터");
+        verify(categoryRepository, times(2)).findAll();
+    }
+
+    private Category category(Long id, String name) {
+        return Category.builder().id(id).name(name).build();
+    }
+}
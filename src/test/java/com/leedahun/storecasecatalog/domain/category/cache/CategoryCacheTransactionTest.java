@@ -0,0 +1,100 @@
+package com.leedahun.storecasecatalog.domain.category.cache;
+
+import com.leedahun.storecasecatalog.common.instrumentation.SqlStatementCountingListener;
+import com.leedahun.storecasecatalog.domain.category.dto.CategoryRequestDto;
+import com.leedahun.storecasecatalog.domain.category.dto.CategoryResponseDto;
+import com.leedahun.storecasecatalog.domain.category.event.CategoryChangedEvent;
+import com.leedahun.storecasecatalog.domain.category.repository.CategoryRepository;
+import com.leedahun.storecasecatalog.domain.category.service.CategoryService;
+import com.leedahun.storecasecatalog.domain.category.service.impl.CategoryServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static com.leedahun.storecasecatalog.support.SqlStatementAssertions.assertMaxQueries;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 카테고리 스냅샷이 트랜잭션 커밋 이후에만 갱신되는지 확인합니다.
+ * 커밋 시점을 검증해야 하므로 테스트 메서드 자체는 트랜잭션 없이 실행합니다.
+ */
+@DataJpaTest
+@Import({CategoryServiceImpl.class, CategoryCache.class, SqlStatementCountingListener.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CategoryCacheTransactionTest {
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private CategoryCache categoryCache;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        categoryRepository.deleteAll();
+        categoryCache.onCategoryChanged(new CategoryChangedEvent(null));
+    }
+
+    @Test
+    @DisplayName("카테고리 생성/수정/삭제가 커밋되면 스냅샷이 갱신된다")
+    void snapshot_IsRebuiltAfterCommit() {
+        // given
+        assertThat(categoryService.getAllCategories()).isEmpty();
+
+        // when & then
+        CategoryResponseDto created = categoryService.createCategory(new CategoryRequestDto("상의"));
+        assertThat(categoryService.getAllCategories()).extracting(CategoryResponseDto::getName).containsExactly("상의");
+
+        categoryService.updateCategory(created.getId(), new CategoryRequestDto("아우터"));
+        assertThat(categoryService.getCategoryById(created.getId()).getName()).isEqualTo("아우터");
+
+        categoryService.deleteCategory(created.getId());
+        assertThat(categoryService.getAllCategories()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("롤백된 변경은 스냅샷에 반영되지 않는다")
+    void snapshot_IgnoresRolledBackChange() {
+        // given
+        assertThat(categoryService.getAllCategories()).isEmpty();
+
+        // when
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            categoryService.createCategory(new CategoryRequestDto("상의"));
+            status.setRollbackOnly();
+        });
+
+        // then
+        assertThat(categoryService.getAllCategories()).isEmpty();
+        assertThat(categoryRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("카테고리 목록은 스냅샷을 만들 때 쿼리 한 번으로 읽고, 이후 조회는 SQL을 실행하지 않는다")
+    void getAllCategories_StaysWithinStatementBudget() throws Throwable {
+        // given
+        for (int i = 0; i < 20; i++) {
+            categoryService.createCategory(new CategoryRequestDto("카테고리" + i));
+        }
+
+        // when: 커밋마다 스냅샷을 전체 목록 조회 한 번으로 다시 만듦
+        assertMaxQueries(1, () -> categoryCache.onCategoryChanged(new CategoryChangedEvent(null)));
+
+        // then
+        assertThat(assertMaxQueries(0, () -> categoryService.getAllCategories())).hasSize(20);
+        assertMaxQueries(0, () -> categoryService.getCategoryById(categoryService.getAllCategories().get(0).getId()));
+    }
+}
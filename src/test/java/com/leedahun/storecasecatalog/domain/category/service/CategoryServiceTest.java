@@ -2,9 +2,11 @@ package com.leedahun.storecasecatalog.domain.category.service;
 
 import com.leedahun.storecasecatalog.common.error.exception.EntityAlreadyExistsException;
 import com.leedahun.storecasecatalog.common.error.exception.EntityNotFoundException;
+import com.leedahun.storecasecatalog.domain.category.cache.CategoryCache;
 import com.leedahun.storecasecatalog.domain.category.dto.CategoryRequestDto;
 import com.leedahun.storecasecatalog.domain.category.dto.CategoryResponseDto;
 import com.leedahun.storecasecatalog.domain.category.entity.Category;
+import com.leedahun.storecasecatalog.domain.category.event.CategoryChangedEvent;
 import com.leedahun.storecasecatalog.domain.category.repository.CategoryRepository;
 import com.leedahun.storecasecatalog.domain.category.service.impl.CategoryServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,6 +16,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Arrays;
 import java.util.List;
@@ -24,6 +27,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -35,6 +39,12 @@ class CategoryServiceTest {
     @Mock
     private CategoryRepository categoryRepository;
 
+    @Mock
+    private CategoryCache categoryCache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private Category category;
     private CategoryRequestDto requestDto;
 
@@ -64,6 +74,7 @@ class CategoryServiceTest {
         assertThat(responseDto.getName()).isEqualTo("테스트 카테고리");
 
         verify(categoryRepository).save(any(Category.class));
+        verify(eventPublisher).publishEvent(any(CategoryChangedEvent.class));
     }
 
     @Test
@@ -74,19 +85,20 @@ class CategoryServiceTest {
 
         // when & then
         assertThrows(EntityAlreadyExistsException.class, () -> categoryService.createCategory(requestDto));
+        verify(eventPublisher, never()).publishEvent(any());
     }
 
     @Test
-    @DisplayName("모든 카테고리 조회 - 성공")
+    @DisplayName("모든 카테고리 조회 - 성공(스냅샷에서 조회)")
     void getAllCategories_success() {
         // given
         Category category2 = Category.builder()
                 .id(2L)
                 .name("테스트 카테고리2")
                 .build();
-        List<Category> list = Arrays.asList(category, category2);
+        List<CategoryResponseDto> list = Arrays.asList(new CategoryResponseDto(category), new CategoryResponseDto(category2));
 
-        given(categoryRepository.findAll()).willReturn(list);
+        given(categoryCache.getAll()).willReturn(list);
 
         // when
         List<CategoryResponseDto> responseList = categoryService.getAllCategories();
@@ -94,14 +106,15 @@ class CategoryServiceTest {
         // then
         assertThat(responseList).hasSize(2);
         assertThat(responseList.get(0).getName()).isEqualTo("테스트 카테고리");
+        verify(categoryRepository, never()).findAll();
     }
 
     @Test
-    @DisplayName("특정 카테고리 조회 - 성공")
+    @DisplayName("특정 카테고리 조회 - 성공(스냅샷에서 조회)")
     void getCategoryById_success() {
         // given
         Long categoryId = 1L;
-        given(categoryRepository.findById(categoryId)).willReturn(Optional.of(category));
+        given(categoryCache.getById(categoryId)).willReturn(new CategoryResponseDto(category));
 
         // when
         CategoryResponseDto responseDto = categoryService.getCategoryById(categoryId);
@@ -109,6 +122,7 @@ class CategoryServiceTest {
         // then
         assertThat(responseDto.getId()).isEqualTo(categoryId);
         assertThat(responseDto.getName()).isEqualTo(category.getName());
+        verify(categoryRepository, never()).findById(any());
     }
 
     @Test
@@ -116,7 +130,7 @@ class CategoryServiceTest {
     void getCategoryById_shouldThrowEntityNotFoundException() {
         // given
         Long notFoundId = 99L;
-        given(categoryRepository.findById(notFoundId)).willReturn(Optional.empty());
+        given(categoryCache.getById(notFoundId)).willThrow(new EntityNotFoundException("Category", notFoundId));
 
         // when & then
         assertThrows(EntityNotFoundException.class, () -> categoryService.getCategoryById(notFoundId));
@@ -139,6 +153,7 @@ class CategoryServiceTest {
         // then
         assertThat(responseDto.getName()).isEqualTo("수정된 이름");
         assertThat(category.getName()).isEqualTo("수정된 이름");
+        verify(eventPublisher).publishEvent(new CategoryChangedEvent(categoryId));
     }
 
     @Test
@@ -153,5 +168,6 @@ class CategoryServiceTest {
 
         // then
         verify(categoryRepository).delete(category);
+        verify(eventPublisher).publishEvent(new CategoryChangedEvent(categoryId));
     }
 }
\ No newline at end of file
@@ -0,0 +1,96 @@
+package com.leedahun.storecasecatalog.domain.option.repository;
+
+import com.leedahun.storecasecatalog.domain.option.entity.Option;
+import com.leedahun.storecasecatalog.domain.product.entity.Product;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class OptionRepositoryTest {
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private OptionRepository optionRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("옵션 50개를 가진 상품 저장 시 INSERT가 JDBC 배치로 묶여 몇 개의 문장으로 처리된다")
+    void saveAll_BatchesOptionInserts() {
+        // Given
+        Product product = Product.builder()
+                .storeId(1L)
+                .name("Test T-Shirt")
+                .build();
+        List<Option> options = IntStream.range(0, 50)
+                .mapToObj(i -> Option.builder()
+                        .product(product)
+                        .name("option-" + i)
+                        .price(1000)
+                        .stock(10)
+                        .build())
+                .toList();
+
+        // When
+        testEntityManager.persist(product);
+        optionRepository.saveAll(options);
+        testEntityManager.flush();
+
+        // Then
+        // 상품 INSERT 1 + 옵션 배치 INSERT 1 + 시퀀스 조회 (pooled 옵티마이저, 엔티티별 최대 2회)
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(51);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(6);
+        assertThat(options).allSatisfy(option -> assertThat(option.getId()).isNotNull());
+    }
+
+    @Test
+    @DisplayName("장바구니 옵션 재고 차감은 옵션 수와 관계없이 UPDATE 한 문장으로 처리되고, 부족한 옵션은 차감하지 않는다")
+    void decreaseStocks_UsesSingleStatement() {
+        // Given
+        Product product = testEntityManager.persist(Product.builder().storeId(1L).name("Test T-Shirt").build());
+        List<Option> options = IntStream.range(0, 10)
+                .mapToObj(i -> testEntityManager.persist(Option.builder()
+                        .product(product).name("option-" + i).price(1000).stock(i).build()))
+                .toList();
+        testEntityManager.flush();
+        testEntityManager.clear();
+        statistics.clear();
+        SortedMap<Long, Integer> quantities = new TreeMap<>();
+        options.forEach(option -> quantities.put(option.getId(), 5));
+
+        // When
+        int updated = optionRepository.decreaseStocks(quantities);
+
+        // Then: 재고가 5 이상인 옵션(5~9)만 차감됨
+        assertThat(updated).isEqualTo(5);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(optionRepository.findAllById(quantities.keySet()))
+                .extracting(Option::getStock)
+                .containsExactlyInAnyOrder(0, 1, 2, 3, 4, 0, 1, 2, 3, 4);
+    }
+}
@@ -0,0 +1,286 @@
+package com.leedahun.storecasecatalog.domain.option.stock;
+
+import com.leedahun.storecasecatalog.common.error.exception.OutOfStockException;
+import com.leedahun.storecasecatalog.domain.option.dto.OptionStockReservationDto;
+import com.leedahun.storecasecatalog.domain.option.entity.Option;
+import com.leedahun.storecasecatalog.domain.option.entity.OptionStockLease;
+import com.leedahun.storecasecatalog.domain.option.repository.OptionRepository;
+import com.leedahun.storecasecatalog.domain.option.repository.OptionStockLeaseRepository;
+import com.leedahun.storecasecatalog.domain.product.entity.Product;
+import com.leedahun.storecasecatalog.domain.product.repository.ProductRepository;
+import com.leedahun.storecasecatalog.domain.product.service.impl.StockServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 핫 SKU 재고의 임대·반납·재기동 복구가 DB 재고와 맞게 동작하는지 확인합니다.
+ * 임대는 별도 트랜잭션으로 커밋되므로 테스트 메서드 자체는 트랜잭션 없이 실행합니다.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class HotStockRegistryTest {
+
+    private static final int STOCK = 250;
+    private static final int LEASE_SIZE = 100;
+    private static final String INSTANCE_ID = "catalog-1:8082";
+
+    @Autowired
+    private OptionRepository optionRepository;
+
+    @Autowired
+    private OptionStockLeaseRepository optionStockLeaseRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Product product;
+    private Option hotOption;
+    private HotStockRegistry hotStockRegistry;
+
+    @BeforeEach
+    void setUp() {
+        product = productRepository.save(Product.builder().storeId(1L).name("한정판 티셔츠").price(10000).stock(0).build());
+        hotOption = optionRepository.save(Option.builder().product(product).name("FREE").price(0).stock(STOCK).build());
+        hotStockRegistry = registry();
+        hotStockRegistry.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        hotStockRegistry.stop();
+        optionStockLeaseRepository.deleteAll();
+        optionRepository.deleteAll();
+        productRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("핫 옵션에 동시 차감이 몰려도 DB 재고 수만큼만 성공하고, 재고는 임대 단위로만 DB에서 차감된다")
+    void tryReserve_DoesNotOversell_UnderContention() throws Exception {
+        // Given: 재고의 2배 요청
+        int requests = STOCK * 2;
+        AtomicInteger succeeded = new AtomicInteger();
+        CountDownLatch startLatch = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+
+        // When
+        List<Future<?>> results = new ArrayList<>();
+        for (int i = 0; i < requests; i++) {
+            results.add(executor.submit(() -> {
+                startLatch.await();
+                if (hotStockRegistry.tryReserve(hotOption.getId(), 1)) {
+                    succeeded.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        startLatch.countDown();
+        for (Future<?> result : results) {
+            result.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Then: 100 + 100 + 50 세 번 임대
+        assertThat(succeeded).hasValue(STOCK);
+        assertThat(stock()).isZero();
+        assertThat(lease().getGranted()).isEqualTo(STOCK);
+    }
+
+    @Test
+    @DisplayName("판매 수량은 주기적으로 기록되고, 정상 종료 시 남은 임대분을 재고로 반납한다")
+    void stop_ReturnsRemainingLease() {
+        // Given
+        reserve(30);
+        assertThat(stock()).isEqualTo(STOCK - LEASE_SIZE);
+
+        // When & Then
+        hotStockRegistry.flush();
+        assertThat(lease().getConsumed()).isEqualTo(30);
+
+        hotStockRegistry.stop();
+        assertThat(stock()).isEqualTo(STOCK - 30);
+        assertThat(optionStockLeaseRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("판매 수량 기록(flush)이 임대와 동시에 실행되어도 그 사이 커밋된 임대 수량을 덮어쓰지 않는다")
+    void flush_DoesNotOverwriteConcurrentLease() throws Exception {
+        // Given: 임대가 여러 번 일어나도록 재고를 늘림 (임대 50회)
+        int stock = LEASE_SIZE * 50;
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                optionRepository.increaseStock(hotOption.getId(), stock - STOCK));
+        AtomicBoolean reserving = new AtomicBoolean(true);
+        ExecutorService executor = Executors.newFixedThreadPool(9);
+
+        // When: 한 스레드는 계속 기록하고, 나머지는 재고를 모두 차감
+        Future<?> flusher = executor.submit(() -> {
+            while (reserving.get()) {
+                hotStockRegistry.flush();
+            }
+        });
+        List<Future<?>> reservers = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            reservers.add(executor.submit(() -> {
+                for (int j = 0; j < stock / 8; j++) {
+                    assertThat(hotStockRegistry.tryReserve(hotOption.getId(), 1)).isTrue();
+                }
+                return null;
+            }));
+        }
+        for (Future<?> reserver : reservers) {
+            reserver.get(60, TimeUnit.SECONDS);
+        }
+        reserving.set(false);
+        flusher.get(10, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // Then: DB에서 차감된 만큼 임대 기록이 남아 있고, 마지막 기록 후 판매 수량도 맞음
+        assertThat(stock()).isZero();
+        assertThat(lease().getGranted()).isEqualTo(stock);
+        hotStockRegistry.flush();
+        assertThat(lease().getConsumed()).isEqualTo(stock);
+    }
+
+    @Test
+    @DisplayName("종료로 임대분을 반납한 뒤 되돌리는 수량은 메모리에 남기지 않고 DB 재고로 되돌린다")
+    void release_ReturnsToDatabase_AfterStop() {
+        // Given
+        reserve(10);
+        hotStockRegistry.stop();
+        assertThat(stock()).isEqualTo(STOCK - 10);
+
+        // When: 종료 직전에 차감한 주문이 다른 옵션 실패로 되돌림
+        hotStockRegistry.release(hotOption.getId(), 10);
+
+        // Then
+        assertThat(stock()).isEqualTo(STOCK);
+    }
+
+    @Test
+    @DisplayName("isActive 확인 후 종료가 시작된 차감은 임대 없이 DB에서 직접 차감하고, 되돌리면 DB로 반납한다")
+    void tryReserve_DecreasesDatabaseDirectly_AfterStop() {
+        // Given
+        hotStockRegistry.stop();
+
+        // When
+        boolean reserved = hotStockRegistry.tryReserve(hotOption.getId(), 3);
+
+        // Then
+        assertThat(reserved).isTrue();
+        assertThat(stock()).isEqualTo(STOCK - 3);
+        assertThat(optionStockLeaseRepository.count()).isZero();
+        assertThat(hotStockRegistry.tryReserve(hotOption.getId(), STOCK)).isFalse();
+
+        hotStockRegistry.release(hotOption.getId(), 3);
+        assertThat(stock()).isEqualTo(STOCK);
+    }
+
+    @Test
+    @DisplayName("비정상 종료 후 재기동하면 마지막 기록 기준으로 미판매분을 반납하고, 초과 판매는 기록 이후 판매분으로 제한된다")
+    void start_RecoversLeaseLeftByCrash() {
+        // Given: 30개 기록 후 5개를 더 팔고 stop() 없이 종료
+        reserve(30);
+        hotStockRegistry.flush();
+        reserve(5);
+
+        // When: 같은 instance-id로 재기동
+        hotStockRegistry = registry();
+        hotStockRegistry.start();
+
+        // Then: 기록되지 않은 5개만큼 재고가 많게 복구됨 (한도: lease-size)
+        assertThat(stock()).isEqualTo(STOCK - 30);
+        assertThat(optionStockLeaseRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("장바구니 중 DB 옵션이 부족하면 메모리에서 차감한 핫 옵션 수량도 되돌린다")
+    void reserveOptionStocks_ReleasesHotOption_WhenDatabaseOptionIsShort() {
+        // Given
+        Option normalOption = optionRepository.save(Option.builder().product(product).name("S").price(0).stock(1).build());
+        StockServiceImpl stockService = new StockServiceImpl(productRepository, optionRepository, hotStockRegistry,
+                transactionManager);
+
+        // When
+        assertThatThrownBy(() -> stockService.reserveOptionStocks(List.of(
+                new OptionStockReservationDto(hotOption.getId(), 10),
+                new OptionStockReservationDto(normalOption.getId(), 2))))
+                .isInstanceOf(OutOfStockException.class);
+
+        // Then
+        hotStockRegistry.stop();
+        assertThat(stock()).isEqualTo(STOCK);
+        assertThat(optionRepository.findById(normalOption.getId()).orElseThrow().getStock()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("0 이하 수량은 메모리 재고에서 차감하지 않고 거절한다")
+    void tryReserve_RejectsNonPositiveQuantity() {
+        // When & Then
+        assertThatThrownBy(() -> hotStockRegistry.tryReserve(hotOption.getId(), -LEASE_SIZE))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> hotStockRegistry.tryReserve(hotOption.getId(), 0))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        hotStockRegistry.stop();
+        assertThat(stock()).isEqualTo(STOCK);
+    }
+
+    @Test
+    @DisplayName("핫 옵션을 지정했는데 instance-id가 없으면 생성하지 않는다")
+    void constructor_RequiresInstanceId_WhenHotOptionsConfigured() {
+        // When & Then
+        assertThatThrownBy(() -> new HotStockRegistry(optionRepository, optionStockLeaseRepository,
+                new SimpleMeterRegistry(), transactionManager, Set.of(hotOption.getId()),
+                LEASE_SIZE, 4, Duration.ofHours(1), ""))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("catalog.stock.hot.instance-id");
+        new HotStockRegistry(optionRepository, optionStockLeaseRepository,
+                new SimpleMeterRegistry(), transactionManager, Set.of(), LEASE_SIZE, 4, Duration.ofHours(1), "");
+    }
+
+    private HotStockRegistry registry() {
+        return new HotStockRegistry(optionRepository, optionStockLeaseRepository,
+                new SimpleMeterRegistry(), transactionManager, Set.of(hotOption.getId()),
+                LEASE_SIZE, 4, Duration.ofHours(1), INSTANCE_ID);
+    }
+
+    private void reserve(int count) {
+        for (int i = 0; i < count; i++) {
+            assertThat(hotStockRegistry.tryReserve(hotOption.getId(), 1)).isTrue();
+        }
+    }
+
+    private int stock() {
+        return optionRepository.findById(hotOption.getId()).orElseThrow().getStock();
+    }
+
+    private OptionStockLease lease() {
+        return optionStockLeaseRepository.findByOptionIdAndInstanceId(hotOption.getId(), INSTANCE_ID).orElseThrow();
+    }
+}
@@ -0,0 +1,83 @@
+package com.leedahun.storecasecatalog.domain.option.stock;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StripedStockCounterTest {
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 차감해도 임대받은 수량보다 많이 차감되지 않는다")
+    void tryAcquire_NeverExceedsGranted() throws Exception {
+        // Given
+        StripedStockCounter counter = new StripedStockCounter(8);
+        counter.grant(1000);
+        int threads = 8;
+        CountDownLatch startLatch = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // When: 스레드마다 재고가 떨어질 때까지 1개씩 차감
+        List<Future<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            results.add(executor.submit(() -> {
+                startLatch.await();
+                int acquired = 0;
+                while (counter.tryAcquire(1)) {
+                    acquired++;
+                }
+                return acquired;
+            }));
+        }
+        startLatch.countDown();
+        int total = 0;
+        for (Future<Integer> result : results) {
+            total += result.get(10, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Then
+        assertThat(total).isEqualTo(1000);
+        assertThat(counter.remaining()).isZero();
+        assertThat(counter.consumed()).isEqualTo(1000);
+    }
+
+    @Test
+    @DisplayName("남은 재고가 여러 칸에 흩어져 한 칸으로 모자라면 모아서 차감한다")
+    void tryGather_CombinesStripes() {
+        // Given: 4칸에 1개씩
+        StripedStockCounter counter = new StripedStockCounter(4);
+        counter.grant(4);
+
+        // When & Then
+        assertThat(counter.tryAcquire(3)).isFalse();
+        assertThat(counter.tryGather(3)).isTrue();
+        assertThat(counter.remaining()).isEqualTo(1);
+        assertThat(counter.tryGather(2)).isFalse();
+        assertThat(counter.remaining()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("되돌린 수량은 다시 판매할 수 있고 판매 수량에서 빠진다")
+    void release_ReturnsQuantity() {
+        // Given
+        StripedStockCounter counter = new StripedStockCounter(4);
+        counter.grant(10);
+        counter.tryAcquire(2);
+
+        // When
+        counter.release(2);
+
+        // Then
+        assertThat(counter.consumed()).isZero();
+        assertThat(counter.remaining()).isEqualTo(10);
+    }
+}
@@ -0,0 +1,242 @@
+package com.leedahun.storecasecatalog.domain.product.cache;
+
+import com.leedahun.storecasecatalog.common.error.exception.EntityNotFoundException;
+import com.leedahun.storecasecatalog.common.invalidation.CacheInvalidationMessage;
+import com.leedahun.storecasecatalog.domain.category.event.CategoryChangedEvent;
+import com.leedahun.storecasecatalog.domain.product.dto.ProductDetailResponseDto;
+import com.leedahun.storecasecatalog.domain.product.event.ProductChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+class ProductDetailCacheTest {
+
+    private static final Duration TTL = Duration.ofMinutes(5);
+    private static final long LOAD_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final AtomicInteger loadCount = new AtomicInteger();
+    private SimpleMeterRegistry meterRegistry;
+    private ProductDetailCache productDetailCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        productDetailCache = new ProductDetailCache(meterRegistry, 1000, TTL, 1.0, nanos::get);
+    }
+
+    @Test
+    @DisplayName("같은 상품에 대한 동시 미스는 한 번의 조회로 합쳐진다")
+    void get_CollapsesConcurrentMisses() throws Exception {
+        // Given
+        int threads = 16;
+        CountDownLatch startLatch = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // When
+        List<Future<ProductDetailResponseDto>> results = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            results.add(executor.submit(() -> {
+                startLatch.await();
+                return productDetailCache.get(1L, productId -> {
+                    sleep(100);
+                    return load(productId);
+                });
+            }));
+        }
+        startLatch.countDown();
+
+        // Then
+        for (Future<ProductDetailResponseDto> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS).getProductId()).isEqualTo(1L);
+        }
+        assertThat(loadCount).hasValue(1);
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("만료까지 충분히 남은 항목은 미리 갱신하지 않는다")
+    void get_DoesNotRefreshFreshEntry() {
+        // Given
+        productDetailCache.get(1L, this::load);
+
+        // When
+        nanos.addAndGet(TTL.toNanos() / 2);
+        productDetailCache.get(1L, this::load);
+
+        // Then
+        assertThat(loadCount).hasValue(1);
+        assertThat(meterRegistry.get("cache.early-refreshes").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("만료 직전의 항목은 만료 전에 한 요청이 미리 다시 읽는다")
+    void get_RefreshesEarly_WhenCloseToExpiry() {
+        // Given: 조회에 100ms 걸린 항목
+        productDetailCache.get(1L, this::load);
+
+        // When: 만료 1ns 전 조회
+        nanos.addAndGet(TTL.toNanos() - LOAD_NANOS - 1);
+        ProductDetailResponseDto refreshed = productDetailCache.get(1L, productId -> load(productId, "갱신된 상품"));
+
+        // Then
+        assertThat(refreshed.getProductName()).isEqualTo("갱신된 상품");
+        assertThat(loadCount).hasValue(2);
+        assertThat(meterRegistry.get("cache.early-refreshes").counter().count()).isEqualTo(1);
+        assertThat(productDetailCache.get(1L, this::load).getProductName()).isEqualTo("갱신된 상품");
+    }
+
+    @Test
+    @DisplayName("조기 갱신에 실패하면 아직 만료되지 않은 기존 값을 반환한다")
+    void get_ReturnsCurrentValue_WhenEarlyRefreshFails() {
+        // Given
+        productDetailCache.get(1L, this::load);
+        nanos.addAndGet(TTL.toNanos() - LOAD_NANOS - 1);
+
+        // When
+        ProductDetailResponseDto detail = productDetailCache.get(1L, productId -> {
+            throw new IllegalStateException("db down");
+        });
+
+        // Then
+        assertThat(detail.getProductName()).isEqualTo("상품1");
+    }
+
+    @Test
+    @DisplayName("조기 갱신 중 변경 커밋으로 제거된 항목은 갱신 결과로 되살리지 않는다")
+    void get_DoesNotResurrectEntryInvalidatedDuringRefresh() {
+        // Given
+        productDetailCache.get(1L, this::load);
+        nanos.addAndGet(TTL.toNanos() - LOAD_NANOS - 1);
+
+        // When: 갱신 조회 도중 변경이 커밋됨
+        productDetailCache.get(1L, productId -> {
+            ProductDetailResponseDto stale = load(productId, "변경 전에 읽은 상품");
+            productDetailCache.onProductChanged(new ProductChangedEvent(productId));
+            return stale;
+        });
+
+        // Then
+        assertThat(productDetailCache.get(1L, productId -> load(productId, "변경된 상품")).getProductName()).isEqualTo("변경된 상품");
+    }
+
+    @Test
+    @DisplayName("조회 실패는 캐시하지 않는다")
+    void get_DoesNotCacheFailure() {
+        // Given
+        assertThatThrownBy(() -> productDetailCache.get(1L, productId -> {
+            throw new EntityNotFoundException("Product", productId);
+        })).isInstanceOf(EntityNotFoundException.class);
+
+        // When
+        ProductDetailResponseDto detail = productDetailCache.get(1L, this::load);
+
+        // Then
+        assertThat(detail.getProductId()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("조회 중 Error가 나도 진행 중 조회를 실패로 완료해 다음 조회가 대기하지 않는다")
+    void get_CompletesLoadingFutureOnError() {
+        // Given
+        StackOverflowError error = new StackOverflowError();
+
+        // When & Then
+        assertThatThrownBy(() -> productDetailCache.get(1L, productId -> {
+            throw error;
+        })).isSameAs(error);
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () ->
+                assertThat(productDetailCache.get(1L, this::load).getProductId()).isEqualTo(1L));
+    }
+
+    @Test
+    @DisplayName("상품 변경은 해당 상품만, 카테고리 변경은 전체를 무효화한다")
+    void onChanged_Invalidates() {
+        // Given
+        productDetailCache.get(1L, this::load);
+        productDetailCache.get(2L, this::load);
+
+        // When & Then
+        productDetailCache.onProductChanged(new ProductChangedEvent(1L));
+        productDetailCache.get(1L, this::load);
+        productDetailCache.get(2L, this::load);
+        assertThat(loadCount).hasValue(3);
+
+        productDetailCache.onCategoryChanged(new CategoryChangedEvent(10L));
+        productDetailCache.get(1L, this::load);
+        productDetailCache.get(2L, this::load);
+        assertThat(loadCount).hasValue(5);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스의 변경 메시지는 상품 ID만 있으면 해당 상품만, 카테고리가 있으면 전체를 무효화한다")
+    void onRemoteInvalidation_Invalidates() {
+        // Given
+        productDetailCache.get(1L, this::load);
+        productDetailCache.get(2L, this::load);
+
+        // When & Then
+        productDetailCache.onRemoteInvalidation(new CacheInvalidationMessage("node-b", Set.of(), Set.of(1L)));
+        productDetailCache.get(1L, this::load);
+        productDetailCache.get(2L, this::load);
+        assertThat(loadCount).hasValue(3);
+
+        productDetailCache.onRemoteInvalidation(new CacheInvalidationMessage("node-b", Set.of(10L), Set.of()));
+        productDetailCache.get(1L, this::load);
+        productDetailCache.get(2L, this::load);
+        assertThat(loadCount).hasValue(5);
+    }
+
+    @Test
+    @DisplayName("적중률 계산을 위한 hit/miss 지표를 기록한다")
+    void get_RecordsHitAndMissMetrics() {
+        // When
+        productDetailCache.get(1L, this::load);
+        productDetailCache.get(1L, this::load);
+
+        // Then
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "productDetailCache").tag("result", "miss").functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "productDetailCache").tag("result", "hit").functionCounter().count()).isEqualTo(1);
+    }
+
+    private ProductDetailResponseDto load(Long productId) {
+        return load(productId, "상품" + productId);
+    }
+
+    // 조회에 LOAD_NANOS가 걸린 것으로 시간을 진행
+    private ProductDetailResponseDto load(Long productId, String productName) {
+        loadCount.incrementAndGet();
+        nanos.addAndGet(LOAD_NANOS);
+        return ProductDetailResponseDto.builder()
+                .productId(productId)
+                .productName(productName)
+                .options(List.of())
+                .images(List.of())
+                .build();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.leedahun.storecasecatalog.domain.product.cache;
+
+import com.leedahun.storecasecatalog.domain.category.entity.Category;
+import com.leedahun.storecasecatalog.domain.category.repository.CategoryRepository;
+import com.leedahun.storecasecatalog.domain.option.entity.Option;
+import com.leedahun.storecasecatalog.domain.option.repository.OptionRepository;
+import com.leedahun.storecasecatalog.domain.product.dto.ProductDetailResponseDto;
+import com.leedahun.storecasecatalog.domain.product.entity.Product;
+import com.leedahun.storecasecatalog.domain.product.repository.ProductRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 상품·옵션 엔티티 변경이 커밋된 뒤에만 상품 상세 캐시에서 제거되는지 확인합니다.
+ * 커밋 시점을 검증해야 하므로 테스트 메서드 자체는 트랜잭션 없이 실행합니다.
+ */
+@DataJpaTest
+@Import({ProductDetailCache.class, SimpleMeterRegistry.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ProductDetailCacheTransactionTest {
+
+    @Autowired
+    private ProductDetailCache productDetailCache;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OptionRepository optionRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final AtomicInteger loadCount = new AtomicInteger();
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        Category category = categoryRepository.save(Category.builder().name("상의").build());
+        product = productRepository.save(Product.builder()
+                .storeId(1L).category(category).name("반팔 티셔츠").price(10000).stock(10).build());
+        productDetailCache.get(product.getId(), this::load);
+    }
+
+    @AfterEach
+    void tearDown() {
+        optionRepository.deleteAll();
+        productRepository.deleteAll();
+        categoryRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("기존 상품에 옵션 추가가 커밋되면 캐시에서 제거되어 다음 조회에서 다시 읽는다")
+    void optionInsert_InvalidatesAfterCommit() {
+        // When
+        optionRepository.save(option());
+        productDetailCache.get(product.getId(), this::load);
+
+        // Then
+        assertThat(loadCount).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("롤백된 변경은 캐시를 무효화하지 않는다")
+    void rolledBackChange_DoesNotInvalidate() {
+        // When
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            optionRepository.saveAndFlush(option());
+            status.setRollbackOnly();
+        });
+        productDetailCache.get(product.getId(), this::load);
+
+        // Then
+        assertThat(loadCount).hasValue(1);
+    }
+
+    private Option option() {
+        return Option.builder().product(product).name("L").price(0).stock(5).build();
+    }
+
+    private ProductDetailResponseDto load(Long productId) {
+        loadCount.incrementAndGet();
+        return ProductDetailResponseDto.builder()
+                .productId(productId)
+                .options(List.of())
+                .images(List.of())
+                .build();
+    }
+}
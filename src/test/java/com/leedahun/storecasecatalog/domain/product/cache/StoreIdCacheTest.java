@@ -0,0 +1,152 @@
+package com.leedahun.storecasecatalog.domain.product.cache;
+
+import com.leedahun.storecasecatalog.common.error.exception.EntityNotFoundException;
+import com.leedahun.storecasecatalog.common.error.exception.ExternalApiException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+class StoreIdCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private StoreIdCache storeIdCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        storeIdCache = new StoreIdCache(meterRegistry, 100, Duration.ofMinutes(10), Duration.ofSeconds(30), Duration.ofHours(24));
+    }
+
+    @Test
+    @DisplayName("같은 sellerId에 대한 동시 미스는 한 번의 조회로 합쳐진다")
+    void get_CollapsesConcurrentMisses() throws Exception {
+        // Given
+        int threads = 16;
+        AtomicInteger loadCount = new AtomicInteger();
+        CountDownLatch startLatch = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // When
+        List<Future<Long>> results = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            results.add(executor.submit(() -> {
+                startLatch.await();
+                return storeIdCache.get(1L, sellerId -> {
+                    loadCount.incrementAndGet();
+                    sleep(100);
+                    return 100L;
+                });
+            }));
+        }
+        startLatch.countDown();
+
+        // Then
+        for (Future<Long> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo(100L);
+        }
+        assertThat(loadCount.get()).isEqualTo(1);
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("존재하지 않음 결과는 부정 캐시되어 다시 조회하지 않는다")
+    void get_CachesNotFoundResult() {
+        // Given
+        AtomicInteger loadCount = new AtomicInteger();
+
+        // When & Then
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> storeIdCache.get(99L, sellerId -> {
+                loadCount.incrementAndGet();
+                throw new EntityNotFoundException("Seller's StoreId", sellerId);
+            })).isInstanceOf(EntityNotFoundException.class);
+        }
+        assertThat(loadCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("캐시 적중/미스 지표가 기록된다")
+    void get_RecordsHitAndMissMetrics() {
+        // When
+        storeIdCache.get(1L, sellerId -> 100L);
+        storeIdCache.get(1L, sellerId -> 100L);
+        storeIdCache.get(1L, sellerId -> 100L);
+
+        // Then
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "storeIdCache").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "storeIdCache").tag("result", "miss")
+                .functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("identity-service 장애 시 만료된 항목이라도 마지막으로 알려진 상점 ID로 대체한다")
+    void get_FallsBackToLastKnownOnExternalApiFailure() {
+        // Given: TTL 0으로 매 조회가 identity-service 호출로 이어지도록 구성
+        StoreIdCache expiringCache = new StoreIdCache(meterRegistry, 100, Duration.ZERO, Duration.ZERO, Duration.ofHours(24));
+        expiringCache.get(1L, sellerId -> 100L);
+
+        // When
+        Long storeId = expiringCache.get(1L, sellerId -> {
+            throw new ExternalApiException();
+        });
+        Long asyncStoreId = expiringCache.getAsync(1L, sellerId -> CompletableFuture.failedFuture(new ExternalApiException())).join();
+
+        // Then
+        assertThat(storeId).isEqualTo(100L);
+        assertThat(asyncStoreId).isEqualTo(100L);
+        assertThat(meterRegistry.get("identity.store-id.fallbacks").tag("result", "last-known").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("대체할 상점 ID가 없으면 ExternalApiException을 그대로 전달한다")
+    void get_ThrowsExternalApiWhenNoLastKnown() {
+        // When & Then
+        assertThatThrownBy(() -> storeIdCache.get(1L, sellerId -> {
+            throw new ExternalApiException();
+        })).isInstanceOf(ExternalApiException.class);
+        assertThatThrownBy(() -> storeIdCache.getAsync(2L, sellerId -> CompletableFuture.failedFuture(new ExternalApiException())).join())
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(ExternalApiException.class);
+        assertThat(meterRegistry.get("identity.store-id.fallbacks").tag("result", "unavailable").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("조회 중 Error가 나도 진행 중 조회를 실패로 완료해 다음 조회가 대기하지 않는다")
+    void get_CompletesLoadingFutureOnError() {
+        // Given
+        StackOverflowError error = new StackOverflowError();
+
+        // When & Then
+        assertThatThrownBy(() -> storeIdCache.get(1L, sellerId -> {
+            throw error;
+        })).isSameAs(error);
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () ->
+                assertThat(storeIdCache.get(1L, sellerId -> 100L)).isEqualTo(100L));
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
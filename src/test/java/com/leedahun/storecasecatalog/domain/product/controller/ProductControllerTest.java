@@ -2,32 +2,45 @@ package com.leedahun.storecasecatalog.domain.product.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.leedahun.storecasecatalog.common.error.exception.EntityNotFoundException;
+import com.leedahun.storecasecatalog.common.error.exception.InvalidCursorException;
+import com.leedahun.storecasecatalog.config.AsyncConfig;
 import com.leedahun.storecasecatalog.common.message.SuccessMessage;
 import com.leedahun.storecasecatalog.common.response.HttpResponse;
 import com.leedahun.storecasecatalog.domain.option.dto.OptionCreateRequestDto;
+import com.leedahun.storecasecatalog.domain.option.dto.OptionDetailDto;
 import com.leedahun.storecasecatalog.domain.product.dto.ProductCreateRequestDto;
+import com.leedahun.storecasecatalog.domain.product.dto.ProductDetailResponseDto;
+import com.leedahun.storecasecatalog.domain.product.dto.ProductImageDetailDto;
+import com.leedahun.storecasecatalog.domain.product.dto.ProductPageResponseDto;
+import com.leedahun.storecasecatalog.domain.product.dto.ProductSummaryDto;
 import com.leedahun.storecasecatalog.domain.product.service.ProductService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(ProductController.class)
+@Import(AsyncConfig.class)
 class ProductControllerTest {
 
     @Autowired
@@ -66,7 +79,8 @@ class ProductControllerTest {
     @DisplayName("상품 생성 성공 시 CREATED(201) 상태와 성공 메시지를 반환한다")
     void createProduct_Success() throws Exception {
         // Given
-        given(productService.getStoreId(Long.parseLong(validUserId))).willReturn(storeId);
+        given(productService.getStoreIdAsync(Long.parseLong(validUserId)))
+                .willReturn(CompletableFuture.completedFuture(storeId));
 
         doNothing().when(productService).createProduct(any(ProductCreateRequestDto.class), eq(storeId));
 
@@ -79,13 +93,14 @@ class ProductControllerTest {
         String expectedResponseJson = objectMapper.writeValueAsString(expectedResponse);
 
         // When
-        ResultActions result = mockMvc.perform(
+        MvcResult asyncResult = mockMvc.perform(
                 MockMvcRequestBuilders.post("/api/catalog/product")
                         .header("X-User-Id", validUserId)
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(validRequestDto))
                         .accept(MediaType.APPLICATION_JSON)
-        );
+        ).andExpect(request().asyncStarted()).andReturn();
+        ResultActions result = mockMvc.perform(asyncDispatch(asyncResult));
 
         // Then
         result.andExpect(status().isCreated())
@@ -94,7 +109,7 @@ class ProductControllerTest {
                 .andExpect(jsonPath("$.message").value(expectedMessage))
                 .andExpect(jsonPath("$.data").doesNotExist());
 
-        verify(productService, times(1)).getStoreId(Long.parseLong(validUserId));
+        verify(productService, times(1)).getStoreIdAsync(Long.parseLong(validUserId));
         verify(productService, times(1)).createProduct(any(ProductCreateRequestDto.class), eq(storeId));
     }
 
@@ -102,17 +117,19 @@ class ProductControllerTest {
     @DisplayName("getStoreId에서 EntityNotFoundException 발생 시 404(Not Found)를 반환한다")
     void createProduct_Fail_WhenStoreIdNotFound() throws Exception {
         // Given
-        given(productService.getStoreId(Long.parseLong(validUserId)))
-                .willThrow(new EntityNotFoundException("Seller's StoreId", Long.parseLong(validUserId)));
+        given(productService.getStoreIdAsync(Long.parseLong(validUserId)))
+                .willReturn(CompletableFuture.failedFuture(
+                        new EntityNotFoundException("Seller's StoreId", Long.parseLong(validUserId))));
 
         // When
-        ResultActions result = mockMvc.perform(
+        MvcResult asyncResult = mockMvc.perform(
                 MockMvcRequestBuilders.post("/api/catalog/product")
                         .header("X-User-Id", validUserId)
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(validRequestDto))
                         .accept(MediaType.APPLICATION_JSON)
-        );
+        ).andExpect(request().asyncStarted()).andReturn();
+        ResultActions result = mockMvc.perform(asyncDispatch(asyncResult));
 
         // Then
         result.andExpect(status().isBadRequest());
@@ -141,7 +158,128 @@ class ProductControllerTest {
         // Then
         result.andExpect(status().isBadRequest());
 
-        verify(productService, never()).getStoreId(anyLong());
+        verify(productService, never()).getStoreIdAsync(anyLong());
+        verify(productService, never()).createProduct(any(), any());
+    }
+
+    @Test
+    @DisplayName("상품 등록 실행기가 포화되어 작업이 거절되면 503(Service Unavailable)을 반환한다")
+    void createProduct_Fail_WhenWriteExecutorRejects() throws Exception {
+        // Given
+        given(productService.getStoreIdAsync(Long.parseLong(validUserId)))
+                .willReturn(CompletableFuture.failedFuture(new RejectedExecutionException("busy")));
+
+        // When
+        MvcResult asyncResult = mockMvc.perform(
+                MockMvcRequestBuilders.post("/api/catalog/product")
+                        .header("X-User-Id", validUserId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(validRequestDto))
+                        .accept(MediaType.APPLICATION_JSON)
+        ).andExpect(request().asyncStarted()).andReturn();
+        ResultActions result = mockMvc.perform(asyncDispatch(asyncResult));
+
+        // Then
+        result.andExpect(status().isServiceUnavailable());
+
         verify(productService, never()).createProduct(any(), any());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("상품 상세 조회 성공 시 200(OK)과 옵션, 서명된 이미지 URL을 반환하고 S3 Key는 노출하지 않는다")
+    void getProduct_Success() throws Exception {
+        // Given
+        ProductImageDetailDto image = new ProductImageDetailDto(7L, "product-images/a.jpg");
+        image.setImageUrl("https://signed/product-images/a.jpg");
+        ProductDetailResponseDto detail = ProductDetailResponseDto.builder()
+                .productId(42L)
+                .categoryName("상의")
+                .productName("Test T-Shirt")
+                .options(List.of(OptionDetailDto.builder().optionId(1L).optionDetail("Red").price(0).stock(10).build()))
+                .images(List.of(image))
+                .build();
+        given(productService.getProduct(42L)).willReturn(detail);
+
+        // When
+        ResultActions result = mockMvc.perform(MockMvcRequestBuilders.get("/api/catalog/product/42"));
+
+        // Then
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.productId").value(42))
+                .andExpect(jsonPath("$.data.categoryName").value("상의"))
+                .andExpect(jsonPath("$.data.options[0].optionDetail").value("Red"))
+                .andExpect(jsonPath("$.data.images[0].imageUrl").value("https://signed/product-images/a.jpg"))
+                .andExpect(jsonPath("$.data.images[0].s3Key").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 상품을 조회하면 400(Bad Request)을 반환한다")
+    void getProduct_Fail_WhenNotFound() throws Exception {
+        // Given
+        given(productService.getProduct(404L)).willThrow(new EntityNotFoundException("Product", 404L));
+
+        // When
+        ResultActions result = mockMvc.perform(MockMvcRequestBuilders.get("/api/catalog/product/404"));
+
+        // Then
+        result.andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("카테고리별 상품 목록 조회 성공 시 200(OK)과 다음 페이지 커서를 반환한다")
+    void getProductsByCategory_Success() throws Exception {
+        // Given
+        ProductPageResponseDto page = ProductPageResponseDto.builder()
+                .products(List.of(ProductSummaryDto.builder().productId(42L).categoryId(10L).productName("Test T-Shirt").build()))
+                .nextCursor("djE6NDI")
+                .hasNext(true)
+                .build();
+        given(productService.getProductsByCategory(10L, "djE6NTA", 1)).willReturn(page);
+
+        // When
+        ResultActions result = mockMvc.perform(
+                MockMvcRequestBuilders.get("/api/catalog/product/category/10")
+                        .param("cursor", "djE6NTA")
+                        .param("size", "1")
+        );
+
+        // Then
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value(SuccessMessage.READ_SUCCESS.getMessage()))
+                .andExpect(jsonPath("$.data.products[0].productId").value(42))
+                .andExpect(jsonPath("$.data.nextCursor").value("djE6NDI"))
+                .andExpect(jsonPath("$.data.hasNext").value(true));
+    }
+
+    @Test
+    @DisplayName("상점별 상품 목록은 커서 없이 호출하면 기본 크기로 첫 페이지를 조회한다")
+    void getProductsByStore_FirstPage() throws Exception {
+        // Given
+        given(productService.getProductsByStore(storeId, null, 20))
+                .willReturn(ProductPageResponseDto.builder().products(List.of()).hasNext(false).build());
+
+        // When
+        ResultActions result = mockMvc.perform(MockMvcRequestBuilders.get("/api/catalog/product/store/" + storeId));
+
+        // Then
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.products").isEmpty())
+                .andExpect(jsonPath("$.data.hasNext").value(false));
+
+        verify(productService).getProductsByStore(storeId, null, 20);
+    }
+
+    @Test
+    @DisplayName("잘못된 커서로 조회하면 400(Bad Request)을 반환한다")
+    void getProductsByStore_Fail_WhenCursorInvalid() throws Exception {
+        // Given
+        given(productService.getProductsByStore(storeId, "broken", 20)).willThrow(new InvalidCursorException());
+
+        // When
+        ResultActions result = mockMvc.perform(
+                MockMvcRequestBuilders.get("/api/catalog/product/store/" + storeId).param("cursor", "broken"));
+
+        // Then
+        result.andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,242 @@
+package com.leedahun.storecasecatalog.domain.product.controller;
+
+import com.leedahun.storecasecatalog.common.client.IdentityBatchLoader;
+import com.leedahun.storecasecatalog.common.client.IdentityClient;
+import com.leedahun.storecasecatalog.common.service.S3UploadService;
+import com.leedahun.storecasecatalog.domain.category.cache.CategoryCache;
+import com.leedahun.storecasecatalog.domain.category.dto.CategoryResponseDto;
+import com.leedahun.storecasecatalog.domain.category.repository.CategoryRepository;
+import com.leedahun.storecasecatalog.domain.option.dto.OptionCreateRequestDto;
+import com.leedahun.storecasecatalog.domain.option.repository.OptionRepository;
+import com.leedahun.storecasecatalog.domain.product.cache.ProductDetailCache;
+import com.leedahun.storecasecatalog.domain.product.cache.StoreIdCache;
+import com.leedahun.storecasecatalog.domain.product.dto.ProductCreateRequestDto;
+import com.leedahun.storecasecatalog.domain.product.repository.ProductImageRepository;
+import com.leedahun.storecasecatalog.domain.product.repository.ProductRepository;
+import com.leedahun.storecasecatalog.domain.product.service.impl.ProductServiceImpl;
+import com.sun.net.httpserver.HttpServer;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * identity-service 지연을 주입한 상태에서 동기(block) 방식과 비동기 방식의 상품 등록 처리량을 비교합니다.
+ * 기본 test 태스크에서는 제외되며 {@code ./gradlew loadTest}로 실행합니다.
+ */
+@Tag("load")
+class ProductCreateLoadTest {
+
+    private static final int WORKER_THREADS = 20;        // Tomcat 요청 스레드 수 가정
+    private static final int CLIENTS = 100;              // 동시 접속 클라이언트 수 (closed-loop)
+    private static final int REQUESTS_PER_CLIENT = 10;
+    private static final long IDENTITY_LATENCY_MS = 100;
+
+    private HttpServer identityStub;
+    private ExecutorService identityStubExecutor;
+    private ThreadPoolTaskExecutor productWriteExecutor;
+    private ProductServiceImpl productService;
+    private ProductController productController;
+    private final AtomicLong sellerSequence = new AtomicLong();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        identityStubExecutor = Executors.newCachedThreadPool();
+        identityStub = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), CLIENTS * 2);
+        identityStub.setExecutor(identityStubExecutor);
+        identityStub.createContext("/api/internal/identity/users/", exchange -> {
+            sleep(IDENTITY_LATENCY_MS);
+            byte[] body = "{\"status\":200,\"message\":\"ok\",\"data\":10000000000}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        // 배치 조회: 요청한 모든 판매자에 대해 상점 ID 반환
+        identityStub.createContext("/api/internal/identity/users/store-ids", exchange -> {
+            sleep(IDENTITY_LATENCY_MS);
+            String sellerIds = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8)
+                    .replaceAll("[^0-9,]", "");
+            String data = Arrays.stream(sellerIds.split(","))
+                    .map(sellerId -> "\"" + sellerId + "\":10000000000")
+                    .collect(Collectors.joining(",", "{", "}"));
+            byte[] body = ("{\"status\":200,\"message\":\"ok\",\"data\":" + data + "}").getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        identityStub.start();
+
+        CategoryCache categoryCache = mock(CategoryCache.class);
+        when(categoryCache.getById(anyLong())).thenReturn(new CategoryResponseDto(1L, "load"));
+
+        IdentityClient identityClient = new IdentityClient(identityStubWebClientBuilder(identityStub.getAddress().getPort()),
+                CircuitBreaker.ofDefaults("identity-service"), Bulkhead.ofDefaults("identity-service"), new SimpleMeterRegistry(),
+                "http://identity-service", false, Duration.ofMillis(200), Duration.ofMillis(20), 100);
+        productService = new ProductServiceImpl(
+                mock(ProductRepository.class),
+                mock(OptionRepository.class),
+                mock(CategoryRepository.class),
+                mock(ProductImageRepository.class),
+                new StoreIdCache(new SimpleMeterRegistry(), 10_000, Duration.ofMinutes(10), Duration.ofSeconds(30), Duration.ofHours(24)),
+                categoryCache,
+                identityClient,
+                new IdentityBatchLoader(identityClient, new SimpleMeterRegistry(), Duration.ofMillis(5), 100),
+                mock(S3UploadService.class),
+                new ProductDetailCache(new SimpleMeterRegistry(), 1000, Duration.ofMinutes(5), 1.0),
+                mock(PlatformTransactionManager.class)
+        );
+
+        productWriteExecutor = new ThreadPoolTaskExecutor();
+        productWriteExecutor.setCorePoolSize(8);
+        productWriteExecutor.setMaxPoolSize(16);
+        productWriteExecutor.setQueueCapacity(CLIENTS * 2);
+        productWriteExecutor.initialize();
+
+        productController = new ProductController(productService, productWriteExecutor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        identityStub.stop(0);
+        identityStubExecutor.shutdownNow();
+        productWriteExecutor.shutdown();
+    }
+
+    @Test
+    @DisplayName("identity-service 지연 주입 시 비동기 등록 경로가 동기 경로보다 높은 처리량을 낸다")
+    void asyncPipeline_OutperformsBlockingPipeline(TestReporter testReporter) throws Exception {
+        ProductCreateRequestDto requestDto = requestDto();
+
+        // JIT, 커넥션 풀 초기화 비용이 측정에 섞이지 않도록 예열
+        runLoad("warm-up", sellerId -> productController.createProduct(sellerId, requestDto));
+
+        // 두 경로 모두 같은 조회 경로(StoreIdCache → 배치 로더)를 쓰고, 응답을 기다리는 동안 요청 스레드를 점유하는지만 다름
+        LoadResult blocking = runLoad("blocking", sellerId -> {
+            Long storeId = productService.getStoreIdAsync(sellerId).join();
+            productService.createProduct(requestDto, storeId);
+            return CompletableFuture.completedFuture(null);
+        });
+        LoadResult async = runLoad("async", sellerId -> productController.createProduct(sellerId, requestDto));
+
+        testReporter.publishEntry(blocking.name(), blocking.toString());
+        testReporter.publishEntry(async.name(), async.toString());
+
+        assertThat(async.throughput()).isGreaterThan(blocking.throughput());
+    }
+
+    // 요청 스레드 풀(WORKER_THREADS)에서 핸들러를 실행하고, 클라이언트는 응답 완료까지 기다린 뒤 다음 요청을 보냄
+    private LoadResult runLoad(String name, Function<Long, CompletableFuture<?>> handler) throws Exception {
+        ExecutorService workers = Executors.newFixedThreadPool(WORKER_THREADS);
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+        long[] latencies = new long[CLIENTS * REQUESTS_PER_CLIENT];
+
+        long start = System.nanoTime();
+        List<Future<?>> clientFutures = new ArrayList<>();
+        for (int c = 0; c < CLIENTS; c++) {
+            int client = c;
+            clientFutures.add(clients.submit(() -> {
+                for (int r = 0; r < REQUESTS_PER_CLIENT; r++) {
+                    long requestStart = System.nanoTime();
+                    Long sellerId = sellerSequence.incrementAndGet();   // 캐시 적중을 피하기 위해 매번 다른 판매자
+                    workers.submit(() -> handler.apply(sellerId)).get().get();
+                    latencies[client * REQUESTS_PER_CLIENT + r] = System.nanoTime() - requestStart;
+                }
+                return null;
+            }));
+        }
+        for (Future<?> clientFuture : clientFutures) {
+            clientFuture.get();
+        }
+        long elapsed = System.nanoTime() - start;
+
+        workers.shutdown();
+        clients.shutdown();
+
+        Arrays.sort(latencies);
+        return new LoadResult(name,
+                latencies.length * 1_000_000_000.0 / elapsed,
+                latencies[latencies.length / 2] / 1_000_000,
+                latencies[(int) (latencies.length * 0.99) - 1] / 1_000_000);
+    }
+
+    private WebClient.Builder identityStubWebClientBuilder(int port) {
+        ExchangeFilterFunction toStub = (request, next) -> next.exchange(ClientRequest.from(request)
+                .url(UriComponentsBuilder.fromUri(request.url()).host("127.0.0.1").port(port).build(true).toUri())
+                .build());
+        ConnectionProvider provider = ConnectionProvider.builder("identity-load-test")
+                .maxConnections(CLIENTS)
+                .build();
+
+        return WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(HttpClient.create(provider)))
+                .filter(toStub);
+    }
+
+    private ProductCreateRequestDto requestDto() {
+        return ProductCreateRequestDto.builder()
+                .productName("Load T-Shirt")
+                .description("load test")
+                .optionName("Color")
+                .price(1000)
+                .stock(10)
+                .categoryId(1L)
+                .imageIds(List.of())
+                .options(List.of(OptionCreateRequestDto.builder().optionDetail("Red").price(0).stock(10).build()))
+                .build();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record LoadResult(String name, double throughput, long p50Millis, long p99Millis) {
+
+        @Override
+        public String toString() {
+            return String.format("[%s] throughput=%.1f req/s, p50=%d ms, p99=%d ms", name, throughput, p50Millis, p99Millis);
+        }
+    }
+}
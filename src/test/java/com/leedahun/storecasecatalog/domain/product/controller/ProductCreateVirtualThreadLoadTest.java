@@ -0,0 +1,241 @@
+package com.leedahun.storecasecatalog.domain.product.controller;
+
+import com.leedahun.storecasecatalog.common.client.IdentityBatchLoader;
+import com.leedahun.storecasecatalog.common.client.IdentityClient;
+import com.leedahun.storecasecatalog.common.service.S3UploadService;
+import com.leedahun.storecasecatalog.common.instrumentation.VirtualThreadPinningMonitor;
+import com.leedahun.storecasecatalog.domain.category.cache.CategoryCache;
+import com.leedahun.storecasecatalog.domain.category.dto.CategoryResponseDto;
+import com.leedahun.storecasecatalog.domain.category.repository.CategoryRepository;
+import com.leedahun.storecasecatalog.domain.option.dto.OptionCreateRequestDto;
+import com.leedahun.storecasecatalog.domain.option.repository.OptionRepository;
+import com.leedahun.storecasecatalog.domain.product.cache.ProductDetailCache;
+import com.leedahun.storecasecatalog.domain.product.cache.StoreIdCache;
+import com.leedahun.storecasecatalog.domain.product.dto.ProductCreateRequestDto;
+import com.leedahun.storecasecatalog.domain.product.repository.ProductImageRepository;
+import com.leedahun.storecasecatalog.domain.product.repository.ProductRepository;
+import com.leedahun.storecasecatalog.domain.product.service.impl.ProductServiceImpl;
+import com.sun.net.httpserver.HttpServer;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * identity-service(HTTP)와 DB 저장에 지연을 주입한 상태에서 동기 등록 경로를 플랫폼 스레드 풀(Tomcat 기본 200개)과
+ * 요청마다 가상 스레드로 처리할 때의 처리량·p99를 비교하고, 가상 스레드 실행 중 캐리어 스레드 고정 여부를 함께 출력합니다.
+ * Java 21 이상에서만 실행되며 {@code ./gradlew loadTest -PvirtualThreads}로 실행합니다. (부하 규모는 -Dcatalog.load.*로 조정)
+ */
+@Tag("load")
+class ProductCreateVirtualThreadLoadTest {
+
+    // 지연이 CPU 비용보다 충분히 커야 스레드 수 제한의 차이가 드러나므로, 코어 수가 적은 환경에서는 지연을 늘려서 실행
+    private static final int PLATFORM_WORKER_THREADS = Integer.getInteger("catalog.load.platform-threads", 200);   // server.tomcat.threads.max 기본값
+    private static final int CLIENTS = Integer.getInteger("catalog.load.clients", 400);   // 동시 접속 클라이언트 수 (closed-loop)
+    private static final int REQUESTS_PER_CLIENT = Integer.getInteger("catalog.load.requests-per-client", 3);
+    private static final long IDENTITY_LATENCY_MS = Long.getLong("catalog.load.identity-latency-ms", 500);
+    private static final long DB_LATENCY_MS = Long.getLong("catalog.load.db-latency-ms", 100);
+
+    private HttpServer identityStub;
+    private ExecutorService identityStubExecutor;
+    private ConnectionProvider connectionProvider;
+    private ProductServiceImpl productService;
+    private final AtomicLong sellerSequence = new AtomicLong();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        identityStubExecutor = Executors.newCachedThreadPool();
+        identityStub = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), CLIENTS * 2);
+        identityStub.setExecutor(identityStubExecutor);
+        identityStub.createContext("/api/internal/identity/users/", exchange -> {
+            sleep(IDENTITY_LATENCY_MS);
+            byte[] body = "{\"status\":200,\"message\":\"ok\",\"data\":10000000000}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        identityStub.start();
+
+        CategoryCache categoryCache = mock(CategoryCache.class);
+        when(categoryCache.getById(anyLong())).thenReturn(new CategoryResponseDto(1L, "load"));
+        ProductRepository productRepository = mock(ProductRepository.class);
+        when(productRepository.save(any())).thenAnswer(invocation -> {
+            sleep(DB_LATENCY_MS);
+            return invocation.getArgument(0);
+        });
+
+        // 스레드 모델의 차이만 보도록 벌크헤드·커넥션 풀은 동시 클라이언트 수만큼 허용
+        Bulkhead bulkhead = Bulkhead.of("identity-service", BulkheadConfig.custom()
+                .maxConcurrentCalls(CLIENTS)
+                .build());
+        IdentityClient identityClient = new IdentityClient(identityStubWebClientBuilder(identityStub.getAddress().getPort()),
+                CircuitBreaker.ofDefaults("identity-service"), bulkhead, new SimpleMeterRegistry(),
+                "http://identity-service", false, Duration.ofMillis(200), Duration.ofMillis(20), 100);
+        productService = new ProductServiceImpl(
+                productRepository,
+                mock(OptionRepository.class),
+                mock(CategoryRepository.class),
+                mock(ProductImageRepository.class),
+                new StoreIdCache(new SimpleMeterRegistry(), 10_000, Duration.ofMinutes(10), Duration.ofSeconds(30), Duration.ofHours(24)),
+                categoryCache,
+                identityClient,
+                new IdentityBatchLoader(identityClient, new SimpleMeterRegistry(), Duration.ofMillis(5), 100),
+                mock(S3UploadService.class),
+                new ProductDetailCache(new SimpleMeterRegistry(), 1000, Duration.ofMinutes(5), 1.0),
+                mock(PlatformTransactionManager.class)
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        identityStub.stop(0);
+        identityStubExecutor.shutdownNow();
+        connectionProvider.dispose();
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    @DisplayName("지연 주입 시 가상 스레드 모드가 플랫폼 스레드 풀보다 높은 처리량과 낮은 p99를 낸다")
+    void virtualThreads_OutperformPlatformThreadPool() throws Exception {
+        ProductCreateRequestDto requestDto = requestDto();
+        ThreadPoolTaskExecutor platformWorkers = new ThreadPoolTaskExecutor();
+        platformWorkers.setCorePoolSize(PLATFORM_WORKER_THREADS);
+        platformWorkers.setMaxPoolSize(PLATFORM_WORKER_THREADS);
+        platformWorkers.setThreadNamePrefix("platform-");
+        platformWorkers.initialize();
+        VirtualThreadTaskExecutor virtualWorkers = new VirtualThreadTaskExecutor("virtual-");
+        VirtualThreadPinningMonitor pinningMonitor = new VirtualThreadPinningMonitor(new SimpleMeterRegistry(), Duration.ofMillis(20), 100);
+
+        // JIT, 커넥션 풀 초기화 비용이 측정에 섞이지 않도록 예열
+        runLoad("warm-up", platformWorkers, requestDto);
+        runLoad("warm-up", virtualWorkers, requestDto);
+
+        LoadResult platform = runLoad("platform", platformWorkers, requestDto);
+        pinningMonitor.start();
+        LoadResult virtual = runLoad("virtual", virtualWorkers, requestDto);
+        pinningMonitor.stop();
+        platformWorkers.shutdown();
+
+        System.out.println(platform);
+        System.out.println(virtual);
+        System.out.println("[virtual] pinned=" + pinningMonitor.pinnedCounts());
+
+        assertThat(virtual.throughput()).isGreaterThan(platform.throughput());
+        assertThat(virtual.p99Millis()).isLessThan(platform.p99Millis());
+    }
+
+    // 요청 처리 실행기(workers)에서 동기 등록 경로를 실행하고, 클라이언트는 응답 완료까지 기다린 뒤 다음 요청을 보냄
+    private LoadResult runLoad(String name, AsyncTaskExecutor workers, ProductCreateRequestDto requestDto) throws Exception {
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+        long[] latencies = new long[CLIENTS * REQUESTS_PER_CLIENT];
+
+        long start = System.nanoTime();
+        List<Future<?>> clientFutures = new ArrayList<>();
+        for (int c = 0; c < CLIENTS; c++) {
+            int client = c;
+            clientFutures.add(clients.submit(() -> {
+                for (int r = 0; r < REQUESTS_PER_CLIENT; r++) {
+                    long requestStart = System.nanoTime();
+                    Long sellerId = sellerSequence.incrementAndGet();   // 캐시 적중을 피하기 위해 매번 다른 판매자
+                    workers.submit(() -> productService.createProduct(requestDto, productService.getStoreId(sellerId))).get();
+                    latencies[client * REQUESTS_PER_CLIENT + r] = System.nanoTime() - requestStart;
+                }
+                return null;
+            }));
+        }
+        for (Future<?> clientFuture : clientFutures) {
+            clientFuture.get();
+        }
+        long elapsed = System.nanoTime() - start;
+
+        clients.shutdown();
+
+        Arrays.sort(latencies);
+        return new LoadResult(name,
+                latencies.length * 1_000_000_000.0 / elapsed,
+                latencies[latencies.length / 2] / 1_000_000,
+                latencies[(int) (latencies.length * 0.99) - 1] / 1_000_000);
+    }
+
+    private WebClient.Builder identityStubWebClientBuilder(int port) {
+        ExchangeFilterFunction toStub = (request, next) -> next.exchange(ClientRequest.from(request)
+                .url(UriComponentsBuilder.fromUri(request.url()).host("127.0.0.1").port(port).build(true).toUri())
+                .build());
+        connectionProvider = ConnectionProvider.builder("identity-virtual-load-test")
+                .maxConnections(CLIENTS)
+                .pendingAcquireMaxCount(-1)
+                .build();
+
+        return WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(HttpClient.create(connectionProvider)))
+                .filter(toStub);
+    }
+
+    private ProductCreateRequestDto requestDto() {
+        return ProductCreateRequestDto.builder()
+                .productName("Load T-Shirt")
+                .description("load test")
+                .optionName("Color")
+                .price(1000)
+                .stock(10)
+                .categoryId(1L)
+                .imageIds(List.of())
+                .options(List.of(OptionCreateRequestDto.builder().optionDetail("Red").price(0).stock(10).build()))
+                .build();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record LoadResult(String name, double throughput, long p50Millis, long p99Millis) {
+
+        @Override
+        public String toString() {
+            return String.format("[%s] throughput=%.1f req/s, p50=%d ms, p99=%d ms", name, throughput, p50Millis, p99Millis);
+        }
+    }
+}
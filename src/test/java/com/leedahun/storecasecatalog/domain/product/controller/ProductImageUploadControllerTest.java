@@ -2,9 +2,12 @@ package com.leedahun.storecasecatalog.domain.product.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.leedahun.storecasecatalog.common.error.exception.FileUploadFailedException;
+import com.leedahun.storecasecatalog.common.error.exception.UploadNotCompletedException;
 import com.leedahun.storecasecatalog.common.message.SuccessMessage;
 import com.leedahun.storecasecatalog.common.response.HttpResponse;
 import com.leedahun.storecasecatalog.domain.product.dto.ProductImageUploadResponseDto;
+import com.leedahun.storecasecatalog.domain.product.dto.ProductImageUploadUrlRequestDto;
+import com.leedahun.storecasecatalog.domain.product.dto.ProductImageUploadUrlResponseDto;
 import com.leedahun.storecasecatalog.domain.product.service.ProductImageService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -16,12 +19,19 @@ import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
+import java.util.concurrent.CompletableFuture;
+
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(ProductImageUploadController.class)
@@ -59,7 +69,7 @@ class ProductImageUploadControllerTest {
     void uploadImage_Success() throws Exception {
         // Given
         given(productImageService.uploadImage(any(MockMultipartFile.class)))
-                .willReturn(responseDto);
+                .willReturn(CompletableFuture.completedFuture(responseDto));
 
         String expectedMessage = SuccessMessage.WRITE_SUCCESS.getMessage();
         HttpResponse expectedResponse = new HttpResponse(
@@ -70,12 +80,13 @@ class ProductImageUploadControllerTest {
         String expectedResponseJson = objectMapper.writeValueAsString(expectedResponse);
 
         // When
-        ResultActions result = mockMvc.perform(
+        MvcResult asyncResult = mockMvc.perform(
                 MockMvcRequestBuilders.multipart("/api/catalog/product/image/upload")
                         .file(mockFile)
                         .contentType(MediaType.MULTIPART_FORM_DATA)
                         .accept(MediaType.APPLICATION_JSON)
-        );
+        ).andExpect(request().asyncStarted()).andReturn();
+        ResultActions result = mockMvc.perform(asyncDispatch(asyncResult));
 
         // Then
         result.andExpect(status().isCreated())
@@ -92,19 +103,109 @@ class ProductImageUploadControllerTest {
     @DisplayName("서비스에서 FileUploadFailedException 발생 시 500(Internal Server Error)을 반환한다")
     void uploadImage_Fail_WhenServiceThrowsException() throws Exception {
         // Given
-        given(productImageService.uploadImage(any(MockMultipartFile.class))).willThrow(new FileUploadFailedException());
+        given(productImageService.uploadImage(any(MockMultipartFile.class)))
+                .willReturn(CompletableFuture.failedFuture(new FileUploadFailedException()));
 
         // When
-        ResultActions result = mockMvc.perform(
+        MvcResult asyncResult = mockMvc.perform(
                 MockMvcRequestBuilders.multipart("/api/catalog/product/image/upload")
                         .file(mockFile)
                         .contentType(MediaType.MULTIPART_FORM_DATA)
                         .accept(MediaType.APPLICATION_JSON)
-        );
+        ).andExpect(request().asyncStarted()).andReturn();
+        ResultActions result = mockMvc.perform(asyncDispatch(asyncResult));
 
         // Then
         result.andExpect(status().isInternalServerError());
 
         verify(productImageService).uploadImage(any(MockMultipartFile.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("업로드 URL 발급 성공 시 CREATED(201) 상태와 presigned URL을 반환한다")
+    void createUploadUrl_Success() throws Exception {
+        // Given
+        ProductImageUploadUrlRequestDto requestDto = ProductImageUploadUrlRequestDto.builder()
+                .originalName("test-image.jpg")
+                .contentType(MediaType.IMAGE_JPEG_VALUE)
+                .fileSize(1024L)
+                .build();
+        ProductImageUploadUrlResponseDto urlResponseDto = ProductImageUploadUrlResponseDto.builder()
+                .imageId(1L)
+                .multipart(false)
+                .uploadUrl("https://s3.test.url/put")
+                .expiresInSeconds(900)
+                .build();
+        given(productImageService.createUploadUrl(any(ProductImageUploadUrlRequestDto.class))).willReturn(urlResponseDto);
+
+        // When
+        ResultActions result = mockMvc.perform(
+                MockMvcRequestBuilders.post("/api/catalog/product/image/upload-url")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requestDto))
+        );
+
+        // Then
+        result.andExpect(status().isCreated())
+                .andExpect(jsonPath("$.message").value(SuccessMessage.WRITE_SUCCESS.getMessage()))
+                .andExpect(jsonPath("$.data.imageId").value(1L))
+                .andExpect(jsonPath("$.data.multipart").value(false))
+                .andExpect(jsonPath("$.data.uploadUrl").value("https://s3.test.url/put"));
+    }
+
+    @Test
+    @DisplayName("이미지가 아닌 Content-Type으로 업로드 URL을 요청하면 400(Bad Request)을 반환한다")
+    void createUploadUrl_Fail_WhenContentTypeIsNotImage() throws Exception {
+        // Given
+        ProductImageUploadUrlRequestDto requestDto = ProductImageUploadUrlRequestDto.builder()
+                .originalName("script.sh")
+                .contentType("application/x-sh")
+                .fileSize(1024L)
+                .build();
+
+        // When
+        ResultActions result = mockMvc.perform(
+                MockMvcRequestBuilders.post("/api/catalog/product/image/upload-url")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requestDto))
+        );
+
+        // Then
+        result.andExpect(status().isBadRequest());
+
+        verify(productImageService, never()).createUploadUrl(any());
+    }
+
+    @Test
+    @DisplayName("업로드 확인 성공 시 OK(200) 상태와 이미지 URL을 반환한다")
+    void confirmUpload_Success() throws Exception {
+        // Given
+        given(productImageService.confirmUpload(eq(1L), isNull())).willReturn(responseDto);
+
+        // When
+        ResultActions result = mockMvc.perform(
+                MockMvcRequestBuilders.post("/api/catalog/product/image/1/confirm")
+        );
+
+        // Then
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value(SuccessMessage.UPDATE_SUCCESS.getMessage()))
+                .andExpect(jsonPath("$.data.imageId").value(1L))
+                .andExpect(jsonPath("$.data.imageUrl").value("https://s3.test.url/image.jpg"));
+    }
+
+    @Test
+    @DisplayName("S3 업로드가 확인되지 않으면 409(Conflict)를 반환한다")
+    void confirmUpload_Fail_WhenUploadNotCompleted() throws Exception {
+        // Given
+        given(productImageService.confirmUpload(eq(1L), any())).willThrow(new UploadNotCompletedException());
+
+        // When
+        ResultActions result = mockMvc.perform(
+                MockMvcRequestBuilders.post("/api/catalog/product/image/1/confirm")
+        );
+
+        // Then
+        result.andExpect(status().isConflict());
+    }
+}
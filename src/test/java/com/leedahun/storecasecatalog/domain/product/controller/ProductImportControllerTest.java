@@ -0,0 +1,81 @@
+package com.leedahun.storecasecatalog.domain.product.controller;
+
+import com.leedahun.storecasecatalog.common.message.SuccessMessage;
+import com.leedahun.storecasecatalog.domain.product.dto.ProductImportErrorDto;
+import com.leedahun.storecasecatalog.domain.product.dto.ProductImportResultDto;
+import com.leedahun.storecasecatalog.domain.product.service.ProductImportService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import java.io.InputStream;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(ProductImportController.class)
+class ProductImportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private ProductImportService productImportService;
+
+    @Test
+    @DisplayName("NDJSON 일괄 등록 성공 시 200(OK)과 처리 결과를 반환한다")
+    void importProducts_Success() throws Exception {
+        // Given
+        ProductImportResultDto resultDto = ProductImportResultDto.builder()
+                .totalRows(2)
+                .succeeded(1)
+                .failed(1)
+                .errors(List.of(new ProductImportErrorDto(2, "JSON 형식이 올바르지 않습니다.")))
+                .build();
+        given(productImportService.importProducts(eq(123L), any(InputStream.class))).willReturn(resultDto);
+
+        // When
+        ResultActions result = mockMvc.perform(
+                MockMvcRequestBuilders.post("/api/catalog/product/import")
+                        .header("X-User-Id", "123")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content("{\"productName\":\"A\"}\n{broken")
+        );
+
+        // Then
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value(SuccessMessage.WRITE_SUCCESS.getMessage()))
+                .andExpect(jsonPath("$.data.totalRows").value(2))
+                .andExpect(jsonPath("$.data.succeeded").value(1))
+                .andExpect(jsonPath("$.data.errors[0].line").value(2));
+
+        verify(productImportService).importProducts(eq(123L), any(InputStream.class));
+    }
+
+    @Test
+    @DisplayName("NDJSON이 아닌 Content-Type이면 415(Unsupported Media Type)를 반환한다")
+    void importProducts_Fail_WhenContentTypeIsNotNdjson() throws Exception {
+        // When
+        ResultActions result = mockMvc.perform(
+                MockMvcRequestBuilders.post("/api/catalog/product/import")
+                        .header("X-User-Id", "123")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]")
+        );
+
+        // Then
+        result.andExpect(status().isUnsupportedMediaType());
+        verify(productImportService, never()).importProducts(any(), any());
+    }
+}
@@ -0,0 +1,80 @@
+package com.leedahun.storecasecatalog.domain.product.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.leedahun.storecasecatalog.common.error.exception.OutOfStockException;
+import com.leedahun.storecasecatalog.common.message.SuccessMessage;
+import com.leedahun.storecasecatalog.domain.option.dto.OptionStockReservationDto;
+import com.leedahun.storecasecatalog.domain.option.dto.OptionStockReservationRequestDto;
+import com.leedahun.storecasecatalog.domain.product.dto.StockReservationRequestDto;
+import com.leedahun.storecasecatalog.domain.product.service.StockService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(StockController.class)
+class StockControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private StockService stockService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("옵션 재고 차감 성공 시 200을 반환한다")
+    void reserveOptionStock_Success() throws Exception {
+        // When & Then
+        mockMvc.perform(post("/api/catalog/product/option/{optionId}/stock/reserve", 1L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new StockReservationRequestDto(2))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value(SuccessMessage.UPDATE_SUCCESS.getMessage()));
+
+        verify(stockService).reserveOptionStock(1L, 2);
+    }
+
+    @Test
+    @DisplayName("장바구니 재고가 부족하면 409를 반환한다")
+    void reserveOptionStocks_OutOfStock() throws Exception {
+        // Given
+        willThrow(new OutOfStockException("Option", List.of(1L, 2L))).given(stockService).reserveOptionStocks(anyList());
+        OptionStockReservationRequestDto requestDto = new OptionStockReservationRequestDto(List.of(
+                new OptionStockReservationDto(1L, 1),
+                new OptionStockReservationDto(2L, 3)));
+
+        // When & Then
+        mockMvc.perform(post("/api/catalog/product/option/stock/reserve")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requestDto)))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    @DisplayName("차감 수량이 1 미만이면 400을 반환하고 차감하지 않는다")
+    void reserveProductStock_InvalidQuantity() throws Exception {
+        // When & Then
+        mockMvc.perform(post("/api/catalog/product/{productId}/stock/reserve", 1L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new StockReservationRequestDto(0))))
+                .andExpect(status().isBadRequest());
+
+        verify(stockService, never()).reserveProductStock(1L, 0);
+    }
+}
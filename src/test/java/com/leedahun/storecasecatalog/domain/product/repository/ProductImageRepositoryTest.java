@@ -1,19 +1,24 @@
 package com.leedahun.storecasecatalog.domain.product.repository;
 
+import com.leedahun.storecasecatalog.common.instrumentation.SqlStatementCountingListener;
 import com.leedahun.storecasecatalog.domain.product.entity.Product;
 import com.leedahun.storecasecatalog.domain.product.entity.ProductImage;
+import com.leedahun.storecasecatalog.domain.product.entity.ProductImageStatus;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
 
 import java.util.List;
 
+import static com.leedahun.storecasecatalog.support.SqlStatementAssertions.assertMaxQueries;
 import static org.assertj.core.api.Assertions.assertThat;
 
 @DataJpaTest
+@Import(SqlStatementCountingListener.class)
 class ProductImageRepositoryTest {
 
     @Autowired
@@ -57,12 +62,12 @@ class ProductImageRepositoryTest {
 
     @Test
     @DisplayName("이미지 ID 목록으로 상품 ID를 일괄 업데이트한다")
-    void updateProductIds_Success() {
+    void updateProductIds_Success() throws Throwable {
         // Given
         List<Long> imageIdsToUpdate = List.of(image1.getId(), image2.getId());
 
-        // When
-        productImageRepository.updateProductIds(product1, imageIdsToUpdate);
+        // When: 이미지 수와 관계없이 벌크 UPDATE 1회
+        assertMaxQueries(1, () -> productImageRepository.updateProductIds(product1, imageIdsToUpdate));
 
         // Then
         testEntityManager.clear();
@@ -84,4 +89,75 @@ class ProductImageRepositoryTest {
         assertThat(foundImage3.getProduct().getId()).isEqualTo(product2.getId());
         assertThat(foundImage3.getProduct().getId()).isNotEqualTo(product1.getId());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("아직 flush되지 않은 신규 상품에도 이미지를 연결한다 (쓰기 지연 INSERT 선반영)")
+    void updateProductIds_FlushesPendingProductInsert() {
+        // Given
+        Product newProduct = Product.builder()
+                .name("신규 상품")
+                .build();
+        testEntityManager.persist(newProduct);
+
+        // When
+        productImageRepository.updateProductIds(newProduct, List.of(image1.getId()));
+
+        // Then
+        ProductImage foundImage1 = testEntityManager.find(ProductImage.class, image1.getId());
+        assertThat(foundImage1.getProduct()).isNotNull();
+        assertThat(foundImage1.getProduct().getId()).isEqualTo(newProduct.getId());
+    }
+
+    @Test
+    @DisplayName("이미 다른 상품에 연결된 이미지는 새 상품으로 옮기지 않는다")
+    void updateProductIds_SkipsImageAttachedToAnotherProduct() {
+        // When
+        productImageRepository.updateProductIds(product1, List.of(image1.getId(), image3.getId()));
+
+        // Then
+        testEntityManager.clear();
+        assertThat(testEntityManager.find(ProductImage.class, image1.getId()).getProduct().getId()).isEqualTo(product1.getId());
+        assertThat(testEntityManager.find(ProductImage.class, image3.getId()).getProduct().getId()).isEqualTo(product2.getId());
+    }
+
+    @Test
+    @DisplayName("S3 업로드 확인 전(PENDING) 이미지는 상품에 연결하지 않는다")
+    void updateProductIds_SkipsPendingImage() {
+        // Given
+        ProductImage pendingImage = ProductImage.builder()
+                .s3Key("S3키")
+                .status(ProductImageStatus.PENDING)
+                .build();
+        testEntityManager.persistAndFlush(pendingImage);
+
+        // When
+        productImageRepository.updateProductIds(product1, List.of(image1.getId(), pendingImage.getId()));
+
+        // Then
+        testEntityManager.clear();
+        assertThat(testEntityManager.find(ProductImage.class, pendingImage.getId()).getProduct()).isNull();
+        assertThat(testEntityManager.find(ProductImage.class, image1.getId()).getProduct()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("방치 업로드 정리는 PENDING 이미지만 삭제하고, 그 사이 확인된 이미지는 남긴다")
+    void deletePendingById_DeletesOnlyPendingImage() {
+        // Given
+        ProductImage pendingImage = ProductImage.builder()
+                .s3Key("S3키")
+                .status(ProductImageStatus.PENDING)
+                .build();
+        testEntityManager.persistAndFlush(pendingImage);
+
+        // When
+        int deletedPending = productImageRepository.deletePendingById(pendingImage.getId());
+        int deletedUploaded = productImageRepository.deletePendingById(image1.getId());
+
+        // Then
+        testEntityManager.clear();
+        assertThat(deletedPending).isEqualTo(1);
+        assertThat(deletedUploaded).isZero();
+        assertThat(testEntityManager.find(ProductImage.class, pendingImage.getId())).isNull();
+        assertThat(testEntityManager.find(ProductImage.class, image1.getId())).isNotNull();
+    }
+}
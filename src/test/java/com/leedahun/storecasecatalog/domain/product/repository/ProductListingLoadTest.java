@@ -0,0 +1,123 @@
+package com.leedahun.storecasecatalog.domain.product.repository;
+
+import com.leedahun.storecasecatalog.domain.category.entity.Category;
+import com.leedahun.storecasecatalog.domain.product.dto.ProductSummaryDto;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 대량 카탈로그(기본 30만 건, -Dcatalog.load.product-rows로 조정)에서 keyset 페이지네이션의 지연 시간이 페이지 깊이와 무관하게 유지되는지 확인합니다.
+ * 비교를 위해 같은 깊이의 OFFSET 조회 시간도 함께 출력합니다.
+ * 커밋되지 않은 대량 행은 H2 MVCC 조회 비용을 왜곡하므로 데이터는 별도 트랜잭션으로 커밋해 둡니다.
+ * 기본 test 태스크에서는 제외되며 {@code ./gradlew loadTest}로 실행합니다.
+ */
+@Tag("load")
+@DataJpaTest(properties = {"spring.jpa.show-sql=false", "decorator.datasource.enabled=false"})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ProductListingLoadTest {
+
+    private static final int ROWS = Integer.getInteger("catalog.load.product-rows", 300_000);
+    private static final int PAGE_SIZE = 20;
+    private static final int DEEP_PAGE = 10_000;
+    private static final int SAMPLES = 101;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Long categoryId;
+
+    @BeforeEach
+    void setUp() {
+        categoryId = new TransactionTemplate(transactionManager).execute(status -> {
+            Category category = Category.builder().name("load").build();
+            entityManager.persist(category);
+            entityManager.flush();
+
+            entityManager.createNativeQuery("""
+                            insert into product (id, store_id, category_id, name, price, stock, is_deleted)
+                            select x, mod(x, 100) + 1, :categoryId, concat('product-', x), 1000, 10, false
+                            from system_range(1, :rows)
+                            """)
+                    .setParameter("categoryId", category.getId())
+                    .setParameter("rows", ROWS)
+                    .executeUpdate();
+            return category.getId();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            entityManager.createNativeQuery("delete from product").executeUpdate();
+            entityManager.createNativeQuery("delete from category").executeUpdate();
+        });
+    }
+
+    @Test
+    @DisplayName("10,000번째 페이지도 첫 페이지와 비슷한 시간에 조회된다")
+    void keysetLatency_IsFlatAcrossPageDepth() {
+        // 10,000번째 페이지의 커서 = 앞선 페이지들의 마지막 ID (ID가 1..ROWS로 연속이므로 계산 가능)
+        long deepCursor = ROWS - (long) PAGE_SIZE * (DEEP_PAGE - 1) + 1;
+
+        // 예열
+        measure(() -> productRepository.findSummariesByCategory(categoryId, deepCursor, Limit.of(PAGE_SIZE)));
+
+        long firstPage = measure(() -> productRepository.findSummariesByCategory(categoryId, Long.MAX_VALUE, Limit.of(PAGE_SIZE)));
+        long deepPage = measure(() -> productRepository.findSummariesByCategory(categoryId, deepCursor, Limit.of(PAGE_SIZE)));
+        long offsetDeepPage = measure(() -> entityManager.createQuery("""
+                        select p.id from Product p
+                        where p.category.id = :categoryId and p.isDeleted = false
+                        order by p.category.id desc, p.id desc
+                        """, Long.class)
+                .setParameter("categoryId", categoryId)
+                .setFirstResult(PAGE_SIZE * (DEEP_PAGE - 1))
+                .setMaxResults(PAGE_SIZE)
+                .getResultList());
+
+        System.out.printf("[keyset] page 1 p50=%d us, page %d p50=%d us / [offset] page %d p50=%d us%n",
+                firstPage / 1_000, DEEP_PAGE, deepPage / 1_000, DEEP_PAGE, offsetDeepPage / 1_000);
+
+        List<ProductSummaryDto> page = productRepository.findSummariesByCategory(categoryId, deepCursor, Limit.of(PAGE_SIZE));
+        assertThat(page).hasSize(PAGE_SIZE);
+        assertThat(page.get(0).getProductId()).isEqualTo(deepCursor - 1);
+
+        // 첫 페이지와 같은 수준 (OFFSET은 건너뛴 행 수에 비례해 느려짐)
+        assertThat(deepPage).isLessThan(firstPage * 3 + 1_000_000);
+        assertThat(deepPage).isLessThan(offsetDeepPage);
+    }
+
+    // 중앙값(ns)
+    private long measure(Supplier<?> query) {
+        long[] samples = new long[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            query.get();
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        return samples[SAMPLES / 2];
+    }
+}
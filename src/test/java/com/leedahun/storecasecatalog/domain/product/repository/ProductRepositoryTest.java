@@ -0,0 +1,121 @@
+package com.leedahun.storecasecatalog.domain.product.repository;
+
+import com.leedahun.storecasecatalog.common.instrumentation.SqlStatementContext;
+import com.leedahun.storecasecatalog.common.instrumentation.SqlStatementCountingListener;
+import com.leedahun.storecasecatalog.domain.category.entity.Category;
+import com.leedahun.storecasecatalog.domain.product.dto.ProductSummaryDto;
+import com.leedahun.storecasecatalog.domain.product.entity.Product;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.leedahun.storecasecatalog.support.SqlStatementAssertions.assertMaxQueries;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(SqlStatementCountingListener.class)
+class ProductRepositoryTest {
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    private Category tops;
+    private Category pants;
+    private final List<Product> topsProducts = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        tops = testEntityManager.persist(Category.builder().name("상의").build());
+        pants = testEntityManager.persist(Category.builder().name("하의").build());
+
+        for (int i = 0; i < 5; i++) {
+            topsProducts.add(testEntityManager.persist(product(tops, 1L, "상의" + i, false)));
+        }
+        testEntityManager.persist(product(tops, 1L, "삭제된 상의", true));
+        testEntityManager.persist(product(pants, 2L, "하의", false));
+
+        testEntityManager.flush();
+        testEntityManager.clear();
+    }
+
+    @Test
+    @DisplayName("카테고리별 조회는 삭제되지 않은 상품만 ID 내림차순으로 limit만큼 반환한다")
+    void findSummariesByCategory_FirstPage() throws Throwable {
+        // When: 목록 컬럼만 DTO로 프로젝션해 쿼리 한 번으로 조회 (카테고리는 ID만 담고 조인하지 않음)
+        List<ProductSummaryDto> page = assertMaxQueries(1,
+                () -> productRepository.findSummariesByCategory(tops.getId(), Long.MAX_VALUE, Limit.of(3)));
+
+        // Then
+        assertThat(page).extracting(ProductSummaryDto::getProductId)
+                .containsExactly(topsProducts.get(4).getId(), topsProducts.get(3).getId(), topsProducts.get(2).getId());
+        assertThat(page.get(0).getCategoryId()).isEqualTo(tops.getId());
+        assertThat(page.get(0).getProductName()).isEqualTo("상의4");
+    }
+
+    @Test
+    @DisplayName("커서 ID보다 작은 ID부터 이어서 조회한다")
+    void findSummariesByCategory_SeeksFromCursor() throws Throwable {
+        // When
+        List<ProductSummaryDto> page = assertMaxQueries(1, () -> productRepository.findSummariesByCategory(
+                tops.getId(), topsProducts.get(2).getId(), Limit.of(3)));
+
+        // Then
+        assertThat(page).extracting(ProductSummaryDto::getProductId)
+                .containsExactly(topsProducts.get(1).getId(), topsProducts.get(0).getId());
+    }
+
+    @Test
+    @DisplayName("상점별 조회는 해당 상점의 삭제되지 않은 상품만 반환한다")
+    void findSummariesByStore() throws Throwable {
+        // When: 카테고리별 조회와 같이 프로젝션 쿼리 한 번
+        List<ProductSummaryDto> storeOne = assertMaxQueries(1,
+                () -> productRepository.findSummariesByStore(1L, Long.MAX_VALUE, Limit.of(10)));
+        List<ProductSummaryDto> storeTwo = assertMaxQueries(1,
+                () -> productRepository.findSummariesByStore(2L, Long.MAX_VALUE, Limit.of(10)));
+
+        // Then
+        assertThat(storeOne).hasSize(5)
+                .extracting(ProductSummaryDto::getProductName)
+                .doesNotContain("삭제된 상의");
+        assertThat(storeTwo).extracting(ProductSummaryDto::getCategoryId).containsExactly(pants.getId());
+    }
+
+    @Test
+    @DisplayName("엔티티 조회 후 지연 로딩 연관을 하나씩 초기화하면 같은 문장의 반복 실행(N+1)으로 집계된다")
+    void lazyAssociationAccess_IsReportedAsRepeatedStatement() {
+        // When
+        try (SqlStatementContext context = SqlStatementContext.open()) {
+            productRepository.findAll().forEach(product -> product.getCategory().getName());
+
+            // Then: 상품 목록 1회 + 카테고리 2건 개별 조회
+            assertThat(context.getStatementCount()).isEqualTo(3);
+            assertThat(context.getRepeatedStatements(2)).hasSize(1)
+                    .allSatisfy((fingerprint, count) -> {
+                        assertThat(fingerprint).contains("from category");
+                        assertThat(count).isEqualTo(2);
+                    });
+        }
+    }
+
+    private Product product(Category category, Long storeId, String name, boolean deleted) {
+        return Product.builder()
+                .category(category)
+                .storeId(storeId)
+                .name(name)
+                .price(1000)
+                .stock(10)
+                .isDeleted(deleted)
+                .build();
+    }
+}
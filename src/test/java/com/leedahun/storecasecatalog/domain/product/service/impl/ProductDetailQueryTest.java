@@ -0,0 +1,208 @@
+package com.leedahun.storecasecatalog.domain.product.service.impl;
+
+import com.leedahun.storecasecatalog.common.client.IdentityBatchLoader;
+import com.leedahun.storecasecatalog.common.client.IdentityClient;
+import com.leedahun.storecasecatalog.common.error.exception.EntityNotFoundException;
+import com.leedahun.storecasecatalog.common.instrumentation.SqlStatementContext;
+import com.leedahun.storecasecatalog.common.instrumentation.SqlStatementCountingListener;
+import com.leedahun.storecasecatalog.common.service.S3UploadService;
+import com.leedahun.storecasecatalog.domain.category.cache.CategoryCache;
+import com.leedahun.storecasecatalog.domain.category.entity.Category;
+import com.leedahun.storecasecatalog.domain.category.repository.CategoryRepository;
+import com.leedahun.storecasecatalog.domain.option.dto.OptionDetailDto;
+import com.leedahun.storecasecatalog.domain.option.entity.Option;
+import com.leedahun.storecasecatalog.domain.option.repository.OptionRepository;
+import com.leedahun.storecasecatalog.domain.product.cache.ProductDetailCache;
+import com.leedahun.storecasecatalog.domain.product.cache.StoreIdCache;
+import com.leedahun.storecasecatalog.domain.product.dto.ProductDetailResponseDto;
+import com.leedahun.storecasecatalog.domain.product.dto.ProductImageDetailDto;
+import com.leedahun.storecasecatalog.domain.product.entity.Product;
+import com.leedahun.storecasecatalog.domain.product.entity.ProductImage;
+import com.leedahun.storecasecatalog.domain.product.entity.ProductImageStatus;
+import com.leedahun.storecasecatalog.domain.product.repository.ProductImageRepository;
+import com.leedahun.storecasecatalog.domain.product.repository.ProductRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 상품 상세 조회가 옵션·이미지 수와 관계없이 고정된 수의 SQL로 처리되는지 실제 JPA 매핑으로 검증합니다.
+ */
+@DataJpaTest
+@Import(SqlStatementCountingListener.class)
+class ProductDetailQueryTest {
+
+    private static final int DETAIL_STATEMENTS = 3;   // 상품+카테고리, 옵션, 이미지
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OptionRepository optionRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ProductImageRepository productImageRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private ProductServiceImpl productService;
+    private Product singleOptionProduct;
+    private Product manyOptionsProduct;
+
+    @BeforeEach
+    void setUp() {
+        S3UploadService s3UploadService = mock(S3UploadService.class);
+        given(s3UploadService.getPresignedUrls(anyCollection())).willAnswer(invocation -> {
+            Collection<String> s3Keys = invocation.getArgument(0);
+            return s3Keys.stream().collect(Collectors.toMap(Function.identity(), s3Key -> "https://signed/" + s3Key));
+        });
+        IdentityClient identityClient = mock(IdentityClient.class);
+        productService = new ProductServiceImpl(productRepository, optionRepository, categoryRepository, productImageRepository,
+                new StoreIdCache(new SimpleMeterRegistry(), 100, Duration.ofMinutes(10), Duration.ofSeconds(30), Duration.ofHours(24)),
+                mock(CategoryCache.class),
+                identityClient,
+                new IdentityBatchLoader(identityClient, new SimpleMeterRegistry(), Duration.ofMillis(1), 100),
+                s3UploadService,
+                new ProductDetailCache(new SimpleMeterRegistry(), 1000, Duration.ofMinutes(5), 1.0),
+                transactionManager);
+
+        Category tops = testEntityManager.persist(Category.builder().name("상의").build());
+
+        singleOptionProduct = testEntityManager.persist(product(tops, "반팔 티셔츠"));
+        testEntityManager.persist(option(singleOptionProduct, "M", false));
+        testEntityManager.persist(image(singleOptionProduct, "product-images/single.jpg", ProductImageStatus.UPLOADED));
+
+        manyOptionsProduct = testEntityManager.persist(product(tops, "긴팔 티셔츠"));
+        for (int i = 0; i < 30; i++) {
+            testEntityManager.persist(option(manyOptionsProduct, "옵션" + i, false));
+        }
+        testEntityManager.persist(option(manyOptionsProduct, "삭제된 옵션", true));
+        for (int i = 0; i < 5; i++) {
+            testEntityManager.persist(image(manyOptionsProduct, "product-images/many-" + i + ".jpg", ProductImageStatus.UPLOADED));
+        }
+        testEntityManager.persist(image(manyOptionsProduct, "product-images/pending.jpg", ProductImageStatus.PENDING));
+
+        testEntityManager.flush();
+        testEntityManager.clear();
+    }
+
+    @Test
+    @DisplayName("옵션·이미지 수가 늘어나도 상세 조회 SQL 수는 같다")
+    void getProduct_StatementCountDoesNotGrowWithOptions() {
+        // When
+        int singleOptionStatements = statementsFor(singleOptionProduct.getId());
+        int manyOptionsStatements = statementsFor(manyOptionsProduct.getId());
+
+        // Then
+        assertThat(singleOptionStatements).isEqualTo(DETAIL_STATEMENTS);
+        assertThat(manyOptionsStatements).isEqualTo(DETAIL_STATEMENTS);
+    }
+
+    @Test
+    @DisplayName("같은 상품을 다시 조회하면 캐시에서 반환해 SQL을 실행하지 않는다")
+    void getProduct_SecondReadIsServedFromCache() {
+        // Given
+        statementsFor(singleOptionProduct.getId());
+
+        // When
+        int cachedStatements = statementsFor(singleOptionProduct.getId());
+
+        // Then
+        assertThat(cachedStatements).isZero();
+    }
+
+    @Test
+    @DisplayName("삭제되지 않은 옵션과 업로드 확인된 이미지만 카테고리명, 서명된 URL과 함께 반환한다")
+    void getProduct_MapsDetail() {
+        // When
+        ProductDetailResponseDto detail = productService.getProduct(manyOptionsProduct.getId());
+
+        // Then
+        assertThat(detail.getProductName()).isEqualTo("긴팔 티셔츠");
+        assertThat(detail.getCategoryName()).isEqualTo("상의");
+        assertThat(detail.getOptions()).hasSize(30)
+                .extracting(OptionDetailDto::getOptionDetail)
+                .doesNotContain("삭제된 옵션");
+        assertThat(detail.getImages()).hasSize(5)
+                .extracting(ProductImageDetailDto::getImageUrl)
+                .allMatch(url -> url.startsWith("https://signed/product-images/many-"));
+    }
+
+    @Test
+    @DisplayName("삭제된 상품은 찾을 수 없는 상품으로 처리한다")
+    void getProduct_Fail_WhenDeleted() {
+        // Given
+        Category category = testEntityManager.persist(Category.builder().name("하의").build());
+        Product deleted = testEntityManager.persist(Product.builder()
+                .storeId(1L).category(category).name("삭제된 상품").price(1000).stock(1).isDeleted(true).build());
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        // When & Then
+        assertThatThrownBy(() -> productService.getProduct(deleted.getId()))
+                .isInstanceOf(EntityNotFoundException.class);
+    }
+
+    private int statementsFor(Long productId) {
+        testEntityManager.clear();
+        try (SqlStatementContext context = SqlStatementContext.open()) {
+            productService.getProduct(productId);
+            return context.getStatementCount();
+        }
+    }
+
+    private Product product(Category category, String name) {
+        return Product.builder()
+                .storeId(1L)
+                .category(category)
+                .name(name)
+                .description("설명")
+                .optionName("사이즈")
+                .price(10000)
+                .stock(100)
+                .build();
+    }
+
+    private Option option(Product product, String name, boolean deleted) {
+        return Option.builder()
+                .product(product)
+                .name(name)
+                .price(0)
+                .stock(10)
+                .isDeleted(deleted)
+                .build();
+    }
+
+    private ProductImage image(Product product, String s3Key, ProductImageStatus status) {
+        return ProductImage.builder()
+                .product(product)
+                .s3Key(s3Key)
+                .contentType("image/jpeg")
+                .status(status)
+                .build();
+    }
+}
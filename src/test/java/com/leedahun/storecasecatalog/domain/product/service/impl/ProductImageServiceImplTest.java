@@ -1,21 +1,39 @@
 package com.leedahun.storecasecatalog.domain.product.service.impl;
 
+import com.leedahun.storecasecatalog.common.error.exception.FileSizeExceededException;
 import com.leedahun.storecasecatalog.common.error.exception.FileUploadFailedException;
+import com.leedahun.storecasecatalog.common.error.exception.UploadNotCompletedException;
+import com.leedahun.storecasecatalog.common.service.S3AsyncUploadService;
 import com.leedahun.storecasecatalog.common.service.S3UploadService;
+import com.leedahun.storecasecatalog.domain.product.dto.ProductImageCompletedPartDto;
+import com.leedahun.storecasecatalog.domain.product.dto.ProductImageUploadConfirmRequestDto;
 import com.leedahun.storecasecatalog.domain.product.dto.ProductImageUploadResponseDto;
+import com.leedahun.storecasecatalog.domain.product.dto.ProductImageUploadUrlRequestDto;
+import com.leedahun.storecasecatalog.domain.product.dto.ProductImageUploadUrlResponseDto;
 import com.leedahun.storecasecatalog.domain.product.entity.ProductImage;
+import com.leedahun.storecasecatalog.domain.product.entity.ProductImageStatus;
 import com.leedahun.storecasecatalog.domain.product.repository.ProductImageRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchUploadException;
 
-import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -28,39 +46,51 @@ class ProductImageServiceImplTest {
     @Mock
     private S3UploadService s3UploadService;
 
+    @Mock
+    private S3AsyncUploadService s3AsyncUploadService;
+
     @Mock
     private ProductImageRepository productImageRepository;
 
-    @InjectMocks
     private ProductImageServiceImpl productImageService;
 
     private MockMultipartFile mockFile;
 
     @BeforeEach
     void setUp() {
+        // 업로드 이후 저장 단계를 호출 스레드에서 바로 실행
+        productImageService = new ProductImageServiceImpl(s3UploadService, s3AsyncUploadService, productImageRepository, Runnable::run);
+
         mockFile = new MockMultipartFile(
                 "image",
                 "test-image.jpg",
                 "image/jpeg",
                 "test-image-content".getBytes()
         );
+
+        ReflectionTestUtils.setField(productImageService, "uploadUrlExpiration", Duration.ofMinutes(15));
+        ReflectionTestUtils.setField(productImageService, "maxFileSize", DataSize.ofMegabytes(200));
+        ReflectionTestUtils.setField(productImageService, "multipartThreshold", DataSize.ofMegabytes(16));
+        ReflectionTestUtils.setField(productImageService, "partSize", DataSize.ofMegabytes(8));
+        ReflectionTestUtils.setField(productImageService, "abandonGrace", Duration.ofHours(1));
     }
 
     @Test
     @DisplayName("이미지 업로드 성공 시 ID와 Presigned URL이 포함된 DTO를 반환한다")
-    void uploadImage_Success() throws IOException {
+    void uploadImage_Success() {
         // Given
         String s3Key = "product-images/uuid_test-image.jpg";
         String presignedUrl = "https://s3.presigned.url/for/test-image.jpg";
 
         // S3 업로드가 성공했다고 가정
-        when(s3UploadService.uploadFile(mockFile)).thenReturn(s3Key);
+        when(s3UploadService.createS3Key(mockFile.getOriginalFilename())).thenReturn(s3Key);
+        when(s3AsyncUploadService.uploadFileAsync(s3Key, mockFile)).thenReturn(CompletableFuture.completedFuture(s3Key));
 
         // Presigned URL 생성이 성공했다고 가정
         when(s3UploadService.getPresignedUrl(s3Key)).thenReturn(presignedUrl);
 
         // When
-        ProductImageUploadResponseDto responseDto = productImageService.uploadImage(mockFile);
+        ProductImageUploadResponseDto responseDto = productImageService.uploadImage(mockFile).join();
 
         // Then
         // 반환된 DTO 검증
@@ -75,24 +105,300 @@ class ProductImageServiceImplTest {
         assertThat(capturedImage.getProduct()).isNull();
         assertThat(capturedImage.getOriginalName()).isEqualTo(mockFile.getOriginalFilename());
         assertThat(capturedImage.getS3Key()).isEqualTo(s3Key);
+        assertThat(capturedImage.getContentType()).isEqualTo("image/jpeg");
+        assertThat(capturedImage.getFileSize()).isEqualTo(mockFile.getSize());
+        assertThat(capturedImage.getStatus()).isEqualTo(ProductImageStatus.UPLOADED);
 
         // S3 서비스가 올바른 순서로 호출되었는지 검증
-        verify(s3UploadService, times(1)).uploadFile(mockFile);
+        verify(s3AsyncUploadService, times(1)).uploadFileAsync(s3Key, mockFile);
         verify(s3UploadService, times(1)).getPresignedUrl(s3Key);
     }
 
     @Test
-    @DisplayName("S3 파일 업로드 중 IOException 발생 시 FileUploadFailedException을 던진다")
-    void uploadImage_ThrowsFileUploadFailedException_OnIOException() throws IOException {
+    @DisplayName("S3 파일 업로드 실패 시 FileUploadFailedException으로 완료되고 이미지를 저장하지 않는다")
+    void uploadImage_CompletesExceptionally_WhenUploadFails() {
         // Given
-        when(s3UploadService.uploadFile(mockFile)).thenThrow(new IOException("S3 connection failed"));
+        String s3Key = "product-images/uuid_test-image.jpg";
+        when(s3UploadService.createS3Key(mockFile.getOriginalFilename())).thenReturn(s3Key);
+        when(s3AsyncUploadService.uploadFileAsync(s3Key, mockFile))
+                .thenReturn(CompletableFuture.failedFuture(new FileUploadFailedException()));
 
         // When & Then
-        assertThatThrownBy(() -> productImageService.uploadImage(mockFile))
-                .isInstanceOf(FileUploadFailedException.class);
+        assertThatThrownBy(() -> productImageService.uploadImage(mockFile).join())
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(FileUploadFailedException.class);
 
         verify(productImageRepository, never()).save(any(ProductImage.class));
         verify(s3UploadService, never()).getPresignedUrl(anyString());
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("작은 파일은 단일 PUT URL을 발급하고 이미지를 PENDING 상태로 등록한다")
+    void createUploadUrl_SinglePut() {
+        // Given
+        String s3Key = "product-images/uuid_photo.jpg";
+        ProductImageUploadUrlRequestDto requestDto = uploadUrlRequest(DataSize.ofMegabytes(2).toBytes());
+        when(s3UploadService.createS3Key("photo.jpg")).thenReturn(s3Key);
+        when(s3UploadService.getPresignedPutUrl(s3Key, "image/jpeg", requestDto.getFileSize(), Duration.ofMinutes(15)))
+                .thenReturn("https://s3.presigned.url/put");
+
+        // When
+        ProductImageUploadUrlResponseDto responseDto = productImageService.createUploadUrl(requestDto);
+
+        // Then
+        assertThat(responseDto.isMultipart()).isFalse();
+        assertThat(responseDto.getUploadUrl()).isEqualTo("https://s3.presigned.url/put");
+        assertThat(responseDto.getExpiresInSeconds()).isEqualTo(900);
+
+        ArgumentCaptor<ProductImage> imageCaptor = ArgumentCaptor.forClass(ProductImage.class);
+        verify(productImageRepository).save(imageCaptor.capture());
+        assertThat(imageCaptor.getValue().getStatus()).isEqualTo(ProductImageStatus.PENDING);
+        assertThat(imageCaptor.getValue().getUploadId()).isNull();
+        assertThat(imageCaptor.getValue().getFileSize()).isEqualTo(requestDto.getFileSize());
+
+        verify(s3UploadService, never()).createMultipartUpload(anyString(), anyString());
+        verifyNoInteractions(s3AsyncUploadService);
+    }
+
+    @Test
+    @DisplayName("큰 파일은 멀티파트 업로드를 시작하고 파트 수만큼 파트 URL을 발급한다")
+    void createUploadUrl_Multipart() {
+        // Given
+        String s3Key = "product-images/uuid_photo.jpg";
+        ProductImageUploadUrlRequestDto requestDto = uploadUrlRequest(DataSize.ofMegabytes(20).toBytes());
+        when(s3UploadService.createS3Key("photo.jpg")).thenReturn(s3Key);
+        when(s3UploadService.createMultipartUpload(s3Key, "image/jpeg")).thenReturn("upload-1");
+        when(s3UploadService.getPresignedUploadPartUrl(eq(s3Key), eq("upload-1"), anyInt(), eq(Duration.ofMinutes(15))))
+                .thenAnswer(invocation -> "https://s3.presigned.url/part/" + invocation.getArgument(2));
+
+        // When
+        ProductImageUploadUrlResponseDto responseDto = productImageService.createUploadUrl(requestDto);
+
+        // Then
+        assertThat(responseDto.isMultipart()).isTrue();
+        assertThat(responseDto.getUploadUrl()).isNull();
+        assertThat(responseDto.getPartSize()).isEqualTo(DataSize.ofMegabytes(8).toBytes());
+        assertThat(responseDto.getParts()).extracting("partNumber").containsExactly(1, 2, 3);
+        assertThat(responseDto.getParts().get(2).getUploadUrl()).isEqualTo("https://s3.presigned.url/part/3");
+
+        ArgumentCaptor<ProductImage> imageCaptor = ArgumentCaptor.forClass(ProductImage.class);
+        verify(productImageRepository).save(imageCaptor.capture());
+        assertThat(imageCaptor.getValue().getUploadId()).isEqualTo("upload-1");
+    }
+
+    @Test
+    @DisplayName("이미지 저장에 실패하면 시작한 멀티파트 업로드를 중단하고 예외를 그대로 던진다")
+    void createUploadUrl_AbortsMultipartUpload_WhenSaveFails() {
+        // Given
+        String s3Key = "product-images/uuid_photo.jpg";
+        ProductImageUploadUrlRequestDto requestDto = uploadUrlRequest(DataSize.ofMegabytes(20).toBytes());
+        when(s3UploadService.createS3Key("photo.jpg")).thenReturn(s3Key);
+        when(s3UploadService.createMultipartUpload(s3Key, "image/jpeg")).thenReturn("upload-1");
+        when(productImageRepository.save(any(ProductImage.class))).thenThrow(new IllegalStateException("db down"));
+
+        // When & Then
+        assertThatThrownBy(() -> productImageService.createUploadUrl(requestDto))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("db down");
+
+        verify(s3UploadService).abortMultipartUpload(s3Key, "upload-1");
+        verify(s3UploadService, never()).getPresignedUploadPartUrl(anyString(), anyString(), anyInt(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘는 파일은 URL을 발급하지 않는다")
+    void createUploadUrl_ThrowsFileSizeExceeded() {
+        // Given
+        ProductImageUploadUrlRequestDto requestDto = uploadUrlRequest(DataSize.ofMegabytes(201).toBytes());
+
+        // When & Then
+        assertThatThrownBy(() -> productImageService.createUploadUrl(requestDto))
+                .isInstanceOf(FileSizeExceededException.class);
+
+        verify(productImageRepository, never()).save(any(ProductImage.class));
+        verifyNoInteractions(s3UploadService);
+    }
+
+    @Test
+    @DisplayName("업로드 확인 시 S3 객체의 크기가 일치하면 UPLOADED로 전환하고 조회 URL을 반환한다")
+    void confirmUpload_Success() {
+        // Given
+        ProductImage productImage = pendingImage(null);
+        when(productImageRepository.findById(1L)).thenReturn(Optional.of(productImage));
+        when(s3UploadService.headObject(productImage.getS3Key()))
+                .thenReturn(Optional.of(HeadObjectResponse.builder().contentLength(1024L).build()));
+        when(s3UploadService.getPresignedUrl(productImage.getS3Key())).thenReturn("https://s3.presigned.url/get");
+
+        // When
+        ProductImageUploadResponseDto responseDto = productImageService.confirmUpload(1L, null);
+
+        // Then
+        assertThat(productImage.getStatus()).isEqualTo(ProductImageStatus.UPLOADED);
+        verify(productImageRepository).save(productImage);
+        assertThat(responseDto.getImageId()).isEqualTo(1L);
+        assertThat(responseDto.getImageUrl()).isEqualTo("https://s3.presigned.url/get");
+    }
+
+    @Test
+    @DisplayName("S3에 객체가 없거나 크기가 다르면 UploadNotCompletedException을 던지고 PENDING을 유지한다")
+    void confirmUpload_ThrowsUploadNotCompleted() {
+        // Given
+        ProductImage missing = pendingImage(null);
+        ProductImage truncated = pendingImage(null);
+        when(productImageRepository.findById(1L)).thenReturn(Optional.of(missing));
+        when(productImageRepository.findById(2L)).thenReturn(Optional.of(truncated));
+        when(s3UploadService.headObject(missing.getS3Key()))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(HeadObjectResponse.builder().contentLength(10L).build()));
+
+        // When & Then
+        assertThatThrownBy(() -> productImageService.confirmUpload(1L, null))
+                .isInstanceOf(UploadNotCompletedException.class);
+        assertThatThrownBy(() -> productImageService.confirmUpload(2L, null))
+                .isInstanceOf(UploadNotCompletedException.class);
+
+        assertThat(missing.getStatus()).isEqualTo(ProductImageStatus.PENDING);
+        assertThat(truncated.getStatus()).isEqualTo(ProductImageStatus.PENDING);
+        verify(productImageRepository, never()).save(any(ProductImage.class));
+    }
+
+    @Test
+    @DisplayName("멀티파트 업로드는 파트 번호 순으로 정렬해 완료 요청 후 HEAD로 확인한다")
+    void confirmUpload_CompletesMultipartUpload() {
+        // Given
+        ProductImage productImage = pendingImage("upload-1");
+        when(productImageRepository.findById(1L)).thenReturn(Optional.of(productImage));
+        when(s3UploadService.headObject(productImage.getS3Key()))
+                .thenReturn(Optional.of(HeadObjectResponse.builder().contentLength(1024L).build()));
+
+        ProductImageUploadConfirmRequestDto requestDto = new ProductImageUploadConfirmRequestDto(List.of(
+                new ProductImageCompletedPartDto(2, "\"etag-2\""),
+                new ProductImageCompletedPartDto(1, "\"etag-1\"")));
+
+        // When
+        productImageService.confirmUpload(1L, requestDto);
+
+        // Then
+        ArgumentCaptor<List<CompletedPart>> partsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(s3UploadService).completeMultipartUpload(eq(productImage.getS3Key()), eq("upload-1"), partsCaptor.capture());
+        assertThat(partsCaptor.getValue()).extracting(CompletedPart::partNumber).containsExactly(1, 2);
+        assertThat(productImage.getStatus()).isEqualTo(ProductImageStatus.UPLOADED);
+    }
+
+    @Test
+    @DisplayName("멀티파트 업로드 확인 요청에 파트 목록이 없으면 UploadNotCompletedException을 던진다")
+    void confirmUpload_ThrowsUploadNotCompleted_WhenPartsMissing() {
+        // Given
+        when(productImageRepository.findById(1L)).thenReturn(Optional.of(pendingImage("upload-1")));
+
+        // When & Then
+        assertThatThrownBy(() -> productImageService.confirmUpload(1L, new ProductImageUploadConfirmRequestDto()))
+                .isInstanceOf(UploadNotCompletedException.class);
+
+        verify(s3UploadService, never()).completeMultipartUpload(anyString(), anyString(), anyList());
+    }
+
+    @Test
+    @DisplayName("이미 UPLOADED인 이미지는 S3를 다시 확인하지 않는다")
+    void confirmUpload_IsIdempotent() {
+        // Given
+        ProductImage productImage = pendingImage(null);
+        productImage.markUploaded();
+        when(productImageRepository.findById(1L)).thenReturn(Optional.of(productImage));
+
+        // When
+        productImageService.confirmUpload(1L, null);
+
+        // Then
+        verify(s3UploadService, never()).headObject(anyString());
+    }
+
+    @Test
+    @DisplayName("방치된 업로드는 멀티파트 업로드를 중단하거나 객체를 삭제한 뒤 PENDING 행을 지운다")
+    void deleteAbandonedUploads_CleansUpS3AndRows() {
+        // Given
+        ProductImage multipartImage = pendingImage("upload-1");
+        ProductImage singlePutImage = ProductImage.builder()
+                .id(2L)
+                .s3Key("product-images/uuid_single.jpg")
+                .status(ProductImageStatus.PENDING)
+                .build();
+        when(productImageRepository.findTop100ByStatusAndCreatedAtBeforeOrderByIdAsc(eq(ProductImageStatus.PENDING), any(LocalDateTime.class)))
+                .thenReturn(List.of(multipartImage, singlePutImage));
+        when(productImageRepository.deletePendingById(anyLong())).thenReturn(1);
+
+        // When
+        int deleted = productImageService.deleteAbandonedUploads();
+
+        // Then
+        assertThat(deleted).isEqualTo(2);
+        verify(s3UploadService).abortMultipartUpload(multipartImage.getS3Key(), "upload-1");
+        verify(s3UploadService).deleteObject(singlePutImage.getS3Key());
+        verify(productImageRepository).deletePendingById(1L);
+        verify(productImageRepository).deletePendingById(2L);
+    }
+
+    @Test
+    @DisplayName("URL 만료 시간과 유예 시간이 모두 지난 업로드만 조회한다")
+    void deleteAbandonedUploads_UsesExpirationPlusGraceAsCutoff() {
+        // Given
+        ArgumentCaptor<LocalDateTime> cutoff = ArgumentCaptor.forClass(LocalDateTime.class);
+        when(productImageRepository.findTop100ByStatusAndCreatedAtBeforeOrderByIdAsc(eq(ProductImageStatus.PENDING), cutoff.capture()))
+                .thenReturn(List.of());
+
+        // When
+        productImageService.deleteAbandonedUploads();
+
+        // Then: 15분(URL 만료) + 1시간(유예)
+        assertThat(cutoff.getValue()).isBetween(
+                LocalDateTime.now().minusMinutes(76), LocalDateTime.now().minusMinutes(74));
+    }
+
+    @Test
+    @DisplayName("S3 정리에 실패한 업로드는 행을 남겨 다음 정리 때 다시 시도하고, 이미 중단된 업로드는 행을 지운다")
+    void deleteAbandonedUploads_KeepsRow_WhenS3CleanupFails() {
+        // Given
+        ProductImage failingImage = pendingImage("upload-1");
+        ProductImage alreadyAbortedImage = ProductImage.builder()
+                .id(2L)
+                .s3Key("product-images/uuid_aborted.jpg")
+                .uploadId("upload-2")
+                .status(ProductImageStatus.PENDING)
+                .build();
+        when(productImageRepository.findTop100ByStatusAndCreatedAtBeforeOrderByIdAsc(eq(ProductImageStatus.PENDING), any(LocalDateTime.class)))
+                .thenReturn(List.of(failingImage, alreadyAbortedImage));
+        doThrow(SdkClientException.create("s3 down"))
+                .when(s3UploadService).abortMultipartUpload(failingImage.getS3Key(), "upload-1");
+        doThrow(NoSuchUploadException.builder().message("no such upload").build())
+                .when(s3UploadService).abortMultipartUpload(alreadyAbortedImage.getS3Key(), "upload-2");
+        when(productImageRepository.deletePendingById(2L)).thenReturn(1);
+
+        // When
+        int deleted = productImageService.deleteAbandonedUploads();
+
+        // Then
+        assertThat(deleted).isEqualTo(1);
+        verify(productImageRepository, never()).deletePendingById(1L);
+    }
+
+    private ProductImageUploadUrlRequestDto uploadUrlRequest(long fileSize) {
+        return ProductImageUploadUrlRequestDto.builder()
+                .originalName("photo.jpg")
+                .contentType("image/jpeg")
+                .fileSize(fileSize)
+                .build();
+    }
+
+    private ProductImage pendingImage(String uploadId) {
+        return ProductImage.builder()
+                .id(1L)
+                .originalName("photo.jpg")
+                .s3Key("product-images/uuid_photo.jpg")
+                .contentType("image/jpeg")
+                .fileSize(1024L)
+                .uploadId(uploadId)
+                .status(ProductImageStatus.PENDING)
+                .build();
+    }
+
+}
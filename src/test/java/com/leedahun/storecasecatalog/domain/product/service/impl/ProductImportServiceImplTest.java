@@ -0,0 +1,252 @@
+package com.leedahun.storecasecatalog.domain.product.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.leedahun.storecasecatalog.common.message.ErrorMessage;
+import com.leedahun.storecasecatalog.domain.category.cache.CategoryCache;
+import com.leedahun.storecasecatalog.domain.category.repository.CategoryRepository;
+import com.leedahun.storecasecatalog.domain.option.dto.OptionCreateRequestDto;
+import com.leedahun.storecasecatalog.domain.option.entity.Option;
+import com.leedahun.storecasecatalog.domain.option.repository.OptionRepository;
+import com.leedahun.storecasecatalog.domain.product.dto.ProductCreateRequestDto;
+import com.leedahun.storecasecatalog.domain.product.dto.ProductImportResultDto;
+import com.leedahun.storecasecatalog.domain.product.entity.Product;
+import com.leedahun.storecasecatalog.domain.product.repository.ProductImageRepository;
+import com.leedahun.storecasecatalog.domain.product.repository.ProductRepository;
+import com.leedahun.storecasecatalog.domain.product.service.ProductService;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ProductImportServiceImplTest {
+
+    @Mock
+    private ProductService productService;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private OptionRepository optionRepository;
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @Mock
+    private CategoryCache categoryCache;
+
+    @Mock
+    private ProductImageRepository productImageRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private ProductImportServiceImpl productImportService;
+
+    private final Long sellerId = 1L;
+    private final Long storeId = 100L;
+    private final Long categoryId = 10L;
+
+    @BeforeEach
+    void setUp() {
+        productImportService = new ProductImportServiceImpl(
+                productService,
+                productRepository,
+                optionRepository,
+                categoryRepository,
+                categoryCache,
+                productImageRepository,
+                new TransactionTemplate(transactionManager),
+                entityManager,
+                objectMapper,
+                Validation.buildDefaultValidatorFactory().getValidator()
+        );
+        ReflectionTestUtils.setField(productImportService, "chunkSize", 2);
+        ReflectionTestUtils.setField(productImportService, "maxReportedErrors", 100);
+        ReflectionTestUtils.setField(productImportService, "maxLineLength", 65536);
+
+        when(productService.getStoreId(sellerId)).thenReturn(storeId);
+        lenient().when(categoryCache.contains(categoryId)).thenReturn(true);
+    }
+
+    @Test
+    @DisplayName("유효한 행들을 chunk 크기 단위로 나누어 저장하고, storeId는 한 번만 조회하며 카테고리는 DB에서 조회하지 않는다")
+    void importProducts_WritesInChunks() throws Exception {
+        // Given
+        InputStream body = ndjson(
+                json(validRequest("A")),
+                json(validRequest("B")),
+                "",
+                json(validRequest("C"))
+        );
+
+        // When
+        ProductImportResultDto result = productImportService.importProducts(sellerId, body);
+
+        // Then
+        assertThat(result.getTotalRows()).isEqualTo(3);
+        assertThat(result.getSucceeded()).isEqualTo(3);
+        assertThat(result.getFailed()).isZero();
+        assertThat(result.getErrors()).isEmpty();
+
+        ArgumentCaptor<List<Product>> productsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(productRepository, times(2)).saveAll(productsCaptor.capture());
+        assertThat(productsCaptor.getAllValues().get(0)).hasSize(2);
+        assertThat(productsCaptor.getAllValues().get(1)).hasSize(1);
+        assertThat(productsCaptor.getAllValues().get(0).get(0).getStoreId()).isEqualTo(storeId);
+
+        ArgumentCaptor<List<Option>> optionsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(optionRepository, times(2)).saveAll(optionsCaptor.capture());
+        assertThat(optionsCaptor.getAllValues().get(0)).hasSize(2);
+
+        verify(productService, times(1)).getStoreId(sellerId);
+        verify(categoryRepository, never()).findAll();
+        verify(productImageRepository, times(3)).updateProductIds(any(Product.class), anyList());
+        verify(entityManager, times(2)).clear();
+    }
+
+    @Test
+    @DisplayName("JSON 오류, 유효성 검사 실패, 없는 카테고리 행은 줄 번호와 함께 실패로 보고하고 나머지는 저장한다")
+    void importProducts_ReportsRowErrors() throws Exception {
+        // Given
+        ProductCreateRequestDto invalid = validRequest("invalid");
+        invalid.setProductName(null);
+        ProductCreateRequestDto unknownCategory = validRequest("unknown");
+        unknownCategory.setCategoryId(99L);
+
+        InputStream body = ndjson(
+                "{not-json",
+                json(invalid),
+                json(unknownCategory),
+                json(validRequest("ok"))
+        );
+
+        // When
+        ProductImportResultDto result = productImportService.importProducts(sellerId, body);
+
+        // Then
+        assertThat(result.getTotalRows()).isEqualTo(4);
+        assertThat(result.getSucceeded()).isEqualTo(1);
+        assertThat(result.getFailed()).isEqualTo(3);
+        assertThat(result.getErrors()).extracting("line").containsExactly(1L, 2L, 3L);
+        assertThat(result.getErrors().get(0).getMessage()).isEqualTo(ErrorMessage.INVALID_JSON_FORMAT.getMessage());
+        assertThat(result.getErrors().get(1).getMessage()).contains("productName");
+        assertThat(result.getErrors().get(2).getMessage()).contains("Category");
+    }
+
+    @Test
+    @DisplayName("chunk 저장이 실패하면 한 행씩 다시 저장해 실패한 행만 원인과 함께 보고하고 다음 chunk를 계속 처리한다")
+    void importProducts_RetriesFailedChunkRowByRow() throws Exception {
+        // Given: 첫 chunk(A, B) 실패 → A 재시도 성공, B 재시도 실패 → 다음 chunk(C) 성공
+        when(productRepository.saveAll(anyList()))
+                .thenThrow(new DataIntegrityViolationException("chunk"))
+                .thenReturn(List.of())
+                .thenThrow(new DataIntegrityViolationException("duplicate product name"))
+                .thenReturn(List.of());
+
+        InputStream body = ndjson(
+                json(validRequest("A")),
+                json(validRequest("B")),
+                json(validRequest("C"))
+        );
+
+        // When
+        ProductImportResultDto result = productImportService.importProducts(sellerId, body);
+
+        // Then
+        assertThat(result.getSucceeded()).isEqualTo(2);
+        assertThat(result.getFailed()).isEqualTo(1);
+        assertThat(result.getErrors()).singleElement().satisfies(error -> {
+            assertThat(error.getLine()).isEqualTo(2L);
+            assertThat(error.getMessage()).isEqualTo(ErrorMessage.IMPORT_ROW_FAILED.getMessage() + "duplicate product name");
+        });
+        verify(transactionManager, times(2)).rollback(any());
+    }
+
+    @Test
+    @DisplayName("최대 길이를 넘는 줄은 끝까지 버리고 실패로 보고한 뒤 다음 줄을 계속 처리한다")
+    void importProducts_ReportsTooLongLine() throws Exception {
+        // Given
+        ReflectionTestUtils.setField(productImportService, "maxLineLength", 1000);
+        ProductCreateRequestDto tooLong = validRequest("x".repeat(2000));
+
+        InputStream body = ndjson(
+                json(tooLong),
+                json(validRequest("ok")) + "\r"
+        );
+
+        // When
+        ProductImportResultDto result = productImportService.importProducts(sellerId, body);
+
+        // Then
+        assertThat(result.getTotalRows()).isEqualTo(2);
+        assertThat(result.getSucceeded()).isEqualTo(1);
+        assertThat(result.getErrors()).singleElement().satisfies(error -> {
+            assertThat(error.getLine()).isEqualTo(1L);
+            assertThat(error.getMessage()).startsWith(ErrorMessage.IMPORT_LINE_TOO_LONG.getMessage());
+        });
+    }
+
+    @Test
+    @DisplayName("보고 한도를 넘는 오류는 건수만 집계하고 목록은 잘라낸다")
+    void importProducts_TruncatesReportedErrors() throws Exception {
+        // Given
+        ReflectionTestUtils.setField(productImportService, "maxReportedErrors", 2);
+        InputStream body = ndjson("{x", "{x", "{x", "{x");
+
+        // When
+        ProductImportResultDto result = productImportService.importProducts(sellerId, body);
+
+        // Then
+        assertThat(result.getFailed()).isEqualTo(4);
+        assertThat(result.getErrors()).hasSize(2);
+        assertThat(result.isErrorsTruncated()).isTrue();
+        verify(productRepository, never()).saveAll(anyList());
+    }
+
+    private ProductCreateRequestDto validRequest(String name) {
+        return ProductCreateRequestDto.builder()
+                .productName(name)
+                .description("desc")
+                .optionName("Color")
+                .price(1000)
+                .stock(10)
+                .categoryId(categoryId)
+                .imageIds(List.of(1L))
+                .options(List.of(OptionCreateRequestDto.builder().optionDetail("Red").price(0).stock(5).build()))
+                .build();
+    }
+
+    private String json(ProductCreateRequestDto requestDto) throws Exception {
+        return objectMapper.writeValueAsString(requestDto);
+    }
+
+    private InputStream ndjson(String... lines) {
+        return new ByteArrayInputStream(String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,127 @@
+package com.leedahun.storecasecatalog.domain.product.service.impl;
+
+import com.leedahun.storecasecatalog.common.client.IdentityBatchLoader;
+import com.leedahun.storecasecatalog.common.client.IdentityClient;
+import com.leedahun.storecasecatalog.common.instrumentation.SqlStatementCountingListener;
+import com.leedahun.storecasecatalog.common.service.S3UploadService;
+import com.leedahun.storecasecatalog.domain.category.cache.CategoryCache;
+import com.leedahun.storecasecatalog.domain.category.entity.Category;
+import com.leedahun.storecasecatalog.domain.category.repository.CategoryRepository;
+import com.leedahun.storecasecatalog.domain.option.repository.OptionRepository;
+import com.leedahun.storecasecatalog.domain.product.cache.ProductDetailCache;
+import com.leedahun.storecasecatalog.domain.product.cache.StoreIdCache;
+import com.leedahun.storecasecatalog.domain.product.dto.ProductPageResponseDto;
+import com.leedahun.storecasecatalog.domain.product.entity.Product;
+import com.leedahun.storecasecatalog.domain.product.repository.ProductImageRepository;
+import com.leedahun.storecasecatalog.domain.product.repository.ProductRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+
+import static com.leedahun.storecasecatalog.support.SqlStatementAssertions.assertMaxQueries;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 카테고리별/상점별 상품 목록이 페이지 크기와 관계없이 쿼리 한 번으로 처리되는지 실제 JPA 매핑으로 검증합니다.
+ * (COUNT 쿼리 없음, 카테고리 존재 확인은 스냅샷, 카테고리·이미지 등 연관은 조회하지 않음)
+ */
+@DataJpaTest
+@Import(SqlStatementCountingListener.class)
+class ProductListingQueryTest {
+
+    private static final int LISTING_STATEMENTS = 1;
+    private static final long STORE_ID = 1L;
+    private static final int PRODUCTS = 30;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OptionRepository optionRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ProductImageRepository productImageRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private ProductServiceImpl productService;
+    private Category tops;
+
+    @BeforeEach
+    void setUp() {
+        IdentityClient identityClient = mock(IdentityClient.class);
+        CategoryCache categoryCache = new CategoryCache(categoryRepository);
+        productService = new ProductServiceImpl(productRepository, optionRepository, categoryRepository, productImageRepository,
+                new StoreIdCache(new SimpleMeterRegistry(), 100, Duration.ofMinutes(10), Duration.ofSeconds(30), Duration.ofHours(24)),
+                categoryCache,
+                identityClient,
+                new IdentityBatchLoader(identityClient, new SimpleMeterRegistry(), Duration.ofMillis(1), 100),
+                mock(S3UploadService.class),
+                new ProductDetailCache(new SimpleMeterRegistry(), 1000, Duration.ofMinutes(5), 1.0),
+                transactionManager);
+
+        tops = testEntityManager.persist(Category.builder().name("상의").build());
+        for (int i = 0; i < PRODUCTS; i++) {
+            testEntityManager.persist(Product.builder()
+                    .storeId(STORE_ID)
+                    .category(tops)
+                    .name("상품" + i)
+                    .price(1000)
+                    .stock(10)
+                    .build());
+        }
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        categoryCache.getAll();   // 스냅샷은 기동 후 한 번만 만들어지므로 미리 적재
+    }
+
+    @Test
+    @DisplayName("카테고리별 목록은 페이지 크기와 관계없이 쿼리 한 번으로 조회하고, 다음 페이지도 마찬가지다")
+    void getProductsByCategory_StaysWithinStatementBudget() throws Throwable {
+        // When
+        ProductPageResponseDto small = assertMaxQueries(LISTING_STATEMENTS,
+                () -> productService.getProductsByCategory(tops.getId(), null, 5));
+        ProductPageResponseDto large = assertMaxQueries(LISTING_STATEMENTS,
+                () -> productService.getProductsByCategory(tops.getId(), null, 25));
+        ProductPageResponseDto next = assertMaxQueries(LISTING_STATEMENTS,
+                () -> productService.getProductsByCategory(tops.getId(), large.getNextCursor(), 25));
+
+        // Then
+        assertThat(small.getProducts()).hasSize(5);
+        assertThat(large.getProducts()).hasSize(25);
+        assertThat(next.getProducts()).hasSize(PRODUCTS - 25);
+        assertThat(next.isHasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("상점별 목록은 페이지 크기와 관계없이 쿼리 한 번으로 조회한다")
+    void getProductsByStore_StaysWithinStatementBudget() throws Throwable {
+        // When
+        ProductPageResponseDto small = assertMaxQueries(LISTING_STATEMENTS,
+                () -> productService.getProductsByStore(STORE_ID, null, 5));
+        ProductPageResponseDto large = assertMaxQueries(LISTING_STATEMENTS,
+                () -> productService.getProductsByStore(STORE_ID, null, 50));
+
+        // Then
+        assertThat(small.getProducts()).hasSize(5);
+        assertThat(large.getProducts()).hasSize(PRODUCTS);
+        assertThat(large.isHasNext()).isFalse();
+    }
+}
@@ -1,17 +1,31 @@
 package com.leedahun.storecasecatalog.domain.product.service.impl;
 
+import com.leedahun.storecasecatalog.common.client.IdentityApiResponse;
+import com.leedahun.storecasecatalog.common.client.IdentityBatchLoader;
+import com.leedahun.storecasecatalog.common.client.IdentityClient;
 import com.leedahun.storecasecatalog.common.error.exception.EntityNotFoundException;
+import com.leedahun.storecasecatalog.common.error.exception.InvalidCursorException;
+import com.leedahun.storecasecatalog.common.pagination.KeysetCursor;
 import com.leedahun.storecasecatalog.common.error.exception.ExternalApiException;
-import com.leedahun.storecasecatalog.common.response.HttpResponse;
+import com.leedahun.storecasecatalog.common.service.S3UploadService;
+import com.leedahun.storecasecatalog.domain.category.cache.CategoryCache;
+import com.leedahun.storecasecatalog.domain.category.dto.CategoryResponseDto;
 import com.leedahun.storecasecatalog.domain.category.entity.Category;
 import com.leedahun.storecasecatalog.domain.category.repository.CategoryRepository;
 import com.leedahun.storecasecatalog.domain.option.dto.OptionCreateRequestDto;
 import com.leedahun.storecasecatalog.domain.option.entity.Option;
 import com.leedahun.storecasecatalog.domain.option.repository.OptionRepository;
+import com.leedahun.storecasecatalog.domain.product.cache.ProductDetailCache;
+import com.leedahun.storecasecatalog.domain.product.cache.StoreIdCache;
 import com.leedahun.storecasecatalog.domain.product.dto.ProductCreateRequestDto;
+import com.leedahun.storecasecatalog.domain.product.dto.ProductPageResponseDto;
+import com.leedahun.storecasecatalog.domain.product.dto.ProductSummaryDto;
 import com.leedahun.storecasecatalog.domain.product.entity.Product;
 import com.leedahun.storecasecatalog.domain.product.repository.ProductImageRepository;
 import com.leedahun.storecasecatalog.domain.product.repository.ProductRepository;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -19,14 +33,17 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 import org.springframework.http.HttpStatus;
-import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.web.reactive.function.client.WebClientException;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
 import java.util.List;
-import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -49,52 +66,54 @@ class ProductServiceImplTest {
     private ProductImageRepository productImageRepository;
 
     @Mock
-    private WebClient.Builder webClientBuilder;
+    private CategoryCache categoryCache;
 
     @Mock
-    private WebClient webClient;
+    private IdentityClient identityClient;
 
     @Mock
-    private WebClient.RequestHeadersUriSpec requestHeadersUriSpec;
+    private S3UploadService s3UploadService;
 
     @Mock
-    private WebClient.RequestHeadersSpec requestHeadersSpec;
-
-    @Mock
-    private WebClient.ResponseSpec responseSpec;
-
-    @Mock
-    private Mono<HttpResponse> mono;
+    private Mono<IdentityApiResponse<Long>> mono;
 
     private ProductServiceImpl productService;
 
     private Long sellerId;
     private Long storeId;
-    private final String EXPECTED_URI_PATH = "/api/internal/identity/users/{sellerId}";
 
     @BeforeEach
     void setUp() {
         sellerId = 1L;
         storeId = 100L;
 
-        when(webClientBuilder.baseUrl(anyString())).thenReturn(webClientBuilder);
-        when(webClientBuilder.build()).thenReturn(webClient);
+        productService = createProductService(
+                new StoreIdCache(new SimpleMeterRegistry(), 100, Duration.ofMinutes(10), Duration.ofSeconds(30), Duration.ofHours(24)));
+    }
 
-        productService = new ProductServiceImpl(
+    private ProductServiceImpl createProductService(StoreIdCache storeIdCache) {
+        return new ProductServiceImpl(
                 productRepository,
                 optionRepository,
                 categoryRepository,
                 productImageRepository,
-                webClientBuilder
+                storeIdCache,
+                categoryCache,
+                identityClient,
+                new IdentityBatchLoader(identityClient, new SimpleMeterRegistry(), Duration.ofMillis(1), 100),
+                s3UploadService,
+                new ProductDetailCache(new SimpleMeterRegistry(), 1000, Duration.ofMinutes(5), 1.0),
+                mock(PlatformTransactionManager.class)
         );
     }
 
     private void setupWebClientMocks() {
-        // getStoreId 메서드 내의 WebClient 체인 동작 정의
-        when(webClient.get()).thenReturn(requestHeadersUriSpec);
-        when(requestHeadersUriSpec.uri(eq(EXPECTED_URI_PATH), eq(sellerId))).thenReturn(requestHeadersSpec);
-        when(requestHeadersSpec.retrieve()).thenReturn(responseSpec);
-        when(responseSpec.bodyToMono(HttpResponse.class)).thenReturn(mono);
+        setupWebClientMocks(mono);
+    }
+
+    private void setupWebClientMocks(Mono<IdentityApiResponse<Long>> response) {
+        // getStoreId 메서드 내의 identity-service 호출 결과 정의
+        when(identityClient.getUser(sellerId)).thenReturn(response);
     }
 
     @Test
@@ -102,8 +121,8 @@ class ProductServiceImplTest {
     void getStoreId_Success() {
         // Given
         setupWebClientMocks();
-        HttpResponse mockHttpResponse = new HttpResponse(HttpStatus.OK, "Success", storeId);
-        when(mono.block()).thenReturn(mockHttpResponse);
+        IdentityApiResponse<Long> mockResponse = new IdentityApiResponse<>(HttpStatus.OK.value(), "Success", storeId);
+        when(mono.block()).thenReturn(mockResponse);
 
         // When
         Long result = productService.getStoreId(sellerId);
@@ -111,11 +130,11 @@ class ProductServiceImplTest {
         // Then
         assertThat(result).isEqualTo(storeId);
         verify(mono, times(1)).block();
-        verify(requestHeadersUriSpec, times(1)).uri(EXPECTED_URI_PATH, sellerId);
+        verify(identityClient, times(1)).getUser(sellerId);
     }
 
     @Test
-    @DisplayName("getStoreId: 외부 API 응답 body(HttpResponse)가 null이면 EntityNotFoundException을 던진다")
+    @DisplayName("getStoreId: 외부 API 응답 body가 null이면 EntityNotFoundException을 던진다")
     void getStoreId_ThrowsEntityNotFound_WhenResponseBodyIsNull() {
         // Given
         setupWebClientMocks();
@@ -134,8 +153,8 @@ class ProductServiceImplTest {
     void getStoreId_ThrowsEntityNotFound_WhenResponseDataIsNull() {
         // Given
         setupWebClientMocks();
-        HttpResponse mockHttpResponse = new HttpResponse(HttpStatus.OK, "Success", null);
-        when(mono.block()).thenReturn(mockHttpResponse);
+        IdentityApiResponse<Long> mockResponse = new IdentityApiResponse<>(HttpStatus.OK.value(), "Success", null);
+        when(mono.block()).thenReturn(mockResponse);
 
         // When & Then
         assertThatThrownBy(() -> productService.getStoreId(sellerId))
@@ -163,6 +182,33 @@ class ProductServiceImplTest {
                 .hasMessageContaining("Seller's StoreId");
     }
 
+    @Test
+    @DisplayName("getStoreId: 외부 API가 5xx 에러를 반환하면 부정 캐시하지 않고 마지막으로 알려진 storeId로 대체한다")
+    void getStoreId_FallsBackToLastKnown_OnServerError() {
+        // Given
+        // 조회 성공 결과는 바로 만료되고, "존재하지 않음" 결과만 30초 동안 캐시되도록 설정
+        productService = createProductService(
+                new StoreIdCache(new SimpleMeterRegistry(), 100, Duration.ZERO, Duration.ofSeconds(30), Duration.ofHours(24)));
+        setupWebClientMocks();
+        WebClientResponseException serverError = new WebClientResponseException(
+                HttpStatus.SERVICE_UNAVAILABLE.value(), "Service Unavailable", null, null, null);
+        when(mono.block())
+                .thenReturn(new IdentityApiResponse<>(HttpStatus.OK.value(), "Success", storeId))
+                .thenThrow(serverError)
+                .thenThrow(serverError);
+
+        // When
+        Long first = productService.getStoreId(sellerId);
+        Long second = productService.getStoreId(sellerId);
+        Long third = productService.getStoreId(sellerId);
+
+        // Then
+        assertThat(first).isEqualTo(storeId);
+        assertThat(second).isEqualTo(storeId);
+        assertThat(third).isEqualTo(storeId);
+        verify(mono, times(3)).block();   // 5xx 결과가 부정 캐시됐다면 세 번째 조회는 외부 API를 호출하지 않음
+    }
+
     @Test
     @DisplayName("getStoreId: 외부 API 연결 실패(WebClientException) 시 ExternalApiException을 던진다")
     void getStoreId_ThrowsExternalApi_OnWebClientException() {
@@ -175,6 +221,116 @@ class ProductServiceImplTest {
                 .isInstanceOf(ExternalApiException.class);
     }
 
+    @Test
+    @DisplayName("getStoreId: 서킷 브레이커가 열려 호출이 거절되면 ExternalApiException을 던진다")
+    void getStoreId_ThrowsExternalApi_OnCallNotPermitted() {
+        // Given
+        setupWebClientMocks();
+        when(mono.block()).thenThrow(
+                CallNotPermittedException.createCallNotPermittedException(CircuitBreaker.ofDefaults("identity-service")));
+
+        // When & Then
+        assertThatThrownBy(() -> productService.getStoreId(sellerId))
+                .isInstanceOf(ExternalApiException.class);
+    }
+
+    @Test
+    @DisplayName("getStoreId: 같은 판매자의 두 번째 조회는 캐시에서 반환하고 외부 API를 호출하지 않는다")
+    void getStoreId_ReturnsCachedValue_OnSecondCall() {
+        // Given
+        setupWebClientMocks();
+        IdentityApiResponse<Long> mockResponse = new IdentityApiResponse<>(HttpStatus.OK.value(), "Success", storeId);
+        when(mono.block()).thenReturn(mockResponse);
+
+        // When
+        Long first = productService.getStoreId(sellerId);
+        Long second = productService.getStoreId(sellerId);
+
+        // Then
+        assertThat(first).isEqualTo(storeId);
+        assertThat(second).isEqualTo(storeId);
+        verify(mono, times(1)).block();
+    }
+
+    @Test
+    @DisplayName("getStoreId: 존재하지 않는 판매자 결과도 캐시되어 외부 API를 반복 호출하지 않는다")
+    void getStoreId_CachesNotFound() {
+        // Given
+        setupWebClientMocks();
+        when(mono.block()).thenReturn(null);
+
+        // When & Then
+        assertThatThrownBy(() -> productService.getStoreId(sellerId))
+                .isInstanceOf(EntityNotFoundException.class);
+        assertThatThrownBy(() -> productService.getStoreId(sellerId))
+                .isInstanceOf(EntityNotFoundException.class);
+
+        verify(mono, times(1)).block();
+    }
+
+    @Test
+    @DisplayName("getStoreId: 외부 API 장애 결과는 캐시하지 않고 다음 요청에서 다시 호출한다")
+    void getStoreId_DoesNotCacheExternalApiFailure() {
+        // Given
+        setupWebClientMocks();
+        when(mono.block())
+                .thenThrow(new WebClientException("Connection refused") {})
+                .thenReturn(new IdentityApiResponse<>(HttpStatus.OK.value(), "Success", storeId));
+
+        // When & Then
+        assertThatThrownBy(() -> productService.getStoreId(sellerId))
+                .isInstanceOf(ExternalApiException.class);
+        assertThat(productService.getStoreId(sellerId)).isEqualTo(storeId);
+
+        verify(mono, times(2)).block();
+    }
+
+    @Test
+    @DisplayName("getStoreIdAsync: 외부 API 호출 성공 시 storeId로 완료되는 Future를 반환한다")
+    void getStoreIdAsync_Success() {
+        // Given
+        setupWebClientMocks(Mono.just(new IdentityApiResponse<>(HttpStatus.OK.value(), "Success", storeId)));
+
+        // When
+        CompletableFuture<Long> result = productService.getStoreIdAsync(sellerId);
+
+        // Then
+        assertThat(result.join()).isEqualTo(storeId);
+        assertThat(productService.getStoreIdAsync(sellerId).join()).isEqualTo(storeId);
+        verify(identityClient, times(1)).getUser(sellerId);
+    }
+
+    @Test
+    @DisplayName("getStoreIdAsync: 외부 API가 4xx 에러를 반환하면 EntityNotFoundException으로 완료된다")
+    void getStoreIdAsync_CompletesWithEntityNotFound_OnBadRequest() {
+        // Given
+        setupWebClientMocks(Mono.error(new WebClientResponseException(
+                HttpStatus.BAD_REQUEST.value(), "Seller Not Found", null, null, null)));
+
+        // When
+        CompletableFuture<Long> result = productService.getStoreIdAsync(sellerId);
+
+        // Then
+        assertThatThrownBy(result::join)
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(EntityNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("getStoreIdAsync: 외부 API 연결 실패 시 ExternalApiException으로 완료된다")
+    void getStoreIdAsync_CompletesWithExternalApi_OnWebClientException() {
+        // Given
+        setupWebClientMocks(Mono.error(new WebClientException("Connection refused") {}));
+
+        // When
+        CompletableFuture<Long> result = productService.getStoreIdAsync(sellerId);
+
+        // Then
+        assertThatThrownBy(result::join)
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(ExternalApiException.class);
+    }
+
     @Test
     @DisplayName("createProduct: 상품 등록 시상품, 옵션, 이미지 연결까지 성공적으로 생성한다")
     void createProduct_Success() {
@@ -184,7 +340,8 @@ class ProductServiceImplTest {
         ProductCreateRequestDto requestDto = createMockRequestDto(categoryId, imageIds);
 
         Category mockCategory = Category.builder().id(categoryId).name("Tops").build();
-        when(categoryRepository.findById(categoryId)).thenReturn(Optional.of(mockCategory));
+        when(categoryCache.getById(categoryId)).thenReturn(new CategoryResponseDto(mockCategory));
+        when(categoryRepository.getReferenceById(categoryId)).thenReturn(mockCategory);
 
         when(productRepository.save(any(Product.class))).thenAnswer(invocation -> {
             Product productToSave = invocation.getArgument(0);
@@ -195,7 +352,7 @@ class ProductServiceImplTest {
         productService.createProduct(requestDto, storeId);
 
         // Then
-        verify(categoryRepository, times(1)).findById(categoryId);
+        verify(categoryRepository, never()).findById(any());
 
         ArgumentCaptor<Product> productCaptor = ArgumentCaptor.forClass(Product.class);
         verify(productRepository, times(1)).save(productCaptor.capture());
@@ -226,7 +383,7 @@ class ProductServiceImplTest {
         Long missingCategoryId = 99L;
         ProductCreateRequestDto requestDto = createMockRequestDto(missingCategoryId, List.of(1L));
 
-        when(categoryRepository.findById(missingCategoryId)).thenReturn(Optional.empty());
+        when(categoryCache.getById(missingCategoryId)).thenThrow(new EntityNotFoundException("Category", missingCategoryId));
 
         // When & Then
         assertThatThrownBy(() -> productService.createProduct(requestDto, storeId))
@@ -238,6 +395,69 @@ class ProductServiceImplTest {
         verify(productImageRepository, never()).updateProductIds(any(), any());
     }
 
+    @Test
+    @DisplayName("getProductsByCategory: size+1건이 조회되면 size건만 반환하고 마지막 ID로 다음 커서를 만든다")
+    void getProductsByCategory_ReturnsNextCursor_WhenMoreRowsExist() {
+        // Given
+        Long categoryId = 10L;
+        when(categoryCache.getById(categoryId)).thenReturn(new CategoryResponseDto(categoryId, "Tops"));
+        when(productRepository.findSummariesByCategory(categoryId, Long.MAX_VALUE, Limit.of(3)))
+                .thenReturn(List.of(summary(30L), summary(20L), summary(10L)));
+
+        // When
+        ProductPageResponseDto page = productService.getProductsByCategory(categoryId, null, 2);
+
+        // Then
+        assertThat(page.getProducts()).extracting(ProductSummaryDto::getProductId).containsExactly(30L, 20L);
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(KeysetCursor.decode(page.getNextCursor())).isEqualTo(20L);
+    }
+
+    @Test
+    @DisplayName("getProductsByStore: 커서 이후 남은 행이 size 이하이면 다음 커서 없이 반환한다")
+    void getProductsByStore_ReturnsLastPage() {
+        // Given
+        String cursor = KeysetCursor.encode(20L);
+        when(productRepository.findSummariesByStore(storeId, 20L, Limit.of(3)))
+                .thenReturn(List.of(summary(10L)));
+
+        // When
+        ProductPageResponseDto page = productService.getProductsByStore(storeId, cursor, 2);
+
+        // Then
+        assertThat(page.getProducts()).hasSize(1);
+        assertThat(page.isHasNext()).isFalse();
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("getProductsByStore: 페이지 크기는 최대 100으로 제한된다")
+    void getProductsByStore_ClampsPageSize() {
+        // Given
+        when(productRepository.findSummariesByStore(storeId, Long.MAX_VALUE, Limit.of(101))).thenReturn(List.of());
+
+        // When
+        productService.getProductsByStore(storeId, null, 10_000);
+
+        // Then
+        verify(productRepository).findSummariesByStore(storeId, Long.MAX_VALUE, Limit.of(101));
+    }
+
+    @Test
+    @DisplayName("getProductsByStore: 위조/손상된 커서는 InvalidCursorException을 던진다")
+    void getProductsByStore_ThrowsInvalidCursor() {
+        assertThatThrownBy(() -> productService.getProductsByStore(storeId, "not-a-cursor", 20))
+                .isInstanceOf(InvalidCursorException.class);
+        assertThatThrownBy(() -> productService.getProductsByStore(storeId, KeysetCursor.encode(-1L), 20))
+                .isInstanceOf(InvalidCursorException.class);
+
+        verify(productRepository, never()).findSummariesByStore(any(), anyLong(), any());
+    }
+
+    private ProductSummaryDto summary(Long productId) {
+        return ProductSummaryDto.builder().productId(productId).storeId(storeId).productName("p" + productId).build();
+    }
+
     private ProductCreateRequestDto createMockRequestDto(Long categoryId, List<Long> imageIds) {
         OptionCreateRequestDto option1 = OptionCreateRequestDto.builder()
                 .optionDetail("Red")
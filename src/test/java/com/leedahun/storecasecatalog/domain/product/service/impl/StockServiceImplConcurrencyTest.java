@@ -0,0 +1,207 @@
+package com.leedahun.storecasecatalog.domain.product.service.impl;
+
+import com.leedahun.storecasecatalog.common.error.exception.EntityNotFoundException;
+import com.leedahun.storecasecatalog.common.error.exception.InvalidStockQuantityException;
+import com.leedahun.storecasecatalog.common.error.exception.OutOfStockException;
+import com.leedahun.storecasecatalog.domain.category.entity.Category;
+import com.leedahun.storecasecatalog.domain.category.repository.CategoryRepository;
+import com.leedahun.storecasecatalog.domain.option.dto.OptionStockReservationDto;
+import com.leedahun.storecasecatalog.domain.option.entity.Option;
+import com.leedahun.storecasecatalog.domain.option.repository.OptionRepository;
+import com.leedahun.storecasecatalog.domain.option.stock.HotStockRegistry;
+import com.leedahun.storecasecatalog.domain.product.cache.ProductDetailCache;
+import com.leedahun.storecasecatalog.domain.product.dto.ProductDetailResponseDto;
+import com.leedahun.storecasecatalog.domain.product.entity.Product;
+import com.leedahun.storecasecatalog.domain.product.repository.ProductRepository;
+import com.leedahun.storecasecatalog.domain.product.service.StockService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 조건부 UPDATE 재고 차감이 동시 요청에서도 초과 판매 없이 동작하는지 확인합니다.
+ * 요청마다 별도 트랜잭션으로 커밋되어야 하므로 테스트 메서드 자체는 트랜잭션 없이 실행합니다.
+ */
+@DataJpaTest
+@Import({StockServiceImpl.class, HotStockRegistry.class, ProductDetailCache.class, SimpleMeterRegistry.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class StockServiceImplConcurrencyTest {
+
+    private static final int STOCK = 20;
+
+    @Autowired
+    private StockService stockService;
+
+    @Autowired
+    private ProductDetailCache productDetailCache;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OptionRepository optionRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    private Product product;
+    private Option optionS;
+    private Option optionM;
+
+    @BeforeEach
+    void setUp() {
+        Category category = categoryRepository.save(Category.builder().name("상의").build());
+        product = productRepository.save(Product.builder()
+                .storeId(1L).category(category).name("반팔 티셔츠").price(10000).stock(STOCK).build());
+        optionS = optionRepository.save(Option.builder().product(product).name("S").price(0).stock(STOCK).build());
+        optionM = optionRepository.save(Option.builder().product(product).name("M").price(0).stock(1).build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        optionRepository.deleteAll();
+        productRepository.deleteAll();
+        categoryRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("한 옵션에 동시 차감이 몰려도 재고 수만큼만 성공하고 재고는 음수가 되지 않는다")
+    void reserveOptionStock_DoesNotOversell_UnderContention() throws Exception {
+        // Given: 재고의 3배 요청
+        int requests = STOCK * 3;
+        int threads = 16;
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger outOfStock = new AtomicInteger();
+        CountDownLatch startLatch = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // When
+        List<Future<?>> results = new ArrayList<>();
+        for (int i = 0; i < requests; i++) {
+            results.add(executor.submit(() -> {
+                startLatch.await();
+                try {
+                    stockService.reserveOptionStock(optionS.getId(), 1);
+                    succeeded.incrementAndGet();
+                } catch (OutOfStockException e) {
+                    outOfStock.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        startLatch.countDown();
+        for (Future<?> result : results) {
+            result.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Then
+        assertThat(succeeded).hasValue(STOCK);
+        assertThat(outOfStock).hasValue(requests - STOCK);
+        assertThat(optionRepository.findById(optionS.getId()).orElseThrow().getStock()).isZero();
+    }
+
+    @Test
+    @DisplayName("장바구니 차감은 한 옵션이라도 부족하면 아무 옵션도 차감하지 않는다")
+    void reserveOptionStocks_IsAllOrNothing() {
+        // When
+        assertThatThrownBy(() -> stockService.reserveOptionStocks(List.of(
+                new OptionStockReservationDto(optionS.getId(), 3),
+                new OptionStockReservationDto(optionM.getId(), 2))))
+                .isInstanceOf(OutOfStockException.class);
+
+        // Then
+        assertThat(optionRepository.findById(optionS.getId()).orElseThrow().getStock()).isEqualTo(STOCK);
+        assertThat(optionRepository.findById(optionM.getId()).orElseThrow().getStock()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("장바구니 차감은 같은 옵션의 수량을 합쳐 검사하고, 모두 충분하면 한 번에 차감한다")
+    void reserveOptionStocks_MergesDuplicateOptions() {
+        // When
+        stockService.reserveOptionStocks(List.of(
+                new OptionStockReservationDto(optionS.getId(), 3),
+                new OptionStockReservationDto(optionM.getId(), 1),
+                new OptionStockReservationDto(optionS.getId(), 2)));
+
+        // Then
+        assertThat(optionRepository.findById(optionS.getId()).orElseThrow().getStock()).isEqualTo(STOCK - 5);
+        assertThat(optionRepository.findById(optionM.getId()).orElseThrow().getStock()).isZero();
+    }
+
+    @Test
+    @DisplayName("상품 재고 차감은 부족하면 재고 부족, 없는 상품이면 조회 실패로 구분한다")
+    void reserveProductStock_DistinguishesOutOfStockAndMissing() {
+        // When
+        stockService.reserveProductStock(product.getId(), STOCK);
+
+        // Then
+        assertThat(productRepository.findById(product.getId()).orElseThrow().getStock()).isZero();
+        assertThatThrownBy(() -> stockService.reserveProductStock(product.getId(), 1))
+                .isInstanceOf(OutOfStockException.class);
+        assertThatThrownBy(() -> stockService.reserveProductStock(-1L, 1))
+                .isInstanceOf(EntityNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("0 이하 수량이나 합계가 int 범위를 넘는 장바구니는 InvalidStockQuantityException으로 거절하고 재고를 바꾸지 않는다")
+    void reserveOptionStocks_RejectsInvalidQuantity() {
+        // When & Then
+        assertThatThrownBy(() -> stockService.reserveOptionStocks(List.of(
+                new OptionStockReservationDto(optionS.getId(), Integer.MAX_VALUE),
+                new OptionStockReservationDto(optionS.getId(), 2))))
+                .isInstanceOf(InvalidStockQuantityException.class);
+        assertThatThrownBy(() -> stockService.reserveOptionStock(optionS.getId(), -5))
+                .isInstanceOf(InvalidStockQuantityException.class);
+        assertThatThrownBy(() -> stockService.reserveProductStock(product.getId(), 0))
+                .isInstanceOf(InvalidStockQuantityException.class);
+
+        assertThat(optionRepository.findById(optionS.getId()).orElseThrow().getStock()).isEqualTo(STOCK);
+        assertThat(productRepository.findById(product.getId()).orElseThrow().getStock()).isEqualTo(STOCK);
+    }
+
+    @Test
+    @DisplayName("재고 차감은 상품 상세 캐시를 무효화하지 않는다 (표시 재고는 TTL로 갱신)")
+    void reserveStock_DoesNotInvalidateProductDetailCache() {
+        // Given
+        AtomicInteger loadCount = new AtomicInteger();
+        productDetailCache.get(product.getId(), productId -> load(productId, loadCount));
+
+        // When
+        stockService.reserveOptionStock(optionS.getId(), 1);
+        stockService.reserveOptionStocks(List.of(new OptionStockReservationDto(optionS.getId(), 1)));
+        stockService.reserveProductStock(product.getId(), 1);
+        productDetailCache.get(product.getId(), productId -> load(productId, loadCount));
+
+        // Then
+        assertThat(loadCount).hasValue(1);
+    }
+
+    private ProductDetailResponseDto load(Long productId, AtomicInteger loadCount) {
+        loadCount.incrementAndGet();
+        return ProductDetailResponseDto.builder()
+                .productId(productId)
+                .options(List.of())
+                .images(List.of())
+                .build();
+    }
+}
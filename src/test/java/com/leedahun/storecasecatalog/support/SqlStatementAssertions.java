@@ -0,0 +1,43 @@
+package com.leedahun.storecasecatalog.support;
+
+import com.leedahun.storecasecatalog.common.instrumentation.SqlStatementContext;
+import com.leedahun.storecasecatalog.common.instrumentation.SqlStatementCountingListener;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.api.function.ThrowingSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 테스트 구간에서 실행된 SQL 문장 수를 검증합니다.
+ * p6spy가 켜진 테스트(@DataJpaTest 등)에서 {@link SqlStatementCountingListener}를 @Import해 사용합니다.
+ * <pre>
+ * List&lt;ProductSummaryDto&gt; page = assertMaxQueries(1, () -&gt; productRepository.findSummariesByCategory(...));
+ * </pre>
+ */
+public final class SqlStatementAssertions {
+
+    private SqlStatementAssertions() {
+    }
+
+    public static <T> T assertMaxQueries(int maxStatements, ThrowingSupplier<T> action) throws Throwable {
+        T result;
+        try (SqlStatementContext context = SqlStatementContext.open()) {
+            result = action.get();
+            assertWithin(maxStatements, context);
+        }
+        return result;
+    }
+
+    public static void assertMaxQueries(int maxStatements, Executable action) throws Throwable {
+        try (SqlStatementContext context = SqlStatementContext.open()) {
+            action.execute();
+            assertWithin(maxStatements, context);
+        }
+    }
+
+    private static void assertWithin(int maxStatements, SqlStatementContext context) {
+        assertThat(context.getStatementCount())
+                .as("SQL 문장 수 (fingerprint별 실행 횟수: %s)", context.getExecutionsByFingerprint())
+                .isLessThanOrEqualTo(maxStatements);
+    }
+}